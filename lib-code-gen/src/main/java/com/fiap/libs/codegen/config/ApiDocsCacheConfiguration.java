@@ -0,0 +1,40 @@
+package com.fiap.libs.codegen.config;
+
+import com.fiap.libs.codegen.docs.ApiDocsCacheFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração do cache de /v3/api-docs
+ * Ativo por padrão; desabilite com springdoc.api-docs.cache.enabled=false
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "springdoc.api-docs.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApiDocsCacheConfiguration {
+
+    @Bean
+    public ApiDocsCacheFilter apiDocsCacheFilter(
+            @Value("${springdoc.api-docs.path:/v3/api-docs}") String apiDocsPath,
+            @Value("${springdoc.api-docs.cache.min-compress-size:1024}") int minCompressSize,
+            @Value("${springdoc.api-docs.cache.max-entries:32}") int maxEntries) {
+
+        log.info("📦 [CODE-GEN] Caching {} responses (gzip/deflate above {} bytes, up to {} documents)",
+                apiDocsPath, minCompressSize, maxEntries);
+        return new ApiDocsCacheFilter(apiDocsPath, minCompressSize, maxEntries);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ApiDocsCacheFilter> apiDocsCacheFilterRegistration(ApiDocsCacheFilter apiDocsCacheFilter) {
+        FilterRegistrationBean<ApiDocsCacheFilter> registration = new FilterRegistrationBean<>(apiDocsCacheFilter);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+}
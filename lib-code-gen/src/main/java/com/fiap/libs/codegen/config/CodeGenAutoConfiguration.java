@@ -12,7 +12,7 @@ import org.springframework.context.annotation.Import;
 @AutoConfiguration
 @Slf4j
 @ConditionalOnClass(name = "io.swagger.v3.oas.models.OpenAPI")
-@Import(OpenAPIConfig.class)
+@Import({OpenAPIConfig.class, ApiDocsCacheConfiguration.class, RequestValidationConfiguration.class})
 public class CodeGenAutoConfiguration {
 
     public CodeGenAutoConfiguration() {
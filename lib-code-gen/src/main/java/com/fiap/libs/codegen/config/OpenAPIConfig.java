@@ -1,22 +1,19 @@
 package com.fiap.libs.codegen.config;
 
+import com.fiap.libs.codegen.spec.OpenApiSpecLoader;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
-import io.swagger.v3.parser.OpenAPIV3Parser;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +33,12 @@ public class OpenAPIConfig {
     @Value("${springdoc.api-docs.path:/v3/api-docs}")
     private String apiDocsPath;
 
+    @Value("${springdoc.spec.locations:}")
+    private String[] specLocations;
+
+    @Value("${springdoc.spec.fail-on-conflict:false}")
+    private boolean failOnSpecConflict;
+
     @Value("${springdoc.security.enabled:true}")
     private boolean securityEnabled;
 
@@ -50,11 +53,17 @@ public class OpenAPIConfig {
     }
 
     @Bean
-    public OpenAPI customOpenAPI() {
+    @ConditionalOnMissingBean
+    public OpenApiSpecLoader openApiSpecLoader() {
+        return new OpenApiSpecLoader(resourceLoader, List.of(specLocations), failOnSpecConflict);
+    }
+
+    @Bean
+    public OpenAPI customOpenAPI(OpenApiSpecLoader openApiSpecLoader) {
         OpenAPI openAPI = new OpenAPI();
 
-        // Tentar carregar informações do arquivo swagger.yaml
-        Optional<OpenAPI> yamlOpenAPI = loadOpenAPIFromYaml();
+        // Carregar informações da especificação (pré-compilada no build, fragmentos ou swagger.yaml)
+        Optional<OpenAPI> yamlOpenAPI = openApiSpecLoader.load();
         
         if (yamlOpenAPI.isPresent()) {
             OpenAPI yaml = yamlOpenAPI.get();
@@ -98,38 +107,6 @@ public class OpenAPIConfig {
         return openAPI;
     }
 
-    private Optional<OpenAPI> loadOpenAPIFromYaml() {
-        try {
-            // Tentar diferentes localizações comuns do arquivo swagger.yaml
-            String[] possiblePaths = {
-                    "classpath:openapi/swagger.yaml",
-                    "classpath:swagger.yaml",
-                    "classpath:openapi.yaml"
-            };
-
-            for (String path : possiblePaths) {
-                Resource resource = resourceLoader.getResource(path);
-                if (resource.exists()) {
-                    try (InputStream inputStream = resource.getInputStream()) {
-                        SwaggerParseResult result = new OpenAPIV3Parser().readContents(
-                                new String(inputStream.readAllBytes()), null, null);
-                        
-                        if (result.getOpenAPI() != null) {
-                            log.info("✅ [CODE-GEN] Loaded OpenAPI spec from: {}", path);
-                            return Optional.of(result.getOpenAPI());
-                        }
-                    }
-                }
-            }
-            
-            log.warn("⚠️ [CODE-GEN] OpenAPI YAML file not found, using default configuration");
-            return Optional.empty();
-        } catch (IOException e) {
-            log.warn("⚠️ [CODE-GEN] Error loading OpenAPI YAML: {}", e.getMessage());
-            return Optional.empty();
-        }
-    }
-
     private List<Server> buildServers(List<Server> yamlServers) {
         List<Server> servers = new ArrayList<>();
         
@@ -0,0 +1,54 @@
+package com.fiap.libs.codegen.config;
+
+import com.fiap.libs.codegen.spec.OpenApiSpecLoader;
+import com.fiap.libs.codegen.validation.RequestValidationFilter;
+import com.fiap.libs.codegen.validation.SpecRequestValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Configuração da validação de requisições pela especificação OpenAPI
+ * Ativa com springdoc.request-validation.enabled=true e a lib-exception-handler no classpath
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "com.fiap.libs.exception.api.exceptions.validation.ValidationException")
+@ConditionalOnProperty(prefix = "springdoc.request-validation", name = "enabled", havingValue = "true")
+public class RequestValidationConfiguration {
+
+    @Bean
+    public SpecRequestValidator specRequestValidator(
+            OpenApiSpecLoader openApiSpecLoader,
+            @Value("${springdoc.request-validation.base-path:}") String basePath,
+            @Value("${springdoc.request-validation.max-errors:100}") int maxErrors) {
+
+        SpecRequestValidator validator = SpecRequestValidator.compile(
+                openApiSpecLoader.load().orElse(null), basePath, maxErrors);
+
+        log.info("🛡️ [CODE-GEN] Request validation compiled for {} operations", validator.operationCount());
+        return validator;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestValidationFilter> requestValidationFilter(
+            SpecRequestValidator specRequestValidator,
+            @Value("${springdoc.request-validation.max-body-size:1MB}") DataSize maxBodySize,
+            @Value("${springdoc.request-validation.order:2}") int order,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+
+        FilterRegistrationBean<RequestValidationFilter> registration = new FilterRegistrationBean<>(
+                new RequestValidationFilter(specRequestValidator, maxBodySize.toBytes(), exceptionResolver));
+        registration.setOrder(order);
+        return registration;
+    }
+}
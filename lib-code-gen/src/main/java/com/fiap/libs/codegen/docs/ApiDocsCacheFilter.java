@@ -0,0 +1,297 @@
+package com.fiap.libs.codegen.docs;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache das respostas de /v3/api-docs (JSON, YAML e grupos)
+ *
+ * <p>O documento é renderizado pelo springdoc apenas na primeira requisição de cada URL; os bytes
+ * ficam em memória junto com as variantes gzip e deflate pré-comprimidas. As respostas levam um
+ * ETag forte (por codificação) e requisições com If-None-Match correspondente recebem 304.</p>
+ *
+ * <p>A chave é o caminho (o springdoc ignora a query string) mais a origem da requisição (scheme,
+ * host, porta e headers Forwarded/X-Forwarded-*), pois o springdoc monta {@code servers[].url} a
+ * partir dela. No máximo {@code maxEntries} documentos são guardados; acima disso o documento é
+ * renderizado a cada requisição. O Accept-Encoding não entra na chave: cada documento guarda todas
+ * as variantes comprimidas.</p>
+ *
+ * O cache é descartado somente no refresh do contexto
+ */
+public class ApiDocsCacheFilter extends OncePerRequestFilter implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final int DEFAULT_MAX_ENTRIES = 32;
+    private static final List<String> FORWARDED_HEADERS = List.of(
+            "Forwarded", "X-Forwarded-Proto", "X-Forwarded-Host", "X-Forwarded-Port", "X-Forwarded-Prefix", "X-Forwarded-Ssl");
+
+    private final String apiDocsPath;
+    private final int minCompressSize;
+    private final int maxEntries;
+    private final Map<String, CachedDocument> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ApiDocsCacheFilter(String apiDocsPath, int minCompressSize) {
+        this(apiDocsPath, minCompressSize, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries Número máximo de documentos em cache (JSON, YAML e grupos)
+     */
+    public ApiDocsCacheFilter(String apiDocsPath, int minCompressSize, int maxEntries) {
+        this.apiDocsPath = apiDocsPath.endsWith("/") ? apiDocsPath.substring(0, apiDocsPath.length() - 1) : apiDocsPath;
+        this.minCompressSize = minCompressSize;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        String path = pathOf(request);
+        return !path.equals(apiDocsPath) && !path.startsWith(apiDocsPath + "/") && !path.startsWith(apiDocsPath + ".");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = keyOf(request);
+        CachedDocument document = cache.get(key);
+
+        if (document == null) {
+            long renderGeneration = generation.get();
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, wrapper);
+
+            if (wrapper.getStatus() != HttpStatus.OK.value() || wrapper.getContentSize() == 0
+                    || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null || request.isAsyncStarted()) {
+                wrapper.copyBodyToResponse();
+                return;
+            }
+
+            document = CachedDocument.of(wrapper.getContentAsByteArray(), wrapper.getContentType(), minCompressSize);
+
+            // Não guarda documentos renderizados antes de um refresh do contexto, nem além do limite
+            if (generation.get() == renderGeneration && cache.size() < maxEntries) {
+                CachedDocument existing = cache.putIfAbsent(key, document);
+                document = existing != null ? existing : document;
+            }
+        }
+
+        write(request, response, document);
+    }
+
+    /**
+     * Descarta os documentos em cache (o próximo acesso renderiza novamente)
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedDocument document)
+            throws IOException {
+
+        Variant variant = document.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        response.setHeader(HttpHeaders.ETAG, variant.etag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        if (document.contentType() != null) {
+            response.setContentType(document.contentType());
+        }
+        if (variant.encoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+        }
+        response.setContentLength(variant.body().length);
+
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(variant.body());
+        }
+        response.flushBuffer();
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * Caminho e origem da requisição, que determinam o {@code servers[].url} gerado pelo springdoc
+     */
+    private static String keyOf(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(pathOf(request))
+                .append(' ').append(request.getScheme())
+                .append("://").append(request.getServerName())
+                .append(':').append(request.getServerPort())
+                .append(request.getContextPath());
+        for (String header : FORWARDED_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                key.append('|').append(header).append('=').append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * If-None-Match usa comparação fraca: W/"x" corresponde a "x"
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Representação do documento em uma codificação
+     *
+     * @param encoding Content-Encoding (null para identidade)
+     */
+    record Variant(byte[] body, String encoding, String etag) {
+    }
+
+    /**
+     * Documento renderizado e suas variantes comprimidas
+     */
+    record CachedDocument(String contentType, Variant identity, Variant gzip, Variant deflate) {
+
+        static CachedDocument of(byte[] body, String contentType, int minCompressSize) {
+            String hash = sha256(body);
+            Variant identity = new Variant(body, null, '"' + hash + '"');
+
+            if (body.length < minCompressSize) {
+                return new CachedDocument(contentType, identity, null, null);
+            }
+
+            Variant gzip = smallerThan(body, new Variant(gzip(body), GZIP, '"' + hash + "-gz\""));
+            Variant deflate = smallerThan(body, new Variant(deflate(body), DEFLATE, '"' + hash + "-df\""));
+            return new CachedDocument(contentType, identity, gzip, deflate);
+        }
+
+        /**
+         * Escolhe a variante comprimida aceita pelo cliente (Accept-Encoding com q=0 exclui a codificação)
+         */
+        Variant select(String acceptEncoding) {
+            if (acceptEncoding == null || (gzip == null && deflate == null)) {
+                return identity;
+            }
+
+            boolean acceptsGzip = false;
+            boolean acceptsDeflate = false;
+            for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+                String[] tokens = part.split(";");
+                String coding = tokens[0].trim();
+                if (rejected(tokens)) {
+                    continue;
+                }
+                acceptsGzip |= coding.equals(GZIP) || coding.equals("x-gzip") || coding.equals("*");
+                acceptsDeflate |= coding.equals(DEFLATE) || coding.equals("*");
+            }
+
+            // gzip tem preferência: alguns clientes antigos tratam deflate de forma inconsistente
+            if (acceptsGzip && gzip != null) {
+                return gzip;
+            }
+            if (acceptsDeflate && deflate != null) {
+                return deflate;
+            }
+            return identity;
+        }
+
+        private static boolean rejected(String[] tokens) {
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static Variant smallerThan(byte[] body, Variant variant) {
+            return variant.body().length < body.length ? variant : null;
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return output.toByteArray();
+        }
+
+        private static byte[] deflate(byte[] body) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+            try (DeflaterOutputStream deflate = new DeflaterOutputStream(output)) {
+                deflate.write(body);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return output.toByteArray();
+        }
+
+        private static String sha256(byte[] body) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+                return HexFormat.of().formatHex(digest, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
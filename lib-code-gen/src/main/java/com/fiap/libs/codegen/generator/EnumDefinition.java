@@ -0,0 +1,12 @@
+package com.fiap.libs.codegen.generator;
+
+import java.util.List;
+
+/**
+ * Enum a ser gerado a partir de um schema string com enum
+ *
+ * @param name Nome da classe
+ * @param values Valores aceitos, na ordem declarada
+ */
+record EnumDefinition(String name, String description, List<String> values) {
+}
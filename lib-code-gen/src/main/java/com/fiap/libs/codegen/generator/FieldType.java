@@ -0,0 +1,92 @@
+package com.fiap.libs.codegen.generator;
+
+/**
+ * Tipo Java de um campo gerado
+ */
+sealed interface FieldType {
+
+    /**
+     * Tipo usado na declaração do campo (nome simples)
+     */
+    String javaType();
+
+    /**
+     * Tipos mapeados diretamente para um leitor/escritor do JsonCodecSupport
+     */
+    enum Kind {
+        STRING("String", null, "String", "String"),
+        INTEGER("Integer", null, "Integer", "Integer"),
+        LONG("Long", null, "Long", "Long"),
+        DECIMAL("BigDecimal", "java.math.BigDecimal", "Decimal", "Decimal"),
+        DOUBLE("Double", null, "Double", "Double"),
+        FLOAT("Float", null, "Float", "Float"),
+        BOOLEAN("Boolean", null, "Boolean", "Boolean"),
+        DATE("LocalDate", "java.time.LocalDate", "LocalDate", "Text"),
+        DATE_TIME("OffsetDateTime", "java.time.OffsetDateTime", "OffsetDateTime", "OffsetDateTime"),
+        UUID("UUID", "java.util.UUID", "Uuid", "Text"),
+        MAP("Map<String, Object>", "java.util.Map", "Map", "Any"),
+        ANY("Object", null, "Any", "Any");
+
+        private final String javaType;
+        private final String importName;
+        private final String reader;
+        private final String writer;
+
+        Kind(String javaType, String importName, String reader, String writer) {
+            this.javaType = javaType;
+            this.importName = importName;
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        String javaType() {
+            return javaType;
+        }
+
+        String importName() {
+            return importName;
+        }
+
+        String readerMethod() {
+            return "read" + reader;
+        }
+
+        String writerMethod() {
+            return "write" + writer;
+        }
+    }
+
+    record Scalar(Kind kind) implements FieldType {
+        @Override
+        public String javaType() {
+            return kind.javaType();
+        }
+    }
+
+    /**
+     * Referência a um record gerado
+     */
+    record Model(String name) implements FieldType {
+        @Override
+        public String javaType() {
+            return name;
+        }
+    }
+
+    /**
+     * Referência a um enum gerado
+     */
+    record Enumeration(String name) implements FieldType {
+        @Override
+        public String javaType() {
+            return name;
+        }
+    }
+
+    record ListOf(FieldType element) implements FieldType {
+        @Override
+        public String javaType() {
+            return "List<" + element.javaType() + ">";
+        }
+    }
+}
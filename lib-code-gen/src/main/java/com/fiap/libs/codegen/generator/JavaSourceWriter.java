@@ -0,0 +1,388 @@
+package com.fiap.libs.codegen.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Gera o código-fonte dos records, enums, serializers, deserializers e mappers
+ *
+ * <p>Os serializers escrevem cada campo diretamente no JsonGenerator (nomes pré-codificados em
+ * SerializedString) e os deserializers leem os tokens com um switch pelo nome da propriedade,
+ * chamando os serializers dos tipos aninhados sem passar pela busca de serializers do Jackson.
+ * Campos nulos não são escritos e propriedades desconhecidas são ignoradas.</p>
+ */
+final class JavaSourceWriter {
+
+    private static final String GENERATED = "@Generated(\"" + OpenApiModelGenerator.class.getName() + "\")";
+    private static final String HEADER =
+            "// Código gerado pelo OpenApiModelGenerator a partir da especificação OpenAPI. Não edite.\n";
+    private static final String SUPPORT = "JsonCodecSupport";
+
+    private final String modelPackage;
+    private final String codecPackage;
+
+    JavaSourceWriter(String modelPackage) {
+        this.modelPackage = modelPackage;
+        this.codecPackage = modelPackage + ".json";
+    }
+
+    String codecPackage() {
+        return codecPackage;
+    }
+
+    String record(ModelDefinition model) {
+        Set<String> imports = new TreeSet<>(List.of(
+                "javax.annotation.processing.Generated",
+                codecPackage + "." + model.name() + "Deserializer",
+                codecPackage + "." + model.name() + "Serializer",
+                "tools.jackson.databind.annotation.JsonDeserialize",
+                "tools.jackson.databind.annotation.JsonSerialize"));
+        model.fields().forEach(field -> addTypeImports(field.type(), imports, false));
+
+        StringBuilder source = header(modelPackage, imports);
+        javadoc(source, "", model.description(), model.fields());
+        source.append(GENERATED).append('\n')
+                .append("@JsonSerialize(using = ").append(model.name()).append("Serializer.class)\n")
+                .append("@JsonDeserialize(using = ").append(model.name()).append("Deserializer.class)\n")
+                .append("public record ").append(model.name()).append('(');
+
+        for (int i = 0; i < model.fields().size(); i++) {
+            ModelDefinition.Field field = model.fields().get(i);
+            source.append(i == 0 ? "\n" : ",\n")
+                    .append("        ").append(field.type().javaType()).append(' ').append(field.javaName());
+        }
+        return source.append(") {\n}\n").toString();
+    }
+
+    String enumeration(EnumDefinition definition) {
+        Set<String> imports = new TreeSet<>(List.of(
+                "com.fasterxml.jackson.annotation.JsonCreator",
+                "com.fasterxml.jackson.annotation.JsonValue",
+                "javax.annotation.processing.Generated"));
+
+        StringBuilder source = header(modelPackage, imports);
+        javadoc(source, "", definition.description(), List.of());
+        source.append(GENERATED).append('\n')
+                .append("public enum ").append(definition.name()).append(" {\n");
+
+        Set<String> constants = new TreeSet<>();
+        List<String> values = definition.values();
+        for (int i = 0; i < values.size(); i++) {
+            String constant = SchemaModelReader.constantName(values.get(i));
+            for (int suffix = 2; !constants.add(constant); suffix++) {
+                constant = SchemaModelReader.constantName(values.get(i)) + "_" + suffix;
+            }
+            source.append("    ").append(constant).append("(\"").append(escape(values.get(i))).append("\")")
+                    .append(i == values.size() - 1 ? ";\n" : ",\n");
+        }
+
+        String name = definition.name();
+        return source.append('\n')
+                .append("    private final String value;\n\n")
+                .append("    ").append(name).append("(String value) {\n")
+                .append("        this.value = value;\n")
+                .append("    }\n\n")
+                .append("    @JsonValue\n")
+                .append("    public String getValue() {\n")
+                .append("        return value;\n")
+                .append("    }\n\n")
+                .append("    @JsonCreator\n")
+                .append("    public static ").append(name).append(" fromValue(String value) {\n")
+                .append("        if (value == null) {\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        for (").append(name).append(" candidate : values()) {\n")
+                .append("            if (candidate.value.equals(value)) {\n")
+                .append("                return candidate;\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        throw new IllegalArgumentException(\"Unexpected value '\" + value + \"' for ")
+                .append(name).append("\");\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    String serializer(ModelDefinition model) {
+        String name = model.name();
+        Set<String> imports = new TreeSet<>(List.of(
+                "com.fiap.libs.codegen.json.JsonCodecSupport",
+                modelPackage + "." + name,
+                "javax.annotation.processing.Generated",
+                "tools.jackson.core.JsonGenerator",
+                "tools.jackson.core.io.SerializedString",
+                "tools.jackson.databind.SerializationContext",
+                "tools.jackson.databind.ser.std.StdSerializer"));
+        model.fields().forEach(field -> addTypeImports(field.type(), imports, true));
+
+        StringBuilder source = header(codecPackage, imports);
+        source.append("/**\n * Serializer de ").append(name).append(" sem reflection\n */\n")
+                .append(GENERATED).append('\n')
+                .append("public final class ").append(name).append("Serializer extends StdSerializer<")
+                .append(name).append("> {\n\n")
+                .append("    public static final ").append(name).append("Serializer INSTANCE = new ")
+                .append(name).append("Serializer();\n\n");
+
+        for (ModelDefinition.Field field : model.fields()) {
+            source.append("    private static final SerializedString ").append(propertyConstant(field))
+                    .append(" = new SerializedString(\"").append(escape(field.jsonName())).append("\");\n");
+        }
+        if (!model.fields().isEmpty()) {
+            source.append('\n');
+        }
+
+        source.append("    public ").append(name).append("Serializer() {\n")
+                .append("        super(").append(name).append(".class);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void serialize(").append(name)
+                .append(" value, JsonGenerator generator, SerializationContext context) {\n")
+                .append("        generator.writeStartObject(value);\n");
+
+        for (ModelDefinition.Field field : model.fields()) {
+            String accessor = "value." + field.javaName() + "()";
+            source.append("        if (").append(accessor).append(" != null) {\n")
+                    .append("            generator.writeName(").append(propertyConstant(field)).append(");\n")
+                    .append("            ").append(writeCall(field.type(), accessor, "generator", "context", 0))
+                    .append(";\n")
+                    .append("        }\n");
+        }
+
+        return source.append("        generator.writeEndObject();\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    String deserializer(ModelDefinition model) {
+        String name = model.name();
+        Set<String> imports = new TreeSet<>(List.of(
+                "com.fiap.libs.codegen.json.JsonCodecSupport",
+                modelPackage + "." + name,
+                "javax.annotation.processing.Generated",
+                "tools.jackson.core.JsonParser",
+                "tools.jackson.core.JsonToken",
+                "tools.jackson.databind.DeserializationContext",
+                "tools.jackson.databind.deser.std.StdDeserializer"));
+        model.fields().forEach(field -> addTypeImports(field.type(), imports, true));
+
+        StringBuilder source = header(codecPackage, imports);
+        source.append("/**\n * Deserializer de ").append(name).append(" sem reflection\n */\n")
+                .append(GENERATED).append('\n')
+                .append("public final class ").append(name).append("Deserializer extends StdDeserializer<")
+                .append(name).append("> {\n\n")
+                .append("    public static final ").append(name).append("Deserializer INSTANCE = new ")
+                .append(name).append("Deserializer();\n\n")
+                .append("    public ").append(name).append("Deserializer() {\n")
+                .append("        super(").append(name).append(".class);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(name)
+                .append(" deserialize(JsonParser parser, DeserializationContext context) {\n")
+                .append("        JsonToken token = parser.currentToken();\n")
+                .append("        if (token == JsonToken.VALUE_NULL) {\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        if (token == JsonToken.START_OBJECT) {\n")
+                .append("            token = parser.nextToken();\n")
+                .append("        } else if (token != JsonToken.PROPERTY_NAME) {\n")
+                .append("            return (").append(name).append(") context.handleUnexpectedToken(")
+                .append(name).append(".class, parser);\n")
+                .append("        }\n\n");
+
+        for (ModelDefinition.Field field : model.fields()) {
+            source.append("        ").append(field.type().javaType()).append(' ').append(localName(field))
+                    .append(" = null;\n");
+        }
+        if (!model.fields().isEmpty()) {
+            source.append('\n');
+        }
+
+        source.append("        for (; token == JsonToken.PROPERTY_NAME; token = parser.nextToken()) {\n")
+                .append("            String property = parser.currentName();\n")
+                .append("            parser.nextToken();\n")
+                .append("            switch (property) {\n");
+        for (ModelDefinition.Field field : model.fields()) {
+            source.append("                case \"").append(escape(field.jsonName())).append("\" -> ")
+                    .append(localName(field)).append(" = ")
+                    .append(readCall(field.type(), "parser", "context", 0)).append(";\n");
+        }
+        source.append("                default -> parser.skipChildren();\n")
+                .append("            }\n")
+                .append("        }\n\n")
+                .append("        return new ").append(name).append('(');
+
+        for (int i = 0; i < model.fields().size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(localName(model.fields().get(i)));
+        }
+        return source.append(");\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    String mapper(ModelDefinition model, String mapperPackage, String domainPackage) {
+        String name = model.name();
+        Set<String> imports = new TreeSet<>(List.of(
+                modelPackage + "." + name,
+                "javax.annotation.processing.Generated",
+                "org.mapstruct.Mapper"));
+
+        String domainType = domainPackage + "." + name;
+        return header(mapperPackage, imports)
+                .append("/**\n * Mapper entre ").append(name).append(" e ").append(domainType).append("\n */\n")
+                .append(GENERATED).append('\n')
+                .append("@Mapper(componentModel = \"spring\")\n")
+                .append("public interface ").append(name).append("Mapper {\n\n")
+                .append("    ").append(name).append(" toDto(").append(domainType).append(" source);\n\n")
+                .append("    ").append(domainType).append(" toDomain(").append(name).append(" dto);\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private String readCall(FieldType type, String parser, String context, int depth) {
+        return switch (type) {
+            case FieldType.Scalar scalar ->
+                    SUPPORT + "." + scalar.kind().readerMethod() + "(" + parser + ", " + context + ")";
+            case FieldType.Model model ->
+                    model.name() + "Deserializer.INSTANCE.deserialize(" + parser + ", " + context + ")";
+            case FieldType.Enumeration enumeration -> SUPPORT + ".readEnum(" + parser + ", " + context + ", "
+                    + enumeration.name() + ".class, " + enumeration.name() + "::fromValue)";
+            case FieldType.ListOf list -> SUPPORT + ".readList(" + parser + ", " + context + ", "
+                    + reader(list.element(), depth + 1) + ")";
+        };
+    }
+
+    private String reader(FieldType type, int depth) {
+        return switch (type) {
+            case FieldType.Scalar scalar -> SUPPORT + "::" + scalar.kind().readerMethod();
+            case FieldType.Model model -> model.name() + "Deserializer.INSTANCE::deserialize";
+            default -> {
+                String parser = "elementParser" + depth;
+                String context = "elementContext" + depth;
+                yield "(" + parser + ", " + context + ") -> " + readCall(type, parser, context, depth);
+            }
+        };
+    }
+
+    private String writeCall(FieldType type, String value, String generator, String context, int depth) {
+        return switch (type) {
+            case FieldType.Scalar scalar -> SUPPORT + "." + scalar.kind().writerMethod()
+                    + "(" + value + ", " + generator + ", " + context + ")";
+            case FieldType.Model model -> model.name() + "Serializer.INSTANCE.serialize("
+                    + value + ", " + generator + ", " + context + ")";
+            case FieldType.Enumeration ignored -> generator + ".writeString(" + value + ".getValue())";
+            case FieldType.ListOf list -> SUPPORT + ".writeList(" + value + ", " + generator + ", " + context + ", "
+                    + writer(list.element(), depth + 1) + ")";
+        };
+    }
+
+    private String writer(FieldType type, int depth) {
+        return switch (type) {
+            case FieldType.Scalar scalar -> SUPPORT + "::" + scalar.kind().writerMethod();
+            case FieldType.Model model -> model.name() + "Serializer.INSTANCE::serialize";
+            default -> {
+                String value = "elementValue" + depth;
+                String generator = "elementGenerator" + depth;
+                String context = "elementContext" + depth;
+                yield "(" + value + ", " + generator + ", " + context + ") -> "
+                        + writeCall(type, value, generator, context, depth);
+            }
+        };
+    }
+
+    private void addTypeImports(FieldType type, Set<String> imports, boolean codec) {
+        switch (type) {
+            case FieldType.Scalar scalar -> {
+                if (scalar.kind().importName() != null) {
+                    imports.add(scalar.kind().importName());
+                }
+            }
+            case FieldType.Model model -> {
+                if (codec) {
+                    imports.add(modelPackage + "." + model.name());
+                }
+            }
+            case FieldType.Enumeration enumeration -> {
+                if (codec) {
+                    imports.add(modelPackage + "." + enumeration.name());
+                }
+            }
+            case FieldType.ListOf list -> {
+                imports.add("java.util.List");
+                addTypeImports(list.element(), imports, codec);
+            }
+        }
+    }
+
+    /**
+     * Evita conflito entre as variáveis locais do deserializer e os nomes dos campos
+     */
+    private static String localName(ModelDefinition.Field field) {
+        String name = field.javaName();
+        return switch (name) {
+            case "parser", "context", "token", "property" -> name + "Value";
+            default -> name.startsWith("element") ? name + "Value" : name;
+        };
+    }
+
+    private static String propertyConstant(ModelDefinition.Field field) {
+        return SchemaModelReader.constantName(field.javaName()) + "_PROPERTY";
+    }
+
+    private static StringBuilder header(String packageName, Set<String> imports) {
+        StringBuilder source = new StringBuilder(HEADER)
+                .append("package ").append(packageName).append(";\n\n");
+
+        List<String> external = new ArrayList<>();
+        List<String> java = new ArrayList<>();
+        for (String importName : imports) {
+            if (!importName.substring(0, importName.lastIndexOf('.')).equals(packageName)) {
+                (importName.startsWith("java.") || importName.startsWith("javax.") ? java : external).add(importName);
+            }
+        }
+
+        external.forEach(importName -> source.append("import ").append(importName).append(";\n"));
+        if (!external.isEmpty() && !java.isEmpty()) {
+            source.append('\n');
+        }
+        java.forEach(importName -> source.append("import ").append(importName).append(";\n"));
+        return source.append('\n');
+    }
+
+    private static void javadoc(StringBuilder source, String indent, String description, List<ModelDefinition.Field> fields) {
+        boolean documentedFields = fields.stream().anyMatch(field -> field.description() != null);
+        if (description == null && !documentedFields) {
+            return;
+        }
+
+        source.append(indent).append("/**\n");
+        if (description != null) {
+            for (String line : description.strip().split("\n")) {
+                source.append(indent).append(" * ").append(comment(line)).append('\n');
+            }
+        }
+        if (documentedFields) {
+            if (description != null) {
+                source.append(indent).append(" *\n");
+            }
+            for (ModelDefinition.Field field : fields) {
+                if (field.description() != null) {
+                    source.append(indent).append(" * @param ").append(field.javaName()).append(' ')
+                            .append(comment(field.description().strip().replace('\n', ' '))).append('\n');
+                }
+            }
+        }
+        source.append(indent).append(" */\n");
+    }
+
+    private static String comment(String text) {
+        return text.replace("*/", "*&#47;");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r");
+    }
+}
@@ -0,0 +1,23 @@
+package com.fiap.libs.codegen.generator;
+
+import java.util.List;
+
+/**
+ * Record a ser gerado a partir de um schema object
+ *
+ * @param name Nome da classe
+ * @param description Descrição do schema (javadoc), pode ser null
+ * @param fields Campos na ordem declarada na especificação
+ * @param component true para schemas de components.schemas, false para objetos inline
+ */
+record ModelDefinition(String name, String description, List<Field> fields, boolean component) {
+
+    /**
+     * @param jsonName Nome da propriedade no JSON
+     * @param javaName Nome do componente do record
+     * @param type Tipo Java
+     * @param description Descrição da propriedade, pode ser null
+     */
+    record Field(String jsonName, String javaName, FieldType type, String description) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.fiap.libs.codegen.generator;
+
+import com.fiap.libs.codegen.spec.OpenApiSpecLoader;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gera DTOs e serializers sem reflection a partir de components.schemas da especificação
+ *
+ * <p>Para cada schema object é gerado um record, anotado com um serializer e um deserializer
+ * escritos sobre a API de streaming do Jackson. Schemas string com enum geram enums. Com
+ * --mappers, também gera um mapper MapStruct entre cada record de components.schemas e a classe de
+ * domínio de mesmo nome no pacote informado (objetos inline não têm classe de domínio própria).</p>
+ *
+ * <pre>
+ * java com.fiap.libs.codegen.generator.OpenApiModelGenerator &lt;swagger.yaml&gt; &lt;output-directory&gt; &lt;package&gt; [--mappers &lt;domain-package&gt;]
+ * </pre>
+ */
+public final class OpenApiModelGenerator {
+
+    private OpenApiModelGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(args));
+
+        String domainPackage = null;
+        int mappers = arguments.indexOf("--mappers");
+        if (mappers >= 0 && mappers + 1 < arguments.size()) {
+            domainPackage = arguments.remove(mappers + 1);
+            arguments.remove(mappers);
+        }
+
+        if (arguments.size() != 3) {
+            System.err.println("Usage: OpenApiModelGenerator <spec.yaml> <output-directory> <package> [--mappers <domain-package>]");
+            System.exit(2);
+        }
+
+        Path source = Path.of(arguments.get(0));
+        SwaggerParseResult result = OpenApiSpecLoader.parse(Files.readString(source, StandardCharsets.UTF_8), source.toString());
+        if (result.getOpenAPI() == null) {
+            throw new IllegalStateException("Unable to parse OpenAPI spec " + source + ": " + result.getMessages());
+        }
+
+        List<Path> files = generate(result.getOpenAPI(), Path.of(arguments.get(1)), arguments.get(2), domainPackage);
+        System.out.println("[CODE-GEN] Generated " + files.size() + " source files from " + source);
+    }
+
+    /**
+     * Gera os fontes no diretório informado
+     *
+     * @param domainPackage Pacote das classes de domínio para os mappers (null não gera mappers)
+     * @return Arquivos gerados
+     */
+    public static List<Path> generate(OpenAPI openAPI, Path outputDirectory, String modelPackage, String domainPackage)
+            throws IOException {
+
+        SchemaModelReader reader = new SchemaModelReader(openAPI).read();
+        JavaSourceWriter writer = new JavaSourceWriter(modelPackage);
+        String mapperPackage = modelPackage + ".mapper";
+
+        List<Path> files = new ArrayList<>();
+        for (EnumDefinition definition : reader.enums()) {
+            files.add(write(outputDirectory, modelPackage, definition.name(), writer.enumeration(definition)));
+        }
+        for (ModelDefinition model : reader.models()) {
+            files.add(write(outputDirectory, modelPackage, model.name(), writer.record(model)));
+            files.add(write(outputDirectory, writer.codecPackage(), model.name() + "Serializer", writer.serializer(model)));
+            files.add(write(outputDirectory, writer.codecPackage(), model.name() + "Deserializer", writer.deserializer(model)));
+            if (domainPackage != null && model.component()) {
+                files.add(write(outputDirectory, mapperPackage, model.name() + "Mapper",
+                        writer.mapper(model, mapperPackage, domainPackage)));
+            }
+        }
+        return files;
+    }
+
+    private static Path write(Path outputDirectory, String packageName, String className, String source)
+            throws IOException {
+
+        Path file = outputDirectory.resolve(packageName.replace('.', '/')).resolve(className + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,305 @@
+package com.fiap.libs.codegen.generator;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Converte components.schemas da especificação nas definições de records e enums
+ *
+ * <p>Schemas object (incluindo allOf) viram records; schemas string com enum viram enums.
+ * Objetos e enums declarados inline em uma propriedade recebem o nome do dono seguido do nome
+ * da propriedade (ex: Order.address → OrderAddress). Propriedades herdadas via allOf usam o tipo
+ * inline do schema que as declara (Child: allOf [Order] reutiliza OrderAddress). oneOf/anyOf são
+ * mapeados para Object.</p>
+ */
+final class SchemaModelReader {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private static final Set<String> RESERVED = Set.of(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+            "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+            "new", "package", "private", "protected", "public", "return", "short", "static", "strictfp",
+            "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void",
+            "volatile", "while", "true", "false", "null", "record", "var", "yield", "sealed", "permits",
+            "_", "hashCode", "toString", "equals", "getClass", "notify", "notifyAll", "wait", "clone", "finalize");
+
+    private final Map<String, Schema> schemas;
+    private final Map<String, ModelDefinition> models = new LinkedHashMap<>();
+    private final Map<String, EnumDefinition> enums = new LinkedHashMap<>();
+    private final Map<String, FieldType> aliases = new HashMap<>();
+    private final Map<Schema<?>, FieldType> inlineTypes = new IdentityHashMap<>();
+    private final Set<String> usedNames = new HashSet<>();
+
+    SchemaModelReader(OpenAPI openAPI) {
+        Map<String, Schema> declared = openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null
+                ? openAPI.getComponents().getSchemas()
+                : Map.of();
+        this.schemas = new TreeMap<>(declared);
+        schemas.keySet().forEach(name -> usedNames.add(className(name)));
+    }
+
+    List<ModelDefinition> models() {
+        return List.copyOf(models.values());
+    }
+
+    List<EnumDefinition> enums() {
+        return List.copyOf(enums.values());
+    }
+
+    /**
+     * Lê todos os schemas de components (em ordem alfabética)
+     */
+    SchemaModelReader read() {
+        schemas.forEach((name, schema) -> {
+            if (isEnum(schema)) {
+                addEnum(className(name), schema);
+            } else if (isObject(schema)) {
+                addModel(className(name), schema, true);
+            }
+        });
+        return this;
+    }
+
+    private void addModel(String name, Schema<?> schema, boolean component) {
+        Map<String, DeclaredProperty> properties = new LinkedHashMap<>();
+        collectProperties(name, schema, properties, 0);
+
+        List<ModelDefinition.Field> fields = new ArrayList<>();
+        Set<String> javaNames = new HashSet<>();
+
+        properties.forEach((jsonName, property) -> {
+            String javaName = uniqueName(fieldName(jsonName), javaNames);
+            fields.add(new ModelDefinition.Field(jsonName, javaName,
+                    fieldType(property.owner(), jsonName, property.schema(), 0), property.schema().getDescription()));
+        });
+
+        models.put(name, new ModelDefinition(name, schema.getDescription(), fields, component));
+    }
+
+    private void addEnum(String name, Schema<?> schema) {
+        List<String> values = schema.getEnum().stream()
+                .filter(value -> value != null)
+                .map(Object::toString)
+                .distinct()
+                .toList();
+        enums.put(name, new EnumDefinition(name, schema.getDescription(), values));
+    }
+
+    /**
+     * allOf é tratado como a união das properties de todas as partes; cada propriedade guarda o
+     * schema que a declara, que dá nome aos seus tipos inline
+     */
+    private void collectProperties(String owner, Schema<?> schema, Map<String, DeclaredProperty> properties, int depth) {
+        if (schema == null || depth > 16) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            String ref = schema.get$ref();
+            if (ref.startsWith(SCHEMA_REF_PREFIX)) {
+                String name = ref.substring(SCHEMA_REF_PREFIX.length());
+                collectProperties(className(name), schemas.get(name), properties, depth + 1);
+            }
+            return;
+        }
+        if (schema.getAllOf() != null) {
+            for (Schema part : schema.getAllOf()) {
+                collectProperties(owner, part, properties, depth + 1);
+            }
+        }
+        if (schema.getProperties() != null) {
+            schema.getProperties().forEach((name, property) -> properties.put(name, new DeclaredProperty(owner, property)));
+        }
+    }
+
+    private FieldType fieldType(String owner, String property, Schema<?> schema, int depth) {
+        if (schema == null || depth > 16) {
+            return new FieldType.Scalar(FieldType.Kind.ANY);
+        }
+
+        if (schema.get$ref() != null) {
+            return referenceType(schema, depth);
+        }
+        if (schema.getAllOf() != null && schema.getAllOf().size() == 1 && schema.getProperties() == null) {
+            return fieldType(owner, property, schema.getAllOf().get(0), depth + 1);
+        }
+        if (schema.getOneOf() != null || schema.getAnyOf() != null) {
+            return new FieldType.Scalar(FieldType.Kind.ANY);
+        }
+        FieldType inline = inlineTypes.get(schema);
+        if (inline != null) {
+            return inline;
+        }
+        if (isEnum(schema)) {
+            String name = inlineName(owner, property);
+            inlineTypes.put(schema, new FieldType.Enumeration(name));
+            addEnum(name, schema);
+            return inlineTypes.get(schema);
+        }
+        if (schema.getProperties() != null || schema.getAllOf() != null) {
+            String name = inlineName(owner, property);
+            inlineTypes.put(schema, new FieldType.Model(name));
+            addModel(name, schema, false);
+            return inlineTypes.get(schema);
+        }
+
+        String type = typeOf(schema);
+        if (type == null) {
+            return new FieldType.Scalar(FieldType.Kind.ANY);
+        }
+
+        String format = schema.getFormat();
+        FieldType.Kind kind = switch (type) {
+            case "string" -> switch (format == null ? "" : format) {
+                case "date" -> FieldType.Kind.DATE;
+                case "date-time" -> FieldType.Kind.DATE_TIME;
+                case "uuid" -> FieldType.Kind.UUID;
+                default -> FieldType.Kind.STRING;
+            };
+            case "integer" -> "int64".equals(format) ? FieldType.Kind.LONG : FieldType.Kind.INTEGER;
+            case "number" -> "double".equals(format) ? FieldType.Kind.DOUBLE
+                    : "float".equals(format) ? FieldType.Kind.FLOAT : FieldType.Kind.DECIMAL;
+            case "boolean" -> FieldType.Kind.BOOLEAN;
+            case "object" -> FieldType.Kind.MAP;
+            case "array" -> null;
+            default -> FieldType.Kind.ANY;
+        };
+
+        if (kind == null) {
+            return new FieldType.ListOf(fieldType(owner, property + "Item", schema.getItems(), depth + 1));
+        }
+        return new FieldType.Scalar(kind);
+    }
+
+    private FieldType referenceType(Schema<?> schema, int depth) {
+        String ref = schema.get$ref();
+        if (!ref.startsWith(SCHEMA_REF_PREFIX)) {
+            return new FieldType.Scalar(FieldType.Kind.ANY);
+        }
+
+        String name = ref.substring(SCHEMA_REF_PREFIX.length());
+        Schema<?> target = schemas.get(name);
+        if (target == null) {
+            return new FieldType.Scalar(FieldType.Kind.ANY);
+        }
+        if (isEnum(target)) {
+            return new FieldType.Enumeration(className(name));
+        }
+        if (isObject(target)) {
+            return new FieldType.Model(className(name));
+        }
+        // Alias para um tipo simples ou array (ex: Tags: {type: array, items: ...})
+        FieldType alias = aliases.get(name);
+        if (alias == null) {
+            alias = fieldType(className(name), "", target, depth + 1);
+            aliases.put(name, alias);
+        }
+        return alias;
+    }
+
+    private String inlineName(String owner, String property) {
+        String base = owner + className(property);
+        String name = base;
+        for (int i = 2; !usedNames.add(name); i++) {
+            name = base + i;
+        }
+        return name;
+    }
+
+    private static boolean isEnum(Schema<?> schema) {
+        return schema.getEnum() != null && !schema.getEnum().isEmpty() && "string".equals(typeOf(schema));
+    }
+
+    private static boolean isObject(Schema<?> schema) {
+        return schema.getProperties() != null
+                || (schema.getAllOf() != null && !schema.getAllOf().isEmpty());
+    }
+
+    private static String typeOf(Schema<?> schema) {
+        if (schema.getType() != null) {
+            return schema.getType();
+        }
+        if (schema.getTypes() != null) {
+            for (String type : schema.getTypes()) {
+                if (!"null".equals(type)) {
+                    return type;
+                }
+            }
+        }
+        if (schema.getItems() != null) {
+            return "array";
+        }
+        return schema.getEnum() != null ? "string" : null;
+    }
+
+    /**
+     * Nome de classe em UpperCamelCase (ex: order-item → OrderItem)
+     */
+    static String className(String name) {
+        String camel = upperCamel(name);
+        return camel.isEmpty() || !Character.isJavaIdentifierStart(camel.charAt(0)) ? "Model" + camel : camel;
+    }
+
+    /**
+     * Nome de campo em lowerCamelCase, evitando palavras reservadas e métodos de Object
+     */
+    static String fieldName(String name) {
+        String camel = upperCamel(name);
+        if (camel.isEmpty() || !Character.isJavaIdentifierStart(camel.charAt(0))) {
+            return "value" + camel;
+        }
+        String result = Character.toLowerCase(camel.charAt(0)) + camel.substring(1);
+        return RESERVED.contains(result) ? result + "Value" : result;
+    }
+
+    private static String upperCamel(String name) {
+        StringBuilder result = new StringBuilder();
+        for (String part : name.split("[^A-Za-z0-9]+")) {
+            if (!part.isEmpty()) {
+                result.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Nome de constante em UPPER_SNAKE_CASE (ex: inProgress → IN_PROGRESS)
+     */
+    static String constantName(String value) {
+        String snake = value
+                .replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+                .replaceAll("[^A-Za-z0-9]+", "_")
+                .replaceAll("^_+|_+$", "")
+                .toUpperCase(Locale.ROOT);
+        if (snake.isEmpty()) {
+            return "EMPTY";
+        }
+        return Character.isJavaIdentifierStart(snake.charAt(0)) ? snake : "_" + snake;
+    }
+
+    /**
+     * Propriedade de um model e o nome do schema que a declara
+     */
+    private record DeclaredProperty(String owner, Schema<?> schema) {
+    }
+
+    private static String uniqueName(String name, Set<String> used) {
+        String candidate = name;
+        for (int i = 2; !used.add(candidate); i++) {
+            candidate = name + i;
+        }
+        return candidate;
+    }
+}
@@ -0,0 +1,225 @@
+package com.fiap.libs.codegen.json;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Leitura e escrita de valores usadas pelos serializers gerados pelo OpenApiModelGenerator
+ *
+ * <p>Cada método trata um tipo concreto diretamente sobre o JsonParser/JsonGenerator, sem
+ * introspecção. Tokens inesperados são delegados ao DeserializationContext, que produz as
+ * mesmas exceções do binding padrão do Jackson.</p>
+ */
+public final class JsonCodecSupport {
+
+    private JsonCodecSupport() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Lê o valor atual do parser
+     */
+    @FunctionalInterface
+    public interface ValueReader<T> {
+        T read(JsonParser parser, DeserializationContext context);
+    }
+
+    /**
+     * Escreve um valor não nulo no generator
+     */
+    @FunctionalInterface
+    public interface ValueWriter<T> {
+        void write(T value, JsonGenerator generator, SerializationContext context);
+    }
+
+    public static String readString(JsonParser parser, DeserializationContext context) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parser.getString();
+            default -> (String) context.handleUnexpectedToken(String.class, parser);
+        };
+    }
+
+    public static Integer readInteger(JsonParser parser, DeserializationContext context) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            default -> (Integer) context.handleUnexpectedToken(Integer.class, parser);
+        };
+    }
+
+    public static Long readLong(JsonParser parser, DeserializationContext context) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            default -> (Long) context.handleUnexpectedToken(Long.class, parser);
+        };
+    }
+
+    public static BigDecimal readDecimal(JsonParser parser, DeserializationContext context) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            default -> (BigDecimal) context.handleUnexpectedToken(BigDecimal.class, parser);
+        };
+    }
+
+    public static Double readDouble(JsonParser parser, DeserializationContext context) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            default -> (Double) context.handleUnexpectedToken(Double.class, parser);
+        };
+    }
+
+    public static Float readFloat(JsonParser parser, DeserializationContext context) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getFloatValue();
+            default -> (Float) context.handleUnexpectedToken(Float.class, parser);
+        };
+    }
+
+    public static Boolean readBoolean(JsonParser parser, DeserializationContext context) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> (Boolean) context.handleUnexpectedToken(Boolean.class, parser);
+        };
+    }
+
+    public static LocalDate readLocalDate(JsonParser parser, DeserializationContext context) {
+        return parse(parser, context, LocalDate.class, LocalDate::parse);
+    }
+
+    public static OffsetDateTime readOffsetDateTime(JsonParser parser, DeserializationContext context) {
+        return parse(parser, context, OffsetDateTime.class, OffsetDateTime::parse);
+    }
+
+    public static UUID readUuid(JsonParser parser, DeserializationContext context) {
+        return parse(parser, context, UUID.class, UUID::fromString);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> readMap(JsonParser parser, DeserializationContext context) {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : context.readValue(parser, Map.class);
+    }
+
+    public static Object readAny(JsonParser parser, DeserializationContext context) {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : context.readValue(parser, Object.class);
+    }
+
+    /**
+     * Lê um enum pelo valor declarado na especificação
+     */
+    public static <E extends Enum<E>> E readEnum(
+            JsonParser parser, DeserializationContext context, Class<E> type, Function<String, E> fromValue) {
+
+        return parse(parser, context, type, fromValue);
+    }
+
+    public static <T> List<T> readList(JsonParser parser, DeserializationContext context, ValueReader<T> element) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            context.handleUnexpectedToken(List.class, parser);
+            return null;
+        }
+
+        List<T> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(element.read(parser, context));
+        }
+        return values;
+    }
+
+    public static void writeString(String value, JsonGenerator generator, SerializationContext context) {
+        generator.writeString(value);
+    }
+
+    public static void writeInteger(Integer value, JsonGenerator generator, SerializationContext context) {
+        generator.writeNumber(value);
+    }
+
+    public static void writeLong(Long value, JsonGenerator generator, SerializationContext context) {
+        generator.writeNumber(value);
+    }
+
+    public static void writeDecimal(BigDecimal value, JsonGenerator generator, SerializationContext context) {
+        generator.writeNumber(value);
+    }
+
+    public static void writeDouble(Double value, JsonGenerator generator, SerializationContext context) {
+        generator.writeNumber(value);
+    }
+
+    public static void writeFloat(Float value, JsonGenerator generator, SerializationContext context) {
+        generator.writeNumber(value);
+    }
+
+    public static void writeBoolean(Boolean value, JsonGenerator generator, SerializationContext context) {
+        generator.writeBoolean(value);
+    }
+
+    public static void writeOffsetDateTime(OffsetDateTime value, JsonGenerator generator, SerializationContext context) {
+        generator.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+    }
+
+    public static void writeText(Object value, JsonGenerator generator, SerializationContext context) {
+        generator.writeString(value.toString());
+    }
+
+    public static void writeAny(Object value, JsonGenerator generator, SerializationContext context) {
+        context.writeValue(generator, value);
+    }
+
+    public static <T> void writeList(
+            List<T> values, JsonGenerator generator, SerializationContext context, ValueWriter<T> element) {
+
+        generator.writeStartArray(values, values.size());
+        for (T value : values) {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                element.write(value, generator, context);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static <T> T parse(
+            JsonParser parser, DeserializationContext context, Class<T> type, Function<String, T> parse) {
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return type.cast(context.handleUnexpectedToken(type, parser));
+        }
+
+        String text = parser.getString();
+        try {
+            return parse.apply(text);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw context.weirdStringException(text, type, e.getMessage());
+        }
+    }
+}
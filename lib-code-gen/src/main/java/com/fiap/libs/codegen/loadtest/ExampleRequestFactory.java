@@ -0,0 +1,300 @@
+package com.fiap.libs.codegen.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Sintetiza uma requisição de exemplo válida para cada operação da especificação
+ *
+ * <p>Usa, nesta ordem, example, default e o primeiro valor de enum do schema; na falta deles
+ * gera um valor do tipo declarado respeitando format, minimum/maximum, minLength/maxLength e
+ * minItems. Patterns não são interpretados, declare um example nesses campos.</p>
+ */
+final class ExampleRequestFactory {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final String PARAMETER_REF_PREFIX = "#/components/parameters/";
+    private static final String REQUEST_BODY_REF_PREFIX = "#/components/requestBodies/";
+    private static final int MAX_DEPTH = 4;
+
+    private final OpenAPI openAPI;
+
+    ExampleRequestFactory(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Requisições de exemplo das operações com os métodos informados (em ordem de path)
+     *
+     * @param methods Métodos incluídos (vazio inclui todos)
+     */
+    List<SampleRequest> create(Set<String> methods) {
+        List<SampleRequest> requests = new ArrayList<>();
+        if (openAPI.getPaths() == null) {
+            return requests;
+        }
+
+        new TreeMap<>(openAPI.getPaths()).forEach((path, pathItem) ->
+                pathItem.readOperationsMap().forEach((method, operation) -> {
+                    if (methods.isEmpty() || methods.contains(method.name())) {
+                        SampleRequest request = create(path, pathItem, method, operation);
+                        if (request != null) {
+                            requests.add(request);
+                        }
+                    }
+                }));
+        return requests;
+    }
+
+    private SampleRequest create(String path, PathItem pathItem, PathItem.HttpMethod method, Operation operation) {
+        List<Parameter> parameters = new ArrayList<>();
+        if (pathItem.getParameters() != null) {
+            pathItem.getParameters().forEach(parameter -> parameters.add(resolve(parameter)));
+        }
+        if (operation.getParameters() != null) {
+            operation.getParameters().forEach(parameter -> parameters.add(resolve(parameter)));
+        }
+
+        String resolvedPath = path;
+        StringBuilder query = new StringBuilder();
+        Map<String, String> headers = new LinkedHashMap<>();
+
+        for (Parameter parameter : parameters) {
+            if (parameter == null || parameter.getIn() == null) {
+                continue;
+            }
+            boolean required = Boolean.TRUE.equals(parameter.getRequired());
+            String value = String.valueOf(parameter.getExample() != null
+                    ? parameter.getExample()
+                    : example(parameter.getSchema(), 0));
+
+            switch (parameter.getIn()) {
+                case "path" -> resolvedPath = resolvedPath.replace("{" + parameter.getName() + "}", encode(value));
+                case "query" -> {
+                    if (required) {
+                        query.append(query.isEmpty() ? '?' : '&')
+                                .append(encode(parameter.getName())).append('=').append(encode(value));
+                    }
+                }
+                case "header" -> {
+                    if (required) {
+                        headers.put(parameter.getName(), value);
+                    }
+                }
+                default -> {
+                    // Cookies não são enviados
+                }
+            }
+        }
+
+        byte[] body = null;
+        RequestBody requestBody = resolve(operation.getRequestBody());
+        if (requestBody != null && requestBody.getContent() != null && !requestBody.getContent().isEmpty()) {
+            MediaType json = jsonMediaType(requestBody.getContent());
+            if (json == null) {
+                // Corpo apenas em formatos não JSON (multipart, form): operação ignorada se obrigatório
+                if (Boolean.TRUE.equals(requestBody.getRequired())) {
+                    return null;
+                }
+            } else {
+                Object example = json.getExample() != null ? json.getExample() : example(json.getSchema(), 0);
+                body = toJson(example);
+            }
+        }
+
+        String name = operation.getOperationId() != null ? operation.getOperationId() : method.name() + " " + path;
+        return new SampleRequest(name, method.name(), resolvedPath + query, Map.copyOf(headers), body);
+    }
+
+    /**
+     * Valor de exemplo para o schema
+     */
+    Object example(Schema<?> schema, int depth) {
+        Schema<?> resolved = resolve(schema);
+        if (resolved == null) {
+            return "string";
+        }
+        if (resolved.getExample() != null) {
+            return resolved.getExample();
+        }
+        if (resolved.getDefault() != null) {
+            return resolved.getDefault();
+        }
+        if (resolved.getEnum() != null && !resolved.getEnum().isEmpty()) {
+            return resolved.getEnum().get(0);
+        }
+        if (resolved.getAllOf() != null && !resolved.getAllOf().isEmpty()) {
+            Map<String, Object> merged = new LinkedHashMap<>();
+            for (Schema part : resolved.getAllOf()) {
+                if (example(part, depth) instanceof Map<?, ?> values) {
+                    values.forEach((key, value) -> merged.put(String.valueOf(key), value));
+                }
+            }
+            merged.putAll(properties(resolved, depth));
+            return merged;
+        }
+        if (resolved.getOneOf() != null && !resolved.getOneOf().isEmpty()) {
+            return example(resolved.getOneOf().get(0), depth);
+        }
+        if (resolved.getAnyOf() != null && !resolved.getAnyOf().isEmpty()) {
+            return example(resolved.getAnyOf().get(0), depth);
+        }
+
+        String type = typeOf(resolved);
+        return switch (type == null ? "object" : type) {
+            case "string" -> string(resolved);
+            case "integer" -> number(resolved).setScale(0, RoundingMode.CEILING).longValueExact();
+            case "number" -> number(resolved);
+            case "boolean" -> Boolean.TRUE;
+            case "array" -> array(resolved, depth);
+            default -> properties(resolved, depth);
+        };
+    }
+
+    private Map<String, Object> properties(Schema<?> schema, int depth) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (schema.getProperties() == null) {
+            return values;
+        }
+
+        List<String> required = schema.getRequired() != null ? schema.getRequired() : List.of();
+        schema.getProperties().forEach((name, property) -> {
+            // Em níveis profundos (ou schemas recursivos) inclui apenas os campos obrigatórios
+            if (depth < MAX_DEPTH || required.contains(name)) {
+                values.put(name, depth < MAX_DEPTH * 2 ? example(property, depth + 1) : null);
+            }
+        });
+        return values;
+    }
+
+    private List<Object> array(Schema<?> schema, int depth) {
+        int size = schema.getMinItems() != null ? Math.max(1, schema.getMinItems()) : 1;
+        if (schema.getMaxItems() != null) {
+            size = Math.min(size, schema.getMaxItems());
+        }
+        List<Object> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(example(schema.getItems(), depth + 1));
+        }
+        return values;
+    }
+
+    private static String string(Schema<?> schema) {
+        String value = switch (schema.getFormat() == null ? "" : schema.getFormat()) {
+            case "date" -> "2025-01-01";
+            case "date-time" -> "2025-01-01T00:00:00Z";
+            case "uuid" -> "00000000-0000-0000-0000-000000000001";
+            case "email" -> "user@example.com";
+            case "uri", "url" -> "https://example.com";
+            case "byte" -> "c3RyaW5n";
+            default -> "string";
+        };
+
+        if (schema.getMinLength() != null && value.length() < schema.getMinLength()) {
+            value = value + "a".repeat(schema.getMinLength() - value.length());
+        }
+        if (schema.getMaxLength() != null && value.length() > schema.getMaxLength()) {
+            value = value.substring(0, schema.getMaxLength());
+        }
+        return value;
+    }
+
+    private static BigDecimal number(Schema<?> schema) {
+        BigDecimal minimum = schema.getMinimum() != null ? schema.getMinimum() : schema.getExclusiveMinimumValue();
+        BigDecimal maximum = schema.getMaximum() != null ? schema.getMaximum() : schema.getExclusiveMaximumValue();
+
+        if (minimum != null) {
+            boolean exclusive = Boolean.TRUE.equals(schema.getExclusiveMinimum()) || schema.getMinimum() == null;
+            return exclusive ? minimum.add(BigDecimal.ONE) : minimum;
+        }
+        if (maximum != null && maximum.compareTo(BigDecimal.ONE) < 0) {
+            boolean exclusive = Boolean.TRUE.equals(schema.getExclusiveMaximum()) || schema.getMaximum() == null;
+            return exclusive ? maximum.subtract(BigDecimal.ONE) : maximum;
+        }
+        return BigDecimal.ONE;
+    }
+
+    private static String typeOf(Schema<?> schema) {
+        if (schema.getType() != null) {
+            return schema.getType();
+        }
+        if (schema.getTypes() != null) {
+            for (String type : schema.getTypes()) {
+                if (!"null".equals(type)) {
+                    return type;
+                }
+            }
+        }
+        return schema.getItems() != null ? "array" : null;
+    }
+
+    private Schema<?> resolve(Schema<?> schema) {
+        Schema<?> current = schema;
+        for (int i = 0; current != null && current.get$ref() != null && i < 16; i++) {
+            String ref = current.get$ref();
+            current = ref.startsWith(SCHEMA_REF_PREFIX) && openAPI.getComponents() != null
+                    && openAPI.getComponents().getSchemas() != null
+                    ? openAPI.getComponents().getSchemas().get(ref.substring(SCHEMA_REF_PREFIX.length()))
+                    : null;
+        }
+        return current;
+    }
+
+    private Parameter resolve(Parameter parameter) {
+        if (parameter.get$ref() == null || !parameter.get$ref().startsWith(PARAMETER_REF_PREFIX)
+                || openAPI.getComponents() == null || openAPI.getComponents().getParameters() == null) {
+            return parameter;
+        }
+        return openAPI.getComponents().getParameters().get(parameter.get$ref().substring(PARAMETER_REF_PREFIX.length()));
+    }
+
+    private RequestBody resolve(RequestBody requestBody) {
+        if (requestBody == null || requestBody.get$ref() == null
+                || !requestBody.get$ref().startsWith(REQUEST_BODY_REF_PREFIX)
+                || openAPI.getComponents() == null || openAPI.getComponents().getRequestBodies() == null) {
+            return requestBody;
+        }
+        return openAPI.getComponents().getRequestBodies()
+                .get(requestBody.get$ref().substring(REQUEST_BODY_REF_PREFIX.length()));
+    }
+
+    private static MediaType jsonMediaType(Content content) {
+        return content.entrySet().stream()
+                .filter(entry -> entry.getKey().equals("application/json")
+                        || entry.getKey().endsWith("/json") || entry.getKey().endsWith("+json"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static byte[] toJson(Object value) {
+        try {
+            return Json.mapper().writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize example body", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,333 @@
+package com.fiap.libs.codegen.loadtest;
+
+import com.fiap.libs.codegen.spec.OpenApiSpecLoader;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga local a partir da especificação OpenAPI
+ *
+ * <p>Sintetiza uma requisição de exemplo por operação e dispara requisições em modelo aberto:
+ * a taxa alvo (rps) é mantida independentemente do tempo de resposta, cada requisição em uma
+ * virtual thread. A latência é medida a partir do instante planejado de envio, de modo que
+ * atrasos do próprio serviço não escondem as filas (coordinated omission).</p>
+ *
+ * <pre>
+ * java com.fiap.libs.codegen.loadtest.OpenApiLoadGenerator &lt;swagger.yaml&gt; &lt;base-url&gt; [opções]
+ *
+ *   --rps 50                 taxa alvo de requisições por segundo (todas as operações)
+ *   --duration 30s           duração da medição
+ *   --warmup 5s              aquecimento (não entra no relatório)
+ *   --methods GET,POST       métodos incluídos (padrão: todos)
+ *   --operations a,b         operationIds incluídos (padrão: todos)
+ *   --header "K: V"          header enviado em todas as requisições (repetível)
+ *   --timeout 5s             timeout de cada requisição
+ *   --max-in-flight 512      requisições simultâneas; acima disso o envio é descartado
+ *   --report report.json     grava o relatório em JSON
+ *   --max-p99 250ms          falha (exit 1) se o p99 de alguma operação exceder o limite
+ *   --max-error-rate 0.01    falha (exit 1) se a taxa de erros (5xx e falhas) exceder o limite
+ * </pre>
+ */
+public final class OpenApiLoadGenerator {
+
+    private final List<SampleRequest> requests;
+    private final URI baseUri;
+    private final Options options;
+    private final HttpClient client;
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    OpenApiLoadGenerator(List<SampleRequest> requests, URI baseUri, Options options) {
+        this.requests = requests;
+        this.baseUri = baseUri;
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(options.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        requests.forEach(request -> stats.put(request.operation(), new OperationStats(request.operation())));
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: OpenApiLoadGenerator <spec.yaml> <base-url> [--rps N] [--duration 30s] "
+                    + "[--warmup 5s] [--methods GET,POST] [--operations id1,id2] [--header \"K: V\"] "
+                    + "[--timeout 5s] [--max-in-flight N] [--report file.json] [--max-p99 250ms] [--max-error-rate 0.01]");
+            System.exit(2);
+        }
+
+        Path source = Path.of(args[0]);
+        SwaggerParseResult result = OpenApiSpecLoader.parse(Files.readString(source, StandardCharsets.UTF_8), source.toString());
+        if (result.getOpenAPI() == null) {
+            throw new IllegalStateException("Unable to parse OpenAPI spec " + source + ": " + result.getMessages());
+        }
+
+        Options options = Options.parse(Arrays.copyOfRange(args, 2, args.length));
+        List<SampleRequest> requests = new ExampleRequestFactory(result.getOpenAPI()).create(options.methods());
+        if (!options.operations().isEmpty()) {
+            requests.removeIf(request -> !options.operations().contains(request.operation()));
+        }
+        if (requests.isEmpty()) {
+            System.err.println("[CODE-GEN] No operations selected");
+            System.exit(2);
+        }
+
+        String baseUrl = args[1].endsWith("/") ? args[1].substring(0, args[1].length() - 1) : args[1];
+        OpenApiLoadGenerator generator = new OpenApiLoadGenerator(requests, URI.create(baseUrl), options);
+        double seconds = generator.run();
+
+        String report = generator.report(seconds);
+        System.out.println(report);
+        if (options.reportFile() != null) {
+            Files.write(options.reportFile(), Json.pretty().writeValueAsBytes(generator.toMap(seconds)));
+        }
+
+        List<String> violations = generator.violations();
+        violations.forEach(violation -> System.err.println("[CODE-GEN] " + violation));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Executa o aquecimento e a medição
+     *
+     * @return Duração efetiva da medição em segundos
+     */
+    double run() throws InterruptedException {
+        System.out.printf(Locale.ROOT, "[CODE-GEN] %d operations at %.1f rps against %s (warmup %ds, duration %ds)%n",
+                requests.size(), options.rps(), baseUri, options.warmup().toSeconds(), options.duration().toSeconds());
+
+        long intervalNanos = (long) (1_000_000_000L / options.rps());
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                SampleRequest request = requests.get((int) (i % requests.size()));
+                boolean measured = intended >= measureStart;
+
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        dropped.increment();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        send(request, intended, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            executor.shutdown();
+            executor.awaitTermination(options.timeout().toMillis() + 1000, TimeUnit.MILLISECONDS);
+        }
+        return (end - measureStart) / 1_000_000_000.0;
+    }
+
+    private void send(SampleRequest request, long intended, boolean measured) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + request.pathAndQuery()))
+                .timeout(options.timeout())
+                .method(request.method(), request.body() != null
+                        ? HttpRequest.BodyPublishers.ofByteArray(request.body())
+                        : HttpRequest.BodyPublishers.noBody());
+
+        if (request.body() != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        builder.header("Accept", "application/json");
+        request.headers().forEach(builder::header);
+        options.headers().forEach(builder::header);
+
+        OperationStats operationStats = stats.get(request.operation());
+        try {
+            HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            if (measured) {
+                operationStats.recordResponse(response.statusCode(), (System.nanoTime() - intended) / 1000);
+            }
+        } catch (IOException e) {
+            if (measured) {
+                operationStats.recordFailure((System.nanoTime() - intended) / 1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    String report(double seconds) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-40s %9s %8s %9s %9s %9s %9s %9s %7s %7s %8s%n",
+                "operation", "requests", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                "4xx", "5xx", "errors"));
+
+        for (OperationStats operation : stats.values()) {
+            Map<String, Object> values = operation.toMap(seconds);
+            report.append(String.format(Locale.ROOT, "%-40s %9d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d %7.2f%%%n",
+                    abbreviate(operation.operation()),
+                    (long) values.get("requests"),
+                    (double) values.get("throughput"),
+                    (double) values.get("p50Ms"),
+                    (double) values.get("p90Ms"),
+                    (double) values.get("p99Ms"),
+                    (double) values.get("p999Ms"),
+                    (double) values.get("maxMs"),
+                    (long) values.get("clientErrors"),
+                    (long) values.get("serverErrors") + (long) values.get("failures"),
+                    operation.errorRate() * 100));
+        }
+
+        if (dropped.sum() > 0) {
+            report.append(String.format(Locale.ROOT,
+                    "%d requests were not sent because max-in-flight (%d) was reached%n",
+                    dropped.sum(), options.maxInFlight()));
+        }
+        return report.toString();
+    }
+
+    Map<String, Object> toMap(double seconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("targetRps", options.rps());
+        result.put("durationSeconds", seconds);
+        result.put("dropped", dropped.sum());
+        result.put("operations", stats.values().stream().map(operation -> operation.toMap(seconds)).toList());
+        return result;
+    }
+
+    List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        for (OperationStats operation : stats.values()) {
+            if (options.maxP99() != null
+                    && operation.percentileMicros(99) > options.maxP99().toNanos() / 1000) {
+                violations.add(String.format(Locale.ROOT, "%s: p99 %.2fms exceeds %dms",
+                        operation.operation(), operation.percentileMicros(99) / 1000.0, options.maxP99().toMillis()));
+            }
+            if (options.maxErrorRate() != null && operation.errorRate() > options.maxErrorRate()) {
+                violations.add(String.format(Locale.ROOT, "%s: error rate %.2f%% exceeds %.2f%%",
+                        operation.operation(), operation.errorRate() * 100, options.maxErrorRate() * 100));
+            }
+        }
+        if (options.maxErrorRate() != null && dropped.sum() > 0) {
+            violations.add(dropped.sum() + " requests dropped (max-in-flight reached)");
+        }
+        return violations;
+    }
+
+    private static String abbreviate(String value) {
+        return value.length() <= 40 ? value : value.substring(0, 37) + "...";
+    }
+
+    /**
+     * Opções de linha de comando
+     */
+    record Options(double rps, Duration duration, Duration warmup, Duration timeout, int maxInFlight,
+                   Set<String> methods, Set<String> operations, Map<String, String> headers,
+                   Path reportFile, Duration maxP99, Double maxErrorRate) {
+
+        static Options parse(String[] args) {
+            double rps = 50;
+            Duration duration = Duration.ofSeconds(30);
+            Duration warmup = Duration.ofSeconds(5);
+            Duration timeout = Duration.ofSeconds(5);
+            int maxInFlight = 512;
+            Set<String> methods = new LinkedHashSet<>();
+            Set<String> operations = new LinkedHashSet<>();
+            Map<String, String> headers = new LinkedHashMap<>();
+            Path reportFile = null;
+            Duration maxP99 = null;
+            Double maxErrorRate = null;
+
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+
+                switch (option) {
+                    case "--rps" -> rps = Double.parseDouble(value);
+                    case "--duration" -> duration = parseDuration(value);
+                    case "--warmup" -> warmup = parseDuration(value);
+                    case "--timeout" -> timeout = parseDuration(value);
+                    case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                    case "--methods" -> Arrays.stream(value.split(","))
+                            .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                            .forEach(methods::add);
+                    case "--operations" -> Arrays.stream(value.split(",")).map(String::trim).forEach(operations::add);
+                    case "--header" -> {
+                        int separator = value.indexOf(':');
+                        if (separator <= 0) {
+                            throw new IllegalArgumentException("Invalid header (expected \"Name: value\"): " + value);
+                        }
+                        headers.put(value.substring(0, separator).trim(), value.substring(separator + 1).trim());
+                    }
+                    case "--report" -> reportFile = Path.of(value);
+                    case "--max-p99" -> maxP99 = parseDuration(value);
+                    case "--max-error-rate" -> maxErrorRate = Double.parseDouble(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            if (rps <= 0 || maxInFlight <= 0) {
+                throw new IllegalArgumentException("--rps and --max-in-flight must be greater than zero");
+            }
+            return new Options(rps, duration, warmup, timeout, maxInFlight, methods, operations, headers,
+                    reportFile, maxP99, maxErrorRate);
+        }
+
+        /**
+         * Aceita 500ms, 30s, 2m ou o formato ISO-8601 (PT30S)
+         */
+        static Duration parseDuration(String value) {
+            String text = value.trim().toLowerCase(Locale.ROOT);
+            if (text.startsWith("pt")) {
+                return Duration.parse(value.trim());
+            }
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            long amount = Long.parseLong(text.substring(0, text.length() - 1));
+            return switch (text.charAt(text.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException("Invalid duration " + value);
+            };
+        }
+    }
+}
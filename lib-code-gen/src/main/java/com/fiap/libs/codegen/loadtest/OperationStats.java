@@ -0,0 +1,80 @@
+package com.fiap.libs.codegen.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e resultados de uma operação durante o teste de carga
+ */
+final class OperationStats {
+
+    private final String operation;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    OperationStats(String operation) {
+        this.operation = operation;
+    }
+
+    String operation() {
+        return operation;
+    }
+
+    void recordResponse(int status, long latencyMicros) {
+        latencies.record(latencyMicros);
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    /**
+     * Falha de transporte (timeout, conexão recusada, etc.)
+     */
+    void recordFailure(long latencyMicros) {
+        latencies.record(latencyMicros);
+        failures.increment();
+    }
+
+    long requests() {
+        return latencies.count();
+    }
+
+    /**
+     * Proporção de respostas 5xx e falhas de transporte (4xx não entram: podem ser causados
+     * pelos dados sintetizados, como ids inexistentes)
+     */
+    double errorRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) (serverErrors.sum() + failures.sum()) / requests;
+    }
+
+    long percentileMicros(double percentile) {
+        return latencies.percentile(percentile);
+    }
+
+    Map<String, Object> toMap(double seconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("operation", operation);
+        result.put("requests", requests());
+        result.put("throughput", seconds > 0 ? requests() / seconds : 0);
+        result.put("p50Ms", latencies.percentile(50) / 1000.0);
+        result.put("p90Ms", latencies.percentile(90) / 1000.0);
+        result.put("p99Ms", latencies.percentile(99) / 1000.0);
+        result.put("p999Ms", latencies.percentile(99.9) / 1000.0);
+        result.put("maxMs", latencies.max() / 1000.0);
+        result.put("success", success.sum());
+        result.put("clientErrors", clientErrors.sum());
+        result.put("serverErrors", serverErrors.sum());
+        result.put("failures", failures.sum());
+        result.put("errorRate", errorRate());
+        return result;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fiap.libs.codegen.loadtest;
+
+import java.util.Map;
+
+/**
+ * Requisição de exemplo sintetizada para uma operação da especificação
+ *
+ * @param operation Identificador da operação (operationId ou "MÉTODO path")
+ * @param method Método HTTP
+ * @param pathAndQuery Caminho com os parâmetros de path e query já preenchidos
+ * @param headers Headers obrigatórios da operação
+ * @param body Corpo JSON (null quando a operação não tem corpo)
+ */
+record SampleRequest(String operation, String method, String pathAndQuery, Map<String, String> headers, byte[] body) {
+}
@@ -0,0 +1,265 @@
+package com.fiap.libs.codegen.spec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Carrega a especificação OpenAPI da aplicação (uma única vez)
+ *
+ * <p>Usa primeiro a versão pré-compilada em build ({@value #PRECOMPILED_LOCATION}, gerada pelo
+ * {@link OpenApiSpecPrecompiler}), que só precisa ser desserializada. Na ausência dela, faz o
+ * parse do YAML: dos fragmentos configurados em springdoc.spec.locations (aceita padrões como
+ * {@code classpath*:openapi/*.yaml}) ou, sem configuração, do primeiro arquivo encontrado nas
+ * localizações padrão.</p>
+ *
+ * <p>Os fragmentos são parseados em paralelo (uma virtual thread por arquivo) e combinados pelo
+ * {@link OpenApiSpecMerger} na ordem configurada; arquivos de um mesmo padrão são ordenados pelo
+ * nome.</p>
+ */
+@Slf4j
+public class OpenApiSpecLoader {
+
+    /**
+     * Localização da especificação pré-compilada (JSON minificado)
+     */
+    public static final String PRECOMPILED_LOCATION = "classpath:META-INF/openapi/openapi.json";
+
+    /**
+     * Localizações comuns do arquivo YAML, em ordem de prioridade
+     */
+    public static final String[] YAML_LOCATIONS = {
+            "classpath:openapi/swagger.yaml",
+            "classpath:swagger.yaml",
+            "classpath:openapi.yaml"
+    };
+
+    private final ResourceLoader resourceLoader;
+    private final List<String> locations;
+    private final boolean failOnConflict;
+    private volatile Optional<OpenAPI> spec;
+
+    public OpenApiSpecLoader(ResourceLoader resourceLoader) {
+        this(resourceLoader, List.of(), false);
+    }
+
+    /**
+     * @param locations Localizações (ou padrões) dos fragmentos; vazia usa as localizações padrão
+     * @param failOnConflict Falha o carregamento quando fragmentos definem o mesmo caminho/componente
+     */
+    public OpenApiSpecLoader(ResourceLoader resourceLoader, List<String> locations, boolean failOnConflict) {
+        this.resourceLoader = resourceLoader;
+        this.locations = List.copyOf(locations);
+        this.failOnConflict = failOnConflict;
+    }
+
+    /**
+     * Conteúdo de um fragmento, lido na thread que faz o parse
+     */
+    @FunctionalInterface
+    public interface ContentSource {
+        String read() throws IOException;
+    }
+
+    /**
+     * Especificação da aplicação (memoizada após a primeira chamada)
+     */
+    public Optional<OpenAPI> load() {
+        Optional<OpenAPI> result = spec;
+        if (result == null) {
+            synchronized (this) {
+                result = spec;
+                if (result == null) {
+                    result = loadPrecompiled().or(locations.isEmpty() ? this::loadYaml : this::loadFragments);
+                    spec = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Faz o parse do conteúdo YAML (ou JSON) de uma especificação
+     *
+     * @return Resultado do parser, com a especificação e as mensagens de validação
+     */
+    public static SwaggerParseResult parse(String content) {
+        return parse(content, null);
+    }
+
+    /**
+     * Faz o parse do conteúdo YAML (ou JSON) de uma especificação, resolvendo as referências
+     * externas ({@code $ref: common.yaml#/...}) em relação à localização do arquivo
+     *
+     * @param location URL ou caminho do arquivo; {@code null} quando o conteúdo não vem de um arquivo
+     * @return Resultado do parser, com a especificação e as mensagens de validação
+     */
+    public static SwaggerParseResult parse(String content, String location) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return new OpenAPIV3Parser().readContents(content, null, options, location);
+    }
+
+    /**
+     * Faz o parse dos fragmentos em paralelo e os combina na ordem do mapa
+     *
+     * @param sources Fragmentos por localização (URL ou caminho, usada para resolver referências
+     *                externas e nas mensagens de conflito), na ordem de combinação
+     * @return Especificação combinada e conflitos encontrados
+     * @throws IllegalStateException se algum fragmento não puder ser lido ou parseado
+     */
+    public static OpenApiSpecMerger.MergeResult parseAndMerge(Map<String, ContentSource> sources) {
+        List<Map.Entry<String, Future<SwaggerParseResult>>> parsing = new ArrayList<>(sources.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            sources.forEach((name, source) ->
+                    parsing.add(Map.entry(name, executor.submit(() -> parse(source.read(), name)))));
+
+            List<OpenApiSpecMerger.Fragment> fragments = new ArrayList<>(parsing.size());
+            for (Map.Entry<String, Future<SwaggerParseResult>> entry : parsing) {
+                SwaggerParseResult result = entry.getValue().get();
+                if (result.getOpenAPI() == null) {
+                    throw new IllegalStateException("Unable to parse OpenAPI spec " + entry.getKey()
+                            + ": " + result.getMessages());
+                }
+                fragments.add(new OpenApiSpecMerger.Fragment(entry.getKey(), result.getOpenAPI()));
+            }
+            return OpenApiSpecMerger.merge(fragments);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to read OpenAPI spec: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading OpenAPI spec", e);
+        }
+    }
+
+    private Optional<OpenAPI> loadPrecompiled() {
+        Resource resource = resourceLoader.getResource(PRECOMPILED_LOCATION);
+        if (!resource.exists()) {
+            return Optional.empty();
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            OpenAPI openAPI = read(inputStream.readAllBytes());
+            log.info("✅ [CODE-GEN] Loaded precompiled OpenAPI spec from: {}", PRECOMPILED_LOCATION);
+            return Optional.of(openAPI);
+        } catch (IOException e) {
+            log.warn("⚠️ [CODE-GEN] Error loading precompiled OpenAPI spec, falling back to YAML: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Desserializa a especificação pré-compilada com o mapper da versão declarada em {@code openapi}
+     */
+    static OpenAPI read(byte[] json) throws IOException {
+        JsonNode tree = Json.mapper().readTree(json);
+        String version = tree.path("openapi").asText(null);
+        OpenAPI openAPI = mapper(version).treeToValue(tree, OpenAPI.class);
+        if (isOpenApi31(version)) {
+            openAPI.setSpecVersion(SpecVersion.V31);
+        }
+        return openAPI;
+    }
+
+    /**
+     * Mapper do swagger-core para a versão da especificação: 3.1 (JSON Schema 2020-12, {@code type}
+     * como lista, {@code webhooks} etc.) exige o {@link Json31}
+     */
+    static ObjectMapper mapper(String version) {
+        return isOpenApi31(version) ? Json31.mapper() : Json.mapper();
+    }
+
+    private static boolean isOpenApi31(String version) {
+        return version != null && version.startsWith("3.1");
+    }
+
+    private Optional<OpenAPI> loadFragments() {
+        Map<String, ContentSource> sources = new LinkedHashMap<>();
+        ResourcePatternResolver resolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+
+        try {
+            for (String location : locations) {
+                Resource[] resources = resolver.getResources(location.trim());
+                Arrays.sort(resources, Comparator.comparing(Resource::getFilename, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Resource::getDescription));
+
+                for (Resource resource : resources) {
+                    if (resource.exists()) {
+                        sources.putIfAbsent(resource.getURL().toExternalForm(),
+                                () -> resource.getContentAsString(StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ [CODE-GEN] Error resolving OpenAPI spec locations {}: {}", locations, e.getMessage());
+            return Optional.empty();
+        }
+
+        if (sources.isEmpty()) {
+            log.warn("⚠️ [CODE-GEN] No OpenAPI spec found in {}, using default configuration", locations);
+            return Optional.empty();
+        }
+
+        OpenApiSpecMerger.MergeResult result = parseAndMerge(sources);
+        result.conflicts().forEach(conflict -> log.warn("⚠️ [CODE-GEN] OpenAPI spec conflict: {}", conflict));
+        if (failOnConflict && !result.conflicts().isEmpty()) {
+            throw new IllegalStateException(result.conflicts().size() + " conflict(s) merging OpenAPI specs: "
+                    + result.conflicts());
+        }
+
+        log.info("✅ [CODE-GEN] Loaded OpenAPI spec from {} fragment(s): {}", sources.size(), sources.keySet());
+        return Optional.of(result.openAPI());
+    }
+
+    private Optional<OpenAPI> loadYaml() {
+        try {
+            for (String path : YAML_LOCATIONS) {
+                Resource resource = resourceLoader.getResource(path);
+                if (resource.exists()) {
+                    try (InputStream inputStream = resource.getInputStream()) {
+                        SwaggerParseResult result = parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8),
+                                resource.getURL().toExternalForm());
+
+                        if (result.getOpenAPI() != null) {
+                            log.info("✅ [CODE-GEN] Loaded OpenAPI spec from: {}", path);
+                            return Optional.of(result.getOpenAPI());
+                        }
+                    }
+                }
+            }
+
+            log.warn("⚠️ [CODE-GEN] OpenAPI YAML file not found, using default configuration");
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("⚠️ [CODE-GEN] Error loading OpenAPI YAML: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.fiap.libs.codegen.spec;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Combina fragmentos de especificação OpenAPI em um único modelo
+ *
+ * <p>Os fragmentos são aplicados na ordem recebida e a primeira definição vence, portanto o
+ * resultado é determinístico. {@code info}, {@code servers} e {@code externalDocs} vêm do primeiro
+ * fragmento que os declara; tags, requisitos de segurança e parâmetros do nível do caminho são
+ * unidos. Uma mesma operação (caminho + método) em dois fragmentos, um parâmetro de caminho com o
+ * mesmo nome + localização e definição diferente, ou um componente com o mesmo nome e definição
+ * diferente, é reportado como conflito. Fragmentos parseados pelo {@link OpenApiSpecLoader} já
+ * chegam com os parâmetros de caminho copiados para as operações do próprio fragmento. Componentes idênticos repetidos entre fragmentos não são conflito.</p>
+ */
+public final class OpenApiSpecMerger {
+
+    private OpenApiSpecMerger() {
+    }
+
+    /**
+     * Fragmento de especificação
+     *
+     * @param name Identificação do fragmento nas mensagens de conflito (ex: nome do arquivo)
+     * @param openAPI Modelo parseado
+     */
+    public record Fragment(String name, OpenAPI openAPI) {
+    }
+
+    /**
+     * Resultado da combinação
+     *
+     * @param openAPI Modelo combinado
+     * @param conflicts Conflitos encontrados (a primeira definição foi mantida)
+     */
+    public record MergeResult(OpenAPI openAPI, List<String> conflicts) {
+    }
+
+    /**
+     * Combina os fragmentos na ordem recebida
+     */
+    public static MergeResult merge(List<Fragment> fragments) {
+        OpenAPI merged = new OpenAPI();
+        List<String> conflicts = new ArrayList<>();
+        Map<String, String> origins = new HashMap<>();
+
+        if (!fragments.isEmpty()) {
+            merged.setOpenapi(fragments.get(0).openAPI().getOpenapi());
+            merged.setSpecVersion(fragments.get(0).openAPI().getSpecVersion());
+        }
+
+        for (Fragment fragment : fragments) {
+            OpenAPI source = fragment.openAPI();
+
+            if (merged.getInfo() == null) {
+                merged.setInfo(source.getInfo());
+            }
+            if ((merged.getServers() == null || merged.getServers().isEmpty()) && source.getServers() != null) {
+                merged.setServers(source.getServers());
+            }
+            if (merged.getExternalDocs() == null) {
+                merged.setExternalDocs(source.getExternalDocs());
+            }
+
+            mergeTags(merged, source);
+            mergeSecurity(merged, source);
+            mergePaths(merged, fragment, origins, conflicts);
+            mergeComponents(merged, fragment, origins, conflicts);
+
+            if (source.getWebhooks() != null) {
+                merged.setWebhooks(mergeMap("webhooks", merged.getWebhooks(), source.getWebhooks(),
+                        fragment.name(), origins, conflicts));
+            }
+        }
+
+        return new MergeResult(merged, List.copyOf(conflicts));
+    }
+
+    private static void mergeTags(OpenAPI merged, OpenAPI source) {
+        if (source.getTags() == null) {
+            return;
+        }
+        for (Tag tag : source.getTags()) {
+            boolean exists = merged.getTags() != null && merged.getTags().stream()
+                    .anyMatch(existing -> Objects.equals(existing.getName(), tag.getName()));
+            if (!exists) {
+                merged.addTagsItem(tag);
+            }
+        }
+    }
+
+    private static void mergeSecurity(OpenAPI merged, OpenAPI source) {
+        if (source.getSecurity() == null) {
+            return;
+        }
+        for (SecurityRequirement requirement : source.getSecurity()) {
+            if (merged.getSecurity() == null || !merged.getSecurity().contains(requirement)) {
+                merged.addSecurityItem(requirement);
+            }
+        }
+    }
+
+    private static void mergePaths(OpenAPI merged, Fragment fragment, Map<String, String> origins,
+                                   List<String> conflicts) {
+        Paths paths = fragment.openAPI().getPaths();
+        if (paths == null) {
+            return;
+        }
+        if (merged.getPaths() == null) {
+            merged.setPaths(new Paths());
+        }
+
+        paths.forEach((path, pathItem) -> {
+            PathItem target = merged.getPaths().get(path);
+            if (target == null) {
+                target = new PathItem();
+                merged.getPaths().addPathItem(path, target);
+            }
+
+            mergeParameters(merged, path, target, pathItem, fragment, origins, conflicts);
+            if (target.getSummary() == null) {
+                target.setSummary(pathItem.getSummary());
+            }
+            if (target.getDescription() == null) {
+                target.setDescription(pathItem.getDescription());
+            }
+
+            PathItem current = target;
+            pathItem.readOperationsMap().forEach((method, operation) -> {
+                String key = "paths." + path + "." + method;
+                String origin = origins.putIfAbsent(key, fragment.name());
+                if (origin == null) {
+                    current.operation(method, operation);
+                } else {
+                    conflicts.add(method + " " + path + " is defined in both " + origin + " and " + fragment.name());
+                }
+            });
+        });
+    }
+
+    /**
+     * Une os parâmetros declarados no nível do caminho; o mesmo nome + localização ({@code in}) com
+     * definição diferente é conflito
+     */
+    private static void mergeParameters(OpenAPI merged, String path, PathItem target, PathItem source,
+                                        Fragment fragment, Map<String, String> origins, List<String> conflicts) {
+        if (source.getParameters() == null) {
+            return;
+        }
+        for (Parameter parameter : source.getParameters()) {
+            String key = parameterKey(parameter, fragment.openAPI(), merged);
+            Parameter existing = target.getParameters() == null ? null : target.getParameters().stream()
+                    .filter(candidate -> key.equals(parameterKey(candidate, fragment.openAPI(), merged)))
+                    .findFirst()
+                    .orElse(null);
+
+            String origin = "paths." + path + ".parameters." + key;
+            if (existing == null) {
+                target.addParametersItem(parameter);
+                origins.put(origin, fragment.name());
+            } else if (!existing.equals(parameter)) {
+                conflicts.add("parameter " + key + " of " + path + " is defined differently in "
+                        + origins.get(origin) + " and " + fragment.name());
+            }
+        }
+    }
+
+    /**
+     * Identifica o parâmetro por nome + localização, resolvendo {@code $ref} para
+     * {@code #/components/parameters} no modelo combinado ou no fragmento
+     */
+    private static String parameterKey(Parameter parameter, OpenAPI fragment, OpenAPI merged) {
+        Parameter resolved = parameter;
+        if (parameter.get$ref() != null) {
+            String name = parameter.get$ref().substring(parameter.get$ref().lastIndexOf('/') + 1);
+            resolved = componentParameter(merged, name);
+            if (resolved == null) {
+                resolved = componentParameter(fragment, name);
+            }
+            if (resolved == null) {
+                return parameter.get$ref();
+            }
+        }
+        return resolved.getIn() + ":" + resolved.getName();
+    }
+
+    private static Parameter componentParameter(OpenAPI openAPI, String name) {
+        Components components = openAPI.getComponents();
+        return components != null && components.getParameters() != null ? components.getParameters().get(name) : null;
+    }
+
+    private static void mergeComponents(OpenAPI merged, Fragment fragment, Map<String, String> origins,
+                                        List<String> conflicts) {
+        Components source = fragment.openAPI().getComponents();
+        if (source == null) {
+            return;
+        }
+        if (merged.getComponents() == null) {
+            merged.setComponents(new Components());
+        }
+
+        Components target = merged.getComponents();
+        String name = fragment.name();
+
+        target.setSchemas(mergeMap("components.schemas", target.getSchemas(), source.getSchemas(), name, origins, conflicts));
+        target.setResponses(mergeMap("components.responses", target.getResponses(), source.getResponses(), name, origins, conflicts));
+        target.setParameters(mergeMap("components.parameters", target.getParameters(), source.getParameters(), name, origins, conflicts));
+        target.setExamples(mergeMap("components.examples", target.getExamples(), source.getExamples(), name, origins, conflicts));
+        target.setRequestBodies(mergeMap("components.requestBodies", target.getRequestBodies(), source.getRequestBodies(), name, origins, conflicts));
+        target.setHeaders(mergeMap("components.headers", target.getHeaders(), source.getHeaders(), name, origins, conflicts));
+        target.setSecuritySchemes(mergeMap("components.securitySchemes", target.getSecuritySchemes(), source.getSecuritySchemes(), name, origins, conflicts));
+        target.setLinks(mergeMap("components.links", target.getLinks(), source.getLinks(), name, origins, conflicts));
+        target.setCallbacks(mergeMap("components.callbacks", target.getCallbacks(), source.getCallbacks(), name, origins, conflicts));
+        target.setPathItems(mergeMap("components.pathItems", target.getPathItems(), source.getPathItems(), name, origins, conflicts));
+    }
+
+    /**
+     * Une dois mapas de componentes; nomes repetidos com definição diferente viram conflito
+     */
+    private static <T> Map<String, T> mergeMap(String kind, Map<String, T> target, Map<String, T> source,
+                                               String fragmentName, Map<String, String> origins,
+                                               List<String> conflicts) {
+        if (source == null || source.isEmpty()) {
+            return target;
+        }
+        Map<String, T> result = target != null ? target : new LinkedHashMap<>();
+
+        source.forEach((name, value) -> {
+            T existing = result.get(name);
+            if (existing == null) {
+                result.put(name, value);
+                origins.put(kind + "." + name, fragmentName);
+            } else if (!existing.equals(value)) {
+                conflicts.add(kind + "." + name + " is defined differently in "
+                        + origins.get(kind + "." + name) + " and " + fragmentName);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package com.fiap.libs.codegen.spec;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pré-compila a especificação OpenAPI durante o build
+ *
+ * <p>Faz o parse e a validação do YAML uma única vez e grava o modelo como JSON minificado em
+ * META-INF/openapi/openapi.json, que o {@link OpenApiSpecLoader} apenas desserializa no startup.
+ * Erros de parse interrompem o build. Com mais de um arquivo, os fragmentos são combinados pelo
+ * {@link OpenApiSpecMerger} na ordem informada.</p>
+ *
+ * <pre>
+ * java com.fiap.libs.codegen.spec.OpenApiSpecPrecompiler [--strict] &lt;swagger.yaml&gt;... &lt;target/classes&gt;
+ * </pre>
+ *
+ * Com --strict, mensagens de validação do parser e conflitos entre fragmentos também falham o build
+ */
+public final class OpenApiSpecPrecompiler {
+
+    static final String OUTPUT_PATH = "META-INF/openapi/openapi.json";
+
+    private OpenApiSpecPrecompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        boolean strict = arguments.remove("--strict");
+
+        if (arguments.size() < 2) {
+            System.err.println("Usage: OpenApiSpecPrecompiler [--strict] <spec.yaml>... <output-directory>");
+            System.exit(2);
+        }
+
+        Path outputDirectory = Path.of(arguments.removeLast());
+        List<Path> sources = new ArrayList<>();
+        for (String argument : arguments) {
+            Path source = Path.of(argument);
+            if (Files.exists(source)) {
+                sources.add(source);
+            } else {
+                System.out.println("[CODE-GEN] OpenAPI spec not found, skipping: " + source);
+            }
+        }
+
+        if (sources.isEmpty()) {
+            System.out.println("[CODE-GEN] No OpenAPI spec found, skipping precompilation");
+            return;
+        }
+
+        Path output = precompile(sources, outputDirectory, strict);
+        System.out.println("[CODE-GEN] Precompiled OpenAPI spec " + sources + " -> " + output
+                + " (" + Files.size(output) + " bytes)");
+    }
+
+    /**
+     * Faz o parse, valida e grava a especificação pré-compilada
+     *
+     * @return Arquivo gerado
+     */
+    public static Path precompile(Path source, Path outputDirectory, boolean strict) throws IOException {
+        SwaggerParseResult result = OpenApiSpecLoader.parse(Files.readString(source, StandardCharsets.UTF_8), source.toString());
+        List<String> messages = result.getMessages() != null ? result.getMessages() : List.of();
+
+        messages.forEach(message -> System.err.println("[CODE-GEN] " + source.getFileName() + ": " + message));
+        if (result.getOpenAPI() == null) {
+            throw new IllegalStateException("Unable to parse OpenAPI spec " + source);
+        }
+        if (strict && !messages.isEmpty()) {
+            throw new IllegalStateException(messages.size() + " validation message(s) in OpenAPI spec " + source);
+        }
+
+        return write(result.getOpenAPI(), outputDirectory);
+    }
+
+    /**
+     * Faz o parse dos fragmentos, combina e grava a especificação pré-compilada
+     *
+     * @return Arquivo gerado
+     */
+    public static Path precompile(List<Path> sources, Path outputDirectory, boolean strict) throws IOException {
+        if (sources.size() == 1) {
+            return precompile(sources.getFirst(), outputDirectory, strict);
+        }
+
+        Map<String, OpenApiSpecLoader.ContentSource> contents = new LinkedHashMap<>();
+        for (Path source : sources) {
+            contents.putIfAbsent(source.toString(), () -> Files.readString(source, StandardCharsets.UTF_8));
+        }
+
+        OpenApiSpecMerger.MergeResult result = OpenApiSpecLoader.parseAndMerge(contents);
+        result.conflicts().forEach(conflict -> System.err.println("[CODE-GEN] Conflict: " + conflict));
+        if (strict && !result.conflicts().isEmpty()) {
+            throw new IllegalStateException(result.conflicts().size() + " conflict(s) merging OpenAPI specs " + sources);
+        }
+
+        return write(result.openAPI(), outputDirectory);
+    }
+
+    private static Path write(OpenAPI openAPI, Path outputDirectory) throws IOException {
+        byte[] json = OpenApiSpecLoader.mapper(openAPI.getOpenapi()).writeValueAsBytes(openAPI);
+
+        // Garante que o artefato pode ser lido pelo OpenApiSpecLoader
+        OpenApiSpecLoader.read(json);
+
+        Path output = outputDirectory.resolve(OUTPUT_PATH);
+        Files.createDirectories(output.getParent());
+        Files.write(output, json);
+        return output;
+    }
+}
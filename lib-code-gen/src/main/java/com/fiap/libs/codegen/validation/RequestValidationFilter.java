@@ -0,0 +1,122 @@
+package com.fiap.libs.codegen.validation;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fiap.libs.exception.api.exceptions.request.PayloadTooLargeException;
+import com.fiap.libs.exception.api.exceptions.validation.InvalidFormatException;
+import com.fiap.libs.exception.api.exceptions.validation.ValidationException;
+import com.fiap.libs.exception.api.model.CustomFieldError;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Filtro que valida corpos JSON contra o schema da operação no swagger.yaml
+ *
+ * <p>Requisições inválidas são rejeitadas com ValidationException (400, com os erros de campo)
+ * antes da desserialização e da bean validation; JSON malformado gera InvalidFormatException.
+ * Corpos maiores que o limite configurado são rejeitados com PayloadTooLargeException (413),
+ * já que não podem seguir sem validação. Uma falha inesperada do validador não bloqueia a
+ * requisição: é logada e o corpo segue sem validação.</p>
+ */
+@Slf4j
+public class RequestValidationFilter extends OncePerRequestFilter {
+
+    private final SpecRequestValidator validator;
+    private final int maxBodyBytes;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public RequestValidationFilter(
+            SpecRequestValidator validator,
+            long maxBodyBytes,
+            HandlerExceptionResolver exceptionResolver) {
+
+        this.validator = validator;
+        this.maxBodyBytes = (int) Math.min(maxBodyBytes, Integer.MAX_VALUE - 8);
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        SpecRequestValidator.CompiledOperation operation = validator.match(request.getMethod(), path);
+
+        if (operation == null || !isJson(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            rejectTooLarge(request, response);
+            return;
+        }
+
+        // Corpo chunked: lê no máximo um byte além do limite para detectar o excesso
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            rejectTooLarge(request, response);
+            return;
+        }
+
+        List<CustomFieldError> errors;
+        try {
+            errors = validator.validate(operation, body);
+        } catch (JsonProcessingException e) {
+            exceptionResolver.resolveException(request, response, null,
+                    new InvalidFormatException(malformedMessage(e)));
+            return;
+        } catch (RuntimeException e) {
+            // Falha do próprio validador (não do JSON): segue sem validação, como nos schemas não suportados
+            log.warn("⚠️ [CODE-GEN] Unable to validate {} {} against the API specification, skipping: {}",
+                    request.getMethod(), path, e.toString());
+            errors = List.of();
+        }
+
+        if (!errors.isEmpty()) {
+            exceptionResolver.resolveException(request, response, null,
+                    new ValidationException("Request body does not match the API specification", errors));
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyRequestWrapper(request, body), response);
+    }
+
+    private void rejectTooLarge(HttpServletRequest request, HttpServletResponse response) {
+        // Fecha a conexão para que o container não precise consumir o restante do corpo
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        exceptionResolver.resolveException(request, response, null, new PayloadTooLargeException(maxBodyBytes));
+    }
+
+    private static String malformedMessage(JsonProcessingException e) {
+        JsonLocation location = e.getLocation();
+        return location == null
+                ? "Malformed JSON request body"
+                : "Malformed JSON request body at line " + location.getLineNr() + ", column " + location.getColumnNr();
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+                    || mediaType.getSubtype().endsWith("+json");
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.fiap.libs.codegen.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Validador compilado a partir de um schema OpenAPI
+ *
+ * <p>Consome o valor atual do JsonParser (token a token, sem montar uma árvore) e reporta as
+ * violações no {@link ValidationContext}. Ao retornar, o parser está posicionado no último
+ * token do valor.</p>
+ */
+abstract class SchemaValidator {
+
+    /**
+     * Aceita qualquer valor (schema ausente, oneOf/anyOf ou tipo não suportado)
+     */
+    static final SchemaValidator ANY = new SchemaValidator(true) {
+        @Override
+        void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException {
+            parser.skipChildren();
+        }
+    };
+
+    private final boolean nullable;
+
+    SchemaValidator(boolean nullable) {
+        this.nullable = nullable;
+    }
+
+    void validate(JsonParser parser, ValidationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            if (!nullable) {
+                context.report("NotNull", "must not be null", null);
+            }
+            return;
+        }
+        validateValue(parser, token, context);
+    }
+
+    abstract void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException;
+
+    static void typeMismatch(JsonParser parser, JsonToken token, ValidationContext context, String type)
+            throws IOException {
+
+        context.report("Type", "must be of type " + type, token.isScalarValue() ? parser.getText() : null);
+        parser.skipChildren();
+    }
+
+    /**
+     * Referência a um schema de components (permite schemas recursivos)
+     */
+    static final class Reference extends SchemaValidator {
+
+        private SchemaValidator target = ANY;
+
+        Reference() {
+            super(true);
+        }
+
+        void resolve(SchemaValidator target) {
+            this.target = target;
+        }
+
+        @Override
+        void validate(JsonParser parser, ValidationContext context) throws IOException {
+            target.validate(parser, context);
+        }
+
+        @Override
+        void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException {
+            target.validateValue(parser, token, context);
+        }
+    }
+
+    /**
+     * @param requiredIndex Posição entre os campos obrigatórios (-1 quando opcional)
+     */
+    record Property(SchemaValidator validator, int requiredIndex) {
+    }
+
+    static final class ObjectValidator extends SchemaValidator {
+
+        private final Map<String, Property> properties;
+        private final String[] required;
+
+        ObjectValidator(boolean nullable, Map<String, Property> properties, String[] required) {
+            super(nullable);
+            this.properties = properties;
+            this.required = required;
+        }
+
+        @Override
+        void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException {
+            if (token != JsonToken.START_OBJECT) {
+                typeMismatch(parser, token, context, "object");
+                return;
+            }
+
+            boolean[] present = required.length > 0 ? new boolean[required.length] : null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+
+                Property property = properties.get(name);
+                if (property == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (property.requiredIndex() >= 0) {
+                    present[property.requiredIndex()] = true;
+                }
+
+                int mark = context.enterField(name);
+                property.validator().validate(parser, context);
+                context.leave(mark);
+            }
+
+            for (int i = 0; i < required.length; i++) {
+                if (!present[i]) {
+                    context.reportMissing(required[i]);
+                }
+            }
+        }
+    }
+
+    static final class ArrayValidator extends SchemaValidator {
+
+        private final SchemaValidator items;
+        private final Integer minItems;
+        private final Integer maxItems;
+
+        ArrayValidator(boolean nullable, SchemaValidator items, Integer minItems, Integer maxItems) {
+            super(nullable);
+            this.items = items;
+            this.minItems = minItems;
+            this.maxItems = maxItems;
+        }
+
+        @Override
+        void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException {
+            if (token != JsonToken.START_ARRAY) {
+                typeMismatch(parser, token, context, "array");
+                return;
+            }
+
+            int size = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                int mark = context.enterIndex(size++);
+                items.validate(parser, context);
+                context.leave(mark);
+            }
+
+            if (minItems != null && size < minItems) {
+                context.report("Size", "size must be at least " + minItems, null);
+            } else if (maxItems != null && size > maxItems) {
+                context.report("Size", "size must be at most " + maxItems, null);
+            }
+        }
+    }
+
+    static final class StringValidator extends SchemaValidator {
+
+        private final Integer minLength;
+        private final Integer maxLength;
+        private final Pattern pattern;
+        private final Set<String> allowedValues;
+
+        StringValidator(boolean nullable, Integer minLength, Integer maxLength, Pattern pattern, Set<String> allowedValues) {
+            super(nullable);
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.pattern = pattern;
+            this.allowedValues = allowedValues;
+        }
+
+        @Override
+        void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException {
+            if (token != JsonToken.VALUE_STRING) {
+                typeMismatch(parser, token, context, "string");
+                return;
+            }
+
+            String value = parser.getText();
+
+            if (allowedValues != null) {
+                if (!allowedValues.contains(value)) {
+                    context.report("Enum", "must be one of " + allowedValues, value);
+                }
+                return;
+            }
+
+            if (minLength != null || maxLength != null) {
+                int length = value.codePointCount(0, value.length());
+                if (minLength != null && length < minLength) {
+                    context.report("Size", "length must be at least " + minLength, value);
+                    return;
+                }
+                if (maxLength != null && length > maxLength) {
+                    context.report("Size", "length must be at most " + maxLength, value);
+                    return;
+                }
+            }
+
+            if (pattern != null && !pattern.matcher(value).find()) {
+                context.report("Pattern", "must match \"" + pattern.pattern() + "\"", value);
+            }
+        }
+    }
+
+    static final class NumberValidator extends SchemaValidator {
+
+        private final boolean integer;
+        private final BigDecimal minimum;
+        private final boolean exclusiveMinimum;
+        private final BigDecimal maximum;
+        private final boolean exclusiveMaximum;
+        private final List<BigDecimal> allowedValues;
+
+        NumberValidator(boolean nullable, boolean integer,
+                        BigDecimal minimum, boolean exclusiveMinimum,
+                        BigDecimal maximum, boolean exclusiveMaximum,
+                        List<BigDecimal> allowedValues) {
+            super(nullable);
+            this.integer = integer;
+            this.minimum = minimum;
+            this.exclusiveMinimum = exclusiveMinimum;
+            this.maximum = maximum;
+            this.exclusiveMaximum = exclusiveMaximum;
+            this.allowedValues = allowedValues;
+        }
+
+        @Override
+        void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException {
+            boolean valid = integer ? token == JsonToken.VALUE_NUMBER_INT : token.isNumeric();
+            if (!valid) {
+                typeMismatch(parser, token, context, integer ? "integer" : "number");
+                return;
+            }
+            if (minimum == null && maximum == null && allowedValues == null) {
+                return;
+            }
+
+            BigDecimal value = parser.getDecimalValue();
+
+            // compareTo ignora a escala (1.0 == 1) sem formatar o valor do cliente, que pode ter
+            // um expoente enorme (ex: 1E+999999999)
+            if (allowedValues != null && allowedValues.stream().noneMatch(allowed -> allowed.compareTo(value) == 0)) {
+                context.report("Enum", "must be one of " + allowedValues.stream()
+                        .map(BigDecimal::toPlainString).toList(), parser.getText());
+                return;
+            }
+            if (minimum != null) {
+                int comparison = value.compareTo(minimum);
+                if (comparison < 0 || (exclusiveMinimum && comparison == 0)) {
+                    context.report("Min", "must be greater than " + (exclusiveMinimum ? "" : "or equal to ")
+                            + minimum.toPlainString(), parser.getText());
+                    return;
+                }
+            }
+            if (maximum != null) {
+                int comparison = value.compareTo(maximum);
+                if (comparison > 0 || (exclusiveMaximum && comparison == 0)) {
+                    context.report("Max", "must be less than " + (exclusiveMaximum ? "" : "or equal to ")
+                            + maximum.toPlainString(), parser.getText());
+                }
+            }
+        }
+    }
+
+    static final class BooleanValidator extends SchemaValidator {
+
+        BooleanValidator(boolean nullable) {
+            super(nullable);
+        }
+
+        @Override
+        void validateValue(JsonParser parser, JsonToken token, ValidationContext context) throws IOException {
+            if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+                typeMismatch(parser, token, context, "boolean");
+            }
+        }
+    }
+}
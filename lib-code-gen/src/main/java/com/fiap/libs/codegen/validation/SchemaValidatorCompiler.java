@@ -0,0 +1,228 @@
+package com.fiap.libs.codegen.validation;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compila schemas OpenAPI em {@link SchemaValidator}s
+ *
+ * <p>Suporta object (properties/required, incluindo allOf), array, string (minLength, maxLength,
+ * pattern, enum), integer/number (minimum, maximum, enum), boolean e $ref para components.schemas.
+ * Cada schema referenciado é compilado uma única vez. oneOf/anyOf não são validados.</p>
+ */
+final class SchemaValidatorCompiler {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final Map<String, Schema> schemas;
+    private final Map<String, SchemaValidator.Reference> references = new HashMap<>();
+
+    SchemaValidatorCompiler(Components components) {
+        this.schemas = components != null && components.getSchemas() != null ? components.getSchemas() : Map.of();
+    }
+
+    SchemaValidator compile(Schema<?> schema) {
+        if (schema == null) {
+            return SchemaValidator.ANY;
+        }
+        if (schema.get$ref() != null) {
+            return reference(schema.get$ref());
+        }
+        if (hasItems(schema.getAllOf())) {
+            return compileAllOf(schema);
+        }
+        if (hasItems(schema.getOneOf()) || hasItems(schema.getAnyOf())) {
+            return SchemaValidator.ANY;
+        }
+
+        boolean nullable = isNullable(schema);
+        String type = typeOf(schema);
+        if (type == null) {
+            return SchemaValidator.ANY;
+        }
+
+        return switch (type) {
+            case "object" -> compileObject(nullable, schema.getProperties(), schema.getRequired());
+            case "array" -> new SchemaValidator.ArrayValidator(
+                    nullable, compile(schema.getItems()), schema.getMinItems(), schema.getMaxItems());
+            case "string" -> new SchemaValidator.StringValidator(
+                    nullable, schema.getMinLength(), schema.getMaxLength(),
+                    compilePattern(schema.getPattern()), allowedValues(schema));
+            case "integer", "number" -> new SchemaValidator.NumberValidator(
+                    nullable, type.equals("integer"),
+                    schema.getMinimum() != null ? schema.getMinimum() : schema.getExclusiveMinimumValue(),
+                    Boolean.TRUE.equals(schema.getExclusiveMinimum()) || schema.getExclusiveMinimumValue() != null,
+                    schema.getMaximum() != null ? schema.getMaximum() : schema.getExclusiveMaximumValue(),
+                    Boolean.TRUE.equals(schema.getExclusiveMaximum()) || schema.getExclusiveMaximumValue() != null,
+                    allowedNumbers(schema));
+            case "boolean" -> new SchemaValidator.BooleanValidator(nullable);
+            default -> SchemaValidator.ANY;
+        };
+    }
+
+    private SchemaValidator reference(String ref) {
+        if (!ref.startsWith(SCHEMA_REF_PREFIX)) {
+            return SchemaValidator.ANY;
+        }
+
+        String name = ref.substring(SCHEMA_REF_PREFIX.length());
+        SchemaValidator.Reference reference = references.get(name);
+        if (reference == null) {
+            reference = new SchemaValidator.Reference();
+            references.put(name, reference);
+            reference.resolve(compile(schemas.get(name)));
+        }
+        return reference;
+    }
+
+    /**
+     * allOf é tratado como a união das properties e required de todas as partes (recursivamente)
+     */
+    private SchemaValidator compileAllOf(Schema<?> schema) {
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        Set<String> required = new LinkedHashSet<>();
+
+        if (!collectAllOf(schema, properties, required, 0)) {
+            return SchemaValidator.ANY;
+        }
+        return compileObject(isNullable(schema), properties, new ArrayList<>(required));
+    }
+
+    private boolean collectAllOf(Schema<?> schema, Map<String, Schema> properties, Set<String> required, int depth) {
+        Schema<?> resolved = resolve(schema, 0);
+        if (resolved == null) {
+            return true;
+        }
+        if (depth > 16 || hasItems(resolved.getOneOf()) || hasItems(resolved.getAnyOf())) {
+            return false;
+        }
+
+        String type = typeOf(resolved);
+        if (type != null && !type.equals("object")) {
+            return false;
+        }
+
+        if (resolved.getAllOf() != null) {
+            for (Schema part : resolved.getAllOf()) {
+                if (!collectAllOf(part, properties, required, depth + 1)) {
+                    return false;
+                }
+            }
+        }
+        if (resolved.getProperties() != null) {
+            properties.putAll(resolved.getProperties());
+        }
+        if (resolved.getRequired() != null) {
+            required.addAll(resolved.getRequired());
+        }
+        return true;
+    }
+
+    private SchemaValidator compileObject(boolean nullable, Map<String, Schema> properties, List<String> required) {
+        Map<String, Schema> declared = properties != null ? properties : Map.of();
+        // Nomes repetidos em required deixariam posições de "presente" que nunca são marcadas
+        List<String> requiredNames = required != null ? List.copyOf(new LinkedHashSet<>(required)) : List.of();
+
+        Map<String, SchemaValidator.Property> compiled = new HashMap<>();
+        declared.forEach((name, property) ->
+                compiled.put(name, new SchemaValidator.Property(compile(property), requiredNames.indexOf(name))));
+
+        // Campos obrigatórios sem schema declarado ainda precisam estar presentes
+        for (int i = 0; i < requiredNames.size(); i++) {
+            compiled.putIfAbsent(requiredNames.get(i), new SchemaValidator.Property(SchemaValidator.ANY, i));
+        }
+
+        return new SchemaValidator.ObjectValidator(
+                nullable, Map.copyOf(compiled), requiredNames.toArray(String[]::new));
+    }
+
+    private Schema<?> resolve(Schema<?> schema, int depth) {
+        if (schema == null || schema.get$ref() == null || depth > 16) {
+            return schema;
+        }
+        String ref = schema.get$ref();
+        return ref.startsWith(SCHEMA_REF_PREFIX)
+                ? resolve(schemas.get(ref.substring(SCHEMA_REF_PREFIX.length())), depth + 1)
+                : null;
+    }
+
+    private static String typeOf(Schema<?> schema) {
+        if (schema.getType() != null) {
+            return schema.getType();
+        }
+        if (schema.getTypes() != null) {
+            for (String type : schema.getTypes()) {
+                if (!"null".equals(type)) {
+                    return type;
+                }
+            }
+        }
+        if (schema.getProperties() != null) {
+            return "object";
+        }
+        if (schema.getItems() != null) {
+            return "array";
+        }
+        return null;
+    }
+
+    private static boolean isNullable(Schema<?> schema) {
+        return Boolean.TRUE.equals(schema.getNullable())
+                || (schema.getTypes() != null && schema.getTypes().contains("null"));
+    }
+
+    private static Pattern compilePattern(String pattern) {
+        if (pattern == null) {
+            return null;
+        }
+        try {
+            return Pattern.compile(pattern);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> allowedValues(Schema<?> schema) {
+        if (!hasItems(schema.getEnum())) {
+            return null;
+        }
+
+        Set<String> values = new LinkedHashSet<>();
+        for (Object value : schema.getEnum()) {
+            if (value != null) {
+                values.add(value.toString());
+            }
+        }
+        return Collections.unmodifiableSet(values);
+    }
+
+    private static List<BigDecimal> allowedNumbers(Schema<?> schema) {
+        if (!hasItems(schema.getEnum())) {
+            return null;
+        }
+
+        List<BigDecimal> values = new ArrayList<>();
+        for (Object value : schema.getEnum()) {
+            if (value != null) {
+                values.add(new BigDecimal(value.toString()));
+            }
+        }
+        return List.copyOf(values);
+    }
+
+    private static boolean hasItems(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+}
@@ -0,0 +1,189 @@
+package com.fiap.libs.codegen.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fiap.libs.exception.api.model.CustomFieldError;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validadores de corpo de requisição compilados a partir da especificação OpenAPI
+ *
+ * <p>Cada operação com corpo JSON tem seu schema compilado uma única vez; na requisição o corpo
+ * é validado em streaming (JsonParser), sem montar árvore nem desserializar o objeto.</p>
+ */
+public final class SpecRequestValidator {
+
+    private static final String REQUEST_BODY_REF_PREFIX = "#/components/requestBodies/";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Map<PathItem.HttpMethod, List<CompiledOperation>> operations;
+    private final int maxErrors;
+    private final int operationCount;
+
+    private SpecRequestValidator(Map<PathItem.HttpMethod, List<CompiledOperation>> operations, int maxErrors) {
+        this.operations = operations;
+        this.maxErrors = maxErrors;
+        this.operationCount = operations.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Compila os corpos de requisição de todas as operações da especificação
+     *
+     * @param openAPI Especificação (null gera um validador vazio)
+     * @param basePath Prefixo aplicado aos paths da especificação (ex: /api/v1)
+     * @param maxErrors Quantidade máxima de violações reportadas por requisição
+     */
+    public static SpecRequestValidator compile(OpenAPI openAPI, String basePath, int maxErrors) {
+        Map<PathItem.HttpMethod, List<CompiledOperation>> operations = new EnumMap<>(PathItem.HttpMethod.class);
+
+        if (openAPI != null && openAPI.getPaths() != null) {
+            SchemaValidatorCompiler compiler = new SchemaValidatorCompiler(openAPI.getComponents());
+            String prefix = normalizeBasePath(basePath);
+
+            openAPI.getPaths().forEach((path, pathItem) -> {
+                PathPattern pattern = PathPatternParser.defaultInstance.parse(prefix + path);
+
+                pathItem.readOperationsMap().forEach((method, operation) -> {
+                    MediaType mediaType = jsonMediaType(requestBody(openAPI, operation));
+                    if (mediaType == null) {
+                        return;
+                    }
+                    boolean required = Boolean.TRUE.equals(requestBody(openAPI, operation).getRequired());
+                    operations.computeIfAbsent(method, key -> new ArrayList<>())
+                            .add(new CompiledOperation(pattern, required, compiler.compile(mediaType.getSchema())));
+                });
+            });
+        }
+
+        // Paths literais têm prioridade sobre paths com variáveis (ex: /users/me antes de /users/{id})
+        operations.values().forEach(list ->
+                list.sort(Comparator.comparing(CompiledOperation::pattern, PathPattern.SPECIFICITY_COMPARATOR)));
+
+        return new SpecRequestValidator(operations, maxErrors);
+    }
+
+    /**
+     * Quantidade de operações com corpo validado
+     */
+    public int operationCount() {
+        return operationCount;
+    }
+
+    /**
+     * Localiza a operação da requisição
+     *
+     * @param method Método HTTP
+     * @param path Caminho dentro da aplicação (sem o context-path)
+     * @return Operação compilada ou null se a requisição não tem corpo validado
+     */
+    public CompiledOperation match(String method, String path) {
+        PathItem.HttpMethod httpMethod;
+        try {
+            httpMethod = PathItem.HttpMethod.valueOf(method);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        List<CompiledOperation> candidates = operations.get(httpMethod);
+        if (candidates == null) {
+            return null;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledOperation operation : candidates) {
+            if (operation.pattern().matches(pathContainer)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Valida o corpo da requisição contra o schema da operação
+     *
+     * @return Violações encontradas (vazia quando o corpo é válido)
+     * @throws JsonParseException se o corpo não é um JSON válido
+     */
+    public List<CustomFieldError> validate(CompiledOperation operation, byte[] body) throws IOException {
+        ValidationContext context = new ValidationContext(maxErrors);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() == null) {
+                if (operation.required()) {
+                    context.reportMissing(ValidationContext.BODY_FIELD);
+                }
+                return context.errors();
+            }
+
+            operation.validator().validate(parser, context);
+
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Unexpected content after the JSON body");
+            }
+        } catch (ValidationContext.LimitReached e) {
+            // Limite de erros atingido: o restante do corpo não é validado
+        }
+        return context.errors();
+    }
+
+    private static RequestBody requestBody(OpenAPI openAPI, Operation operation) {
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && requestBody.get$ref() != null
+                && requestBody.get$ref().startsWith(REQUEST_BODY_REF_PREFIX)
+                && openAPI.getComponents() != null && openAPI.getComponents().getRequestBodies() != null) {
+            return openAPI.getComponents().getRequestBodies()
+                    .get(requestBody.get$ref().substring(REQUEST_BODY_REF_PREFIX.length()));
+        }
+        return requestBody;
+    }
+
+    private static MediaType jsonMediaType(RequestBody requestBody) {
+        Content content = requestBody != null ? requestBody.getContent() : null;
+        if (content == null) {
+            return null;
+        }
+
+        MediaType json = content.get(org.springframework.http.MediaType.APPLICATION_JSON_VALUE);
+        if (json != null) {
+            return json;
+        }
+        return content.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith("/json") || entry.getKey().endsWith("+json"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String normalizeBasePath(String basePath) {
+        if (basePath == null || basePath.isBlank() || basePath.equals("/")) {
+            return "";
+        }
+        String normalized = basePath.startsWith("/") ? basePath : "/" + basePath;
+        return normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    /**
+     * Operação com corpo JSON e seu validador compilado
+     *
+     * @param pattern Path da operação
+     * @param required Se o corpo é obrigatório
+     */
+    public record CompiledOperation(PathPattern pattern, boolean required, SchemaValidator validator) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.fiap.libs.codegen.validation;
+
+import com.fiap.libs.exception.api.model.CustomFieldError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estado da validação de um corpo: caminho do campo atual e violações encontradas
+ *
+ * <p>O caminho é mantido em um único StringBuilder (ex: items[2].address.zipCode) e só é
+ * materializado quando uma violação é reportada. Ao atingir o limite de erros a validação é
+ * interrompida, sem percorrer o restante do corpo.</p>
+ */
+final class ValidationContext {
+
+    static final String BODY_FIELD = "body";
+
+    private static final int MAX_REJECTED_VALUE_LENGTH = 256;
+
+    private final int maxErrors;
+    private final List<CustomFieldError> errors = new ArrayList<>();
+    private final StringBuilder path = new StringBuilder();
+
+    ValidationContext(int maxErrors) {
+        this.maxErrors = Math.max(1, maxErrors);
+    }
+
+    int enterField(String name) {
+        int mark = path.length();
+        if (mark > 0) {
+            path.append('.');
+        }
+        path.append(name);
+        return mark;
+    }
+
+    int enterIndex(int index) {
+        int mark = path.length();
+        path.append('[').append(index).append(']');
+        return mark;
+    }
+
+    void leave(int mark) {
+        path.setLength(mark);
+    }
+
+    void report(String code, String message, Object rejectedValue) {
+        add(path.isEmpty() ? BODY_FIELD : path.toString(), code, message, rejectedValue);
+    }
+
+    void reportMissing(String name) {
+        add(path.isEmpty() ? name : path + "." + name, "NotNull", "must not be null", null);
+    }
+
+    List<CustomFieldError> errors() {
+        return errors;
+    }
+
+    private void add(String field, String code, String message, Object rejectedValue) {
+        if (rejectedValue instanceof String text && text.length() > MAX_REJECTED_VALUE_LENGTH) {
+            rejectedValue = text.substring(0, MAX_REJECTED_VALUE_LENGTH) + "...";
+        }
+
+        errors.add(CustomFieldError.builder()
+                .field(field)
+                .code(code)
+                .message(message)
+                .rejectedValue(rejectedValue)
+                .build());
+
+        if (errors.size() >= maxErrors) {
+            throw LimitReached.INSTANCE;
+        }
+    }
+
+    /**
+     * Interrompe a validação ao atingir o limite de erros (sem stack trace)
+     */
+    static final class LimitReached extends RuntimeException {
+
+        static final LimitReached INSTANCE = new LimitReached();
+
+        private LimitReached() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.fiap.libs.codegen.docs;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiDocsCacheFilterTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final ApiDocsCacheFilter filter = new ApiDocsCacheFilter("/v3/api-docs", 64);
+
+    @Test
+    void shouldRenderOnce_andServeStrongEtag() throws Exception {
+        // When
+        MockHttpServletResponse first = get(request());
+        MockHttpServletResponse second = get(request());
+
+        // Then
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader(HttpHeaders.ETAG)).startsWith("\"").doesNotStartWith("W/");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    void shouldAnswerNotModified_whenIfNoneMatchMatches() throws Exception {
+        // Given
+        String etag = get(request()).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest conditional = request();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "W/" + etag);
+
+        // When
+        MockHttpServletResponse response = get(conditional);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(renders.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeGzipVariant_whenAccepted() throws Exception {
+        // Given
+        String identity = get(request()).getContentAsString();
+        MockHttpServletRequest compressed = request();
+        compressed.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+        MockHttpServletRequest refused = request();
+        refused.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate;q=0");
+
+        // When
+        MockHttpServletResponse gzip = get(compressed);
+        MockHttpServletResponse plain = get(refused);
+
+        // Then
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(gzip.getContentAsByteArray())).isEqualTo(identity);
+        assertThat(gzip.getHeader(HttpHeaders.ETAG)).endsWith("-gz\"");
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getContentAsString()).isEqualTo(identity);
+    }
+
+    @Test
+    void shouldCacheDocument_perRequestOrigin() throws Exception {
+        // Given
+        MockHttpServletRequest internal = request();
+        MockHttpServletRequest proxied = request();
+        proxied.addHeader("X-Forwarded-Host", "api.example.com");
+        proxied.addHeader("X-Forwarded-Prefix", "/orders");
+
+        // When
+        String internalDocument = get(internal).getContentAsString();
+        String proxiedDocument = get(proxied).getContentAsString();
+
+        // Then
+        assertThat(renders.get()).isEqualTo(2);
+        assertThat(internalDocument).contains("http://localhost:80");
+        assertThat(proxiedDocument).contains("https://api.example.com/orders");
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/v3/api-docs");
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new ApiDocsServlet()));
+        return response;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Simula o springdoc: servers[].url depende da origem da requisição
+     */
+    private final class ApiDocsServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            renders.incrementAndGet();
+            String forwardedHost = request.getHeader("X-Forwarded-Host");
+            String server = forwardedHost != null
+                    ? "https://" + forwardedHost + request.getHeader("X-Forwarded-Prefix")
+                    : request.getScheme() + "://" + request.getServerName() + ":" + request.getServerPort();
+            response.setContentType("application/json");
+            response.getWriter().write("{\"openapi\":\"3.0.1\",\"servers\":[{\"url\":\"" + server + "\"}],"
+                    + "\"paths\":{" + "\"/orders\":{},".repeat(20) + "\"/customers\":{}}}");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.fiap.libs.codegen.generator;
+
+import com.fiap.libs.codegen.spec.OpenApiSpecLoader;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenApiModelGeneratorTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.1
+            info: {title: Orders, version: "1"}
+            paths: {}
+            components:
+              schemas:
+                Child:
+                  allOf:
+                    - $ref: '#/components/schemas/Order'
+                    - type: object
+                      properties:
+                        note: {type: string}
+                Order:
+                  type: object
+                  properties:
+                    id: {type: string, format: uuid}
+                    total: {type: number}
+                    status: {type: string, enum: [open, inProgress]}
+                    address:
+                      type: object
+                      properties:
+                        street: {type: string}
+                    items:
+                      type: array
+                      items: {$ref: '#/components/schemas/OrderItem'}
+                OrderItem:
+                  type: object
+                  properties:
+                    quantity: {type: integer, format: int64}
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldReuseParentInlineTypes_forPropertiesInheritedThroughAllOf() {
+        // When
+        SchemaModelReader reader = new SchemaModelReader(openApi()).read();
+
+        // Then
+        assertThat(reader.models()).extracting(ModelDefinition::name)
+                .containsExactlyInAnyOrder("Child", "Order", "OrderAddress", "OrderItem");
+        assertThat(reader.enums()).extracting(EnumDefinition::name).containsExactly("OrderStatus");
+
+        ModelDefinition child = model(reader, "Child");
+        assertThat(child.fields()).extracting(ModelDefinition.Field::javaName)
+                .containsExactly("id", "total", "status", "address", "items", "note");
+        assertThat(field(child, "address").type()).isEqualTo(new FieldType.Model("OrderAddress"));
+        assertThat(field(child, "status").type()).isEqualTo(new FieldType.Enumeration("OrderStatus"));
+        assertThat(field(model(reader, "Order"), "address").type()).isEqualTo(new FieldType.Model("OrderAddress"));
+    }
+
+    @Test
+    void shouldMarkOnlyNamedSchemas_asComponents() {
+        // When
+        SchemaModelReader reader = new SchemaModelReader(openApi()).read();
+
+        // Then
+        assertThat(reader.models()).filteredOn(ModelDefinition::component).extracting(ModelDefinition::name)
+                .containsExactlyInAnyOrder("Child", "Order", "OrderItem");
+    }
+
+    @Test
+    void shouldGenerateMappers_onlyForComponentSchemas() throws Exception {
+        // When
+        List<Path> files = OpenApiModelGenerator.generate(openApi(), output, "com.example.dto", "com.example.domain");
+
+        // Then
+        Path mappers = output.resolve("com/example/dto/mapper");
+        assertThat(files).contains(mappers.resolve("OrderMapper.java"), mappers.resolve("ChildMapper.java"),
+                mappers.resolve("OrderItemMapper.java"));
+        assertThat(mappers.resolve("OrderAddressMapper.java")).doesNotExist();
+        assertThat(output.resolve("com/example/dto/OrderAddress.java")).exists();
+        assertThat(output.resolve("com/example/dto/ChildAddress.java")).doesNotExist();
+    }
+
+    @Test
+    void shouldGenerateRecordEnumAndCodecs() throws Exception {
+        // When
+        OpenApiModelGenerator.generate(openApi(), output, "com.example.dto", null);
+
+        // Then
+        String order = Files.readString(output.resolve("com/example/dto/Order.java"), StandardCharsets.UTF_8);
+        String status = Files.readString(output.resolve("com/example/dto/OrderStatus.java"), StandardCharsets.UTF_8);
+        assertThat(order).contains("public record Order(", "UUID id", "BigDecimal total", "OrderAddress address",
+                "List<OrderItem> items");
+        assertThat(status).contains("IN_PROGRESS");
+        assertThat(output.resolve("com/example/dto/json/OrderSerializer.java")).exists();
+        assertThat(output.resolve("com/example/dto/json/OrderDeserializer.java")).exists();
+        assertThat(output.resolve("com/example/dto/mapper")).doesNotExist();
+    }
+
+    private static OpenAPI openApi() {
+        return OpenApiSpecLoader.parse(SPEC).getOpenAPI();
+    }
+
+    private static ModelDefinition model(SchemaModelReader reader, String name) {
+        return reader.models().stream().filter(model -> model.name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static ModelDefinition.Field field(ModelDefinition model, String name) {
+        return model.fields().stream().filter(field -> field.javaName().equals(name)).findFirst().orElseThrow();
+    }
+}
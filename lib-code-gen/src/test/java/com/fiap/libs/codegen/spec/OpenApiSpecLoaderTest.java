@@ -0,0 +1,76 @@
+package com.fiap.libs.codegen.spec;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenApiSpecLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldLoadPrecompiledOpenApi31Spec_withTheJson31Mapper() throws Exception {
+        // Given
+        OpenAPI openAPI = precompileAndLoad("""
+                openapi: 3.1.0
+                info: {title: Orders, version: "1"}
+                paths: {}
+                components:
+                  schemas:
+                    Order:
+                      type: object
+                      properties:
+                        note: {type: [string, "null"]}
+                """);
+
+        // Then
+        Schema<?> note = (Schema<?>) openAPI.getComponents().getSchemas().get("Order").getProperties().get("note");
+        assertThat(openAPI.getSpecVersion()).isEqualTo(SpecVersion.V31);
+        assertThat(note.getTypes()).containsExactlyInAnyOrder("string", "null");
+    }
+
+    @Test
+    void shouldLoadPrecompiledOpenApi30Spec() throws Exception {
+        // Given
+        OpenAPI openAPI = precompileAndLoad("""
+                openapi: 3.0.1
+                info: {title: Orders, version: "1"}
+                paths: {}
+                components:
+                  schemas:
+                    Order:
+                      type: object
+                      properties:
+                        note: {type: string, nullable: true}
+                """);
+
+        // Then
+        Schema<?> note = (Schema<?>) openAPI.getComponents().getSchemas().get("Order").getProperties().get("note");
+        assertThat(openAPI.getSpecVersion()).isEqualTo(SpecVersion.V30);
+        assertThat(note.getType()).isEqualTo("string");
+        assertThat(note.getNullable()).isTrue();
+    }
+
+    private OpenAPI precompileAndLoad(String spec) throws Exception {
+        Path source = directory.resolve("swagger.yaml");
+        Files.writeString(source, spec, StandardCharsets.UTF_8);
+        Path output = directory.resolve("classes");
+        OpenApiSpecPrecompiler.precompile(source, output, true);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, null)) {
+            return new OpenApiSpecLoader(new DefaultResourceLoader(classLoader)).load().orElseThrow();
+        }
+    }
+}
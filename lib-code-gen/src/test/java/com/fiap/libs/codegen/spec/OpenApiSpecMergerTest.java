@@ -0,0 +1,141 @@
+package com.fiap.libs.codegen.spec;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenApiSpecMergerTest {
+
+    private static final String ORDERS = """
+            openapi: 3.0.1
+            info: {title: Orders, version: "1"}
+            paths:
+              /tenants/{tenantId}/orders:
+                parameters:
+                  - {name: tenantId, in: path, required: true, schema: {type: string}}
+                  - {name: X-Trace, in: header, schema: {type: string}}
+                get:
+                  responses: {"200": {description: ok}}
+            """;
+
+    private static final String ORDERS_WRITE = """
+            openapi: 3.0.1
+            info: {title: Orders write, version: "1"}
+            paths:
+              /tenants/{tenantId}/orders:
+                parameters:
+                  - {name: tenantId, in: path, required: true, schema: {type: string}}
+                  - {name: X-Trace, in: header, schema: {type: integer}}
+                  - {name: dryRun, in: query, schema: {type: boolean}}
+                post:
+                  responses: {"201": {description: created}}
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldMergePathLevelParameters_fromAllFragments() {
+        // When
+        OpenApiSpecMerger.MergeResult result = merge(ORDERS, ORDERS_WRITE);
+
+        // Then
+        List<Parameter> parameters = result.openAPI().getPaths().get("/tenants/{tenantId}/orders").getParameters();
+        assertThat(parameters).extracting(parameter -> parameter.getIn() + ":" + parameter.getName())
+                .containsExactly("path:tenantId", "header:X-Trace", "query:dryRun");
+        assertThat(parameters.get(1).getSchema().getType()).isEqualTo("string");
+        assertThat(result.openAPI().getPaths().get("/tenants/{tenantId}/orders").readOperationsMap()).hasSize(2);
+    }
+
+    @Test
+    void shouldReportConflict_whenPathParameterDiffersByNameAndLocation() {
+        // When
+        OpenApiSpecMerger.MergeResult result = merge(ORDERS, ORDERS_WRITE);
+
+        // Then
+        assertThat(result.conflicts()).containsExactly(
+                "parameter header:X-Trace of /tenants/{tenantId}/orders is defined differently in fragment-0 and fragment-1");
+    }
+
+    @Test
+    void shouldKeepEachFragmentsPathParameters_onItsOwnOperations_whenParsedByTheLoader() {
+        // Given
+        Map<String, OpenApiSpecLoader.ContentSource> sources = new LinkedHashMap<>();
+        sources.put("orders.yaml", () -> ORDERS);
+        sources.put("orders-write.yaml", () -> ORDERS_WRITE);
+
+        // When: o parser copia os parâmetros de caminho para as operações do próprio fragmento
+        OpenApiSpecMerger.MergeResult result = OpenApiSpecLoader.parseAndMerge(sources);
+
+        // Then
+        PathItem path = result.openAPI().getPaths().get("/tenants/{tenantId}/orders");
+        assertThat(path.getGet().getParameters()).extracting(Parameter::getName).containsExactly("tenantId", "X-Trace");
+        assertThat(path.getPost().getParameters()).extracting(Parameter::getName)
+                .containsExactly("tenantId", "X-Trace", "dryRun");
+        assertThat(path.getPost().getParameters().get(1).getSchema().getType()).isEqualTo("integer");
+        assertThat(result.conflicts()).isEmpty();
+    }
+
+    @Test
+    void shouldResolveExternalReferences_relativeToTheFragmentLocation() throws Exception {
+        // Given
+        Files.writeString(directory.resolve("common.yaml"), """
+                components:
+                  schemas:
+                    Money:
+                      type: object
+                      properties:
+                        amount: {type: number}
+                """, StandardCharsets.UTF_8);
+        Path fragment = directory.resolve("orders.yaml");
+        Files.writeString(fragment, """
+                openapi: 3.0.1
+                info: {title: Orders, version: "1"}
+                paths: {}
+                components:
+                  schemas:
+                    Order:
+                      type: object
+                      properties:
+                        total: {$ref: 'common.yaml#/components/schemas/Money'}
+                """, StandardCharsets.UTF_8);
+
+        // When
+        OpenApiSpecMerger.MergeResult result = OpenApiSpecLoader.parseAndMerge(Map.of(fragment.toString(),
+                () -> Files.readString(fragment, StandardCharsets.UTF_8)));
+
+        // Then
+        Map<String, Schema> schemas = result.openAPI().getComponents().getSchemas();
+        Schema<?> total = (Schema<?>) schemas.get("Order").getProperties().get("total");
+        assertThat(schemas).containsKeys("Order", "Money");
+        assertThat(total.get$ref()).isEqualTo("#/components/schemas/Money");
+        assertThat(result.conflicts()).isEmpty();
+    }
+
+    /**
+     * Combina fragmentos parseados sem resolução, que mantêm os parâmetros no nível do caminho
+     */
+    private static OpenApiSpecMerger.MergeResult merge(String... contents) {
+        List<OpenApiSpecMerger.Fragment> fragments = new ArrayList<>();
+        for (int i = 0; i < contents.length; i++) {
+            OpenAPI openAPI = new OpenAPIV3Parser().readContents(contents[i], null, new ParseOptions()).getOpenAPI();
+            fragments.add(new OpenApiSpecMerger.Fragment("fragment-" + i, openAPI));
+        }
+        return OpenApiSpecMerger.merge(fragments);
+    }
+}
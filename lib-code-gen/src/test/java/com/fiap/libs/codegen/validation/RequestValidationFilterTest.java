@@ -0,0 +1,199 @@
+package com.fiap.libs.codegen.validation;
+
+import com.fiap.libs.codegen.spec.OpenApiSpecLoader;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import com.fiap.libs.exception.core.handler.ClientErrorHandler;
+import com.fiap.libs.exception.core.logging.ThrottledExceptionLogger;
+import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestValidationFilterTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.1
+            info: {title: Orders, version: "1"}
+            paths:
+              /orders:
+                post:
+                  requestBody:
+                    required: true
+                    content:
+                      application/json:
+                        schema: {$ref: '#/components/schemas/PriorityOrder'}
+                  responses: {"201": {description: created}}
+              /customers:
+                post:
+                  requestBody:
+                    content:
+                      application/json:
+                        schema:
+                          type: object
+                          required: [name, name, email]
+                          properties:
+                            name: {type: string}
+                            email: {type: string}
+                  responses: {"201": {description: created}}
+            components:
+              schemas:
+                Order:
+                  type: object
+                  required: [customerId]
+                  properties:
+                    customerId: {type: string}
+                    status: {type: string, enum: [OPEN, CLOSED]}
+                PriorityOrder:
+                  allOf:
+                    - $ref: '#/components/schemas/Order'
+                    - type: object
+                      required: [customerId, priority]
+                      properties:
+                        priority: {type: integer}
+            """;
+
+    private final ExceptionHandlerProperties properties = new ExceptionHandlerProperties();
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private ThrottledExceptionLogger exceptionLogger;
+    private RequestValidationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        exceptionLogger = new ThrottledExceptionLogger(properties.getLogging());
+        ClientErrorHandler handler = new ClientErrorHandler(new ExceptionMetadataRegistry(), exceptionLogger,
+                new TopExceptionsStore(properties.getStats()), properties);
+        context.registerBean(ClientErrorHandler.class, () -> handler);
+        context.refresh();
+
+        ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+        resolver.setApplicationContext(context);
+        resolver.setMessageConverters(List.of(new JacksonJsonHttpMessageConverter()));
+        resolver.afterPropertiesSet();
+
+        SpecRequestValidator validator = SpecRequestValidator.compile(
+                OpenApiSpecLoader.parse(SPEC).getOpenAPI(), "/api", 10);
+        filter = new RequestValidationFilter(validator, 64, resolver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exceptionLogger.close();
+        context.close();
+    }
+
+    @Test
+    void shouldPassValidBody_toTheChain() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        MockHttpServletResponse response = post("{\"customerId\":\"c-1\",\"priority\":1}", chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(chain.getRequest().getInputStream().readAllBytes())
+                .asString(StandardCharsets.UTF_8).isEqualTo("{\"customerId\":\"c-1\",\"priority\":1}");
+    }
+
+    @Test
+    void shouldAnswer400_whenBodyIsMalformed() throws Exception {
+        // When
+        MockHttpServletResponse response = post("{\"customerId\":", new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("Malformed JSON request body at line 1");
+    }
+
+    @Test
+    void shouldAnswer413_whenBodyExceedsTheLimit() throws Exception {
+        // Given: com Content-Length e chunked (sem Content-Length)
+        String body = "{\"customerId\":\"" + "x".repeat(64) + "\",\"priority\":1}";
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/orders") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        chunked.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        MockHttpServletResponse declared = filter(request("/api/orders", body), new MockFilterChain());
+        MockHttpServletResponse undeclared = filter(chunked, new MockFilterChain());
+
+        // Then
+        assertThat(declared.getStatus()).isEqualTo(413);
+        assertThat(declared.getHeader("Connection")).isEqualTo("close");
+        assertThat(undeclared.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    void shouldAnswer400_whenEnumValueIsNotAllowed() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        MockHttpServletResponse response = post("{\"customerId\":\"c-1\",\"priority\":1,\"status\":\"LOST\"}", chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("status", "must be one of [OPEN, CLOSED]");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void shouldReportMissingRequiredFields_fromTheWholeAllOfChain() throws Exception {
+        // When: customerId vem do required do pai e priority do filho
+        MockHttpServletResponse response = post("{\"status\":\"OPEN\"}", new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).containsOnlyOnce("\"customerId\"").contains("\"priority\"");
+    }
+
+    @Test
+    void shouldAcceptBody_whenRequiredListsTheSameNameTwice() throws Exception {
+        // When
+        MockHttpServletResponse valid = filter(request("/api/customers", "{\"name\":\"Ana\",\"email\":\"a@b.c\"}"),
+                new MockFilterChain());
+        MockHttpServletResponse missing = filter(request("/api/customers", "{\"email\":\"a@b.c\"}"),
+                new MockFilterChain());
+
+        // Then
+        assertThat(valid.getStatus()).isEqualTo(200);
+        assertThat(missing.getStatus()).isEqualTo(400);
+        assertThat(missing.getContentAsString()).containsOnlyOnce("\"name\"");
+    }
+
+    private MockHttpServletResponse post(String body, MockFilterChain chain) throws Exception {
+        return filter(request("/api/orders", body), chain);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
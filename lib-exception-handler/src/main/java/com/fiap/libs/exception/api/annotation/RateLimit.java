@@ -0,0 +1,56 @@
+package com.fiap.libs.exception.api.annotation;
+
+import com.fiap.libs.exception.api.enums.RateLimitKeyType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Aplica rate limiting por chave a um endpoint (ou a todos os endpoints do controller)
+ * Requisições acima do limite resultam em TooManyRequestsException (429) com header Retry-After
+ *
+ * <pre>
+ * &#64;RateLimit(permits = 10, period = 1, unit = ChronoUnit.MINUTES, key = RateLimitKeyType.PRINCIPAL)
+ * &#64;PostMapping("/orders")
+ * public OrderResponse create(...) { ... }
+ * </pre>
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * Quantidade de requisições permitidas por período
+     */
+    long permits();
+
+    /**
+     * Duração do período (na unidade definida em {@link #unit()})
+     */
+    long period() default 1;
+
+    /**
+     * Unidade do período
+     */
+    ChronoUnit unit() default ChronoUnit.SECONDS;
+
+    /**
+     * Rajada máxima aceita. -1 significa igual a {@link #permits()}
+     */
+    int burst() default -1;
+
+    /**
+     * Estratégia de chave
+     */
+    RateLimitKeyType key() default RateLimitKeyType.IP;
+
+    /**
+     * Header usado quando key = HEADER
+     */
+    String header() default "";
+}
@@ -0,0 +1,33 @@
+package com.fiap.libs.exception.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Repete o método (ou todos os métodos do bean) quando o banco falha de forma transitória:
+ * deadlock, lock timeout, conexão perdida ou conflito de serialização
+ * Use apenas em operações idempotentes
+ *
+ * <p>As tentativas usam backoff exponencial com jitter (exception-handler.retry). O retry envolve
+ * a transação do @Transactional e não é aplicado quando o método é chamado dentro de uma
+ * transação já existente, pois ela já estaria marcada para rollback.</p>
+ *
+ * <pre>
+ * &#64;RetryOnTransientFailure
+ * &#64;Transactional
+ * public void reserveStock(UUID orderId) { ... }
+ * </pre>
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnTransientFailure {
+
+    /**
+     * Quantidade máxima de tentativas, incluindo a primeira. -1 usa exception-handler.retry.max-attempts
+     */
+    int maxAttempts() default -1;
+}
@@ -0,0 +1,52 @@
+package com.fiap.libs.exception.api.enums;
+
+import lombok.Getter;
+
+/**
+ * Categorias de falha de banco de dados
+ * Falhas transitórias podem ser repetidas com segurança em operações idempotentes
+ */
+@Getter
+public enum DatabaseErrorCategory {
+
+    /**
+     * A transação foi escolhida como vítima de um deadlock
+     */
+    DEADLOCK(true),
+
+    /**
+     * Tempo de espera por lock esgotado
+     */
+    LOCK_TIMEOUT(true),
+
+    /**
+     * Conexão perdida ou recusada
+     */
+    CONNECTION_RESET(true),
+
+    /**
+     * Conflito de serialização entre transações concorrentes
+     */
+    SERIALIZATION_FAILURE(true),
+
+    /**
+     * Violação de chave única ou primária (registro duplicado)
+     */
+    DUPLICATE_KEY(false),
+
+    /**
+     * Demais violações de integridade (foreign key, not null, check)
+     */
+    CONSTRAINT_VIOLATION(false),
+
+    /**
+     * Falha não classificada
+     */
+    UNKNOWN(false);
+
+    private final boolean transientFailure;
+
+    DatabaseErrorCategory(boolean transientFailure) {
+        this.transientFailure = transientFailure;
+    }
+}
@@ -18,7 +18,12 @@ public enum ErrorCode {
     PAYLOAD_TOO_LARGE("ERR_016", "Payload Too Large"),
     UNSUPPORTED_MEDIA_TYPE("ERR_017", "Unsupported Media Type"),
     METHOD_NOT_ALLOWED("ERR_018", "Method Not Allowed"),
-    INTERNAL_SERVER_ERROR("ERR_050", "Internal Server Error");
+    IDEMPOTENCY_KEY_REUSED("ERR_019", "Idempotency Key Reused"),
+    INVALID_TOKEN("ERR_020", "Invalid Token"),
+    EXPIRED_TOKEN("ERR_021", "Expired Token"),
+    REVOKED_TOKEN("ERR_022", "Revoked Token"),
+    INTERNAL_SERVER_ERROR("ERR_050", "Internal Server Error"),
+    SERVICE_UNAVAILABLE("ERR_051", "Service Unavailable");
 
 
     private final String code;
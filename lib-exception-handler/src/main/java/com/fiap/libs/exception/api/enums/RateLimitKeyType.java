@@ -0,0 +1,22 @@
+package com.fiap.libs.exception.api.enums;
+
+/**
+ * Estratégias de identificação do cliente para rate limiting
+ */
+public enum RateLimitKeyType {
+
+    /**
+     * Endereço IP do cliente (request.getRemoteAddr())
+     */
+    IP,
+
+    /**
+     * Nome do usuário autenticado (fallback para IP quando anônimo)
+     */
+    PRINCIPAL,
+
+    /**
+     * Valor de um header customizado (fallback para IP quando ausente)
+     */
+    HEADER
+}
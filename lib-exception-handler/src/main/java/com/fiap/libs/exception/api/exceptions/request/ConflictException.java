@@ -0,0 +1,19 @@
+package com.fiap.libs.exception.api.exceptions.request;
+
+import com.fiap.libs.exception.api.enums.ErrorCode;
+import com.fiap.libs.exception.api.exceptions.BaseException;
+
+/**
+ * Exception lançada quando a requisição conflita com o estado atual do recurso
+ * (ex: requisição com o mesmo Idempotency-Key ainda em processamento)
+ */
+public class ConflictException extends BaseException {
+
+    public ConflictException(String message) {
+        super(message, ErrorCode.CONFLICT);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, ErrorCode.CONFLICT, cause);
+    }
+}
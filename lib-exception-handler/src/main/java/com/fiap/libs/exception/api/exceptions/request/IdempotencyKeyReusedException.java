@@ -0,0 +1,14 @@
+package com.fiap.libs.exception.api.exceptions.request;
+
+import com.fiap.libs.exception.api.enums.ErrorCode;
+import com.fiap.libs.exception.api.exceptions.BaseException;
+
+/**
+ * Exception lançada quando um Idempotency-Key já usado é reenviado com outro corpo de requisição
+ */
+public class IdempotencyKeyReusedException extends BaseException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+}
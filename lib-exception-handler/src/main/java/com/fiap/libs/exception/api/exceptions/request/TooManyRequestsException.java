@@ -2,14 +2,28 @@ package com.fiap.libs.exception.api.exceptions.request;
 
 import com.fiap.libs.exception.api.enums.ErrorCode;
 import com.fiap.libs.exception.api.exceptions.BaseException;
+import lombok.Getter;
 
+@Getter
 public class TooManyRequestsException extends BaseException {
-    
+
+    /**
+     * Segundos até o cliente poder tentar novamente (header Retry-After), quando conhecido
+     */
+    private final Long retryAfterSeconds;
+
     public TooManyRequestsException() {
-        super("Too many requests. Please try again later", ErrorCode.TOO_MANY_REQUESTS);
+        this("Too many requests. Please try again later");
     }
     
     public TooManyRequestsException(String message) {
         super(message, ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = null;
+    }
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(String.format("Too many requests. Please try again in %d seconds", retryAfterSeconds),
+              ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
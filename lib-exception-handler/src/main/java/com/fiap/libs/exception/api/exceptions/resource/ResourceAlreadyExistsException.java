@@ -13,4 +13,8 @@ public class ResourceAlreadyExistsException extends BaseException {
         super(String.format("%s already exists with identifier: %s", resourceName, identifier), 
               ErrorCode.RESOURCE_ALREADY_EXISTS);
     }
+
+    public ResourceAlreadyExistsException(String message, Throwable cause) {
+        super(message, ErrorCode.RESOURCE_ALREADY_EXISTS, cause);
+    }
 }
@@ -1,19 +1,32 @@
 package com.fiap.libs.exception.api.exceptions.system;
 
+import com.fiap.libs.exception.api.enums.DatabaseErrorCategory;
 import com.fiap.libs.exception.api.enums.ErrorCode;
 import com.fiap.libs.exception.api.exceptions.BaseException;
+import lombok.Getter;
 
 /**
  * Exception lançada quando ocorre um erro ao acessar o banco de dados
  */
+@Getter
 public class DatabaseException extends BaseException {
+
+    private final DatabaseErrorCategory category;
     
     public DatabaseException(String message) {
-        super(message, ErrorCode.INTERNAL_SERVER_ERROR);
+        this(message, null, DatabaseErrorCategory.UNKNOWN);
     }
     
     public DatabaseException(String message, Throwable cause) {
-        super(message, ErrorCode.INTERNAL_SERVER_ERROR, cause);
+        this(message, cause, DatabaseErrorCategory.UNKNOWN);
+    }
+
+    public DatabaseException(String message, Throwable cause, DatabaseErrorCategory category) {
+        this(message, ErrorCode.INTERNAL_SERVER_ERROR, cause, category);
     }
-}
 
+    protected DatabaseException(String message, ErrorCode errorCode, Throwable cause, DatabaseErrorCategory category) {
+        super(message, errorCode, cause);
+        this.category = category;
+    }
+}
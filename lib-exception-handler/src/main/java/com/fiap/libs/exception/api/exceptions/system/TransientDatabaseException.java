@@ -0,0 +1,16 @@
+package com.fiap.libs.exception.api.exceptions.system;
+
+import com.fiap.libs.exception.api.enums.DatabaseErrorCategory;
+import com.fiap.libs.exception.api.enums.ErrorCode;
+
+/**
+ * Exception lançada quando o banco de dados falha de forma transitória
+ * (deadlock, lock timeout, conexão perdida, conflito de serialização)
+ * A operação pode ser repetida; o cliente recebe 503 Service Unavailable
+ */
+public class TransientDatabaseException extends DatabaseException {
+
+    public TransientDatabaseException(String message, Throwable cause, DatabaseErrorCategory category) {
+        super(message, ErrorCode.SERVICE_UNAVAILABLE, cause, category);
+    }
+}
@@ -2,10 +2,26 @@ package com.fiap.libs.exception.api.exceptions.validation;
 
 import com.fiap.libs.exception.api.enums.ErrorCode;
 import com.fiap.libs.exception.api.exceptions.BaseException;
+import com.fiap.libs.exception.api.model.CustomFieldError;
+import lombok.Getter;
 
+import java.util.List;
+
+@Getter
 public class ValidationException extends BaseException {
-    
+
+    /**
+     * Erros de campo retornados em ErrorResponse.errors (vazio quando não informados)
+     */
+    private final List<CustomFieldError> errors;
+
     public ValidationException(String message) {
         super(message, ErrorCode.VALIDATION_ERROR);
+        this.errors = List.of();
+    }
+
+    public ValidationException(String message, List<CustomFieldError> errors) {
+        super(message, ErrorCode.VALIDATION_ERROR);
+        this.errors = errors != null ? List.copyOf(errors) : List.of();
     }
 }
@@ -0,0 +1,57 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.core.validation.BoundedValidatorFactoryBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Substitui o validator do Spring MVC por um que para após N violações
+ * Ativa com exception-handler.validation.fail-fast-after maior que zero
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "jakarta.validation.Validator")
+@ConditionalOnExpression("${exception-handler.validation.fail-fast-after:0} > 0")
+public class BoundedValidationConfiguration {
+
+    @Bean
+    public BoundedValidationWebMvcConfigurer boundedValidationWebMvcConfigurer(
+            ExceptionHandlerProperties properties,
+            ApplicationContext applicationContext) {
+
+        int maxViolations = properties.getValidation().getFailFastAfter();
+        log.info("✂️ [EXCEPTION-HANDLER] Bean validation stops after {} violations", maxViolations);
+        return new BoundedValidationWebMvcConfigurer(maxViolations, applicationContext);
+    }
+
+    /**
+     * WebMvcConfigurer que expõe o validator limitado para o binding de @Valid
+     */
+    public static class BoundedValidationWebMvcConfigurer implements WebMvcConfigurer, DisposableBean {
+
+        private final BoundedValidatorFactoryBean validator;
+
+        public BoundedValidationWebMvcConfigurer(int maxViolations, ApplicationContext applicationContext) {
+            this.validator = new BoundedValidatorFactoryBean(maxViolations);
+            this.validator.setApplicationContext(applicationContext);
+            this.validator.afterPropertiesSet();
+        }
+
+        @Override
+        public Validator getValidator() {
+            return validator;
+        }
+
+        @Override
+        public void destroy() {
+            validator.destroy();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.fiap.libs.exception.config;
 
 import com.fiap.libs.exception.core.handler.ClientErrorHandler;
-import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -15,8 +14,12 @@ import org.springframework.context.annotation.Import;
 @Slf4j
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Import({
-        ExceptionMetadataRegistry.class,
-        ClientErrorHandler.class
+        ExceptionHandlerCoreConfiguration.class,
+        ClientErrorHandler.class,
+        RateLimitConfiguration.class,
+        PayloadSizeLimitConfiguration.class,
+        IdempotencyConfiguration.class,
+        BoundedValidationConfiguration.class
 })
 public class ExceptionHandlerAutoConfiguration {
 
@@ -24,4 +27,4 @@ public class ExceptionHandlerAutoConfiguration {
         log.info("🔍 [EXCEPTION-HANDLER] Initializing FIAP handler Library");
     }
 
-}
\ No newline at end of file
+}
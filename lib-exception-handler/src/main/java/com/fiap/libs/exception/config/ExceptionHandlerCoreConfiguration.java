@@ -0,0 +1,36 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.core.logging.ThrottledExceptionLogger;
+import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Beans compartilhados entre os handlers servlet e reativo
+ * (registry de metadados, log com throttling, estatísticas de exceções e retry de falhas transitórias)
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ExceptionHandlerProperties.class)
+@Import({
+        ExceptionMetadataRegistry.class,
+        TopExceptionsEndpointConfiguration.class,
+        TransientFailureRetryConfiguration.class
+})
+public class ExceptionHandlerCoreConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ThrottledExceptionLogger throttledExceptionLogger(ExceptionHandlerProperties properties) {
+        return new ThrottledExceptionLogger(properties.getLogging());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TopExceptionsStore topExceptionsStore(ExceptionHandlerProperties properties) {
+        return new TopExceptionsStore(properties.getStats());
+    }
+}
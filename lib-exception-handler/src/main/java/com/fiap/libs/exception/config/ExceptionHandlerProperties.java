@@ -0,0 +1,308 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.api.enums.RateLimitKeyType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades de configuração da biblioteca de tratamento de exceções
+ *
+ * <p>Exemplo de uso no application.yml:</p>
+ * <pre>
+ * exception-handler:
+ *   rate-limit:
+ *     enabled: true
+ *     permits: 100
+ *     period: 1s
+ *     key: IP
+ *     exclude-paths:
+ *       - /actuator/**
+ *   payload:
+ *     enabled: true
+ *     max-size: 1MB
+ *     routes:
+ *       - pattern: /api/uploads/**
+ *         max-size: 20MB
+ *   logging:
+ *     throttle-enabled: true
+ *     full-logs-per-window: 5
+ *     window: 1m
+ *   stats:
+ *     capacity: 100
+ *   validation:
+ *     max-errors: 100
+ *     max-rejected-value-length: 256
+ *     fail-fast-after: 100
+ *   idempotency:
+ *     enabled: true
+ *     ttl: 1h
+ *   retry:
+ *     max-attempts: 3
+ *     initial-backoff: 10ms
+ *     max-backoff: 200ms
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "exception-handler")
+public class ExceptionHandlerProperties {
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Payload payload = new Payload();
+
+    private Logging logging = new Logging();
+
+    private Stats stats = new Stats();
+
+    private Validation validation = new Validation();
+
+    private Retry retry = new Retry();
+
+    private Idempotency idempotency = new Idempotency();
+
+    @Data
+    public static class RateLimit {
+        /**
+         * Habilita o filtro global de rate limiting. Default: false
+         * (o uso de @RateLimit nos controllers independe desta flag)
+         */
+        private boolean enabled = false;
+
+        /**
+         * Quantidade de requisições permitidas por período. Default: 100
+         */
+        private long permits = 100;
+
+        /**
+         * Período de reposição das permissões. Default: 1s
+         */
+        private Duration period = Duration.ofSeconds(1);
+
+        /**
+         * Rajada máxima aceita. Default: -1 (igual a permits)
+         */
+        private int burst = -1;
+
+        /**
+         * Estratégia de chave usada pelo filtro global. Default: IP
+         */
+        private RateLimitKeyType key = RateLimitKeyType.IP;
+
+        /**
+         * Header usado quando key = HEADER. Default: X-API-Key
+         */
+        private String header = "X-API-Key";
+
+        /**
+         * Quantidade máxima de chaves rastreadas por limitador (memória limitada).
+         * Default: 65536
+         */
+        private int maxKeys = 65_536;
+
+        /**
+         * Ordem do filtro global. Default: 0 (após o Spring Security, permitindo chave por PRINCIPAL)
+         */
+        private int order = 0;
+
+        /**
+         * Padrões de caminho ignorados pelo filtro global
+         */
+        private List<String> excludePaths = new ArrayList<>();
+    }
+
+    @Data
+    public static class Payload {
+        /**
+         * Habilita o limite de tamanho do corpo das requisições. Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Tamanho máximo padrão do corpo. Default: 1MB
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(1);
+
+        /**
+         * Ordem do filtro (antes dos filtros que leem o corpo, como o FormContentFilter)
+         */
+        private int order = Ordered.HIGHEST_PRECEDENCE + 10;
+
+        /**
+         * Limites por rota, avaliados na ordem declarada (o primeiro padrão que casar vence)
+         */
+        private List<Route> routes = new ArrayList<>();
+
+        @Data
+        public static class Route {
+            /**
+             * Padrão de caminho (ex: /api/uploads/**)
+             */
+            private String pattern;
+
+            /**
+             * Tamanho máximo do corpo para a rota (valor negativo desabilita o limite).
+             * Default: payload.max-size
+             */
+            private DataSize maxSize;
+        }
+    }
+
+    @Data
+    public static class Logging {
+        /**
+         * Agrupa exceções semelhantes e limita os logs por fingerprint. Default: true
+         */
+        private boolean throttleEnabled = true;
+
+        /**
+         * Ocorrências logadas por completo em cada janela, por fingerprint. Default: 5
+         */
+        private int fullLogsPerWindow = 5;
+
+        /**
+         * Ocorrências logadas por completo em cada janela para exceções que não cabem na tabela de
+         * fingerprints (orçamento compartilhado por todas elas). Default: 5
+         */
+        private int overflowLogsPerWindow = 5;
+
+        /**
+         * Duração da janela; ao final é logado o resumo das ocorrências suprimidas. Default: 1m
+         */
+        private Duration window = Duration.ofMinutes(1);
+
+        /**
+         * Frames do stack trace considerados no fingerprint. Default: 5
+         */
+        private int stackDepth = 5;
+
+        /**
+         * Quantidade máxima de fingerprints rastreados. Default: 1024
+         */
+        private int maxFingerprints = 1024;
+    }
+
+    @Data
+    public static class Stats {
+        /**
+         * Mantém o top-K de fingerprints de exceção em memória. Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Quantidade máxima de fingerprints rastreados (K). Default: 100
+         */
+        private int capacity = 100;
+
+        /**
+         * Quantidade máxima de rotas guardadas por fingerprint. Default: 10
+         */
+        private int maxRoutes = 10;
+    }
+
+    @Data
+    public static class Validation {
+        /**
+         * Quantidade máxima de erros de campo retornados na resposta. Default: 100
+         */
+        private int maxErrors = 100;
+
+        /**
+         * Quantidade máxima de erros de campo incluídos no log. Default: 20
+         */
+        private int maxLoggedErrors = 20;
+
+        /**
+         * Tamanho máximo do rejectedValue retornado (0 omite o valor). Default: 256
+         */
+        private int maxRejectedValueLength = 256;
+
+        /**
+         * Interrompe a validação do Spring MVC após N violações (0 desabilita). Default: 0
+         */
+        private int failFastAfter = 0;
+    }
+
+    @Data
+    public static class Retry {
+        /**
+         * Habilita o retry de falhas transitórias de banco nos métodos com @RetryOnTransientFailure.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Quantidade máxima de tentativas, incluindo a primeira. Default: 3
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Espera base antes da primeira nova tentativa. Default: 10ms
+         */
+        private Duration initialBackoff = Duration.ofMillis(10);
+
+        /**
+         * Espera máxima entre tentativas. Default: 200ms
+         */
+        private Duration maxBackoff = Duration.ofMillis(200);
+
+        /**
+         * Fator de crescimento da espera a cada tentativa. Default: 2.0
+         */
+        private double multiplier = 2.0;
+    }
+
+    @Data
+    public static class Idempotency {
+        /**
+         * Habilita o filtro de Idempotency-Key. Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Header com a chave de idempotência. Default: Idempotency-Key
+         */
+        private String header = "Idempotency-Key";
+
+        /**
+         * Métodos HTTP protegidos. Default: POST, PUT
+         */
+        private List<String> methods = new ArrayList<>(List.of("POST", "PUT"));
+
+        /**
+         * Tempo em que a resposta fica disponível para replay. Default: 1h
+         */
+        private Duration ttl = Duration.ofHours(1);
+
+        /**
+         * Tempo máximo que uma requisição duplicada aguarda a original terminar
+         * (ao esgotar retorna 409). Default: 10s
+         */
+        private Duration waitTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Quantidade máxima de chaves mantidas pelo store em memória. Default: 10000
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * Tamanho máximo do corpo armazenado; respostas maiores não são guardadas. Default: 64KB
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(64);
+
+        /**
+         * Tamanho máximo da chave recebida no header. Default: 255
+         */
+        private int maxKeyLength = 255;
+
+        /**
+         * Ordem do filtro (após o Spring Security, para separar as chaves por usuário). Default: 1
+         */
+        private int order = 1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.core.idempotency.IdempotencyFilter;
+import com.fiap.libs.exception.core.idempotency.IdempotencyStore;
+import com.fiap.libs.exception.core.idempotency.InMemoryIdempotencyStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Configuração do filtro de Idempotency-Key
+ * Ativa com exception-handler.idempotency.enabled=true; registre um IdempotencyStore
+ * próprio para compartilhar as respostas entre instâncias
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "exception-handler.idempotency", name = "enabled", havingValue = "true")
+public class IdempotencyConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdempotencyStore idempotencyStore(ExceptionHandlerProperties properties) {
+        ExceptionHandlerProperties.Idempotency config = properties.getIdempotency();
+        return new InMemoryIdempotencyStore(config.getTtl(), config.getMaxEntries());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            ExceptionHandlerProperties properties,
+            IdempotencyStore idempotencyStore,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+
+        ExceptionHandlerProperties.Idempotency config = properties.getIdempotency();
+
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, config, exceptionResolver));
+        registration.setOrder(config.getOrder());
+
+        log.info("🔁 [EXCEPTION-HANDLER] Idempotency enabled - header {} on {} (ttl {}, store {})",
+                config.getHeader(), config.getMethods(), config.getTtl(),
+                idempotencyStore.getClass().getSimpleName());
+        return registration;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.core.payload.PayloadSizeLimitFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Configuração do limite de tamanho do corpo das requisições
+ * Ativa com exception-handler.payload.enabled=true
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "exception-handler.payload", name = "enabled", havingValue = "true")
+public class PayloadSizeLimitConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<PayloadSizeLimitFilter> payloadSizeLimitFilter(
+            ExceptionHandlerProperties properties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+
+        ExceptionHandlerProperties.Payload config = properties.getPayload();
+
+        FilterRegistrationBean<PayloadSizeLimitFilter> registration =
+                new FilterRegistrationBean<>(new PayloadSizeLimitFilter(config, exceptionResolver));
+        registration.setOrder(config.getOrder());
+
+        log.info("📦 [EXCEPTION-HANDLER] Payload size limit enabled - default {} ({} route overrides)",
+                config.getMaxSize(), config.getRoutes().size());
+        return registration;
+    }
+}
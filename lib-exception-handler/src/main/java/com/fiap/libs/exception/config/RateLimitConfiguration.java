@@ -0,0 +1,55 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.core.ratelimit.RateLimitFilter;
+import com.fiap.libs.exception.core.ratelimit.RateLimitInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuração de rate limiting
+ * O interceptor de @RateLimit está sempre ativo; o filtro global depende de
+ * exception-handler.rate-limit.enabled=true
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class RateLimitConfiguration {
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(ExceptionHandlerProperties properties) {
+        return new RateLimitInterceptor(properties.getRateLimit().getMaxKeys());
+    }
+
+    @Bean
+    public WebMvcConfigurer rateLimitWebMvcConfigurer(RateLimitInterceptor rateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(rateLimitInterceptor);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "exception-handler.rate-limit", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            ExceptionHandlerProperties properties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+
+        ExceptionHandlerProperties.RateLimit config = properties.getRateLimit();
+
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(config, exceptionResolver));
+        registration.setOrder(config.getOrder());
+
+        log.info("🚦 [EXCEPTION-HANDLER] Global rate limit enabled - {} requests per {} by {}",
+                config.getPermits(), config.getPeriod(), config.getKey());
+        return registration;
+    }
+}
@@ -0,0 +1,47 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.core.handler.ReactiveClientErrorHandler;
+import com.fiap.libs.exception.core.logging.ThrottledExceptionLogger;
+import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.codec.ServerCodecConfigurer;
+
+/**
+ * Auto-configuração da biblioteca de tratamento de exceções para aplicações WebFlux
+ * Ativa automaticamente quando adicionada ao classpath de uma aplicação reativa
+ */
+@AutoConfiguration
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(name = "org.springframework.web.reactive.DispatcherHandler")
+@Import(ExceptionHandlerCoreConfiguration.class)
+public class ReactiveExceptionHandlerAutoConfiguration {
+
+    public ReactiveExceptionHandlerAutoConfiguration() {
+        log.info("🔍 [EXCEPTION-HANDLER] Initializing FIAP reactive handler Library");
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveClientErrorHandler reactiveClientErrorHandler(
+            ExceptionMetadataRegistry exceptionRegistry,
+            ThrottledExceptionLogger exceptionLogger,
+            TopExceptionsStore topExceptionsStore,
+            ExceptionHandlerProperties properties,
+            ServerCodecConfigurer serverCodecConfigurer) {
+
+        return new ReactiveClientErrorHandler(
+                exceptionRegistry,
+                exceptionLogger,
+                topExceptionsStore,
+                properties,
+                serverCodecConfigurer.getWriters());
+    }
+}
@@ -0,0 +1,24 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.core.stats.TopExceptionsEndpoint;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra o endpoint "exceptions" quando o Actuator está no classpath
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+@ConditionalOnProperty(prefix = "exception-handler.stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TopExceptionsEndpointConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TopExceptionsEndpoint topExceptionsEndpoint(TopExceptionsStore topExceptionsStore) {
+        return new TopExceptionsEndpoint(topExceptionsStore);
+    }
+}
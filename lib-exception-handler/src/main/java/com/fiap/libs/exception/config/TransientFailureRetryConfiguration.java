@@ -0,0 +1,48 @@
+package com.fiap.libs.exception.config;
+
+import com.fiap.libs.exception.api.annotation.RetryOnTransientFailure;
+import com.fiap.libs.exception.core.database.TransientFailureRetryInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Retry de falhas transitórias de banco para beans com @RetryOnTransientFailure
+ * Desative com exception-handler.retry.enabled=false
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.aopalliance.intercept.MethodInterceptor")
+@ConditionalOnProperty(prefix = "exception-handler.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TransientFailureRetryConfiguration {
+
+    /**
+     * Executa antes do TransactionInterceptor (LOWEST_PRECEDENCE), assim cada tentativa
+     * abre uma nova transação
+     */
+    public static final int ADVISOR_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnMissingBean(name = "transientFailureRetryAdvisor")
+    public static Advisor transientFailureRetryAdvisor(ObjectProvider<ExceptionHandlerProperties> properties) {
+        ComposablePointcut pointcut = new ComposablePointcut(
+                new AnnotationMatchingPointcut(RetryOnTransientFailure.class, true))
+                .union(new AnnotationMatchingPointcut(null, RetryOnTransientFailure.class, true));
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                pointcut,
+                new TransientFailureRetryInterceptor(() -> properties.getObject().getRetry()));
+        advisor.setOrder(ADVISOR_ORDER);
+        return advisor;
+    }
+}
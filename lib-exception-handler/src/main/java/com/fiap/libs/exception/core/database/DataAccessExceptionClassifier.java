@@ -0,0 +1,52 @@
+package com.fiap.libs.exception.core.database;
+
+import com.fiap.libs.exception.api.enums.DatabaseErrorCategory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Classificação pela hierarquia DataAccessException do Spring
+ * Carregada apenas quando o spring-tx está no classpath
+ */
+final class DataAccessExceptionClassifier {
+
+    private DataAccessExceptionClassifier() {
+    }
+
+    /**
+     * @return Categoria da falha, ou null quando não é uma DataAccessException
+     */
+    static DatabaseErrorCategory classify(Throwable ex) {
+        if (!(ex instanceof DataAccessException)) {
+            return null;
+        }
+        if (ex instanceof DuplicateKeyException) {
+            return DatabaseErrorCategory.DUPLICATE_KEY;
+        }
+        if (ex instanceof DataIntegrityViolationException) {
+            return DatabaseErrorCategory.CONSTRAINT_VIOLATION;
+        }
+        if (ex instanceof CannotAcquireLockException) {
+            return DatabaseErrorCategory.LOCK_TIMEOUT;
+        }
+        if (ex instanceof PessimisticLockingFailureException) {
+            return DatabaseErrorCategory.DEADLOCK;
+        }
+        if (ex instanceof ConcurrencyFailureException) {
+            return DatabaseErrorCategory.SERIALIZATION_FAILURE;
+        }
+        if (ex instanceof DataAccessResourceFailureException
+                || ex instanceof TransientDataAccessResourceException
+                || ex instanceof RecoverableDataAccessException) {
+            return DatabaseErrorCategory.CONNECTION_RESET;
+        }
+        return DatabaseErrorCategory.UNKNOWN;
+    }
+}
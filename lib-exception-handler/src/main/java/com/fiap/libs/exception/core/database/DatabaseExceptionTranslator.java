@@ -0,0 +1,195 @@
+package com.fiap.libs.exception.core.database;
+
+import com.fiap.libs.exception.api.enums.DatabaseErrorCategory;
+import com.fiap.libs.exception.api.exceptions.BaseException;
+import com.fiap.libs.exception.api.exceptions.request.ConflictException;
+import com.fiap.libs.exception.api.exceptions.resource.ResourceAlreadyExistsException;
+import com.fiap.libs.exception.api.exceptions.system.DatabaseException;
+import com.fiap.libs.exception.api.exceptions.system.TransientDatabaseException;
+import org.springframework.util.ClassUtils;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Classifica falhas de banco de dados em categorias transitórias e permanentes
+ *
+ * <p>A cadeia de causas é percorrida procurando um {@link SQLException} (SQLState e código do
+ * fabricante: PostgreSQL, MySQL/MariaDB, Oracle, SQL Server e H2). Quando o SQLException não é
+ * conclusivo, a hierarquia {@code DataAccessException} do Spring é usada (somente se o
+ * spring-tx estiver no classpath).</p>
+ */
+public final class DatabaseExceptionTranslator {
+
+    private static final boolean DATA_ACCESS_PRESENT =
+            ClassUtils.isPresent("org.springframework.dao.DataAccessException",
+                    DatabaseExceptionTranslator.class.getClassLoader());
+
+    private static final int MAX_CAUSES = 32;
+
+    private DatabaseExceptionTranslator() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Categoria da falha (UNKNOWN quando não é uma falha de banco reconhecida)
+     */
+    public static DatabaseErrorCategory classify(Throwable ex) {
+        DatabaseErrorCategory category = resolve(ex);
+        return category != null ? category : DatabaseErrorCategory.UNKNOWN;
+    }
+
+    /**
+     * Indica se a falha é transitória e a operação pode ser repetida
+     */
+    public static boolean isTransient(Throwable ex) {
+        return classify(ex).isTransientFailure();
+    }
+
+    /**
+     * Converte a falha de banco em uma BaseException:
+     * chave duplicada vira ResourceAlreadyExistsException (409), demais violações de integridade
+     * viram ConflictException (409), falhas transitórias viram TransientDatabaseException (503)
+     * e as demais DatabaseException (500)
+     *
+     * @return Exceção traduzida, ou null quando a causa não é uma falha de banco
+     */
+    public static BaseException translate(Throwable ex) {
+        if (ex instanceof DatabaseException databaseException) {
+            return databaseException;
+        }
+
+        DatabaseErrorCategory category = resolve(ex);
+        if (category == null) {
+            return null;
+        }
+
+        BaseException translated;
+        if (category == DatabaseErrorCategory.DUPLICATE_KEY) {
+            translated = new ResourceAlreadyExistsException("Resource conflicts with existing data", ex);
+        } else if (category == DatabaseErrorCategory.CONSTRAINT_VIOLATION) {
+            translated = new ConflictException("Request violates a data integrity constraint", ex);
+        } else if (category.isTransientFailure()) {
+            translated = new TransientDatabaseException("Database temporarily unavailable. Please try again", ex, category);
+        } else {
+            translated = new DatabaseException("Database error", ex, category);
+        }
+
+        // Mantém o local original da falha (usado no fingerprint de logs e estatísticas)
+        translated.setStackTrace(ex.getStackTrace());
+        return translated;
+    }
+
+    /**
+     * Categoria da falha, ou null quando nenhuma causa é de banco
+     */
+    private static DatabaseErrorCategory resolve(Throwable ex) {
+        if (ex instanceof DatabaseException databaseException) {
+            return databaseException.getCategory();
+        }
+
+        DatabaseErrorCategory fallback = null;
+        Throwable current = ex;
+        for (int depth = 0; current != null && depth < MAX_CAUSES; depth++) {
+            if (current instanceof SQLException sqlException) {
+                DatabaseErrorCategory category = classifySqlException(sqlException);
+                if (category != DatabaseErrorCategory.UNKNOWN) {
+                    return category;
+                }
+                fallback = fallback != null ? fallback : DatabaseErrorCategory.UNKNOWN;
+            } else if (DATA_ACCESS_PRESENT && (fallback == null || fallback == DatabaseErrorCategory.UNKNOWN)) {
+                DatabaseErrorCategory category = DataAccessExceptionClassifier.classify(current);
+                fallback = category != null ? category : fallback;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return fallback;
+    }
+
+    /**
+     * Classifica o SQLException e a cadeia de getNextException (ex: BatchUpdateException)
+     */
+    private static DatabaseErrorCategory classifySqlException(SQLException ex) {
+        SQLException current = ex;
+        for (int depth = 0; current != null && depth < MAX_CAUSES; depth++) {
+            DatabaseErrorCategory category = classifySqlState(current);
+            if (category != DatabaseErrorCategory.UNKNOWN) {
+                return category;
+            }
+            current = current.getNextException();
+        }
+        return DatabaseErrorCategory.UNKNOWN;
+    }
+
+    static DatabaseErrorCategory classifySqlState(SQLException ex) {
+        String sqlState = ex.getSQLState();
+        int vendorCode = ex.getErrorCode();
+
+        if (sqlState != null) {
+            switch (sqlState) {
+                // MySQL (1213) e SQL Server (1205) reportam deadlock como 40001
+                case "40001":
+                    return vendorCode == 1213 || vendorCode == 1205
+                            ? DatabaseErrorCategory.DEADLOCK
+                            : DatabaseErrorCategory.SERIALIZATION_FAILURE;
+                case "40P01":
+                    return DatabaseErrorCategory.DEADLOCK;
+                case "55P03", "HYT00":
+                    return DatabaseErrorCategory.LOCK_TIMEOUT;
+                default:
+                    break;
+            }
+            if (sqlState.startsWith("08")) {
+                return DatabaseErrorCategory.CONNECTION_RESET;
+            }
+            if (sqlState.startsWith("23")) {
+                return isUniqueViolation(sqlState, vendorCode)
+                        ? DatabaseErrorCategory.DUPLICATE_KEY
+                        : DatabaseErrorCategory.CONSTRAINT_VIOLATION;
+            }
+        }
+
+        switch (vendorCode) {
+            case 1213, 60:            // MySQL ER_LOCK_DEADLOCK, Oracle ORA-00060
+                return DatabaseErrorCategory.DEADLOCK;
+            case 1205, 54, 30006, 1222: // MySQL ER_LOCK_WAIT_TIMEOUT, Oracle ORA-00054/ORA-30006, SQL Server
+                return DatabaseErrorCategory.LOCK_TIMEOUT;
+            case 8177:                // Oracle ORA-08177
+                return DatabaseErrorCategory.SERIALIZATION_FAILURE;
+            case 17002, 17008:        // Oracle: IO error / conexão fechada
+                return DatabaseErrorCategory.CONNECTION_RESET;
+            default:
+                break;
+        }
+
+        if (ex instanceof SQLTransientConnectionException
+                || ex instanceof SQLNonTransientConnectionException
+                || ex instanceof SQLRecoverableException) {
+            return DatabaseErrorCategory.CONNECTION_RESET;
+        }
+        if (ex instanceof SQLIntegrityConstraintViolationException) {
+            return DatabaseErrorCategory.CONSTRAINT_VIOLATION;
+        }
+        if (ex instanceof SQLTransactionRollbackException) {
+            return DatabaseErrorCategory.SERIALIZATION_FAILURE;
+        }
+        return DatabaseErrorCategory.UNKNOWN;
+    }
+
+    /**
+     * Violação de unicidade dentro da classe 23: 23505 (PostgreSQL, H2) ou o código do fabricante
+     * para bancos que reportam toda a classe como 23000
+     */
+    private static boolean isUniqueViolation(String sqlState, int vendorCode) {
+        return switch (vendorCode) {
+            case 1062, 1586, 1022 -> true; // MySQL/MariaDB ER_DUP_ENTRY, ER_DUP_ENTRY_WITH_KEY_NAME, ER_DUP_KEY
+            case 1 -> true;                 // Oracle ORA-00001
+            case 2627, 2601 -> true;        // SQL Server: PRIMARY KEY/UNIQUE constraint, unique index
+            default -> "23505".equals(sqlState);
+        };
+    }
+}
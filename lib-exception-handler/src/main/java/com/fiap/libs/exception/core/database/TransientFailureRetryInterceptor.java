@@ -0,0 +1,118 @@
+package com.fiap.libs.exception.core.database;
+
+import com.fiap.libs.exception.api.annotation.RetryOnTransientFailure;
+import com.fiap.libs.exception.api.enums.DatabaseErrorCategory;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repete métodos anotados com {@link RetryOnTransientFailure} quando a falha é transitória
+ *
+ * <p>A espera entre tentativas usa backoff exponencial com "full jitter": um valor aleatório
+ * entre zero e min(max-backoff, initial-backoff * multiplier^(tentativa - 1)), o que espalha as
+ * novas tentativas de transações que colidiram no mesmo deadlock.</p>
+ */
+@Slf4j
+public class TransientFailureRetryInterceptor implements MethodInterceptor {
+
+    private static final boolean TRANSACTIONS_PRESENT =
+            ClassUtils.isPresent("org.springframework.transaction.support.TransactionSynchronizationManager",
+                    TransientFailureRetryInterceptor.class.getClassLoader());
+
+    private final Supplier<ExceptionHandlerProperties.Retry> config;
+    private final Map<Method, Integer> maxAttemptsCache = new ConcurrentHashMap<>();
+
+    public TransientFailureRetryInterceptor(Supplier<ExceptionHandlerProperties.Retry> config) {
+        this.config = config;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ExceptionHandlerProperties.Retry retry = config.get();
+        int maxAttempts = resolveMaxAttempts(invocation, retry);
+
+        if (maxAttempts <= 1
+                || !(invocation instanceof ProxyMethodInvocation proxyInvocation)
+                || inActiveTransaction()) {
+            return invocation.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return proxyInvocation.invocableClone().proceed();
+            } catch (Throwable ex) {
+                DatabaseErrorCategory category = DatabaseExceptionTranslator.classify(ex);
+                if (!category.isTransientFailure() || attempt >= maxAttempts) {
+                    throw ex;
+                }
+
+                long backoffNanos = backoffNanos(retry, attempt);
+                log.debug("Transient database failure ({}) in {}, attempt {}/{} - retrying in {} µs",
+                        category, invocation.getMethod().getName(), attempt, maxAttempts, backoffNanos / 1_000);
+
+                if (!sleep(backoffNanos)) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Espera aleatória entre 0 e o teto exponencial da tentativa
+     */
+    static long backoffNanos(ExceptionHandlerProperties.Retry retry, int attempt) {
+        double ceiling = retry.getInitialBackoff().toNanos() * Math.pow(Math.max(1.0, retry.getMultiplier()), attempt - 1);
+        long bound = (long) Math.min(ceiling, retry.getMaxBackoff().toNanos());
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0L;
+    }
+
+    private int resolveMaxAttempts(MethodInvocation invocation, ExceptionHandlerProperties.Retry retry) {
+        int maxAttempts = maxAttemptsCache.computeIfAbsent(invocation.getMethod(), method -> {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? AopUtils.getTargetClass(invocation.getThis())
+                    : method.getDeclaringClass();
+            Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+            RetryOnTransientFailure annotation =
+                    AnnotatedElementUtils.findMergedAnnotation(specificMethod, RetryOnTransientFailure.class);
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, RetryOnTransientFailure.class);
+            }
+            return annotation != null ? annotation.maxAttempts() : -1;
+        });
+        return maxAttempts > 0 ? maxAttempts : retry.getMaxAttempts();
+    }
+
+    /**
+     * Dentro de uma transação externa o retry não resolve (ela já está marcada para rollback)
+     */
+    private static boolean inActiveTransaction() {
+        return TRANSACTIONS_PRESENT && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private static boolean sleep(long nanos) {
+        if (nanos <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+            return true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.fiap.libs.exception.core.factory;
 
 import com.fiap.libs.exception.api.enums.ErrorCode;
 import com.fiap.libs.exception.api.exceptions.BaseException;
+import com.fiap.libs.exception.api.exceptions.validation.ValidationException;
 import com.fiap.libs.exception.api.model.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -32,13 +33,23 @@ public final class ErrorResponseFactory {
             HttpServletRequest request,
             String traceId) {
 
-        return ErrorResponse.builder()
-                .code(ex.getErrorCode())
-                .message(ex.getMessage())
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .traceId(traceId)
-                .build();
+        return create(ex, request.getRequestURI(), traceId);
+    }
+
+    /**
+     * Cria ErrorResponse a partir do path da requisição (independente da stack web)
+     */
+    public static ErrorResponse create(
+            BaseException ex,
+            String path,
+            String traceId) {
+
+        ErrorResponse error = create(ex.getErrorCode(), ex.getMessage(), path, traceId);
+
+        if (ex instanceof ValidationException validation && !validation.getErrors().isEmpty()) {
+            error.setErrors(validation.getErrors());
+        }
+        return error;
     }
 
     /**
@@ -50,10 +61,22 @@ public final class ErrorResponseFactory {
             HttpServletRequest request,
             String traceId) {
 
+        return create(errorCode, message, request.getRequestURI(), traceId);
+    }
+
+    /**
+     * Cria ErrorResponse com ErrorCode manual a partir do path da requisição
+     */
+    public static ErrorResponse create(
+            ErrorCode errorCode,
+            String message,
+            String path,
+            String traceId) {
+
         return ErrorResponse.builder()
                 .code(errorCode)
                 .message(message)
-                .path(request.getRequestURI())
+                .path(path)
                 .timestamp(LocalDateTime.now())
                 .traceId(traceId)
                 .build();
@@ -62,4 +85,4 @@ public final class ErrorResponseFactory {
     private static String generateTraceId() {
         return UUID.randomUUID().toString();
     }
-}
\ No newline at end of file
+}
@@ -2,17 +2,26 @@ package com.fiap.libs.exception.core.handler;
 
 import com.fiap.libs.exception.api.enums.ErrorCode;
 import com.fiap.libs.exception.api.exceptions.BaseException;
-import com.fiap.libs.exception.api.model.CustomFieldError;
+import com.fiap.libs.exception.api.exceptions.request.PayloadTooLargeException;
+import com.fiap.libs.exception.api.exceptions.request.TooManyRequestsException;
+import com.fiap.libs.exception.api.exceptions.system.TransientDatabaseException;
 import com.fiap.libs.exception.api.model.ErrorResponse;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import com.fiap.libs.exception.core.database.DatabaseExceptionTranslator;
 import com.fiap.libs.exception.core.factory.ErrorResponseFactory;
+import com.fiap.libs.exception.core.logging.ExceptionFingerprint;
 import com.fiap.libs.exception.core.logging.LogLevel;
+import com.fiap.libs.exception.core.logging.ThrottledExceptionLogger;
 import com.fiap.libs.exception.core.registry.ExceptionMetadata;
 import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import com.fiap.libs.exception.core.validation.BoundedFieldErrors;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -23,10 +32,9 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Handler global de exceções para APIs REST
@@ -39,6 +47,9 @@ import java.util.stream.Collectors;
 public class ClientErrorHandler extends BaseExceptionHandler {
 
     private final ExceptionMetadataRegistry exceptionRegistry;
+    private final ThrottledExceptionLogger exceptionLogger;
+    private final TopExceptionsStore topExceptionsStore;
+    private final ExceptionHandlerProperties properties;
 
     /**
      * Handler genérico para todas as exceções customizadas (BaseException)
@@ -52,24 +63,28 @@ public class ClientErrorHandler extends BaseExceptionHandler {
         String traceId = generateTraceId();
         ExceptionMetadata metadata = exceptionRegistry.getMetadata(ex.getClass());
 
-        // Log baseado no nível configurado
-        logException(traceId, ex, metadata.getLogLevel());
+        // Log baseado no nível configurado; o fingerprint é calculado uma vez para log e estatísticas
+        ExceptionFingerprint fingerprint = exceptionLogger.fingerprint(ex);
+        logException(traceId, ex, fingerprint, metadata.getLogLevel());
+        topExceptionsStore.record(fingerprint, metadata, resolveRoute(request), traceId);
 
         // Cria resposta usando factory
         ErrorResponse error = ErrorResponseFactory.create(ex, request, traceId);
 
-        return ResponseEntity
-                .status(metadata.getHttpStatus())
-                .body(error);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(metadata.getHttpStatus());
+        if (ex instanceof TooManyRequestsException tooManyRequests
+                && tooManyRequests.getRetryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyRequests.getRetryAfterSeconds()));
+        } else if (ex instanceof TransientDatabaseException) {
+            response.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+
+        return response.body(error);
     }
 
     /**
      * Handler especial para validação de campos (@Valid)
-     * Retorna lista detalhada de erros de validação
-     */
-    /**
-     * Handler especial para validação de campos (@Valid)
-     * Retorna lista detalhada de erros de validação
+     * Retorna lista detalhada de erros de validação, limitada por exception-handler.validation
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationError(
@@ -78,27 +93,24 @@ public class ClientErrorHandler extends BaseExceptionHandler {
 
         String traceId = generateTraceId();
 
-        // ✅ CORRIGIDO: CustomFieldError ao invés de BaseException
-        List<CustomFieldError> fieldErrors = ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(this::mapFieldError)
-                .collect(Collectors.toList());
-
-        String errorMessage = fieldErrors.stream()
-                .map(err -> err.getField() + ": " + err.getMessage())
-                .collect(Collectors.joining(", "));
+        BoundedFieldErrors fieldErrors = BoundedFieldErrors.of(
+                ex.getBindingResult().getFieldErrors(),
+                properties.getValidation());
 
-        log.error("[{}] Validation error: {}", traceId, errorMessage);
+        log.error("[{}] Validation error: {}", traceId, fieldErrors.logSummary());
 
         ErrorResponse error = ErrorResponse.builder()
                 .code(ErrorCode.VALIDATION_ERROR)
                 .message("Validation failed")
                 .path(request.getRequestURI())
                 .traceId(traceId)
-                .errors(fieldErrors)
+                .errors(fieldErrors.errors())
                 .build();
 
+        if (!fieldErrors.metadata().isEmpty()) {
+            error.setMetadata(fieldErrors.metadata());
+        }
+
         return ResponseEntity.badRequest().body(error);
     }
 
@@ -110,6 +122,12 @@ public class ClientErrorHandler extends BaseExceptionHandler {
             HttpMessageNotReadableException ex,
             HttpServletRequest request) {
 
+        // Leitura interrompida pelo limite de tamanho do corpo (PayloadSizeLimitFilter)
+        PayloadTooLargeException payloadTooLarge = findCause(ex, PayloadTooLargeException.class);
+        if (payloadTooLarge != null) {
+            return handleBaseException(payloadTooLarge, request);
+        }
+
         String traceId = generateTraceId();
         log.error("[{}] Malformed JSON request: {}", traceId, ex.getMessage());
 
@@ -236,15 +254,23 @@ public class ClientErrorHandler extends BaseExceptionHandler {
 
     /**
      * Handler fallback para exceções não mapeadas
-     * Retorna 500 Internal Server Error
+     * Retorna 500 Internal Server Error (falhas de banco são classificadas antes)
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex,
             HttpServletRequest request) {
 
+        // Falhas de banco (SQLException / DataAccessException) viram 409, 503 ou 500
+        BaseException translated = DatabaseExceptionTranslator.translate(ex);
+        if (translated != null) {
+            return handleBaseException(translated, request);
+        }
+
         String traceId = generateTraceId();
-        log.error("[{}] Internal server error: {}", traceId, ex.getMessage(), ex);
+        ExceptionFingerprint fingerprint = exceptionLogger.fingerprint(ex);
+        exceptionLogger.log(log, traceId, ex, fingerprint, LogLevel.CRITICAL);
+        topExceptionsStore.record(fingerprint, exceptionRegistry.getMetadata(ex.getClass()), resolveRoute(request), traceId);
 
         ErrorResponse error = ErrorResponseFactory.create(
                 ErrorCode.INTERNAL_SERVER_ERROR,
@@ -257,19 +283,33 @@ public class ClientErrorHandler extends BaseExceptionHandler {
     }
 
     /**
-     * Log estruturado baseado no nível configurado
+     * Rota da requisição: padrão do mapping (evita cardinalidade alta por ids na URI)
+     */
+    private static String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        return request.getMethod() + " " + path;
+    }
+
+    /**
+     * Procura uma causa do tipo informado na cadeia de exceções
      */
-    private void logException(String traceId, Exception ex, LogLevel logLevel) {
-        String message = String.format("[%s] %s: %s",
-                traceId,
-                ex.getClass().getSimpleName(),
-                ex.getMessage());
-
-        switch (logLevel) {
-            case INFO -> log.info(message);
-            case WARN -> log.warn(message);
-            case ERROR -> log.error(message);
-            case CRITICAL -> log.error(message, ex);
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        Throwable current = ex;
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+            current = current.getCause() == current ? null : current.getCause();
         }
+        return null;
+    }
+
+    /**
+     * Log estruturado baseado no nível configurado
+     * Exceções semelhantes são agrupadas e limitadas pelo ThrottledExceptionLogger
+     */
+    private void logException(String traceId, Exception ex, ExceptionFingerprint fingerprint, LogLevel logLevel) {
+        exceptionLogger.log(log, traceId, ex, fingerprint, logLevel);
     }
 }
\ No newline at end of file
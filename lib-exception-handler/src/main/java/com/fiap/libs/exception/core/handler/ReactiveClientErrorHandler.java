@@ -0,0 +1,333 @@
+package com.fiap.libs.exception.core.handler;
+
+import com.fiap.libs.exception.api.enums.ErrorCode;
+import com.fiap.libs.exception.api.exceptions.BaseException;
+import com.fiap.libs.exception.api.exceptions.request.PayloadTooLargeException;
+import com.fiap.libs.exception.api.exceptions.request.TooManyRequestsException;
+import com.fiap.libs.exception.api.exceptions.system.TransientDatabaseException;
+import com.fiap.libs.exception.api.model.ErrorResponse;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import com.fiap.libs.exception.core.database.DatabaseExceptionTranslator;
+import com.fiap.libs.exception.core.factory.ErrorResponseFactory;
+import com.fiap.libs.exception.core.logging.ExceptionFingerprint;
+import com.fiap.libs.exception.core.logging.LogLevel;
+import com.fiap.libs.exception.core.logging.ThrottledExceptionLogger;
+import com.fiap.libs.exception.core.registry.ExceptionMetadata;
+import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import com.fiap.libs.exception.core.validation.BoundedFieldErrors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.server.WebExceptionHandler;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Handler global de exceções para APIs reativas (WebFlux)
+ * Equivalente ao ClientErrorHandler: usa o mesmo ExceptionMetadataRegistry e o mesmo ErrorResponse
+ *
+ * <p>Executa antes do DefaultErrorWebExceptionHandler do Spring Boot (ordem -1) e escreve o
+ * corpo diretamente com o encoder JSON configurado no ServerCodecConfigurer, sem bloquear
+ * e sem trocar de thread.</p>
+ */
+@Slf4j
+public class ReactiveClientErrorHandler extends BaseExceptionHandler implements WebExceptionHandler, Ordered {
+
+    private static final ResolvableType ERROR_RESPONSE_TYPE = ResolvableType.forClass(ErrorResponse.class);
+
+    private final ExceptionMetadataRegistry exceptionRegistry;
+    private final ThrottledExceptionLogger exceptionLogger;
+    private final TopExceptionsStore topExceptionsStore;
+    private final ExceptionHandlerProperties properties;
+    private final HttpMessageWriter<ErrorResponse> writer;
+
+    public ReactiveClientErrorHandler(
+            ExceptionMetadataRegistry exceptionRegistry,
+            ThrottledExceptionLogger exceptionLogger,
+            TopExceptionsStore topExceptionsStore,
+            ExceptionHandlerProperties properties,
+            List<HttpMessageWriter<?>> writers) {
+
+        this.exceptionRegistry = exceptionRegistry;
+        this.exceptionLogger = exceptionLogger;
+        this.topExceptionsStore = topExceptionsStore;
+        this.properties = properties;
+        this.writer = findJsonWriter(writers);
+    }
+
+    @Override
+    public int getOrder() {
+        return -2;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.error(ex);
+        }
+
+        if (ex instanceof BaseException baseException) {
+            return handleBaseException(exchange, baseException);
+        }
+        if (ex instanceof WebExchangeBindException bindException) {
+            return handleValidationError(exchange, bindException);
+        }
+        if (ex instanceof ServerWebInputException inputException) {
+            return handleServerWebInput(exchange, inputException);
+        }
+        if (ex instanceof UnsupportedMediaTypeStatusException mediaTypeException) {
+            return handleUnsupportedMediaType(exchange, mediaTypeException);
+        }
+        if (ex instanceof MethodNotAllowedException methodNotAllowed) {
+            return handleMethodNotAllowed(exchange, methodNotAllowed);
+        }
+        if (ex instanceof ResponseStatusException statusException) {
+            return handleResponseStatus(exchange, statusException);
+        }
+        return handleGenericException(exchange, ex);
+    }
+
+    /**
+     * Exceções customizadas (BaseException): status e nível de log vindos do Registry
+     */
+    private Mono<Void> handleBaseException(ServerWebExchange exchange, BaseException ex) {
+        String traceId = generateTraceId();
+        ExceptionMetadata metadata = exceptionRegistry.getMetadata(ex.getClass());
+
+        ExceptionFingerprint fingerprint = exceptionLogger.fingerprint(ex);
+        exceptionLogger.log(log, traceId, ex, fingerprint, metadata.getLogLevel());
+        topExceptionsStore.record(fingerprint, metadata, resolveRoute(exchange), traceId);
+
+        if (ex instanceof TooManyRequestsException tooManyRequests
+                && tooManyRequests.getRetryAfterSeconds() != null) {
+            exchange.getResponse().getHeaders()
+                    .set(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyRequests.getRetryAfterSeconds()));
+        } else if (ex instanceof TransientDatabaseException) {
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        }
+
+        ErrorResponse error = ErrorResponseFactory.create(ex, requestPath(exchange), traceId);
+        return write(exchange, metadata.getHttpStatus(), error);
+    }
+
+    /**
+     * Validação de campos (@Valid), limitada por exception-handler.validation
+     */
+    private Mono<Void> handleValidationError(ServerWebExchange exchange, WebExchangeBindException ex) {
+        String traceId = generateTraceId();
+
+        BoundedFieldErrors fieldErrors = BoundedFieldErrors.of(
+                ex.getBindingResult().getFieldErrors(),
+                properties.getValidation(),
+                0);
+
+        log.error("[{}] Validation error: {}", traceId, fieldErrors.logSummary());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .code(ErrorCode.VALIDATION_ERROR)
+                .message("Validation failed")
+                .path(requestPath(exchange))
+                .traceId(traceId)
+                .errors(fieldErrors.errors())
+                .build();
+
+        if (!fieldErrors.metadata().isEmpty()) {
+            error.setMetadata(fieldErrors.metadata());
+        }
+
+        return write(exchange, HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Corpo malformado, parâmetro ausente ou inválido
+     * Corpos acima do limite do codec (max-in-memory-size) resultam em 413
+     */
+    private Mono<Void> handleServerWebInput(ServerWebExchange exchange, ServerWebInputException ex) {
+        PayloadTooLargeException payloadTooLarge = findCause(ex, PayloadTooLargeException.class);
+        if (payloadTooLarge != null) {
+            return handleBaseException(exchange, payloadTooLarge);
+        }
+        if (findCause(ex, DataBufferLimitException.class) != null) {
+            return handleBaseException(exchange, new PayloadTooLargeException("Request body exceeds the allowed size"));
+        }
+
+        String traceId = generateTraceId();
+        log.error("[{}] Malformed request: {}", traceId, ex.getReason());
+
+        ErrorResponse error = ErrorResponseFactory.create(
+                ErrorCode.BAD_REQUEST,
+                "Malformed request",
+                requestPath(exchange),
+                traceId
+        );
+
+        return write(exchange, HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Content-Type não suportado
+     */
+    private Mono<Void> handleUnsupportedMediaType(ServerWebExchange exchange, UnsupportedMediaTypeStatusException ex) {
+        String traceId = generateTraceId();
+        log.error("[{}] Unsupported media type: {}", traceId, ex.getContentType());
+
+        ErrorResponse error = ErrorResponseFactory.create(
+                ErrorCode.UNSUPPORTED_MEDIA_TYPE,
+                "Unsupported media type: " + ex.getContentType(),
+                requestPath(exchange),
+                traceId
+        );
+
+        return write(exchange, HttpStatus.UNSUPPORTED_MEDIA_TYPE, error);
+    }
+
+    /**
+     * Método HTTP não permitido
+     */
+    private Mono<Void> handleMethodNotAllowed(ServerWebExchange exchange, MethodNotAllowedException ex) {
+        String traceId = generateTraceId();
+        log.error("[{}] Method not allowed: {}", traceId, ex.getHttpMethod());
+
+        exchange.getResponse().getHeaders().setAllow(ex.getSupportedMethods());
+
+        ErrorResponse error = ErrorResponseFactory.create(
+                ErrorCode.METHOD_NOT_ALLOWED,
+                "Method " + ex.getHttpMethod() + " not allowed",
+                requestPath(exchange),
+                traceId
+        );
+
+        return write(exchange, HttpStatus.METHOD_NOT_ALLOWED, error);
+    }
+
+    /**
+     * Demais exceções com status do Spring (rota não encontrada, 406, etc.)
+     */
+    private Mono<Void> handleResponseStatus(ServerWebExchange exchange, ResponseStatusException ex) {
+        HttpStatusCode status = ex.getStatusCode();
+        if (status.is5xxServerError()) {
+            return handleGenericException(exchange, ex);
+        }
+
+        String traceId = generateTraceId();
+        log.error("[{}] Request failed with status {}: {}", traceId, status.value(), ex.getReason());
+
+        ErrorCode errorCode = switch (status.value()) {
+            case 404 -> ErrorCode.RESOURCE_NOT_FOUND;
+            case 409 -> ErrorCode.CONFLICT;
+            case 413 -> ErrorCode.PAYLOAD_TOO_LARGE;
+            case 429 -> ErrorCode.TOO_MANY_REQUESTS;
+            default -> ErrorCode.BAD_REQUEST;
+        };
+        String message = status.value() == 404
+                ? "Endpoint not found"
+                : ex.getReason() != null ? ex.getReason() : errorCode.getDescription();
+
+        ErrorResponse error = ErrorResponseFactory.create(errorCode, message, requestPath(exchange), traceId);
+        return write(exchange, status, error);
+    }
+
+    /**
+     * Fallback para exceções não mapeadas: 500 Internal Server Error
+     * Falhas de banco (SQLException / DataAccessException) são classificadas antes
+     */
+    private Mono<Void> handleGenericException(ServerWebExchange exchange, Throwable ex) {
+        BaseException translated = DatabaseExceptionTranslator.translate(ex);
+        if (translated != null) {
+            return handleBaseException(exchange, translated);
+        }
+
+        String traceId = generateTraceId();
+        ExceptionFingerprint fingerprint = exceptionLogger.fingerprint(ex);
+        exceptionLogger.log(log, traceId, ex, fingerprint, LogLevel.CRITICAL);
+        topExceptionsStore.record(fingerprint, metadataFor(ex), resolveRoute(exchange), traceId);
+
+        ErrorResponse error = ErrorResponseFactory.create(
+                ErrorCode.INTERNAL_SERVER_ERROR,
+                "An unexpected error occurred",
+                requestPath(exchange),
+                traceId
+        );
+
+        return write(exchange, HttpStatus.INTERNAL_SERVER_ERROR, error);
+    }
+
+    /**
+     * Serializa o ErrorResponse direto em DataBuffers do response (sem bloqueio)
+     */
+    private Mono<Void> write(ServerWebExchange exchange, HttpStatusCode status, ErrorResponse error) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        return writer.write(
+                Mono.just(error),
+                ERROR_RESPONSE_TYPE,
+                MediaType.APPLICATION_JSON,
+                response,
+                Map.of());
+    }
+
+    private ExceptionMetadata metadataFor(Throwable ex) {
+        return ex instanceof Exception exception
+                ? exceptionRegistry.getMetadata(exception.getClass())
+                : ExceptionMetadata.defaultMetadata();
+    }
+
+    private static String requestPath(ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().value();
+    }
+
+    /**
+     * Rota da requisição: padrão do mapping (evita cardinalidade alta por ids na URI)
+     */
+    private static String resolveRoute(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern instanceof PathPattern pathPattern
+                ? pathPattern.getPatternString()
+                : pattern != null ? pattern.toString() : requestPath(exchange);
+        return exchange.getRequest().getMethod() + " " + path;
+    }
+
+    /**
+     * Procura uma causa do tipo informado na cadeia de exceções
+     */
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        Throwable current = ex;
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpMessageWriter<ErrorResponse> findJsonWriter(List<HttpMessageWriter<?>> writers) {
+        for (HttpMessageWriter<?> candidate : writers) {
+            if (candidate.canWrite(ERROR_RESPONSE_TYPE, MediaType.APPLICATION_JSON)) {
+                return (HttpMessageWriter<ErrorResponse>) candidate;
+            }
+        }
+        throw new IllegalStateException("No HttpMessageWriter available to write ErrorResponse as JSON");
+    }
+}
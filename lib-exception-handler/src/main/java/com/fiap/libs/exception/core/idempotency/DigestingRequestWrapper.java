@@ -0,0 +1,171 @@
+package com.fiap.libs.exception.core.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Wrapper que calcula o SHA-256 do corpo da requisição conforme ele é lido, sem mantê-lo em memória
+ *
+ * <p>Formulários (application/x-www-form-urlencoded) são resumidos pelos parâmetros, já que o
+ * container os lê sem passar pelo wrapper. Corpos multipart não são resumidos.</p>
+ */
+class DigestingRequestWrapper extends HttpServletRequestWrapper {
+
+    /**
+     * Hash de corpos que não são comparados (multipart)
+     */
+    static final String UNHASHED = "";
+
+    private final MessageDigest digest;
+    private final String fixedHash;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+    private String hash;
+
+    DigestingRequestWrapper(HttpServletRequest request) {
+        super(request);
+        this.digest = sha256();
+        this.fixedHash = hashWithoutStream(request, digest);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new DigestingInputStream(super.getInputStream(), digest);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    /**
+     * Lê o restante do corpo (o que a aplicação não consumiu) e retorna o hash
+     *
+     * @return SHA-256 em hexadecimal, ou {@link #UNHASHED} para corpos multipart
+     */
+    String hash() throws IOException {
+        if (fixedHash != null) {
+            return fixedHash;
+        }
+        if (hash == null) {
+            ServletInputStream in = getInputStream();
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // o DigestingInputStream acumula o hash
+            }
+            hash = HexFormat.of().formatHex(digest.digest());
+        }
+        return hash;
+    }
+
+    private static String hashWithoutStream(HttpServletRequest request, MessageDigest digest) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return null;
+        }
+        if (contentType.regionMatches(true, 0, MediaType.MULTIPART_FORM_DATA_VALUE, 0,
+                MediaType.MULTIPART_FORM_DATA_VALUE.length())) {
+            return UNHASHED;
+        }
+        if (!contentType.regionMatches(true, 0, MediaType.APPLICATION_FORM_URLENCODED_VALUE, 0,
+                MediaType.APPLICATION_FORM_URLENCODED_VALUE.length())) {
+            return null;
+        }
+
+        // Cada nome e valor é prefixado pelo tamanho, para que a concatenação não seja ambígua
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            update(digest, parameter.getKey());
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(parameter.getValue().length).array());
+            for (String value : parameter.getValue()) {
+                update(digest, value);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static final class DigestingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final MessageDigest digest;
+
+        private DigestingInputStream(ServletInputStream delegate, MessageDigest digest) {
+            this.delegate = delegate;
+            this.digest = digest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value != -1) {
+                digest.update((byte) value);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                digest.update(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
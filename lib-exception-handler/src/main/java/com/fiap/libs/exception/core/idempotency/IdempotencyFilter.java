@@ -0,0 +1,271 @@
+package com.fiap.libs.exception.core.idempotency;
+
+import com.fiap.libs.exception.api.exceptions.request.BadRequestException;
+import com.fiap.libs.exception.api.exceptions.request.ConflictException;
+import com.fiap.libs.exception.api.exceptions.request.IdempotencyKeyReusedException;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Filtro que honra o header Idempotency-Key em requisições POST/PUT
+ *
+ * <ul>
+ *   <li>Primeira requisição: executa normalmente e armazena status, headers e corpo da resposta</li>
+ *   <li>Duplicada após a conclusão: devolve a resposta armazenada com o header Idempotent-Replayed</li>
+ *   <li>Duplicada concorrente: aguarda a original (até wait-timeout, depois 409) em vez de executar de novo</li>
+ *   <li>Duplicada com outro corpo: 422, pois a resposta armazenada guarda o SHA-256 do corpo original</li>
+ * </ul>
+ *
+ * Respostas 5xx, 408 e 429 não são armazenadas, permitindo que o cliente repita a requisição.
+ * As chaves são separadas por método, URI e usuário autenticado
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_ATTRIBUTE = IdempotencyFilter.class.getName() + ".KEY";
+    private static final String REQUEST_ATTRIBUTE = IdempotencyFilter.class.getName() + ".REQUEST";
+
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "content-type", "content-length", "transfer-encoding", "connection",
+            "keep-alive", "date", "set-cookie", REPLAYED_HEADER.toLowerCase(Locale.ROOT));
+
+    private final IdempotencyStore store;
+    private final ExceptionHandlerProperties.Idempotency config;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final Set<String> methods;
+    private final long maxBodyBytes;
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            ExceptionHandlerProperties.Idempotency config,
+            HandlerExceptionResolver exceptionResolver) {
+
+        this.store = store;
+        this.config = config;
+        this.exceptionResolver = exceptionResolver;
+        this.methods = config.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxBodyBytes = config.getMaxBodySize().toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !methods.contains(request.getMethod()) || request.getHeader(config.getHeader()) == null;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            continueAsync(request, response, filterChain);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(config.getHeader());
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > config.getMaxKeyLength()) {
+            exceptionResolver.resolveException(request, response, null, new BadRequestException(
+                    "Header " + config.getHeader() + " must have between 1 and " + config.getMaxKeyLength() + " characters"));
+            return;
+        }
+
+        String key = storeKey(request, idempotencyKey);
+        long deadline = System.nanoTime() + config.getWaitTimeout().toNanos();
+        DigestingRequestWrapper digestingRequest = new DigestingRequestWrapper(request);
+
+        for (;;) {
+            CompletableFuture<IdempotentResponse> pending = store.acquire(key);
+            if (pending == null) {
+                execute(key, digestingRequest, response, filterChain);
+                return;
+            }
+
+            IdempotentResponse stored = await(pending, deadline - System.nanoTime());
+            if (stored != null && !Objects.equals(stored.requestHash(), digestingRequest.hash())) {
+                exceptionResolver.resolveException(request, response, null, new IdempotencyKeyReusedException(
+                        "Header " + config.getHeader() + " was already used with a different request body"));
+                return;
+            }
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            if (pending.isDone() && deadline - System.nanoTime() > 0) {
+                // A requisição original liberou a chave sem resposta: tenta assumir a execução
+                continue;
+            }
+
+            exceptionResolver.resolveException(request, response, null, new ConflictException(
+                    "A request with the same " + config.getHeader() + " is still being processed"));
+            return;
+        }
+    }
+
+    /**
+     * Executa a requisição como dona da chave e armazena a resposta
+     */
+    private void execute(
+            String key,
+            DigestingRequestWrapper request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        request.setAttribute(KEY_ATTRIBUTE, key);
+        request.setAttribute(REQUEST_ATTRIBUTE, request);
+
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (Throwable ex) {
+            store.release(key);
+            throw ex;
+        }
+
+        // Em requisições assíncronas a resposta é concluída no dispatch seguinte (continueAsync)
+        if (!isAsyncStarted(request)) {
+            finish(key, request, wrapper);
+        }
+    }
+
+    /**
+     * Conclusão de requisições assíncronas (DeferredResult, Callable, etc.)
+     */
+    private void continueAsync(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+        DigestingRequestWrapper digestingRequest = (DigestingRequestWrapper) request.getAttribute(REQUEST_ATTRIBUTE);
+        ContentCachingResponseWrapper wrapper =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+
+        if (key == null || digestingRequest == null || wrapper == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } catch (Throwable ex) {
+            store.release(key);
+            throw ex;
+        }
+
+        if (!isAsyncStarted(request)) {
+            finish(key, digestingRequest, wrapper);
+        }
+    }
+
+    private void finish(String key, DigestingRequestWrapper request, ContentCachingResponseWrapper wrapper)
+            throws IOException {
+        int status = wrapper.getStatus();
+        byte[] body = wrapper.getContentAsByteArray();
+        String requestHash = isStorable(status) && body.length <= maxBodyBytes ? requestHash(request) : null;
+
+        if (requestHash != null) {
+            store.complete(key, new IdempotentResponse(status, captureHeaders(wrapper), body, requestHash));
+        } else {
+            store.release(key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * Hash do corpo da requisição dona da chave
+     *
+     * @return null se o restante do corpo não pôde ser lido (a resposta não é armazenada)
+     */
+    private static String requestHash(DigestingRequestWrapper request) {
+        try {
+            return request.hash();
+        } catch (IOException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Aguarda a requisição original
+     *
+     * @return Resposta armazenada, ou null se a chave foi liberada sem resposta ou o tempo esgotou
+     */
+    private static IdempotentResponse await(CompletableFuture<IdempotentResponse> pending, long timeoutNanos) {
+        try {
+            return timeoutNanos > 0 ? pending.get(timeoutNanos, TimeUnit.NANOSECONDS) : pending.getNow(null);
+        } catch (TimeoutException | ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Respostas que o cliente não deveria repetir (erros de servidor e limites temporários ficam de fora)
+     */
+    private static boolean isStorable(int status) {
+        return status < 500
+                && status != HttpStatus.REQUEST_TIMEOUT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static Map<String, List<String>> captureHeaders(ContentCachingResponseWrapper wrapper) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        if (wrapper.getContentType() != null) {
+            headers.put("Content-Type", List.of(wrapper.getContentType()));
+        }
+        for (String name : wrapper.getHeaderNames()) {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, new ArrayList<>(wrapper.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static String storeKey(HttpServletRequest request, String idempotencyKey) {
+        Principal principal = request.getUserPrincipal();
+        return request.getMethod() + ' ' + request.getRequestURI()
+                + '|' + (principal != null ? principal.getName() : "")
+                + '|' + idempotencyKey;
+    }
+}
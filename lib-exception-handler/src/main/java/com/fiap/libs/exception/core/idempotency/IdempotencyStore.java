@@ -0,0 +1,33 @@
+package com.fiap.libs.exception.core.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Armazenamento das respostas de requisições idempotentes
+ * Implemente e registre como bean para usar um store distribuído (ex: Redis)
+ *
+ * <p>Protocolo: quem recebe {@code null} em {@link #acquire(String)} é o dono da chave, executa
+ * a requisição e obrigatoriamente chama {@link #complete(String, IdempotentResponse)} ou
+ * {@link #release(String)}. Os demais recebem um future que termina com a resposta armazenada,
+ * ou com {@code null} se o dono liberou a chave sem resposta (nesse caso devem tentar novamente).</p>
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Reserva a chave ou retorna a resposta (em andamento ou concluída) associada a ela
+     *
+     * @param key Chave de idempotência (já qualificada por método, rota e usuário)
+     * @return null se a chave foi reservada para o chamador; caso contrário o future da resposta
+     */
+    CompletableFuture<IdempotentResponse> acquire(String key);
+
+    /**
+     * Armazena a resposta da chave reservada e libera as requisições em espera
+     */
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * Libera a chave reservada sem armazenar resposta (ex: erro 5xx ou corpo grande demais)
+     */
+    void release(String key);
+}
@@ -0,0 +1,15 @@
+package com.fiap.libs.exception.core.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resposta armazenada para replay de requisições com o mesmo Idempotency-Key
+ *
+ * @param status Status HTTP da resposta original
+ * @param headers Headers da resposta original (sem headers de conexão e cookies)
+ * @param body Corpo da resposta original
+ * @param requestHash SHA-256 do corpo da requisição original, comparado com o das repetições
+ */
+public record IdempotentResponse(int status, Map<String, List<String>> headers, byte[] body, String requestHash) {
+}
@@ -0,0 +1,156 @@
+package com.fiap.libs.exception.core.idempotency;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * IdempotencyStore em memória, com TTL e quantidade máxima de chaves
+ *
+ * <p>Entradas expiradas são removidas no acesso e em varreduras feitas quando o limite é
+ * atingido; se ainda assim não houver espaço, as respostas concluídas mais antigas são
+ * despejadas (chaves em andamento dentro do TTL nunca são despejadas). Ao remover uma chave em
+ * andamento já expirada, quem aguarda o seu future é liberado com null, como em acquire.</p>
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    public InMemoryIdempotencyStore(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    InMemoryIdempotencyStore(Duration ttl, int maxEntries, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+    }
+
+    @Override
+    public CompletableFuture<IdempotentResponse> acquire(String key) {
+        for (;;) {
+            long now = clock.getAsLong();
+            Entry existing = entries.get(key);
+
+            if (existing != null && existing.isExpired(now)) {
+                if (entries.remove(key, existing)) {
+                    existing.future.complete(null);
+                }
+                continue;
+            }
+            if (existing != null) {
+                return existing.future;
+            }
+
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+            if (entries.putIfAbsent(key, new Entry(now + ttlNanos)) == null) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.completedAt = clock.getAsLong();
+            entry.expiresAt = entry.completedAt + ttlNanos;
+            entry.future.complete(response);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            entry.future.complete(null);
+        }
+    }
+
+    /**
+     * Quantidade de chaves armazenadas (em andamento e concluídas)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove as expiradas; se não bastar, despeja ~1/8 das respostas concluídas mais antigas
+     */
+    private synchronized void evict(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        Iterator<Map.Entry<String, Entry>> expired = entries.entrySet().iterator();
+        while (expired.hasNext()) {
+            Entry entry = expired.next().getValue();
+            if (entry.isExpired(now)) {
+                expired.remove();
+                // Em andamento: libera quem aguarda, já que complete(key) não encontrará mais a entrada
+                entry.future.complete(null);
+            }
+        }
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 8);
+        if (excess <= 0) {
+            return;
+        }
+
+        long threshold = completedAtPercentile(excess);
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && excess > 0) {
+            Entry entry = iterator.next().getValue();
+            if (entry.future.isDone() && entry.completedAt <= threshold) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * Maior completedAt entre as {@code count} respostas concluídas mais antigas (aproximado por amostragem)
+     */
+    private long completedAtPercentile(int count) {
+        long[] sample = new long[Math.min(entries.size(), 1024)];
+        int size = 0;
+        int completed = 0;
+        for (Entry entry : entries.values()) {
+            if (!entry.future.isDone()) {
+                continue;
+            }
+            completed++;
+            if (size < sample.length) {
+                sample[size++] = entry.completedAt;
+            }
+        }
+        if (size == 0) {
+            return Long.MIN_VALUE;
+        }
+        Arrays.sort(sample, 0, size);
+        int index = (int) Math.min(size - 1, (long) count * size / Math.max(1, completed));
+        return sample[index];
+    }
+
+    private static final class Entry {
+        final CompletableFuture<IdempotentResponse> future = new CompletableFuture<>();
+        volatile long expiresAt;
+        volatile long completedAt = Long.MAX_VALUE;
+
+        Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
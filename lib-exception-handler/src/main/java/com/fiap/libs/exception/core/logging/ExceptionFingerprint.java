@@ -0,0 +1,66 @@
+package com.fiap.libs.exception.core.logging;
+
+/**
+ * Identificação de exceções "semelhantes": classe da exceção, primeiros frames do stack trace
+ * e classe da causa raiz. A mensagem não participa, pois normalmente contém ids variáveis
+ *
+ * @param hash Hash de 64 bits que identifica a exceção
+ * @param exceptionClass Nome completo da classe da exceção
+ * @param location Frame onde a exceção foi lançada
+ */
+public record ExceptionFingerprint(long hash, String exceptionClass, String location) {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Calcula o fingerprint de uma exceção
+     *
+     * @param ex Exceção
+     * @param stackDepth Quantidade de frames considerados
+     * @return Fingerprint da exceção
+     */
+    public static ExceptionFingerprint of(Throwable ex, int stackDepth) {
+        long hash = mix(FNV_OFFSET, ex.getClass().getName());
+
+        StackTraceElement[] frames = ex.getStackTrace();
+        int depth = Math.min(stackDepth, frames.length);
+        for (int i = 0; i < depth; i++) {
+            StackTraceElement frame = frames[i];
+            hash = mix(hash, frame.getClassName());
+            hash = mix(hash, frame.getMethodName());
+            hash = (hash ^ frame.getLineNumber()) * FNV_PRIME;
+        }
+
+        Throwable root = rootCause(ex);
+        if (root != ex) {
+            hash = mix(hash, root.getClass().getName());
+        }
+
+        String location = frames.length > 0 ? frames[0].toString() : "unknown";
+        return new ExceptionFingerprint(hash, ex.getClass().getName(), location);
+    }
+
+    /**
+     * Identificador curto (hexadecimal) para logs
+     */
+    public String id() {
+        return Long.toHexString(hash);
+    }
+
+    private static long mix(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static Throwable rootCause(Throwable ex) {
+        Throwable current = ex;
+        while (current.getCause() != null && current.getCause() != current) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
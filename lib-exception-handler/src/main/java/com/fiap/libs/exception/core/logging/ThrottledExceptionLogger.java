@@ -0,0 +1,210 @@
+package com.fiap.libs.exception.core.logging;
+
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Log de exceções com proteção contra tempestades de erros
+ *
+ * <p>Exceções são agrupadas por {@link ExceptionFingerprint}. Em cada janela, as primeiras
+ * ocorrências de um fingerprint são logadas por completo e as demais apenas contabilizadas;
+ * ao fim da janela é emitido um resumo "suppressed X similar errors". Os logs são escritos no
+ * logger de quem chama (ex.: o do handler), preservando a categoria configurada pela aplicação.
+ * As mensagens usam formatação parametrizada e nada é calculado quando o nível de log está
+ * desabilitado.</p>
+ *
+ * <p>Com a tabela de fingerprints cheia, exceções novas caem em um bucket de transbordo com
+ * orçamento próprio ({@code overflow-logs-per-window}), para não silenciar nem inundar o log, e o
+ * total suprimido é reportado ao fim de cada janela.</p>
+ */
+public class ThrottledExceptionLogger implements AutoCloseable {
+
+    private static final String LOG_PATTERN = "[{}] {}: {}";
+    private static final String SUMMARY_PATTERN = "Suppressed {} similar errors in the last {}: {} at {} (fingerprint {})";
+    private static final String OVERFLOW_SUMMARY_PATTERN = "Suppressed {} errors in the last {} from untracked fingerprints "
+            + "(fingerprint table full, {} tracked)";
+
+    private final ExceptionHandlerProperties.Logging config;
+    private final long windowNanos;
+    private final String windowLabel;
+    private final Map<Long, Occurrences> occurrences = new ConcurrentHashMap<>();
+    private final Occurrences overflow;
+    private final ScheduledExecutorService scheduler;
+
+    public ThrottledExceptionLogger(ExceptionHandlerProperties.Logging config) {
+        this.config = config;
+        this.windowNanos = config.getWindow().toNanos();
+        long windowMillis = config.getWindow().toMillis();
+        this.windowLabel = windowMillis % 1000 == 0 ? (windowMillis / 1000) + "s" : windowMillis + "ms";
+        this.overflow = new Occurrences(null, LogLevel.WARN, config.getOverflowLogsPerWindow(), System.nanoTime());
+
+        if (config.isThrottleEnabled()) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "exception-log-summary");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long periodMillis = Math.max(1L, config.getWindow().toMillis());
+            scheduler.scheduleAtFixedRate(this::flush, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Calcula o fingerprint de uma exceção com a profundidade configurada
+     * O handler calcula uma única vez e repassa ao log e ao {@code TopExceptionsStore}
+     */
+    public ExceptionFingerprint fingerprint(Throwable ex) {
+        return ExceptionFingerprint.of(ex, config.getStackDepth());
+    }
+
+    /**
+     * Loga uma exceção respeitando o nível e o limite por fingerprint
+     * CRITICAL inclui o stack trace
+     *
+     * @param logger Logger de quem chama; também recebe o resumo das ocorrências suprimidas
+     * @param traceId ID de rastreamento
+     * @param ex Exceção
+     * @param fingerprint Fingerprint da exceção (ver {@link #fingerprint(Throwable)})
+     * @param logLevel Nível de log
+     */
+    public void log(Logger logger, String traceId, Throwable ex, ExceptionFingerprint fingerprint, LogLevel logLevel) {
+        if (!isEnabled(logger, logLevel)) {
+            return;
+        }
+        if (!config.isThrottleEnabled()) {
+            write(logger, logLevel, traceId, ex);
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        Occurrences current = occurrences.get(fingerprint.hash());
+        if (current == null) {
+            current = occurrences.size() < config.getMaxFingerprints()
+                    ? occurrences.computeIfAbsent(fingerprint.hash(),
+                            hash -> new Occurrences(fingerprint, logLevel, config.getFullLogsPerWindow(), now))
+                    : overflow;
+        }
+
+        current.logger = logger;
+        current.lastSeen = now;
+        current.rollIfExpired(now);
+        if (current.count.incrementAndGet() <= current.budget) {
+            write(logger, logLevel, traceId, ex);
+        } else {
+            current.suppressed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Emite os resumos das janelas encerradas e descarta fingerprints ociosos
+     */
+    void flush() {
+        long now = System.nanoTime();
+        occurrences.values().removeIf(entry -> {
+            entry.rollIfExpired(now);
+            return now - entry.lastSeen > 2 * windowNanos && entry.suppressed.get() == 0;
+        });
+        overflow.rollIfExpired(now);
+    }
+
+    /**
+     * Interrompe o agendamento e reporta as ocorrências suprimidas da janela em andamento
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        occurrences.values().forEach(Occurrences::roll);
+        overflow.roll();
+    }
+
+    private static void write(Logger logger, LogLevel logLevel, String traceId, Throwable ex) {
+        String exceptionName = ex.getClass().getSimpleName();
+        switch (logLevel) {
+            case INFO -> logger.info(LOG_PATTERN, traceId, exceptionName, ex.getMessage());
+            case WARN -> logger.warn(LOG_PATTERN, traceId, exceptionName, ex.getMessage());
+            case ERROR -> logger.error(LOG_PATTERN, traceId, exceptionName, ex.getMessage());
+            case CRITICAL -> logger.error(LOG_PATTERN, traceId, exceptionName, ex.getMessage(), ex);
+        }
+    }
+
+    private void writeSummary(Occurrences entry, long suppressed) {
+        Logger logger = entry.logger;
+        ExceptionFingerprint fingerprint = entry.fingerprint;
+        if (fingerprint == null) {
+            logger.warn(OVERFLOW_SUMMARY_PATTERN, suppressed, windowLabel, occurrences.size());
+            return;
+        }
+        switch (entry.logLevel) {
+            case INFO -> logger.info(SUMMARY_PATTERN, suppressed, windowLabel,
+                    fingerprint.exceptionClass(), fingerprint.location(), fingerprint.id());
+            case WARN -> logger.warn(SUMMARY_PATTERN, suppressed, windowLabel,
+                    fingerprint.exceptionClass(), fingerprint.location(), fingerprint.id());
+            case ERROR, CRITICAL -> logger.error(SUMMARY_PATTERN, suppressed, windowLabel,
+                    fingerprint.exceptionClass(), fingerprint.location(), fingerprint.id());
+        }
+    }
+
+    private static boolean isEnabled(Logger logger, LogLevel logLevel) {
+        return switch (logLevel) {
+            case INFO -> logger.isInfoEnabled();
+            case WARN -> logger.isWarnEnabled();
+            case ERROR, CRITICAL -> logger.isErrorEnabled();
+        };
+    }
+
+    /**
+     * Contadores de um fingerprint (ou do bucket de transbordo, sem fingerprint) na janela corrente
+     */
+    private final class Occurrences {
+
+        private final ExceptionFingerprint fingerprint;
+        private final LogLevel logLevel;
+        private final int budget;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private volatile Logger logger;
+        private volatile long windowStart;
+        private volatile long lastSeen;
+
+        private Occurrences(ExceptionFingerprint fingerprint, LogLevel logLevel, int budget, long windowStart) {
+            this.fingerprint = fingerprint;
+            this.logLevel = logLevel;
+            this.budget = budget;
+            this.windowStart = windowStart;
+            this.lastSeen = windowStart;
+        }
+
+        private void rollIfExpired(long now) {
+            if (now - windowStart < windowNanos) {
+                return;
+            }
+            synchronized (this) {
+                if (now - windowStart < windowNanos) {
+                    return;
+                }
+                windowStart = now;
+                roll();
+            }
+        }
+
+        private synchronized void roll() {
+            count.set(0);
+            long suppressedInWindow = suppressed.getAndSet(0);
+            if (suppressedInWindow > 0) {
+                writeSummary(this, suppressedInWindow);
+            }
+        }
+    }
+}
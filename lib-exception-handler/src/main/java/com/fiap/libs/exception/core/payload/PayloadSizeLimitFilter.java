@@ -0,0 +1,102 @@
+package com.fiap.libs.exception.core.payload;
+
+import com.fiap.libs.exception.api.exceptions.request.PayloadTooLargeException;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Filtro que aplica o limite de tamanho do corpo antes da desserialização
+ *
+ * <ul>
+ *   <li>Content-Length acima do limite: rejeita imediatamente, sem ler o corpo</li>
+ *   <li>Corpo chunked: a leitura é interrompida assim que o limite é ultrapassado</li>
+ * </ul>
+ *
+ * O limite é resolvido pela primeira rota configurada que casar com o caminho
+ * (ou pelo limite padrão), e a rejeição produz o ErrorResponse padrão (413)
+ */
+public class PayloadSizeLimitFilter extends OncePerRequestFilter {
+
+    private final long defaultMaxBytes;
+    private final List<RouteLimit> routeLimits;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public PayloadSizeLimitFilter(
+            ExceptionHandlerProperties.Payload config,
+            HandlerExceptionResolver exceptionResolver) {
+
+        this.defaultMaxBytes = config.getMaxSize().toBytes();
+        this.exceptionResolver = exceptionResolver;
+        this.routeLimits = config.getRoutes().stream()
+                .map(route -> {
+                    if (route.getPattern() == null || route.getPattern().isBlank()) {
+                        throw new IllegalArgumentException(
+                                "exception-handler.payload.routes[].pattern must be set for every route");
+                    }
+                    // Sem max-size a rota usa o limite padrão
+                    long maxBytes = route.getMaxSize() != null ? route.getMaxSize().toBytes() : defaultMaxBytes;
+                    return new RouteLimit(PathPatternParser.defaultInstance.parse(route.getPattern()), maxBytes);
+                })
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        long maxBytes = resolveLimit(request);
+        if (maxBytes < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxBytes) {
+            // Fecha a conexão para que o container não precise consumir o restante do corpo
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            exceptionResolver.resolveException(request, response, null, new PayloadTooLargeException(maxBytes));
+            return;
+        }
+
+        // Com Content-Length conhecido o container já garante o tamanho do corpo
+        HttpServletRequest limitedRequest = contentLength >= 0
+                ? request
+                : new SizeLimitedRequestWrapper(request, maxBytes);
+
+        filterChain.doFilter(limitedRequest, response);
+    }
+
+    /**
+     * Resolve o limite da rota (valores negativos desabilitam o limite)
+     */
+    private long resolveLimit(HttpServletRequest request) {
+        if (routeLimits.isEmpty()) {
+            return defaultMaxBytes;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RouteLimit routeLimit : routeLimits) {
+            if (routeLimit.pattern().matches(path)) {
+                return routeLimit.maxBytes();
+            }
+        }
+        return defaultMaxBytes;
+    }
+
+    private record RouteLimit(PathPattern pattern, long maxBytes) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.fiap.libs.exception.core.payload;
+
+import com.fiap.libs.exception.api.exceptions.request.PayloadTooLargeException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wrapper que conta os bytes lidos do corpo da requisição e interrompe a leitura
+ * com PayloadTooLargeException assim que o limite é ultrapassado
+ * Usado para corpos sem Content-Length (chunked), que não podem ser validados antecipadamente
+ *
+ * <p>A leitura não bloqueante ({@link ServletInputStream#setReadListener}) entrega o excesso ao
+ * {@link ReadListener#onError}. Formulários (x-www-form-urlencoded) são lidos por este wrapper
+ * no primeiro {@code getParameter*}, já que o parse do container leria o corpo sem limite.</p>
+ */
+class SizeLimitedRequestWrapper extends HttpServletRequestWrapper {
+
+    private final long maxBytes;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+    private Map<String, String[]> parameters;
+
+    SizeLimitedRequestWrapper(HttpServletRequest request, long maxBytes) {
+        super(request);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new SizeLimitedInputStream(super.getInputStream(), maxBytes);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset()));
+        }
+        return reader;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = getParameterMap().get(name);
+        return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(getParameterMap().keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return getParameterMap().get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        if (parameters == null) {
+            parameters = isFormBody() ? readFormParameters() : super.getParameterMap();
+        }
+        return parameters;
+    }
+
+    /**
+     * Corpo de formulário ainda não lido pela aplicação (depois de getInputStream/getReader o
+     * container também não expõe os parâmetros do corpo)
+     */
+    private boolean isFormBody() {
+        String contentType = getContentType();
+        return inputStream == null
+                && contentType != null
+                && contentType.regionMatches(true, 0, MediaType.APPLICATION_FORM_URLENCODED_VALUE, 0,
+                        MediaType.APPLICATION_FORM_URLENCODED_VALUE.length())
+                && !"GET".equals(getMethod());
+    }
+
+    /**
+     * Lê o corpo pelo stream limitado e o combina com os parâmetros da query string
+     * (o container não lê mais o corpo depois que o stream foi obtido)
+     */
+    private Map<String, String[]> readFormParameters() {
+        byte[] body;
+        try {
+            body = getInputStream().readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        super.getParameterMap().forEach((name, queryValues) ->
+                values.computeIfAbsent(name, key -> new ArrayList<>()).addAll(List.of(queryValues)));
+
+        Charset charset = charset();
+        for (String pair : new String(body, StandardCharsets.ISO_8859_1).split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), charset);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), charset);
+            values.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+
+        Map<String, String[]> result = new LinkedHashMap<>();
+        values.forEach((name, list) -> result.put(name, list.toArray(String[]::new)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Charset charset() {
+        String encoding = getCharacterEncoding();
+        return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+
+    private static final class SizeLimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final long maxBytes;
+        private long bytesRead;
+
+        private SizeLimitedInputStream(ServletInputStream delegate, long maxBytes) {
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) {
+            bytesRead += read;
+            if (bytesRead > maxBytes) {
+                throw new PayloadTooLargeException(maxBytes);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        /**
+         * O excesso detectado dentro de onDataAvailable vai para onError, como as demais falhas
+         * de leitura não bloqueante, em vez de escapar para o container
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    try {
+                        readListener.onDataAvailable();
+                    } catch (PayloadTooLargeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    readListener.onAllDataRead();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    readListener.onError(throwable);
+                }
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fiap.libs.exception.core.ratelimit;
+
+import com.fiap.libs.exception.api.exceptions.request.TooManyRequestsException;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Filtro global de rate limiting
+ * Rejeições são delegadas ao HandlerExceptionResolver para que o ClientErrorHandler
+ * produza o ErrorResponse padrão (429 + Retry-After)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ExceptionHandlerProperties.RateLimit config;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final List<PathPattern> excludePatterns;
+
+    public RateLimitFilter(
+            ExceptionHandlerProperties.RateLimit config,
+            HandlerExceptionResolver exceptionResolver) {
+
+        this.config = config;
+        this.exceptionResolver = exceptionResolver;
+        this.rateLimiter = new TokenBucketRateLimiter(
+                config.getPermits(),
+                config.getPeriod(),
+                config.getBurst(),
+                config.getMaxKeys());
+        this.excludePatterns = config.getExcludePaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (excludePatterns.isEmpty()) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : excludePatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String key = RateLimitKeyResolver.resolve(request, config.getKey(), config.getHeader());
+        long waitNanos = rateLimiter.tryAcquire(key);
+
+        if (waitNanos > 0) {
+            TooManyRequestsException ex = new TooManyRequestsException(
+                    TokenBucketRateLimiter.toRetryAfterSeconds(waitNanos));
+            exceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
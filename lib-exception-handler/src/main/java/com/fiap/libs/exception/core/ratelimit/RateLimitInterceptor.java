@@ -0,0 +1,74 @@
+package com.fiap.libs.exception.core.ratelimit;
+
+import com.fiap.libs.exception.api.annotation.RateLimit;
+import com.fiap.libs.exception.api.exceptions.request.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interceptor que aplica {@link RateLimit} nos handlers anotados
+ * Cada método anotado possui seu próprio limitador, criado na primeira requisição;
+ * a anotação no nível da classe compartilha um único limitador entre os endpoints do controller
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Limiter UNLIMITED = new Limiter(null, null);
+
+    private final int maxKeys;
+    private final Map<Method, Limiter> limiters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Limiter> typeLimiters = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        Limiter limiter = limiters.computeIfAbsent(handlerMethod.getMethod(),
+                method -> createLimiter(handlerMethod));
+        if (limiter == UNLIMITED) {
+            return true;
+        }
+
+        RateLimit rule = limiter.rule();
+        String key = RateLimitKeyResolver.resolve(request, rule.key(), rule.header());
+        long waitNanos = limiter.rateLimiter().tryAcquire(key);
+
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(TokenBucketRateLimiter.toRetryAfterSeconds(waitNanos));
+        }
+        return true;
+    }
+
+    private Limiter createLimiter(HandlerMethod handlerMethod) {
+        RateLimit rule = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RateLimit.class);
+        if (rule != null) {
+            return newLimiter(rule);
+        }
+
+        return typeLimiters.computeIfAbsent(handlerMethod.getBeanType(), type -> {
+            RateLimit typeRule = AnnotatedElementUtils.findMergedAnnotation(type, RateLimit.class);
+            return typeRule != null ? newLimiter(typeRule) : UNLIMITED;
+        });
+    }
+
+    private Limiter newLimiter(RateLimit rule) {
+        Duration period = Duration.of(rule.period(), rule.unit());
+        return new Limiter(rule, new TokenBucketRateLimiter(rule.permits(), period, rule.burst(), maxKeys));
+    }
+
+    private record Limiter(RateLimit rule, TokenBucketRateLimiter rateLimiter) {
+    }
+}
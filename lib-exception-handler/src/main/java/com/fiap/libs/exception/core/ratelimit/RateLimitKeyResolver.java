@@ -0,0 +1,39 @@
+package com.fiap.libs.exception.core.ratelimit;
+
+import com.fiap.libs.exception.api.enums.RateLimitKeyType;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+
+/**
+ * Resolve a chave de rate limiting de uma requisição conforme a estratégia configurada
+ * Estratégias sem valor disponível (anônimo, header ausente) caem para o IP do cliente
+ */
+public final class RateLimitKeyResolver {
+
+    private RateLimitKeyResolver() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Resolve a chave da requisição
+     *
+     * @param request Requisição HTTP
+     * @param keyType Estratégia de chave
+     * @param header Header usado quando keyType = HEADER
+     * @return Chave que identifica o cliente
+     */
+    public static String resolve(HttpServletRequest request, RateLimitKeyType keyType, String header) {
+        return switch (keyType) {
+            case IP -> request.getRemoteAddr();
+            case PRINCIPAL -> {
+                Principal principal = request.getUserPrincipal();
+                yield principal != null ? principal.getName() : request.getRemoteAddr();
+            }
+            case HEADER -> {
+                String value = header == null || header.isEmpty() ? null : request.getHeader(header);
+                yield value != null && !value.isBlank() ? value : request.getRemoteAddr();
+            }
+        };
+    }
+}
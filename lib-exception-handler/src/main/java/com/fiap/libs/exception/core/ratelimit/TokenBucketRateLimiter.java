@@ -0,0 +1,171 @@
+package com.fiap.libs.exception.core.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket por chave, lock-free e com memória limitada
+ *
+ * <p>Cada bucket é representado por um único long (Theoretical Arrival Time, algoritmo GCRA),
+ * o que permite consumir um token com um único compareAndSet. As chaves ficam em uma tabela
+ * de endereçamento aberto de tamanho fixo (striped por hash): quando todos os slots da janela
+ * de sondagem estão ocupados, o bucket mais ocioso é despejado.</p>
+ *
+ * <p>Um despejo reinicia o bucket da nova chave cheio, portanto o limite é aproximado quando
+ * a quantidade de chaves ativas excede a capacidade da tabela. Se a janela de sondagem continuar
+ * disputada após algumas tentativas, a requisição é permitida (falha aberta) em vez de ser
+ * limitada pelo bucket de outra chave.</p>
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final long EMPTY = 0L;
+    private static final int MAX_PROBES = 8;
+    private static final int MAX_EVICTION_ATTEMPTS = 4;
+    private static final int NO_SLOT = -1;
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final int mask;
+    private final AtomicLongArray keys;
+    private final AtomicLongArray arrivals;
+    private final LongSupplier clock;
+    private final long origin;
+
+    public TokenBucketRateLimiter(long permits, Duration period, int burst, int maxKeys) {
+        this(permits, period, burst, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(long permits, Duration period, int burst, int maxKeys, LongSupplier clock) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be greater than zero");
+        }
+        if (period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+
+        int capacity = burst > 0 ? burst : (int) Math.min(permits, Integer.MAX_VALUE);
+        int tableSize = tableSizeFor(Math.max(maxKeys, MAX_PROBES));
+
+        this.emissionIntervalNanos = Math.max(1L, period.toNanos() / permits);
+        this.burstWindowNanos = emissionIntervalNanos * capacity;
+        this.mask = tableSize - 1;
+        this.keys = new AtomicLongArray(tableSize);
+        this.arrivals = new AtomicLongArray(tableSize);
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    /**
+     * Tenta consumir um token para a chave
+     *
+     * @param key Identificador do cliente
+     * @return 0 se a requisição foi permitida, ou o tempo (nanos) até o próximo token disponível
+     */
+    public long tryAcquire(String key) {
+        long fingerprint = fingerprint(key);
+
+        for (int attempt = 0; attempt < MAX_EVICTION_ATTEMPTS; attempt++) {
+            int slot = slotFor(fingerprint);
+            if (slot == NO_SLOT) {
+                break;
+            }
+
+            long wait = consume(slot);
+            // Se outra chave despejou o slot durante o consumo, a espera é do bucket dela: sonda novamente
+            if (wait == 0 || keys.get(slot) == fingerprint) {
+                return wait;
+            }
+        }
+        return 0L;
+    }
+
+    private long consume(int slot) {
+        for (;;) {
+            long now = clock.getAsLong() - origin;
+            long arrival = arrivals.get(slot);
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            long excess = next - now - burstWindowNanos;
+
+            if (excess > 0) {
+                return excess;
+            }
+            if (arrivals.compareAndSet(slot, arrival, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Converte o tempo de espera em segundos para o header Retry-After (mínimo 1)
+     */
+    public static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    /**
+     * Localiza (ou reserva) o slot da chave dentro da janela de sondagem
+     *
+     * @return Slot da chave, ou {@link #NO_SLOT} se outras threads venceram todas as tentativas de despejo
+     */
+    private int slotFor(long fingerprint) {
+        int start = spread(fingerprint) & mask;
+
+        for (int attempt = 0; attempt < MAX_EVICTION_ATTEMPTS; attempt++) {
+            int victim = start;
+            long victimKey = EMPTY;
+            long victimArrival = Long.MAX_VALUE;
+
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (start + probe) & mask;
+                long current = keys.get(slot);
+
+                if (current == fingerprint) {
+                    return slot;
+                }
+                if (current == EMPTY) {
+                    if (keys.compareAndSet(slot, EMPTY, fingerprint) || keys.get(slot) == fingerprint) {
+                        return slot;
+                    }
+                    continue;
+                }
+
+                long arrival = arrivals.get(slot);
+                if (arrival < victimArrival) {
+                    victim = slot;
+                    victimKey = current;
+                    victimArrival = arrival;
+                }
+            }
+
+            // Despeja o bucket mais ocioso (buckets com arrival <= now já estão cheios); se outra
+            // thread ocupou o slot nesse meio tempo, sonda novamente
+            if (victimKey != EMPTY && keys.compareAndSet(victim, victimKey, fingerprint)) {
+                arrivals.set(victim, Math.min(victimArrival, clock.getAsLong() - origin));
+                return victim;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits (0 é reservado para slot vazio)
+     */
+    private static long fingerprint(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    private static int spread(long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32));
+    }
+
+    private static int tableSizeFor(int maxKeys) {
+        int size = Integer.highestOneBit(maxKeys - 1) << 1;
+        return size <= 0 ? 1 << 30 : size;
+    }
+}
@@ -7,6 +7,8 @@ import com.fiap.libs.exception.api.exceptions.auth.TokenRevocationException;
 import com.fiap.libs.exception.api.exceptions.request.*;
 import com.fiap.libs.exception.api.exceptions.resource.ResourceAlreadyExistsException;
 import com.fiap.libs.exception.api.exceptions.resource.ResourceNotFoundException;
+import com.fiap.libs.exception.api.exceptions.system.DatabaseException;
+import com.fiap.libs.exception.api.exceptions.system.TransientDatabaseException;
 import com.fiap.libs.exception.api.exceptions.validation.InvalidFormatException;
 import com.fiap.libs.exception.api.exceptions.validation.InvalidParameterException;
 import com.fiap.libs.exception.api.exceptions.validation.MissingRequiredFieldException;
@@ -59,6 +61,14 @@ public class ExceptionMetadataRegistry {
                 HttpStatus.CONFLICT,
                 LogLevel.WARN);
 
+        this.register(ConflictException.class,
+                HttpStatus.CONFLICT,
+                LogLevel.WARN);
+
+        this.register(IdempotencyKeyReusedException.class,
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                LogLevel.WARN);
+
         this.register(UnsupportedMediaTypeException.class,
                 HttpStatus.UNSUPPORTED_MEDIA_TYPE,
                 LogLevel.ERROR);
@@ -102,6 +112,14 @@ public class ExceptionMetadataRegistry {
                 HttpStatus.UNAUTHORIZED,
                 LogLevel.ERROR
         );
+
+        this.register(DatabaseException.class,
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                LogLevel.ERROR);
+
+        this.register(TransientDatabaseException.class,
+                HttpStatus.SERVICE_UNAVAILABLE,
+                LogLevel.WARN);
     }
 
     /**
@@ -0,0 +1,36 @@
+package com.fiap.libs.exception.core.stats;
+
+import com.fiap.libs.exception.core.logging.LogLevel;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Snapshot das estatísticas de um fingerprint de exceção
+ *
+ * @param fingerprint Identificador do fingerprint
+ * @param exceptionClass Classe da exceção
+ * @param location Frame onde a exceção foi lançada
+ * @param httpStatus Status HTTP retornado (ExceptionMetadataRegistry)
+ * @param logLevel Nível de log configurado (ExceptionMetadataRegistry)
+ * @param count Quantidade estimada de ocorrências
+ * @param maxOverestimation Erro máximo da contagem (herdado de um fingerprint despejado)
+ * @param firstSeen Primeira ocorrência
+ * @param lastSeen Última ocorrência
+ * @param sampleTraceId TraceId de uma ocorrência, para busca nos logs
+ * @param routes Rotas afetadas (limitadas)
+ */
+public record ExceptionStats(
+        String fingerprint,
+        String exceptionClass,
+        String location,
+        int httpStatus,
+        LogLevel logLevel,
+        long count,
+        long maxOverestimation,
+        Instant firstSeen,
+        Instant lastSeen,
+        String sampleTraceId,
+        Set<String> routes
+) {
+}
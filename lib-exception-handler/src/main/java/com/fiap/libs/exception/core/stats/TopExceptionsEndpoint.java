@@ -0,0 +1,49 @@
+package com.fiap.libs.exception.core.stats;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Endpoint do Actuator com os fingerprints de exceção mais frequentes
+ * Exposição: management.endpoints.web.exposure.include=exceptions
+ *
+ * <ul>
+ *   <li>GET /actuator/exceptions - top ofensores</li>
+ *   <li>DELETE /actuator/exceptions - reinicia as estatísticas</li>
+ * </ul>
+ */
+@Endpoint(id = "exceptions")
+public class TopExceptionsEndpoint {
+
+    private final TopExceptionsStore store;
+
+    public TopExceptionsEndpoint(TopExceptionsStore store) {
+        this.store = store;
+    }
+
+    @ReadOperation
+    public TopExceptionsReport topExceptions() {
+        return new TopExceptionsReport(
+                store.capacity(),
+                store.totalRecorded(),
+                store.top(store.capacity()));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        store.reset();
+    }
+
+    /**
+     * Resposta do endpoint
+     *
+     * @param capacity Quantidade máxima de fingerprints rastreados
+     * @param totalRecorded Total de ocorrências registradas
+     * @param exceptions Fingerprints em ordem decrescente de contagem
+     */
+    public record TopExceptionsReport(int capacity, long totalRecorded, List<ExceptionStats> exceptions) {
+    }
+}
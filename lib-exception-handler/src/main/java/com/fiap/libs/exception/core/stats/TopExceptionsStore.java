@@ -0,0 +1,173 @@
+package com.fiap.libs.exception.core.stats;
+
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import com.fiap.libs.exception.core.logging.ExceptionFingerprint;
+import com.fiap.libs.exception.core.logging.LogLevel;
+import com.fiap.libs.exception.core.registry.ExceptionMetadata;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Top-K em memória dos fingerprints de exceção mais frequentes (algoritmo Space-Saving)
+ *
+ * <p>Mantém no máximo {@code capacity} fingerprints. Ocorrências de fingerprints já rastreados
+ * apenas incrementam contadores atômicos; somente a entrada de um fingerprint novo com a
+ * tabela cheia adquire lock, despejando o de menor contagem (o novo herda essa contagem como
+ * erro máximo, garantindo que fingerprints realmente frequentes nunca saiam do top-K).</p>
+ */
+public class TopExceptionsStore {
+
+    private final ExceptionHandlerProperties.Stats config;
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final LongAdder totalRecorded = new LongAdder();
+    private final Object evictionLock = new Object();
+
+    /**
+     * @param config Configuração do top-K
+     */
+    public TopExceptionsStore(ExceptionHandlerProperties.Stats config) {
+        this.config = config;
+    }
+
+    /**
+     * Registra uma ocorrência
+     *
+     * @param fingerprint Fingerprint da exceção, o mesmo usado nos logs
+     * @param metadata Metadados da exceção (status HTTP e nível de log)
+     * @param route Rota afetada (padrão do mapping, quando disponível)
+     * @param traceId ID de rastreamento da ocorrência
+     */
+    public void record(ExceptionFingerprint fingerprint, ExceptionMetadata metadata, String route, String traceId) {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        totalRecorded.increment();
+
+        Counter counter = counters.get(fingerprint.hash());
+        if (counter == null) {
+            counter = admit(fingerprint, metadata, traceId, now);
+        }
+        counter.hit(route, now, config.getMaxRoutes());
+    }
+
+    /**
+     * Retorna os fingerprints mais frequentes, em ordem decrescente de contagem
+     *
+     * @param limit Quantidade máxima de entradas
+     */
+    public List<ExceptionStats> top(int limit) {
+        return counters.values().stream()
+                .map(Counter::snapshot)
+                .sorted(Comparator.comparingLong(ExceptionStats::count).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Total de ocorrências registradas desde o último reset
+     */
+    public long totalRecorded() {
+        return totalRecorded.sum();
+    }
+
+    public int capacity() {
+        return config.getCapacity();
+    }
+
+    /**
+     * Descarta todas as estatísticas
+     */
+    public void reset() {
+        synchronized (evictionLock) {
+            counters.clear();
+            totalRecorded.reset();
+        }
+    }
+
+    private Counter admit(ExceptionFingerprint fingerprint, ExceptionMetadata metadata, String traceId, long now) {
+        synchronized (evictionLock) {
+            Counter existing = counters.get(fingerprint.hash());
+            if (existing != null) {
+                return existing;
+            }
+
+            long inheritedCount = 0;
+            if (counters.size() >= config.getCapacity()) {
+                Counter minimum = null;
+                for (Counter candidate : counters.values()) {
+                    if (minimum == null || candidate.count.get() < minimum.count.get()) {
+                        minimum = candidate;
+                    }
+                }
+                if (minimum != null) {
+                    counters.remove(minimum.fingerprint.hash());
+                    inheritedCount = minimum.count.get();
+                }
+            }
+
+            Counter counter = new Counter(fingerprint, metadata, traceId, inheritedCount, now);
+            counters.put(fingerprint.hash(), counter);
+            return counter;
+        }
+    }
+
+    /**
+     * Contadores de um fingerprint
+     */
+    private static final class Counter {
+
+        private final ExceptionFingerprint fingerprint;
+        private final int httpStatus;
+        private final LogLevel logLevel;
+        private final String sampleTraceId;
+        private final long overestimation;
+        private final long firstSeen;
+        private final AtomicLong count;
+        private final Set<String> routes = ConcurrentHashMap.newKeySet();
+        private volatile long lastSeen;
+
+        private Counter(ExceptionFingerprint fingerprint, ExceptionMetadata metadata, String sampleTraceId,
+                        long inheritedCount, long now) {
+            this.fingerprint = fingerprint;
+            this.httpStatus = metadata.getHttpStatus().value();
+            this.logLevel = metadata.getLogLevel();
+            this.sampleTraceId = sampleTraceId;
+            this.overestimation = inheritedCount;
+            this.count = new AtomicLong(inheritedCount);
+            this.firstSeen = now;
+            this.lastSeen = now;
+        }
+
+        private void hit(String route, long now, int maxRoutes) {
+            count.incrementAndGet();
+            lastSeen = now;
+            if (route != null && routes.size() < maxRoutes) {
+                routes.add(route);
+            }
+        }
+
+        private ExceptionStats snapshot() {
+            return new ExceptionStats(
+                    fingerprint.id(),
+                    fingerprint.exceptionClass(),
+                    fingerprint.location(),
+                    httpStatus,
+                    logLevel,
+                    count.get(),
+                    overestimation,
+                    Instant.ofEpochMilli(firstSeen),
+                    Instant.ofEpochMilli(lastSeen),
+                    sampleTraceId,
+                    Set.copyOf(routes));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.fiap.libs.exception.core.validation;
+
+import com.fiap.libs.exception.api.model.CustomFieldError;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import org.springframework.validation.FieldError;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversão limitada de erros de validação em {@link CustomFieldError}
+ *
+ * <p>Apenas os primeiros {@code max-errors} erros são convertidos, o rejectedValue é truncado
+ * (coleções e mapas viram apenas um resumo com o tamanho) e o resumo para log considera no
+ * máximo {@code max-logged-errors} erros. O restante é reportado como quantidade omitida.</p>
+ *
+ * <p>Quando a validação foi interrompida em {@code fail-fast-after} violações, o total é apenas um
+ * mínimo e {@link #truncated()} retorna true.</p>
+ */
+public final class BoundedFieldErrors {
+
+    private final List<CustomFieldError> errors;
+    private final int totalErrors;
+    private final boolean truncated;
+    private final String logSummary;
+
+    private BoundedFieldErrors(List<CustomFieldError> errors, int totalErrors, boolean truncated, String logSummary) {
+        this.errors = errors;
+        this.totalErrors = totalErrors;
+        this.truncated = truncated;
+        this.logSummary = logSummary;
+    }
+
+    /**
+     * Converte os erros de uma validação interrompida após {@code fail-fast-after} violações (Spring MVC)
+     *
+     * @param fieldErrors Erros de validação do Spring
+     * @param config Limites de validação
+     */
+    public static BoundedFieldErrors of(List<FieldError> fieldErrors, ExceptionHandlerProperties.Validation config) {
+        return of(fieldErrors, config, config.getFailFastAfter());
+    }
+
+    /**
+     * Converte os erros respeitando os limites configurados
+     *
+     * @param fieldErrors Erros de validação do Spring
+     * @param config Limites de validação
+     * @param failFastAfter Violações após as quais a validação foi interrompida (0 se não foi limitada)
+     */
+    public static BoundedFieldErrors of(
+            List<FieldError> fieldErrors,
+            ExceptionHandlerProperties.Validation config,
+            int failFastAfter) {
+
+        int total = fieldErrors.size();
+        int returned = Math.min(total, Math.max(0, config.getMaxErrors()));
+        int logged = Math.min(total, Math.max(0, config.getMaxLoggedErrors()));
+
+        List<CustomFieldError> errors = new ArrayList<>(returned);
+        for (int i = 0; i < returned; i++) {
+            errors.add(toCustomFieldError(fieldErrors.get(i), config.getMaxRejectedValueLength()));
+        }
+
+        StringBuilder summary = new StringBuilder(Math.min(logged, 64) * 32);
+        for (int i = 0; i < logged; i++) {
+            FieldError fieldError = fieldErrors.get(i);
+            if (i > 0) {
+                summary.append(", ");
+            }
+            summary.append(fieldError.getField()).append(": ").append(fieldError.getDefaultMessage());
+        }
+        boolean truncated = failFastAfter > 0 && total >= failFastAfter;
+        if (total > logged || truncated) {
+            summary.append(logged > 0 ? " " : "").append("(+").append(total - logged).append(truncated ? " or more)" : " more)");
+        }
+
+        return new BoundedFieldErrors(Collections.unmodifiableList(errors), total, truncated, summary.toString());
+    }
+
+    /**
+     * Erros que serão retornados na resposta
+     */
+    public List<CustomFieldError> errors() {
+        return errors;
+    }
+
+    /**
+     * Quantidade total de erros de validação (apenas um mínimo se {@link #truncated()})
+     */
+    public int totalErrors() {
+        return totalErrors;
+    }
+
+    /**
+     * Quantidade de erros não incluídos na resposta
+     */
+    public int omittedErrors() {
+        return totalErrors - errors.size();
+    }
+
+    /**
+     * Indica que a validação parou em {@code fail-fast-after} violações e pode haver outros erros
+     */
+    public boolean truncated() {
+        return truncated;
+    }
+
+    /**
+     * Informações sobre erros omitidos para o metadata da resposta (vazio se todos foram retornados)
+     */
+    public Map<String, Object> metadata() {
+        if (truncated) {
+            return Map.of("totalErrors", totalErrors, "omittedErrors", omittedErrors(), "truncated", true);
+        }
+        if (omittedErrors() > 0) {
+            return Map.of("totalErrors", totalErrors, "omittedErrors", omittedErrors());
+        }
+        return Map.of();
+    }
+
+    /**
+     * Resumo limitado dos erros para log
+     */
+    public String logSummary() {
+        return logSummary;
+    }
+
+    private static CustomFieldError toCustomFieldError(FieldError fieldError, int maxRejectedValueLength) {
+        return CustomFieldError.builder()
+                .field(fieldError.getField())
+                .message(fieldError.getDefaultMessage())
+                .rejectedValue(boundRejectedValue(fieldError.getRejectedValue(), maxRejectedValueLength))
+                .code(fieldError.getCode())
+                .build();
+    }
+
+    /**
+     * Mantém valores simples, trunca textos e resume coleções/arrays/mapas
+     * Com limite 0 o valor rejeitado não é retornado
+     */
+    static Object boundRejectedValue(Object value, int maxLength) {
+        if (value == null || maxLength <= 0) {
+            return null;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+            return value;
+        }
+        if (value instanceof Collection<?> collection) {
+            return "<collection size=" + collection.size() + ">";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return "<map size=" + map.size() + ">";
+        }
+        if (value.getClass().isArray()) {
+            return "<array length=" + Array.getLength(value) + ">";
+        }
+
+        String text = value instanceof CharSequence sequence ? sequence.toString() : String.valueOf(value);
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+}
@@ -0,0 +1,51 @@
+package com.fiap.libs.exception.core.validation;
+
+import jakarta.validation.ConstraintViolation;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Validator que interrompe o processamento após N violações
+ *
+ * <p>Com N = 1 o Hibernate Validator é configurado em modo fail-fast (para na primeira
+ * violação). Para N maior o objeto ainda é validado por completo (o Hibernate Validator não
+ * interrompe a validação após N violações): apenas as N primeiras violações são convertidas em
+ * erros do Spring, o que limita o tamanho da resposta e evita a resolução de mensagens e a
+ * criação de FieldErrors para o restante, mas não o custo da validação em si.</p>
+ *
+ * <p>Em ambos os casos o total de violações deixa de ser conhecido: com N ou mais erros a
+ * resposta informa {@code metadata.truncated} (ver {@link BoundedFieldErrors}).</p>
+ */
+public class BoundedValidatorFactoryBean extends LocalValidatorFactoryBean {
+
+    private static final String HIBERNATE_FAIL_FAST = "hibernate.validator.fail_fast";
+
+    private final int maxViolations;
+
+    public BoundedValidatorFactoryBean(int maxViolations) {
+        this.maxViolations = maxViolations;
+        if (maxViolations == 1) {
+            getValidationPropertyMap().put(HIBERNATE_FAIL_FAST, "true");
+        }
+    }
+
+    @Override
+    protected void processConstraintViolations(Set<ConstraintViolation<Object>> violations, Errors errors) {
+        if (violations.size() <= maxViolations) {
+            super.processConstraintViolations(violations, errors);
+            return;
+        }
+
+        Set<ConstraintViolation<Object>> bounded = new LinkedHashSet<>(maxViolations * 2);
+        for (ConstraintViolation<Object> violation : violations) {
+            if (bounded.size() == maxViolations) {
+                break;
+            }
+            bounded.add(violation);
+        }
+        super.processConstraintViolations(bounded, errors);
+    }
+}
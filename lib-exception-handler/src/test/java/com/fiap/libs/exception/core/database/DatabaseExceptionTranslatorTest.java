@@ -0,0 +1,60 @@
+package com.fiap.libs.exception.core.database;
+
+import com.fiap.libs.exception.api.enums.DatabaseErrorCategory;
+import com.fiap.libs.exception.api.exceptions.request.ConflictException;
+import com.fiap.libs.exception.api.exceptions.resource.ResourceAlreadyExistsException;
+import com.fiap.libs.exception.api.exceptions.system.TransientDatabaseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabaseExceptionTranslatorTest {
+
+    @Test
+    void shouldClassifyUniqueViolations_asDuplicateKey() {
+        // PostgreSQL/H2, MySQL, Oracle e SQL Server
+        assertThat(classify("23505", 0)).isEqualTo(DatabaseErrorCategory.DUPLICATE_KEY);
+        assertThat(classify("23000", 1062)).isEqualTo(DatabaseErrorCategory.DUPLICATE_KEY);
+        assertThat(classify("23000", 1)).isEqualTo(DatabaseErrorCategory.DUPLICATE_KEY);
+        assertThat(classify("23000", 2627)).isEqualTo(DatabaseErrorCategory.DUPLICATE_KEY);
+    }
+
+    @Test
+    void shouldClassifyOtherIntegrityViolations_asConstraintViolation() {
+        // foreign key, not null e check (PostgreSQL), foreign key (MySQL)
+        assertThat(classify("23503", 0)).isEqualTo(DatabaseErrorCategory.CONSTRAINT_VIOLATION);
+        assertThat(classify("23502", 0)).isEqualTo(DatabaseErrorCategory.CONSTRAINT_VIOLATION);
+        assertThat(classify("23514", 0)).isEqualTo(DatabaseErrorCategory.CONSTRAINT_VIOLATION);
+        assertThat(classify("23000", 1452)).isEqualTo(DatabaseErrorCategory.CONSTRAINT_VIOLATION);
+    }
+
+    @Test
+    void shouldTranslateOnlyDuplicateKeys_toResourceAlreadyExists() {
+        // Given
+        RuntimeException duplicate = new DataIntegrityViolationException("insert", new SQLException("dup", "23505"));
+        RuntimeException foreignKey = new DataIntegrityViolationException("insert", new SQLException("fk", "23503"));
+
+        // When / Then
+        assertThat(DatabaseExceptionTranslator.translate(duplicate)).isInstanceOf(ResourceAlreadyExistsException.class);
+        assertThat(DatabaseExceptionTranslator.translate(foreignKey)).isInstanceOf(ConflictException.class);
+        assertThat(DatabaseExceptionTranslator.translate(new DuplicateKeyException("dup")))
+                .isInstanceOf(ResourceAlreadyExistsException.class);
+        assertThat(DatabaseExceptionTranslator.translate(new DataIntegrityViolationException("not null")))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void shouldTranslateTransientFailures_andIgnoreOtherExceptions() {
+        assertThat(DatabaseExceptionTranslator.translate(new SQLException("deadlock", "40P01")))
+                .isInstanceOf(TransientDatabaseException.class);
+        assertThat(DatabaseExceptionTranslator.translate(new IllegalStateException("not a database failure"))).isNull();
+    }
+
+    private static DatabaseErrorCategory classify(String sqlState, int vendorCode) {
+        return DatabaseExceptionTranslator.classify(new SQLException("failure", sqlState, vendorCode));
+    }
+}
@@ -0,0 +1,109 @@
+package com.fiap.libs.exception.core.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThrottledExceptionLoggerTest {
+
+    private final ExceptionHandlerProperties.Logging config = new ExceptionHandlerProperties.Logging();
+    private final Logger logger = (Logger) LoggerFactory.getLogger("com.example.OrdersErrorHandler");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        config.setWindow(Duration.ofHours(1));
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void shouldLogToTheCallersLogger_andSummarizeSuppressedOccurrences() {
+        // Given
+        config.setFullLogsPerWindow(2);
+        ThrottledExceptionLogger exceptionLogger = new ThrottledExceptionLogger(config);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            log(exceptionLogger, "trace-" + i, failure(), LogLevel.ERROR);
+        }
+        exceptionLogger.close();
+
+        // Then
+        assertThat(messages()).hasSize(3);
+        assertThat(messages().get(0)).isEqualTo("[trace-0] IllegalStateException: order failed");
+        assertThat(messages().get(2)).startsWith("Suppressed 3 similar errors in the last 3600s: java.lang.IllegalStateException");
+        assertThat(appender.list).extracting(ILoggingEvent::getLoggerName).containsOnly(logger.getName());
+    }
+
+    @Test
+    void shouldGiveUntrackedFingerprintsTheirOwnBudget_andReportWhatWasSuppressed() {
+        // Given: apenas um fingerprint rastreado
+        config.setMaxFingerprints(1);
+        config.setFullLogsPerWindow(5);
+        config.setOverflowLogsPerWindow(1);
+        ThrottledExceptionLogger exceptionLogger = new ThrottledExceptionLogger(config);
+        IllegalStateException tracked = failure();
+        List<RuntimeException> untracked = List.of(
+                new IllegalArgumentException("first"),
+                new IllegalArgumentException("second"),
+                new IllegalArgumentException("third"));
+
+        // When
+        log(exceptionLogger, "tracked", tracked, LogLevel.ERROR);
+        untracked.forEach(ex -> log(exceptionLogger, "untracked", ex, LogLevel.ERROR));
+        log(exceptionLogger, "tracked", tracked, LogLevel.ERROR);
+        exceptionLogger.close();
+
+        // Then: o transbordo não consome o orçamento do fingerprint rastreado
+        assertThat(messages()).containsExactly(
+                "[tracked] IllegalStateException: order failed",
+                "[untracked] IllegalArgumentException: first",
+                "[tracked] IllegalStateException: order failed",
+                "Suppressed 2 errors in the last 3600s from untracked fingerprints (fingerprint table full, 1 tracked)");
+    }
+
+    @Test
+    void shouldNotThrottle_whenDisabled() {
+        // Given
+        config.setThrottleEnabled(false);
+        config.setFullLogsPerWindow(1);
+        ThrottledExceptionLogger exceptionLogger = new ThrottledExceptionLogger(config);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            log(exceptionLogger, "trace", failure(), LogLevel.WARN);
+        }
+        exceptionLogger.close();
+
+        // Then
+        assertThat(messages()).hasSize(3);
+    }
+
+    private void log(ThrottledExceptionLogger exceptionLogger, String traceId, Throwable ex, LogLevel logLevel) {
+        exceptionLogger.log(logger, traceId, ex, exceptionLogger.fingerprint(ex), logLevel);
+    }
+
+    private static IllegalStateException failure() {
+        return new IllegalStateException("order failed");
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
@@ -0,0 +1,202 @@
+package com.fiap.libs.exception.core.payload;
+
+import com.fiap.libs.exception.api.exceptions.request.PayloadTooLargeException;
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import com.fiap.libs.exception.core.handler.ClientErrorHandler;
+import com.fiap.libs.exception.core.logging.ThrottledExceptionLogger;
+import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadSizeLimitFilterTest {
+
+    private final ExceptionHandlerProperties properties = new ExceptionHandlerProperties();
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private ThrottledExceptionLogger exceptionLogger;
+    private PayloadSizeLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties.getPayload().setMaxSize(DataSize.ofBytes(16));
+
+        exceptionLogger = new ThrottledExceptionLogger(properties.getLogging());
+        ClientErrorHandler handler = new ClientErrorHandler(new ExceptionMetadataRegistry(), exceptionLogger,
+                new TopExceptionsStore(properties.getStats()), properties);
+        context.registerBean(ClientErrorHandler.class, () -> handler);
+        context.refresh();
+
+        ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+        resolver.setApplicationContext(context);
+        resolver.setMessageConverters(List.of(new JacksonJsonHttpMessageConverter()));
+        resolver.afterPropertiesSet();
+        filter = new PayloadSizeLimitFilter(properties.getPayload(), resolver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exceptionLogger.close();
+        context.close();
+    }
+
+    @Test
+    void shouldAnswer413_whenContentLengthExceedsTheLimit() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        request.setContent("x".repeat(17).getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getHeader("Connection")).isEqualTo("close");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void shouldStopChunkedReads_pastTheLimit() throws Exception {
+        // Given
+        HttpServletRequest request = filtered(chunked("x".repeat(16)));
+        HttpServletRequest oversized = filtered(chunked("x".repeat(17)));
+
+        // When / Then
+        assertThat(request.getInputStream().readAllBytes()).hasSize(16);
+        assertThatThrownBy(() -> oversized.getInputStream().readAllBytes())
+                .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void shouldReportTheOverflow_toTheReadListener() throws Exception {
+        // Given
+        ServletInputStream input = filtered(chunked("x".repeat(17))).getInputStream();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        // When: o listener lê tudo que estiver disponível, como na leitura não bloqueante
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (input.isReady() && input.read() != -1) {
+                    // consome o corpo
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+        });
+
+        // Then
+        assertThat(error.get()).isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void shouldEnforceTheLimit_beforeParsingFormParameters() throws Exception {
+        // Given
+        MockHttpServletRequest small = chunked("name=Ana&tag=a");
+        small.setQueryString("tag=q");
+        small.addParameter("tag", "q");
+        HttpServletRequest request = filtered(small);
+        HttpServletRequest oversized = filtered(chunked("name=" + "x".repeat(16)));
+
+        // When / Then
+        assertThat(request.getParameter("name")).isEqualTo("Ana");
+        assertThat(request.getParameterValues("tag")).containsExactly("q", "a");
+        assertThatThrownBy(() -> oversized.getParameter("name")).isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    private HttpServletRequest filtered(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return (HttpServletRequest) chain.getRequest();
+    }
+
+    /**
+     * Requisição sem Content-Length, cujo stream aceita um ReadListener e o chama imediatamente
+     */
+    private static MockHttpServletRequest chunked(String body) {
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders") {
+            private ServletInputStream inputStream;
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public ServletInputStream getInputStream() {
+                if (inputStream == null) {
+                    inputStream = new AsyncInputStream(content);
+                }
+                return inputStream;
+            }
+        };
+        request.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+        return request;
+    }
+
+    private static final class AsyncInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream delegate;
+
+        private AsyncInputStream(byte[] content) {
+            this.delegate = new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                readListener.onDataAvailable();
+                if (isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fiap.libs.exception.core.ratelimit;
+
+import com.fiap.libs.exception.config.ExceptionHandlerProperties;
+import com.fiap.libs.exception.core.handler.ClientErrorHandler;
+import com.fiap.libs.exception.core.logging.ThrottledExceptionLogger;
+import com.fiap.libs.exception.core.registry.ExceptionMetadataRegistry;
+import com.fiap.libs.exception.core.stats.TopExceptionsStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final ExceptionHandlerProperties properties = new ExceptionHandlerProperties();
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private ThrottledExceptionLogger exceptionLogger;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ExceptionHandlerProperties.RateLimit config = properties.getRateLimit();
+        config.setPermits(1);
+        config.setPeriod(Duration.ofMinutes(1));
+        config.setBurst(2);
+        config.setExcludePaths(List.of("/actuator/**"));
+
+        exceptionLogger = new ThrottledExceptionLogger(properties.getLogging());
+        ClientErrorHandler handler = new ClientErrorHandler(new ExceptionMetadataRegistry(), exceptionLogger,
+                new TopExceptionsStore(properties.getStats()), properties);
+        context.registerBean(ClientErrorHandler.class, () -> handler);
+        context.refresh();
+
+        ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+        resolver.setApplicationContext(context);
+        resolver.setMessageConverters(List.of(new JacksonJsonHttpMessageConverter()));
+        resolver.afterPropertiesSet();
+        filter = new RateLimitFilter(config, resolver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exceptionLogger.close();
+        context.close();
+    }
+
+    @Test
+    void shouldAnswer429WithRetryAfter_whenBurstIsExhausted() throws Exception {
+        // Given
+        assertThat(get("/api/orders", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(get("/api/orders", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        // When
+        MockHttpServletResponse limited = get("/api/orders", "10.0.0.1");
+
+        // Then
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(limited.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 60L);
+        assertThat(limited.getContentAsString()).contains("TOO_MANY_REQUESTS");
+        assertThat(get("/api/orders", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldNotLimitExcludedPaths() throws Exception {
+        // When
+        for (int i = 0; i < 5; i++) {
+            get("/actuator/health", "10.0.0.1");
+        }
+
+        // Then
+        assertThat(get("/actuator/health", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse get(String path, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
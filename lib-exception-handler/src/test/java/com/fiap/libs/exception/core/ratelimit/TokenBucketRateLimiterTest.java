@@ -0,0 +1,153 @@
+package com.fiap.libs.exception.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final int THREADS = 8;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void shouldAllowBurst_thenRefillAtTheConfiguredRate() {
+        // Given: 10 permissões por segundo, rajada de 2
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, Duration.ofSeconds(1), 2, 16, clock::get);
+
+        // When / Then
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        long wait = rateLimiter.tryAcquire("client");
+        assertThat(Duration.ofNanos(wait)).isEqualTo(Duration.ofMillis(100));
+
+        clock.addAndGet(wait);
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        assertThat(rateLimiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    void shouldNeverAdmitMoreThanTheBurst_underConcurrentRequests() throws Exception {
+        // Given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 10, 16, clock::get);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        runConcurrently(thread -> {
+            for (int i = 0; i < 1_000; i++) {
+                if (rateLimiter.tryAcquire("client") == 0) {
+                    allowed.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        assertThat(allowed.get()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldRefillConcurrently_withoutLosingTokens() throws Exception {
+        // Given: 1 permissão a cada 10ms, rajada de 1
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, Duration.ofSeconds(1), 1, 16, clock::get);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When: o relógio avança 1s em passos de 10ms enquanto as threads disputam os tokens
+        for (int step = 0; step < 100; step++) {
+            runConcurrently(thread -> {
+                for (int i = 0; i < 10; i++) {
+                    if (rateLimiter.tryAcquire("client") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        // Then: exatamente um token por passo
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldGiveEvictedKeysAFullBucket_underConcurrentEviction() throws Exception {
+        // Given: tabela de 8 slots, muito menor que a quantidade de chaves
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, Duration.ofHours(1), 1, 8, clock::get);
+        AtomicInteger rejectedFirstRequests = new AtomicInteger();
+
+        // When: cada thread usa chaves próprias, que disputam (e despejam) os mesmos slots
+        runConcurrently(thread -> {
+            for (int i = 0; i < 2_000; i++) {
+                if (rateLimiter.tryAcquire("client-" + thread + "-" + i) != 0) {
+                    rejectedFirstRequests.incrementAndGet();
+                }
+            }
+        });
+
+        // Then: a primeira requisição de uma chave nunca consome o bucket de outra
+        assertThat(rejectedFirstRequests.get()).isZero();
+    }
+
+    @Test
+    void shouldLimitKeysIndependently_andEvictTheIdlestBucket() {
+        // Given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, Duration.ofHours(1), 1, 8, clock::get);
+        for (int i = 0; i < 8; i++) {
+            assertThat(rateLimiter.tryAcquire("client-" + i)).isZero();
+        }
+
+        // When
+        long limited = rateLimiter.tryAcquire("client-3");
+        for (int i = 8; i < 16; i++) {
+            clock.incrementAndGet();
+            rateLimiter.tryAcquire("client-" + i);
+        }
+
+        // Then: as chaves originais foram despejadas e voltam com o bucket cheio
+        assertThat(limited).isPositive();
+        assertThat(rateLimiter.tryAcquire("client-3")).isZero();
+    }
+
+    @Test
+    void shouldRoundRetryAfterUp_toWholeSeconds() {
+        assertThat(TokenBucketRateLimiter.toRetryAfterSeconds(1)).isEqualTo(1);
+        assertThat(TokenBucketRateLimiter.toRetryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(1_001))).isEqualTo(2);
+        assertThat(TokenBucketRateLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(3))).isEqualTo(3);
+    }
+
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int id = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
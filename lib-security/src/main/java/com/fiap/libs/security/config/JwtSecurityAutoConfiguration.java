@@ -0,0 +1,59 @@
+package com.fiap.libs.security.config;
+
+import com.fiap.libs.security.jwt.JwtVerifier;
+import com.fiap.libs.security.revocation.InMemoryRevocationStore;
+import com.fiap.libs.security.revocation.RevocationChecker;
+import com.fiap.libs.security.revocation.RevocationStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuração da validação de JWT
+ * Ativa quando security.jwt.secret está configurado
+ */
+@AutoConfiguration
+@Slf4j
+@ConditionalOnProperty(prefix = "security.jwt", name = "secret")
+@EnableConfigurationProperties(JwtSecurityProperties.class)
+public class JwtSecurityAutoConfiguration {
+
+    public JwtSecurityAutoConfiguration() {
+        log.info("🔐 [SECURITY] Initializing FIAP JWT Security Library");
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "security.jwt.revocation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RevocationStore revocationStore() {
+        log.info("✓ [SECURITY] Using in-memory RevocationStore (register a RevocationStore bean to share revocations)");
+        return new InMemoryRevocationStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "security.jwt.revocation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RevocationChecker revocationChecker(JwtSecurityProperties properties, RevocationStore revocationStore) {
+        JwtSecurityProperties.Revocation config = properties.getRevocation();
+        return new RevocationChecker(
+                revocationStore,
+                config.getExpectedRevocations(),
+                config.getFalsePositiveRate(),
+                config.getRefreshInterval());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtVerifier jwtVerifier(
+            JwtSecurityProperties properties,
+            ObjectProvider<RevocationChecker> revocationChecker) {
+
+        log.info("✓ [SECURITY] JwtVerifier registered - {} (cache {} tokens)",
+                properties.getAlgorithm(), properties.getCache().getMaxEntries());
+        return new JwtVerifier(properties, revocationChecker.getIfAvailable());
+    }
+}
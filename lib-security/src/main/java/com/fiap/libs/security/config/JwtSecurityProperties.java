@@ -0,0 +1,94 @@
+package com.fiap.libs.security.config;
+
+import com.fiap.libs.security.jwt.JwtAlgorithm;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração da validação de JWT
+ *
+ * <p>Exemplo de uso no application.yml:</p>
+ * <pre>
+ * security:
+ *   jwt:
+ *     secret: ${JWT_SECRET}
+ *     algorithm: HS256
+ *     issuer: fiap-auth
+ *     cache:
+ *       max-entries: 10000
+ *     revocation:
+ *       expected-revocations: 100000
+ *       refresh-interval: 5s
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "security.jwt")
+public class JwtSecurityProperties {
+
+    /**
+     * Segredo HMAC (mínimo de 32 bytes para HS256, 48 para HS384 e 64 para HS512)
+     */
+    private String secret;
+
+    /**
+     * Algoritmo esperado no header do token. Default: HS256
+     */
+    private JwtAlgorithm algorithm = JwtAlgorithm.HS256;
+
+    /**
+     * Issuer esperado (claim iss). Não validado quando vazio
+     */
+    private String issuer;
+
+    /**
+     * Audience esperada (claim aud). Não validada quando vazia
+     */
+    private String audience;
+
+    /**
+     * Tolerância de relógio para exp e nbf. Default: 30s
+     */
+    private Duration clockSkew = Duration.ofSeconds(30);
+
+    /**
+     * Exige a claim exp. Default: true
+     */
+    private boolean requireExpiration = true;
+
+    private Cache cache = new Cache();
+
+    private Revocation revocation = new Revocation();
+
+    @Data
+    public static class Cache {
+        /**
+         * Quantidade máxima de tokens verificados mantidos em cache (0 desabilita). Default: 10000
+         */
+        private int maxEntries = 10_000;
+    }
+
+    @Data
+    public static class Revocation {
+        /**
+         * Habilita a checagem de revogação. Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Quantidade esperada de tokens revogados ativos (dimensiona o Bloom filter). Default: 100000
+         */
+        private long expectedRevocations = 100_000;
+
+        /**
+         * Taxa de falsos positivos do Bloom filter (consultas extras ao RevocationStore). Default: 0.01
+         */
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * Intervalo de atualização incremental do Bloom filter. Default: 5s
+         */
+        private Duration refreshInterval = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fiap.libs.security.jwt;
+
+import lombok.Getter;
+
+/**
+ * Algoritmos HMAC suportados
+ */
+@Getter
+public enum JwtAlgorithm {
+
+    HS256("HmacSHA256", 32),
+    HS384("HmacSHA384", 48),
+    HS512("HmacSHA512", 64);
+
+    private final String macAlgorithm;
+    private final int minSecretBytes;
+
+    JwtAlgorithm(String macAlgorithm, int minSecretBytes) {
+        this.macAlgorithm = macAlgorithm;
+        this.minSecretBytes = minSecretBytes;
+    }
+}
@@ -0,0 +1,278 @@
+package com.fiap.libs.security.jwt;
+
+import com.fiap.libs.exception.api.enums.ErrorCode;
+import com.fiap.libs.exception.api.exceptions.auth.ExpiredJwtTokenException;
+import com.fiap.libs.exception.api.exceptions.auth.InvalidJwtTokenException;
+import com.fiap.libs.security.config.JwtSecurityProperties;
+import com.fiap.libs.security.revocation.RevocationChecker;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Validação de JWT assinados com HMAC (HS256, HS384, HS512)
+ *
+ * <ul>
+ *   <li>Tokens já verificados ficam em cache (por SHA-256) até a claim exp, evitando refazer
+ *       a decodificação, o HMAC e o parse das claims a cada requisição</li>
+ *   <li>A expiração e a revogação são checadas em toda chamada, inclusive nos acertos de cache</li>
+ * </ul>
+ *
+ * Falhas são lançadas como InvalidJwtTokenException, ExpiredJwtTokenException e
+ * TokenRevocationException (401 via lib-exception-handler)
+ */
+public class JwtVerifier {
+
+    /**
+     * Maior exp/nbf aceito: mantém toEpochMilli() e a soma da tolerância sem overflow
+     */
+    private static final long MAX_EPOCH_SECOND = Long.MAX_VALUE / 1000 / 2;
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+
+    private final JwtAlgorithm algorithm;
+    private final Mac macPrototype;
+    private final MessageDigest digestPrototype;
+    private final JwtSecurityProperties config;
+    private final RevocationChecker revocationChecker;
+    private final VerifiedTokenCache cache;
+    private final long clockSkewMillis;
+    private final Clock clock;
+
+    public JwtVerifier(JwtSecurityProperties config, RevocationChecker revocationChecker) {
+        this(config, revocationChecker, Clock.systemUTC());
+    }
+
+    JwtVerifier(JwtSecurityProperties config, RevocationChecker revocationChecker, Clock clock) {
+        if (config.getSecret() == null) {
+            throw new IllegalArgumentException("security.jwt.secret must be configured");
+        }
+
+        byte[] secret = config.getSecret().getBytes(StandardCharsets.UTF_8);
+        this.algorithm = config.getAlgorithm();
+        if (secret.length < algorithm.getMinSecretBytes()) {
+            throw new IllegalArgumentException(String.format(
+                    "security.jwt.secret must have at least %d bytes for %s",
+                    algorithm.getMinSecretBytes(), algorithm));
+        }
+
+        try {
+            this.macPrototype = Mac.getInstance(algorithm.getMacAlgorithm());
+            this.macPrototype.init(new SecretKeySpec(secret, algorithm.getMacAlgorithm()));
+            this.digestPrototype = MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to initialize " + algorithm, ex);
+        }
+
+        this.config = config;
+        this.revocationChecker = revocationChecker;
+        this.cache = new VerifiedTokenCache(config.getCache().getMaxEntries());
+        this.clockSkewMillis = config.getClockSkew().toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Valida o token (sem o prefixo "Bearer ")
+     *
+     * @return Token verificado
+     * @throws InvalidJwtTokenException token malformado, assinatura inválida ou claims inválidas
+     * @throws ExpiredJwtTokenException token expirado
+     * @throws com.fiap.libs.exception.api.exceptions.auth.TokenRevocationException token revogado
+     */
+    public VerifiedJwt verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidJwtTokenException("Missing token", ErrorCode.INVALID_TOKEN);
+        }
+
+        long now = clock.millis();
+        VerifiedTokenCache.TokenHash hash = hash(token);
+
+        VerifiedJwt jwt = cache.get(hash);
+        if (jwt == null) {
+            jwt = decode(token, hash, now);
+            checkRevocation(jwt);
+            cache.put(hash, jwt, now);
+            return jwt;
+        }
+
+        if (isExpired(jwt, now)) {
+            cache.remove(hash);
+            throw new ExpiredJwtTokenException("Token has expired", ErrorCode.EXPIRED_TOKEN);
+        }
+        checkRevocation(jwt);
+        return jwt;
+    }
+
+    /**
+     * Valida o valor do header Authorization ("Bearer &lt;token&gt;")
+     */
+    public VerifiedJwt verifyAuthorizationHeader(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            throw new InvalidJwtTokenException("Missing bearer token", ErrorCode.INVALID_TOKEN);
+        }
+        return verify(authorization.substring(7).trim());
+    }
+
+    /**
+     * Quantidade de tokens verificados em cache
+     */
+    public int cachedTokens() {
+        return cache.size();
+    }
+
+    private VerifiedJwt decode(String token, VerifiedTokenCache.TokenHash hash, long now) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new InvalidJwtTokenException("Malformed token", ErrorCode.INVALID_TOKEN);
+        }
+
+        Map<String, Object> header;
+        Map<String, Object> claims;
+        byte[] signature;
+        try {
+            header = readJson(token, 0, firstDot);
+            signature = Base64.getUrlDecoder().decode(token.substring(secondDot + 1));
+            if (!algorithm.name().equals(header.get("alg"))) {
+                throw new InvalidJwtTokenException("Unexpected token algorithm", ErrorCode.INVALID_TOKEN);
+            }
+            verifySignature(token, secondDot, signature);
+            claims = readJson(token, firstDot + 1, secondDot);
+        } catch (IllegalArgumentException | JacksonException ex) {
+            throw new InvalidJwtTokenException("Malformed token", ErrorCode.INVALID_TOKEN, ex);
+        }
+
+        Instant expiresAt = instantClaim(claims, "exp");
+        Instant notBefore = instantClaim(claims, "nbf");
+
+        if (expiresAt == null && config.isRequireExpiration()) {
+            throw new InvalidJwtTokenException("Token has no expiration", ErrorCode.INVALID_TOKEN);
+        }
+        if (notBefore != null && notBefore.toEpochMilli() - clockSkewMillis > now) {
+            throw new InvalidJwtTokenException("Token is not valid yet", ErrorCode.INVALID_TOKEN);
+        }
+        if (hasText(config.getIssuer()) && !config.getIssuer().equals(claims.get("iss"))) {
+            throw new InvalidJwtTokenException("Unexpected token issuer", ErrorCode.INVALID_TOKEN);
+        }
+        if (hasText(config.getAudience()) && !matchesAudience(claims.get("aud"))) {
+            throw new InvalidJwtTokenException("Unexpected token audience", ErrorCode.INVALID_TOKEN);
+        }
+
+        String tokenId = stringClaim(claims, "jti");
+        VerifiedJwt jwt = new VerifiedJwt(
+                stringClaim(claims, "sub"),
+                tokenId,
+                tokenId != null ? tokenId : "sha256:" + hash.toHex(),
+                expiresAt,
+                Collections.unmodifiableMap(claims));
+
+        if (isExpired(jwt, now)) {
+            throw new ExpiredJwtTokenException("Token has expired", ErrorCode.EXPIRED_TOKEN);
+        }
+        return jwt;
+    }
+
+    private void verifySignature(String token, int signedLength, byte[] signature) {
+        Mac mac = newMac();
+        byte[] expected = mac.doFinal(token.substring(0, signedLength).getBytes(StandardCharsets.UTF_8));
+        if (!MessageDigest.isEqual(expected, signature)) {
+            throw new InvalidJwtTokenException("Invalid token signature", ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    private void checkRevocation(VerifiedJwt jwt) {
+        if (revocationChecker != null) {
+            revocationChecker.check(jwt);
+        }
+    }
+
+    private boolean isExpired(VerifiedJwt jwt, long now) {
+        return jwt.expiresAt() != null && jwt.expiresAt().toEpochMilli() <= now - clockSkewMillis;
+    }
+
+    private boolean matchesAudience(Object audience) {
+        if (audience instanceof String value) {
+            return config.getAudience().equals(value);
+        }
+        if (audience instanceof Collection<?> values) {
+            return values.contains(config.getAudience());
+        }
+        return false;
+    }
+
+    /**
+     * Mac já inicializado com a chave (clone evita o lookup de provider a cada token)
+     */
+    private Mac newMac() {
+        try {
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            try {
+                Mac mac = Mac.getInstance(macPrototype.getAlgorithm());
+                mac.init(new SecretKeySpec(config.getSecret().getBytes(StandardCharsets.UTF_8), macPrototype.getAlgorithm()));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Unable to initialize " + algorithm, e);
+            }
+        }
+    }
+
+    private VerifiedTokenCache.TokenHash hash(String token) {
+        MessageDigest digest;
+        try {
+            digest = (MessageDigest) digestPrototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new VerifiedTokenCache.TokenHash(bytes.getLong(), bytes.getLong());
+    }
+
+    private static Map<String, Object> readJson(String token, int start, int end) {
+        byte[] json = Base64.getUrlDecoder().decode(token.substring(start, end));
+        return JSON.readValue(json, CLAIMS_TYPE);
+    }
+
+    private static Instant instantClaim(Map<String, Object> claims, String name) {
+        Object value = claims.get(name);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number seconds) {
+            // Valores fora do intervalo em milissegundos (ex: 1E+300) são rejeitados, não geram 500
+            long epochSecond = seconds.longValue();
+            if (epochSecond >= -MAX_EPOCH_SECOND && epochSecond <= MAX_EPOCH_SECOND) {
+                return Instant.ofEpochSecond(epochSecond);
+            }
+        }
+        throw new InvalidJwtTokenException("Invalid " + name + " claim", ErrorCode.INVALID_TOKEN);
+    }
+
+    private static String stringClaim(Map<String, Object> claims, String name) {
+        Object value = claims.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
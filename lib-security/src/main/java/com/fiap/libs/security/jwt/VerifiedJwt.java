@@ -0,0 +1,28 @@
+package com.fiap.libs.security.jwt;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Token com assinatura e claims já validadas
+ *
+ * @param subject Claim sub
+ * @param tokenId Claim jti (null quando ausente)
+ * @param revocationId Identificador usado na checagem de revogação: jti, ou "sha256:" + hash do token
+ * @param expiresAt Claim exp (null quando ausente)
+ * @param claims Todas as claims do payload
+ */
+public record VerifiedJwt(
+        String subject,
+        String tokenId,
+        String revocationId,
+        Instant expiresAt,
+        Map<String, Object> claims) {
+
+    /**
+     * Valor de uma claim
+     */
+    public Object claim(String name) {
+        return claims.get(name);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fiap.libs.security.jwt;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache limitado de tokens já verificados, indexado pelo SHA-256 do token
+ *
+ * <p>Guardar o hash (e não o token) mantém a chave pequena e evita reter o token em memória.
+ * Entradas expiram junto com a claim exp; quando o limite é atingido, as expiradas são
+ * removidas e, se necessário, ~1/8 das entradas é despejado.</p>
+ */
+final class VerifiedTokenCache {
+
+    private final ConcurrentHashMap<TokenHash, VerifiedJwt> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    VerifiedJwt get(TokenHash hash) {
+        return maxEntries > 0 ? entries.get(hash) : null;
+    }
+
+    void put(TokenHash hash, VerifiedJwt jwt, long nowMillis) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(nowMillis);
+        }
+        entries.put(hash, jwt);
+    }
+
+    void remove(TokenHash hash) {
+        entries.remove(hash);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict(long nowMillis) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        entries.values().removeIf(jwt -> jwt.expiresAt() != null && jwt.expiresAt().toEpochMilli() <= nowMillis);
+
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 8);
+        Iterator<TokenHash> iterator = entries.keySet().iterator();
+        while (excess-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Primeiros 128 bits do SHA-256 do token
+     */
+    record TokenHash(long high, long low) {
+
+        String toHex() {
+            return String.format("%016x%016x", high, low);
+        }
+    }
+}
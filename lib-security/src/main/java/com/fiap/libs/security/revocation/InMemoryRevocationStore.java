@@ -0,0 +1,78 @@
+package com.fiap.libs.security.revocation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RevocationStore em memória (por instância)
+ * Revogações expiram junto com o token e deixam de ser retornadas
+ */
+public class InMemoryRevocationStore implements RevocationStore {
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final List<String> log = new ArrayList<>();
+    private final Clock clock;
+    private long logOffset;
+
+    public InMemoryRevocationStore() {
+        this(Clock.systemUTC());
+    }
+
+    InMemoryRevocationStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Revoga o token até a sua expiração
+     *
+     * @param revocationId jti do token (ver {@link com.fiap.libs.security.jwt.VerifiedJwt#revocationId()})
+     * @param expiresAt Expiração do token (null mantém a revogação indefinidamente)
+     */
+    public synchronized void revoke(String revocationId, Instant expiresAt) {
+        revoked.put(revocationId, expiresAt != null ? expiresAt : Instant.MAX);
+        log.add(revocationId);
+
+        if (log.size() > 1024 && log.size() > revoked.size() * 2) {
+            compact();
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String revocationId) {
+        Instant expiresAt = revoked.get(revocationId);
+        return expiresAt != null && expiresAt.isAfter(clock.instant());
+    }
+
+    @Override
+    public synchronized RevocationChanges changesSince(long cursor) {
+        long end = logOffset + log.size();
+        if (cursor <= logOffset) {
+            // Cursor anterior ao log compactado: retorna todas as revogações ativas
+            purgeExpired();
+            return new RevocationChanges(List.copyOf(revoked.keySet()), end);
+        }
+        if (cursor >= end) {
+            return new RevocationChanges(List.of(), end);
+        }
+        return new RevocationChanges(List.copyOf(log.subList((int) (cursor - logOffset), log.size())), end);
+    }
+
+    /**
+     * Descarta o log incremental e as revogações expiradas
+     * Consumidores com cursor antigo recebem o conjunto completo na próxima consulta
+     */
+    private void compact() {
+        purgeExpired();
+        logOffset += log.size();
+        log.clear();
+    }
+
+    private void purgeExpired() {
+        Instant now = clock.instant();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+}
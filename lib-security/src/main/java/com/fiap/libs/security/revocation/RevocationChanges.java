@@ -0,0 +1,12 @@
+package com.fiap.libs.security.revocation;
+
+import java.util.List;
+
+/**
+ * Revogações desde um cursor
+ *
+ * @param revokedIds Identificadores revogados (jti ou hash do token)
+ * @param cursor Cursor a ser usado na próxima consulta incremental
+ */
+public record RevocationChanges(List<String> revokedIds, long cursor) {
+}
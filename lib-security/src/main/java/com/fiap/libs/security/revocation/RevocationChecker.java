@@ -0,0 +1,110 @@
+package com.fiap.libs.security.revocation;
+
+import com.fiap.libs.exception.api.enums.ErrorCode;
+import com.fiap.libs.exception.api.exceptions.auth.TokenRevocationException;
+import com.fiap.libs.security.jwt.VerifiedJwt;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checagem de revogação com Bloom filter em memória
+ *
+ * <p>O filtro é atualizado incrementalmente a cada refresh-interval com
+ * {@link RevocationStore#changesSince(long)}; o store só é consultado quando o filtro indica
+ * que o token talvez esteja revogado (revogados ou falsos positivos). Quando o filtro passa da
+ * capacidade para a qual foi dimensionado, ele é reconstruído a partir das revogações ativas.</p>
+ *
+ * <p>Revogações feitas após o último refresh só são percebidas no refresh seguinte. Se o
+ * refresh falhar, o filtro anterior continua em uso.</p>
+ */
+@Slf4j
+public class RevocationChecker implements AutoCloseable {
+
+    private final RevocationStore store;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile BloomFilter filter;
+    private long cursor;
+    private boolean loaded;
+
+    public RevocationChecker(
+            RevocationStore store,
+            long expectedRevocations,
+            double falsePositiveRate,
+            Duration refreshInterval) {
+
+        this.store = store;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedRevocations, falsePositiveRate);
+
+        refresh();
+
+        if (refreshInterval != null && !refreshInterval.isZero() && !refreshInterval.isNegative()) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jwt-revocation-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long periodMillis = Math.max(1, refreshInterval.toMillis());
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Lança TokenRevocationException se o token estiver revogado
+     */
+    public void check(VerifiedJwt jwt) {
+        String revocationId = jwt.revocationId();
+        if (filter.mightContain(revocationId) && store.isRevoked(revocationId)) {
+            throw new TokenRevocationException("Token has been revoked", ErrorCode.REVOKED_TOKEN);
+        }
+    }
+
+    /**
+     * Aplica as revogações novas ao filtro (ou o reconstrói quando a capacidade é excedida)
+     */
+    public synchronized void refresh() {
+        RevocationChanges changes = store.changesSince(cursor);
+        BloomFilter current = filter;
+
+        if (!loaded || current.insertions() + changes.revokedIds().size() > current.expectedInsertions()) {
+            RevocationChanges all = !loaded ? changes : store.changesSince(0);
+            BloomFilter rebuilt = BloomFilter.create(
+                    Math.max(expectedRevocations, all.revokedIds().size() * 2L),
+                    falsePositiveRate);
+            all.revokedIds().forEach(rebuilt::put);
+
+            this.filter = rebuilt;
+            this.cursor = all.cursor();
+            this.loaded = true;
+            return;
+        }
+
+        changes.revokedIds().forEach(current::put);
+        this.cursor = changes.cursor();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh JWT revocation filter: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
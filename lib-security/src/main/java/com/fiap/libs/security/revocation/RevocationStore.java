@@ -0,0 +1,25 @@
+package com.fiap.libs.security.revocation;
+
+/**
+ * Fonte autoritativa de tokens revogados
+ * Implemente e registre como bean para usar um store compartilhado (ex: banco ou Redis)
+ *
+ * <p>{@link #changesSince(long)} alimenta o Bloom filter em memória; {@link #isRevoked(String)}
+ * só é consultado quando o filtro indica que o token talvez esteja revogado.</p>
+ */
+public interface RevocationStore {
+
+    /**
+     * Consulta autoritativa
+     *
+     * @param revocationId jti do token, ou "sha256:" + hash do token quando não há jti
+     */
+    boolean isRevoked(String revocationId);
+
+    /**
+     * Revogações registradas após o cursor
+     * Com cursor 0 (ou um cursor que o store não consegue mais atender) deve retornar todas as
+     * revogações ainda ativas
+     */
+    RevocationChanges changesSince(long cursor);
+}
@@ -0,0 +1,175 @@
+package com.fiap.libs.security.jwt;
+
+import com.fiap.libs.exception.api.exceptions.auth.ExpiredJwtTokenException;
+import com.fiap.libs.exception.api.exceptions.auth.InvalidJwtTokenException;
+import com.fiap.libs.security.config.JwtSecurityProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtVerifierTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final long NOW = 1_700_000_000L;
+
+    private MutableClock clock;
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        JwtSecurityProperties config = new JwtSecurityProperties();
+        config.setSecret(SECRET);
+        config.setClockSkew(Duration.ofSeconds(30));
+        clock = new MutableClock(Instant.ofEpochSecond(NOW));
+        verifier = new JwtVerifier(config, null, clock);
+    }
+
+    @Test
+    void shouldVerifyToken_andReturnClaims() {
+        // Given
+        String token = token("HS256", "{\"sub\":\"user-1\",\"jti\":\"id-1\",\"exp\":" + (NOW + 60) + "}", SECRET);
+
+        // When
+        VerifiedJwt jwt = verifier.verify(token);
+
+        // Then
+        assertThat(jwt.subject()).isEqualTo("user-1");
+        assertThat(jwt.revocationId()).isEqualTo("id-1");
+        assertThat(jwt.expiresAt()).isEqualTo(Instant.ofEpochSecond(NOW + 60));
+    }
+
+    @Test
+    void shouldReject_whenAlgorithmDoesNotMatch() {
+        // Given
+        String token = token("HS512", "{\"exp\":" + (NOW + 60) + "}", SECRET);
+
+        // When / Then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(InvalidJwtTokenException.class)
+                .hasMessage("Unexpected token algorithm");
+    }
+
+    @Test
+    void shouldReject_whenSignatureIsInvalid() {
+        // Given
+        String token = token("HS256", "{\"exp\":" + (NOW + 60) + "}", "another-secret-with-at-least-32-bytes");
+
+        // When / Then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(InvalidJwtTokenException.class)
+                .hasMessage("Invalid token signature");
+    }
+
+    @Test
+    void shouldAcceptExpAndNbf_withinClockSkew() {
+        // Given
+        String expiredWithinSkew = token("HS256", "{\"jti\":\"a\",\"exp\":" + (NOW - 20) + "}", SECRET);
+        String notBeforeWithinSkew = token("HS256", "{\"jti\":\"b\",\"exp\":" + (NOW + 60) + ",\"nbf\":" + (NOW + 20) + "}", SECRET);
+
+        // When / Then
+        assertThat(verifier.verify(expiredWithinSkew).tokenId()).isEqualTo("a");
+        assertThat(verifier.verify(notBeforeWithinSkew).tokenId()).isEqualTo("b");
+    }
+
+    @Test
+    void shouldReject_expAndNbfBeyondClockSkew() {
+        // Given
+        String expired = token("HS256", "{\"exp\":" + (NOW - 31) + "}", SECRET);
+        String notValidYet = token("HS256", "{\"exp\":" + (NOW + 60) + ",\"nbf\":" + (NOW + 31) + "}", SECRET);
+
+        // When / Then
+        assertThatThrownBy(() -> verifier.verify(expired)).isInstanceOf(ExpiredJwtTokenException.class);
+        assertThatThrownBy(() -> verifier.verify(notValidYet))
+                .isInstanceOf(InvalidJwtTokenException.class)
+                .hasMessage("Token is not valid yet");
+    }
+
+    @Test
+    void shouldReject_outOfRangeExpAndNbf() {
+        // Given
+        String hugeExp = token("HS256", "{\"exp\":1E+300}", SECRET);
+        String hugeNbf = token("HS256", "{\"exp\":" + (NOW + 60) + ",\"nbf\":-9223372036854775808}", SECRET);
+
+        // When / Then
+        assertThatThrownBy(() -> verifier.verify(hugeExp))
+                .isInstanceOf(InvalidJwtTokenException.class)
+                .hasMessage("Invalid exp claim");
+        assertThatThrownBy(() -> verifier.verify(hugeNbf))
+                .isInstanceOf(InvalidJwtTokenException.class)
+                .hasMessage("Invalid nbf claim");
+    }
+
+    @Test
+    void shouldServeCachedToken_untilItExpires() {
+        // Given
+        String token = token("HS256", "{\"sub\":\"user-1\",\"exp\":" + (NOW + 60) + "}", SECRET);
+        VerifiedJwt first = verifier.verify(token);
+
+        // When
+        VerifiedJwt cached = verifier.verify(token);
+
+        // Then
+        assertThat(cached).isSameAs(first);
+        assertThat(verifier.cachedTokens()).isEqualTo(1);
+
+        // When the token expires (beyond the clock skew)
+        clock.advance(Duration.ofSeconds(91));
+
+        // Then
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtTokenException.class);
+        assertThat(verifier.cachedTokens()).isZero();
+    }
+
+    private static String token(String alg, String claims, String secret) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signed = encoder.encodeToString(("{\"alg\":\"" + alg + "\",\"typ\":\"JWT\"}").getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return signed + "." + encoder.encodeToString(mac.doFinal(signed.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
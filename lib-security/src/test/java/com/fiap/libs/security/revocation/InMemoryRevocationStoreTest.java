@@ -0,0 +1,96 @@
+package com.fiap.libs.security.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRevocationStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.ofEpochSecond(1_700_000_000L));
+    private final InMemoryRevocationStore store = new InMemoryRevocationStore(clock);
+
+    @Test
+    void shouldStopReportingRevocation_onceTheTokenExpires() {
+        // Given
+        store.revoke("jti-1", clock.instant().plusSeconds(60));
+        store.revoke("jti-2", null);
+
+        // When
+        clock.advance(Duration.ofSeconds(61));
+
+        // Then
+        assertThat(store.isRevoked("jti-1")).isFalse();
+        assertThat(store.isRevoked("jti-2")).isTrue();
+        assertThat(store.changesSince(0).revokedIds()).containsExactly("jti-2");
+    }
+
+    @Test
+    void shouldReturnOnlyNewRevocations_sinceTheCursor() {
+        // Given
+        store.revoke("jti-1", clock.instant().plusSeconds(60));
+        long cursor = store.changesSince(0).cursor();
+
+        // When
+        store.revoke("jti-2", clock.instant().plusSeconds(60));
+        RevocationChanges changes = store.changesSince(cursor);
+
+        // Then
+        assertThat(changes.revokedIds()).containsExactly("jti-2");
+        assertThat(store.changesSince(changes.cursor()).revokedIds()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnAllActiveRevocations_whenTheCursorPrecedesTheCompactedLog() {
+        // Given: revogações que expiram e um id revogado repetidamente, que força a compactação do log
+        store.revoke("long-lived", clock.instant().plusSeconds(3_600));
+        long staleCursor = store.changesSince(0).cursor();
+        for (int i = 0; i < 600; i++) {
+            store.revoke("short-" + i, clock.instant().plusSeconds(1));
+        }
+        clock.advance(Duration.ofSeconds(2));
+        for (int i = 0; i < 1_500; i++) {
+            store.revoke("recent", clock.instant().plusSeconds(60));
+        }
+
+        // When
+        RevocationChanges changes = store.changesSince(staleCursor);
+
+        // Then
+        assertThat(changes.revokedIds()).containsExactlyInAnyOrder("long-lived", "recent");
+        assertThat(store.isRevoked("short-0")).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.fiap.libs.security.revocation;
+
+import com.fiap.libs.exception.api.exceptions.auth.TokenRevocationException;
+import com.fiap.libs.security.jwt.VerifiedJwt;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class RevocationCheckerTest {
+
+    private final FlakyStore store = new FlakyStore();
+
+    @Test
+    void shouldRejectRevokedTokens_afterRefresh() {
+        // Given
+        try (RevocationChecker checker = new RevocationChecker(store, 1_000, 0.01, null)) {
+            store.delegate.revoke("jti-1", Instant.now().plusSeconds(60));
+
+            // When
+            checker.refresh();
+
+            // Then
+            assertThatThrownBy(() -> checker.check(jwt("jti-1"))).isInstanceOf(TokenRevocationException.class);
+            assertThatCode(() -> checker.check(jwt("jti-2"))).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    void shouldKeepThePreviousFilter_whenRefreshFails() {
+        // Given
+        store.delegate.revoke("jti-1", Instant.now().plusSeconds(60));
+        try (RevocationChecker checker = new RevocationChecker(store, 1_000, 0.01, null)) {
+            store.down = true;
+            store.delegate.revoke("jti-2", Instant.now().plusSeconds(60));
+
+            // When
+            assertThatThrownBy(checker::refresh).isInstanceOf(IllegalStateException.class);
+            store.down = false;
+
+            // Then: revogações já carregadas continuam valendo; as novas só após um refresh bem-sucedido
+            assertThatThrownBy(() -> checker.check(jwt("jti-1"))).isInstanceOf(TokenRevocationException.class);
+            assertThatCode(() -> checker.check(jwt("jti-2"))).doesNotThrowAnyException();
+            checker.refresh();
+            assertThatThrownBy(() -> checker.check(jwt("jti-2"))).isInstanceOf(TokenRevocationException.class);
+        }
+    }
+
+    @Test
+    void shouldKeepRefreshingInBackground_afterFailures() {
+        // Given
+        try (RevocationChecker checker = new RevocationChecker(store, 1_000, 0.01, Duration.ofMillis(10))) {
+            store.down = true;
+            store.delegate.revoke("jti-1", Instant.now().plusSeconds(60));
+            await().atMost(Duration.ofSeconds(5)).until(() -> store.failures.get() >= 3);
+
+            // When
+            store.down = false;
+
+            // Then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    assertThatThrownBy(() -> checker.check(jwt("jti-1"))).isInstanceOf(TokenRevocationException.class));
+        }
+    }
+
+    @Test
+    void shouldConsultTheStoreOnlyForPossiblyRevokedTokens_whileItIsDown() {
+        // Given
+        store.delegate.revoke("jti-1", Instant.now().plusSeconds(60));
+        try (RevocationChecker checker = new RevocationChecker(store, 1_000, 0.01, null)) {
+
+            // When
+            store.down = true;
+
+            // Then: o filtro descarta os tokens não revogados sem ir ao store; os demais falham fechado
+            assertThatCode(() -> checker.check(jwt("jti-2"))).doesNotThrowAnyException();
+            assertThatThrownBy(() -> checker.check(jwt("jti-1"))).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldFailToStart_whenTheStoreIsDown() {
+        // Given
+        store.down = true;
+
+        // When / Then: sem um filtro inicial não há como checar revogações
+        assertThatThrownBy(() -> new RevocationChecker(store, 1_000, 0.01, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static VerifiedJwt jwt(String revocationId) {
+        return new VerifiedJwt("user-1", revocationId, revocationId, Instant.now().plusSeconds(60), Map.of());
+    }
+
+    /**
+     * Store em memória que pode ser "derrubado" durante o teste
+     */
+    private static final class FlakyStore implements RevocationStore {
+
+        private final InMemoryRevocationStore delegate = new InMemoryRevocationStore();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile boolean down;
+
+        @Override
+        public boolean isRevoked(String revocationId) {
+            failIfDown();
+            return delegate.isRevoked(revocationId);
+        }
+
+        @Override
+        public RevocationChanges changesSince(long cursor) {
+            failIfDown();
+            return delegate.changesSince(cursor);
+        }
+
+        private void failIfDown() {
+            if (down) {
+                failures.incrementAndGet();
+                throw new IllegalStateException("revocation store unavailable");
+            }
+        }
+    }
+}
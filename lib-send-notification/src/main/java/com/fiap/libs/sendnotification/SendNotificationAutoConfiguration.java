@@ -1,9 +1,18 @@
 package com.fiap.libs.sendnotification;
 
 import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.dispatcher.NotificationDispatcher;
+import com.fiap.libs.sendnotification.email.EmailSender;
+import com.fiap.libs.sendnotification.email.NotificationListener;
 import com.fiap.libs.sendnotification.email.SendEmailNotification;
 import com.fiap.libs.sendnotification.email.config.LoadTemplateConfig;
+import com.fiap.libs.sendnotification.email.transport.LoadBalancedMailSender;
+import com.fiap.libs.sendnotification.email.transport.PooledMailSender;
+import com.fiap.libs.sendnotification.outbox.NotificationOutbox;
+import com.fiap.libs.sendnotification.ratelimit.OutboundRateLimiter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,6 +22,8 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -31,31 +42,40 @@ public class SendNotificationAutoConfiguration {
 
     /**
      * Creates JavaMailSender bean if not already present.
-     * Uses configuration from NotificationProperties.
+     * Uses configuration from NotificationProperties. With notification.mail.pool.enabled (default)
+     * SMTP connections are pooled and reused by a {@link PooledMailSender}. With
+     * notification.mail.relays, emails are balanced across the relays by a {@link LoadBalancedMailSender}.
      */
     @Bean
     @ConditionalOnMissingBean
     public JavaMailSender javaMailSender(NotificationProperties properties) {
         NotificationProperties.MailConfig config = properties.getMail();
 
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-        mailSender.setHost(config.getHost());
-        mailSender.setPort(config.getPort());
-        mailSender.setProtocol(config.getProtocol());
-        mailSender.setDefaultEncoding(config.getDefaultEncoding());
+        if (!config.getRelays().isEmpty()) {
+            List<LoadBalancedMailSender.Relay> relays = config.getRelays().stream()
+                    .map(relay -> new LoadBalancedMailSender.Relay(createMailSender(config, relay.getHost(), relay.getPort(),
+                            relay.getUsername() != null ? relay.getUsername() : config.getUsername(),
+                            relay.getPassword() != null ? relay.getPassword() : config.getPassword()),
+                            relay.getWeight()))
+                    .toList();
 
-        if (config.getUsername() != null) {
-            mailSender.setUsername(config.getUsername());
-        }
+            // With the rate limit enabled the relay limits apply to each relay
+            LoadBalancedMailSender mailSender = new LoadBalancedMailSender(relays, config.getRelayHealth(),
+                    properties.getRateLimit());
+            mailSender.setDefaultEncoding(config.getDefaultEncoding());
+            config.getProperties().forEach(mailSender.getJavaMailProperties()::setProperty);
 
-        if (config.getPassword() != null) {
-            mailSender.setPassword(config.getPassword());
+            log.info("✅ JavaMailSender configured - Relays: {}, Pooled: {}",
+                    config.getRelays().stream().map(relay -> relay.getHost() + ":" + relay.getPort()).toList(),
+                    config.getPool().isEnabled());
+            return mailSender;
         }
 
-        Properties props = mailSender.getJavaMailProperties();
-        config.getProperties().forEach(props::setProperty);
+        JavaMailSenderImpl mailSender = createMailSender(config, config.getHost(), config.getPort(),
+                config.getUsername(), config.getPassword());
 
-        log.info("✅ JavaMailSender configured - Host: {}, Port: {}", config.getHost(), config.getPort());
+        log.info("✅ JavaMailSender configured - Host: {}, Port: {}, Pooled: {}",
+                config.getHost(), config.getPort(), config.getPool().isEnabled());
 
         return mailSender;
     }
@@ -66,14 +86,107 @@ public class SendNotificationAutoConfiguration {
         return new LoadTemplateConfig(resourceLoader);
     }
 
+    /**
+     * Bounded executor used for email delivery (closed on shutdown, draining queued emails).
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public NotificationDispatcher notificationDispatcher(NotificationProperties properties) {
+        NotificationProperties.Dispatcher config = properties.getDispatcher();
+        log.info("✅ [SEND-NOTIFICATION] Notification dispatcher configured - Concurrency: {}, Queue: {}, Overflow: {}, Weights: {}",
+                config.getConcurrency(), config.getQueueCapacity(), config.getOverflowPolicy(), config.getWeights());
+        return new NotificationDispatcher(config);
+    }
+
+    /**
+     * Outbound rate limiter (notification.rate-limit.enabled=true): deliveries over the relay or
+     * recipient domain limits are delayed instead of failing.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "notification.rate-limit", name = "enabled", havingValue = "true")
+    public OutboundRateLimiter outboundRateLimiter(NotificationProperties properties,
+                                                   ObjectProvider<JavaMailSender> mailSender) {
+        log.info("✅ [SEND-NOTIFICATION] Rate limiter configured - Relay: {} buckets, Domains: {}",
+                properties.getRateLimit().getRelay().size(), properties.getRateLimit().getDomains().keySet());
+        // The relay limits admit the quota of every relay not ejected
+        return new OutboundRateLimiter(properties.getRateLimit(),
+                mailSender.getIfAvailable() instanceof LoadBalancedMailSender balanced
+                        ? balanced::getAvailableRelayCount : () -> 1);
+    }
+
+    /**
+     * Durable outbox (notification.outbox.enabled=true): emails are journaled on disk before
+     * delivery and retried until acknowledged, surviving restarts.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "notification.outbox", name = "enabled", havingValue = "true")
+    public NotificationOutbox notificationOutbox(NotificationProperties properties,
+                                                 NotificationDispatcher notificationDispatcher,
+                                                 JavaMailSender mailSender,
+                                                 ObjectProvider<OutboundRateLimiter> outboundRateLimiter) throws IOException {
+        NotificationProperties.Outbox config = properties.getOutbox();
+        NotificationOutbox outbox = new NotificationOutbox(config, notificationDispatcher,
+                new EmailSender(mailSender, properties)::send, outboundRateLimiter.getIfAvailable(),
+                properties.getMail().getTemplates()::priorityOf);
+        log.info("✅ [SEND-NOTIFICATION] Notification outbox configured - Directory: {}, Pending: {}",
+                config.getDirectory(), outbox.getPendingCount());
+        return outbox;
+    }
+
+    /**
+     * Redelivers the pending outbox emails once every bean is created, so the NotificationListener
+     * beans attached by {@link SendEmailNotification} are notified of them.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.outbox", name = "enabled", havingValue = "true")
+    public SmartInitializingSingleton notificationOutboxStarter(ObjectProvider<NotificationOutbox> notificationOutbox) {
+        return () -> notificationOutbox.ifAvailable(NotificationOutbox::start);
+    }
+
+    /**
+     * Closed on shutdown, sending the approval emails held by the digest window (notification.digest).
+     */
     @Bean
     @ConditionalOnMissingBean
     public SendEmailNotification sendEmailNotification(
             JavaMailSender mailSender,
             LoadTemplateConfig loadTemplateConfig,
-            NotificationProperties properties) {
+            NotificationProperties properties,
+            NotificationDispatcher notificationDispatcher,
+            ObjectProvider<NotificationOutbox> notificationOutbox,
+            ObjectProvider<NotificationListener> notificationListeners,
+            ObjectProvider<OutboundRateLimiter> outboundRateLimiter) {
+        SendEmailNotification sendEmailNotification = new SendEmailNotification(mailSender, loadTemplateConfig,
+                properties, notificationDispatcher, notificationOutbox.getIfAvailable(),
+                outboundRateLimiter.getIfAvailable());
+        notificationListeners.orderedStream().forEach(sendEmailNotification::addListener);
         log.info("🚀 [SEND-NOTIFICATION] SendEmailNotification bean created successfully");
-        return new SendEmailNotification(mailSender, loadTemplateConfig, properties);
+        return sendEmailNotification;
     }
 
-}
\ No newline at end of file
+    private static JavaMailSenderImpl createMailSender(NotificationProperties.MailConfig config, String host,
+                                                       Integer port, String username, String password) {
+        JavaMailSenderImpl mailSender = config.getPool().isEnabled()
+                ? new PooledMailSender(config.getPool())
+                : new JavaMailSenderImpl();
+        mailSender.setHost(host);
+        mailSender.setPort(port);
+        mailSender.setProtocol(config.getProtocol());
+        mailSender.setDefaultEncoding(config.getDefaultEncoding());
+
+        if (username != null) {
+            mailSender.setUsername(username);
+        }
+
+        if (password != null) {
+            mailSender.setPassword(password);
+        }
+
+        Properties props = mailSender.getJavaMailProperties();
+        config.getProperties().forEach(props::setProperty);
+
+        return mailSender;
+    }
+}
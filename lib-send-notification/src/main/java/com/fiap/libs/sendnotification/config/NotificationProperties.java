@@ -1,9 +1,16 @@
 package com.fiap.libs.sendnotification.config;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,6 +34,32 @@ import java.util.Map;
  *       service-order-finalized:
  *         path: template/service_order_finalized_email.html
  *         subject: Your order is ready!
+ *     pool:
+ *       max-connections: 4
+ *       idle-timeout: 60s
+ *     relays:
+ *       - host: smtp-a.example.com
+ *         weight: 2
+ *       - host: smtp-b.example.com
+ *   rate-limit:
+ *     enabled: true
+ *     relay:
+ *       - limit: 20
+ *         period: 1m
+ *       - limit: 2000
+ *         period: 1d
+ *   outbox:
+ *     enabled: true
+ *     directory: /var/lib/app/notification-outbox
+ *   dispatcher:
+ *     concurrency: 16
+ *     queue-capacity: 1000
+ *     overflow-policy: CALLER_RUNS
+ *     shutdown-timeout: 30s
+ *     weights:
+ *       HIGH: 8
+ *       NORMAL: 4
+ *       LOW: 1
  * </pre>
  */
 @Data
@@ -35,6 +68,208 @@ public class NotificationProperties {
 
     private MailConfig mail = new MailConfig();
 
+    private Dispatcher dispatcher = new Dispatcher();
+
+    private Outbox outbox = new Outbox();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Digest digest = new Digest();
+
+    @Data
+    public static class Digest {
+        /**
+         * Merge approval emails sent to the same recipient within the window into a single
+         * digest email. Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long the first email of a recipient waits for others. Default: 30s
+         */
+        private Duration window = Duration.ofSeconds(30);
+
+        /**
+         * Emails that close the window early. Default: 10
+         */
+        private int maxItems = 10;
+    }
+
+    @Data
+    public static class RateLimit {
+        /**
+         * Delay deliveries that exceed the relay or recipient domain limits. Delayed emails are
+         * queued and sent later, up to max-wait and max-delayed. Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Limits of the SMTP relay, all enforced together (ex: per minute and per day).
+         * Default: 60 per minute
+         */
+        private List<Bucket> relay = new ArrayList<>(List.of(new Bucket(60, Duration.ofMinutes(1), 0)));
+
+        /**
+         * Limit of each recipient domain without a specific entry. Default: unlimited
+         */
+        private Bucket domainDefault = new Bucket();
+
+        /**
+         * Limits of specific recipient domains (ex: "[gmail.com]").
+         */
+        private Map<String, Bucket> domains = new HashMap<>();
+
+        /**
+         * Longest wait accepted for an email; emails that would wait longer are refused (failed
+         * result, or retried later by the outbox) instead of held in memory. Default: 15m
+         */
+        private Duration maxWait = Duration.ofMinutes(15);
+
+        /**
+         * Maximum number of emails waiting for their slot; further emails over the limits are
+         * refused. Default: 1000
+         */
+        private int maxDelayed = 1000;
+
+        @Data
+        public static class Bucket {
+            /**
+             * Emails allowed per period, 0 for unlimited. Default: 0
+             */
+            private int limit = 0;
+
+            /**
+             * Default: 1m
+             */
+            private Duration period = Duration.ofMinutes(1);
+
+            /**
+             * Emails that may be sent at once before the rate applies, 0 for the whole limit.
+             * Lower values spread the sends evenly over the period. Default: 0
+             */
+            private int burst = 0;
+
+            public Bucket() {
+            }
+
+            public Bucket(int limit, Duration period, int burst) {
+                this.limit = limit;
+                this.period = period;
+                this.burst = burst;
+            }
+        }
+    }
+
+    @Data
+    public static class Outbox {
+        /**
+         * Journal rendered emails on disk before delivery and retry failed deliveries. Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory of the journal segments (use a persistent volume). Default: notification-outbox
+         */
+        private String directory = "notification-outbox";
+
+        /**
+         * Size of each memory-mapped journal segment. Default: 16MB
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+        /**
+         * Flush every journal write to the storage device (survives OS crashes, not only process
+         * crashes). Default: true
+         */
+        private boolean fsync = true;
+
+        /**
+         * Delivery attempts before an email is given up. Default: 10
+         */
+        private int maxAttempts = 10;
+
+        /**
+         * Wait before the first retry; doubles on each attempt (with jitter). Default: 1s
+         */
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        /**
+         * Maximum wait between retries. Default: 5m
+         */
+        private Duration maxBackoff = Duration.ofMinutes(5);
+
+        /**
+         * Interval between journal compactions (removal of fully delivered segments). Default: 1m
+         */
+        private Duration compactionInterval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Dispatcher {
+        /**
+         * Maximum number of emails delivered concurrently (one virtual thread each). Default: 16
+         */
+        private int concurrency = 16;
+
+        /**
+         * Maximum number of emails waiting for delivery in each priority lane. Default: 1000
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * Share of the workers given to each priority lane while several lanes have emails waiting
+         * (a lane alone uses every worker). Default: HIGH=8, NORMAL=4, LOW=1
+         */
+        private Map<Priority, Integer> weights = new EnumMap<>(Map.of(
+                Priority.HIGH, 8,
+                Priority.NORMAL, 4,
+                Priority.LOW, 1
+        ));
+
+        /**
+         * What to do when the queue is full. Default: CALLER_RUNS
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+
+        /**
+         * Time given to queued emails to be delivered when the application stops. Default: 30s
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+        public enum OverflowPolicy {
+            /**
+             * Fail the submission.
+             */
+            REJECT,
+
+            /**
+             * Deliver in the calling thread (slows the producer down). Applies to direct callers
+             * only: resubmissions by the rate limiter, the digest and the outbox are rejected
+             * (and retried by the outbox).
+             */
+            CALLER_RUNS,
+
+            /**
+             * Discard the oldest queued email to make room.
+             */
+            DROP_OLDEST
+        }
+
+        public enum Priority {
+            /**
+             * Emails that block the customer (ex: approval links).
+             */
+            HIGH,
+
+            NORMAL,
+
+            /**
+             * Informational emails that may wait (ex: welcome).
+             */
+            LOW
+        }
+    }
+
     @Data
     public static class MailConfig {
         /**
@@ -87,6 +322,97 @@ public class NotificationProperties {
          */
         private Templates templates = new Templates();
 
+        /**
+         * SMTP connection pool configuration.
+         */
+        private Pool pool = new Pool();
+
+        /**
+         * SMTP relays to balance emails across. When empty, host/port/username/password are used.
+         */
+        private List<Relay> relays = new ArrayList<>();
+
+        /**
+         * Ejection and re-probe of failing relays (only with relays).
+         */
+        private RelayHealth relayHealth = new RelayHealth();
+
+        @Data
+        public static class Relay {
+            private String host;
+
+            /**
+             * Default: 587
+             */
+            private Integer port = 587;
+
+            /**
+             * Login user, defaults to mail.username.
+             */
+            private String username;
+
+            /**
+             * Login password, defaults to mail.password.
+             */
+            private String password;
+
+            /**
+             * Share of the load relative to the other relays. Default: 1
+             */
+            private int weight = 1;
+        }
+
+        @Data
+        public static class RelayHealth {
+            /**
+             * Consecutive connection failures that eject a relay. Default: 3
+             */
+            private int failureThreshold = 3;
+
+            /**
+             * Time an ejected relay stays out before it is probed. Default: 30s
+             */
+            private Duration openDuration = Duration.ofSeconds(30);
+
+            /**
+             * Interval of the background check of ejected relays. Default: 5s
+             */
+            private Duration probeInterval = Duration.ofSeconds(5);
+        }
+
+        @Data
+        public static class Pool {
+            /**
+             * Reuse authenticated SMTP connections across sends. Default: true
+             */
+            private boolean enabled = true;
+
+            /**
+             * Maximum number of open SMTP connections. Default: 4
+             */
+            private int maxConnections = 4;
+
+            /**
+             * Maximum number of queued messages sent in one batch over a single connection. Default: 20
+             */
+            private int batchSize = 20;
+
+            /**
+             * Messages sent over a connection before it is recycled. Default: 100
+             */
+            private int maxMessagesPerConnection = 100;
+
+            /**
+             * Idle connections older than this are closed. Default: 60s
+             */
+            private Duration idleTimeout = Duration.ofSeconds(60);
+
+            /**
+             * Connections idle for longer than this are checked (SMTP NOOP) before reuse. Default: 5s
+             */
+            private Duration validationInterval = Duration.ofSeconds(5);
+        }
+
         @Data
         public static class From {
             /**
@@ -102,12 +428,19 @@ public class NotificationProperties {
 
         @Data
         public static class Templates {
+            /**
+             * HTML-escape placeholder values (&amp;, &lt;, &gt;, quotes) when rendering templates.
+             * Default: false
+             */
+            private boolean escapeHtml = false;
+
             /**
              * Welcome email template configuration.
              */
             private EmailTemplate welcome = new EmailTemplate(
                     "template/email_welcome_content.html",
-                    "Welcome!"
+                    "Welcome!",
+                    Dispatcher.Priority.LOW
             );
 
             /**
@@ -123,9 +456,55 @@ public class NotificationProperties {
              */
             private EmailTemplate serviceOrderApproval = new EmailTemplate(
                     "templates/service_order_approval_email.html",
-                    "Sua OS está aguardando aprovação!"
+                    "Sua OS está aguardando aprovação!",
+                    Dispatcher.Priority.HIGH
+            );
+
+            /**
+             * Digest of several service order approvals (notification.digest.enabled).
+             */
+            private DigestTemplate serviceOrderApprovalDigest = new DigestTemplate(
+                    "template/service_order_approval_digest_email.html",
+                    "Suas OS estão aguardando aprovação!",
+                    Dispatcher.Priority.HIGH,
+                    "template/service_order_approval_digest_item.html"
             );
 
+            /**
+             * Dispatcher lane of an email type. The type is the name of its template property
+             * (ex: service-order-approval); unknown types are NORMAL.
+             */
+            public Dispatcher.Priority priorityOf(String type) {
+                EmailTemplate template = switch (type == null ? "" : type) {
+                    case "welcome" -> welcome;
+                    case "service-order-finalized" -> serviceOrderFinalized;
+                    case "service-order-approval" -> serviceOrderApproval;
+                    case "service-order-approval-digest" -> serviceOrderApprovalDigest;
+                    default -> null;
+                };
+                return template != null && template.getPriority() != null
+                        ? template.getPriority()
+                        : Dispatcher.Priority.NORMAL;
+            }
+
+            @Data
+            @EqualsAndHashCode(callSuper = true)
+            @ToString(callSuper = true)
+            public static class DigestTemplate extends EmailTemplate {
+                /**
+                 * Template of each item, rendered into the {{itens}} placeholder.
+                 */
+                private String itemPath;
+
+                public DigestTemplate() {
+                }
+
+                public DigestTemplate(String path, String subject, Dispatcher.Priority priority, String itemPath) {
+                    super(path, subject, priority);
+                    this.itemPath = itemPath;
+                }
+            }
+
             @Data
             public static class EmailTemplate {
                 /**
@@ -138,6 +517,11 @@ public class NotificationProperties {
                  */
                 private String subject;
 
+                /**
+                 * Dispatcher lane of the email (HIGH, NORMAL, LOW). Default: NORMAL
+                 */
+                private Dispatcher.Priority priority = Dispatcher.Priority.NORMAL;
+
                 public EmailTemplate() {
                 }
 
@@ -145,6 +529,11 @@ public class NotificationProperties {
                     this.path = path;
                     this.subject = subject;
                 }
+
+                public EmailTemplate(String path, String subject, Dispatcher.Priority priority) {
+                    this(path, subject);
+                    this.priority = priority;
+                }
             }
         }
     }
@@ -0,0 +1,140 @@
+package com.fiap.libs.sendnotification.digest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Holds notifications per key (ex: recipient) for a time window and hands them over together.
+ * <p>
+ * The window starts with the first item of a key and is not extended by later items, so no item
+ * waits longer than {@code window}. A key reaching {@code maxItems} is flushed right away. Flushes
+ * run on a virtual thread (the caller's thread for {@code maxItems} and {@link #close()}).
+ *
+ * @param <T> Held item
+ */
+@Slf4j
+public class NotificationCoalescer<T> implements AutoCloseable {
+
+    private final long windowNanos;
+    private final int maxItems;
+    private final BiConsumer<String, List<T>> flush;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Open batches by key; guarded by {@code this}
+     */
+    private final Map<String, Batch<T>> batches = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * @param flush Receives the key and its items, in arrival order
+     */
+    public NotificationCoalescer(Duration window, int maxItems, BiConsumer<String, List<T>> flush) {
+        this.windowNanos = Math.max(0, window.toNanos());
+        this.maxItems = Math.max(1, maxItems);
+        this.flush = flush;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("notification-coalescer").factory());
+    }
+
+    /**
+     * Adds the item to the open batch of the key, opening one when needed.
+     */
+    public void add(String key, T item) {
+        List<T> full = null;
+        synchronized (this) {
+            if (closed) {
+                full = List.of(item);
+            } else {
+                Batch<T> batch = batches.get(key);
+                if (batch == null) {
+                    batch = new Batch<>();
+                    batches.put(key, batch);
+                    if (maxItems > 1) {
+                        batch.timer = schedule(key, batch);
+                    }
+                }
+                batch.items.add(item);
+                if (batch.items.size() >= maxItems) {
+                    batches.remove(key);
+                    if (batch.timer != null) {
+                        batch.timer.cancel(false);
+                    }
+                    full = batch.items;
+                }
+            }
+        }
+
+        if (full != null) {
+            deliver(key, full);
+        }
+    }
+
+    /**
+     * Items held in open batches
+     */
+    public synchronized int getPendingCount() {
+        return batches.values().stream().mapToInt(batch -> batch.items.size()).sum();
+    }
+
+    /**
+     * Flushes every open batch on the caller's thread. Items added afterwards are flushed alone,
+     * right away.
+     */
+    @Override
+    public void close() {
+        Map<String, Batch<T>> open;
+        synchronized (this) {
+            closed = true;
+            open = new HashMap<>(batches);
+            batches.clear();
+        }
+        scheduler.shutdownNow();
+
+        open.forEach((key, batch) -> deliver(key, batch.items));
+        log.info("✅ [SEND-NOTIFICATION] Notification coalescer closed - Flushed batches: {}", open.size());
+    }
+
+    private ScheduledFuture<?> schedule(String key, Batch<T> batch) {
+        try {
+            return scheduler.schedule(() -> expire(key, batch), windowNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closing: close() flushes the batch
+            return null;
+        }
+    }
+
+    private void expire(String key, Batch<T> batch) {
+        synchronized (this) {
+            // The batch may have been flushed by maxItems or close() meanwhile
+            if (!batches.remove(key, batch)) {
+                return;
+            }
+        }
+        deliver(key, batch.items);
+    }
+
+    private void deliver(String key, List<T> items) {
+        try {
+            flush.accept(key, items);
+        } catch (Exception e) {
+            log.error("Error when flushing {} coalesced notifications: {}", items.size(), e.getMessage(), e);
+        }
+    }
+
+    private static final class Batch<T> {
+        private final List<T> items = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+    }
+}
@@ -0,0 +1,350 @@
+package com.fiap.libs.sendnotification.dispatcher;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.config.NotificationProperties.Dispatcher.OverflowPolicy;
+import com.fiap.libs.sendnotification.config.NotificationProperties.Dispatcher.Priority;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded executor dedicated to notification delivery.
+ * <p>
+ * Deliveries block on SMTP I/O, so they run on a fixed number of virtual-thread workers instead of
+ * the common ForkJoinPool. Pending deliveries wait in a bounded queue per {@link Priority} (lane);
+ * when a lane is full the configured {@link OverflowPolicy} applies to it. Workers serve the lanes
+ * by smooth weighted round-robin: while several lanes have deliveries waiting each one gets a share
+ * of the workers proportional to its weight, so a burst of low priority emails never queues ahead
+ * of high priority ones. On {@link #close()} new submissions are rejected and the lanes are drained
+ * for up to the shutdown timeout.
+ * <p>
+ * {@link OverflowPolicy#CALLER_RUNS} is meant for direct callers: internal schedulers (rate
+ * limiter, digest, outbox) submit through {@link #withoutCallerRuns()}, so a full lane never runs
+ * an SMTP send on a thread that other delayed tasks depend on.
+ */
+@Slf4j
+public class NotificationDispatcher implements Executor, AutoCloseable {
+
+    private static final Map<Priority, Integer> DEFAULT_WEIGHTS = new NotificationProperties.Dispatcher().getWeights();
+
+    private final Lane[] lanes;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration shutdownTimeout;
+    private final List<Thread> workers;
+    private final Executor withoutCallerRuns = task -> execute(task, false);
+
+    /**
+     * Guards the lanes and {@code accepting}
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    private volatile boolean accepting = true;
+
+    public NotificationDispatcher(NotificationProperties.Dispatcher config) {
+        this(config.getConcurrency(), config.getQueueCapacity(), config.getOverflowPolicy(), config.getShutdownTimeout(),
+                config.getWeights());
+    }
+
+    public NotificationDispatcher(int concurrency, int queueCapacity, OverflowPolicy overflowPolicy,
+                                  Duration shutdownTimeout) {
+        this(concurrency, queueCapacity, overflowPolicy, shutdownTimeout, DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * @param queueCapacity Capacity of each lane
+     * @param weights       Weight of each lane; missing lanes weigh 1
+     */
+    public NotificationDispatcher(int concurrency, int queueCapacity, OverflowPolicy overflowPolicy,
+                                  Duration shutdownTimeout, Map<Priority, Integer> weights) {
+        if (concurrency <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("concurrency and queue-capacity must be greater than zero");
+        }
+
+        this.lanes = new Lane[Priority.values().length];
+        for (Priority priority : Priority.values()) {
+            lanes[priority.ordinal()] = new Lane(priority, Math.max(1, weights.getOrDefault(priority, 1)));
+        }
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+        this.workers = new ArrayList<>(concurrency);
+
+        Thread.Builder builder = Thread.ofVirtual().name("notification-dispatcher-", 0);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(builder.start(this::work));
+        }
+    }
+
+    /**
+     * Queues a delivery in the lane of its priority ({@link PrioritizedTask}), or in the
+     * {@link Priority#NORMAL} lane.
+     *
+     * @throws RejectedExecutionException if the dispatcher is closed, or the lane is full and the
+     *                                    policy is {@link OverflowPolicy#REJECT}
+     */
+    @Override
+    public void execute(Runnable task) {
+        execute(task, true);
+    }
+
+    /**
+     * View of this dispatcher for internal resubmissions: with {@link OverflowPolicy#CALLER_RUNS}
+     * a full lane rejects the task (RejectedExecutionException) instead of running it on the
+     * submitting thread; the submitter retries it or reports the failure.
+     */
+    public Executor withoutCallerRuns() {
+        return withoutCallerRuns;
+    }
+
+    private void execute(Runnable task, boolean callerMayRun) {
+        Lane lane = lanes[priorityOf(task).ordinal()];
+        Runnable oldest;
+
+        lock.lock();
+        try {
+            if (!accepting) {
+                rejected.increment();
+                throw new RejectedExecutionException("Notification dispatcher is shut down");
+            }
+
+            if (lane.queue.size() < queueCapacity) {
+                enqueue(lane, task);
+                return;
+            }
+
+            switch (callerMayRun ? overflowPolicy : rejectIfCallerRuns(overflowPolicy)) {
+                case REJECT -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Notification queue " + lane.priority
+                            + " is full (" + lane.queue.size() + " pending)");
+                }
+                case DROP_OLDEST -> {
+                    oldest = lane.queue.poll();
+                    enqueue(lane, task);
+                }
+                default -> oldest = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (oldest != null) {
+            // Outside the lock: cancelling may resubmit the task (ex: outbox retry)
+            discard(oldest);
+            log.warn("⚠️ [SEND-NOTIFICATION] Notification queue {} is full, oldest pending notification dropped",
+                    lane.priority);
+        } else {
+            // CALLER_RUNS
+            callerRuns.increment();
+            submitted.increment();
+            run(task);
+        }
+    }
+
+    /**
+     * Stops accepting deliveries and waits for the queued ones, up to the shutdown timeout.
+     * Deliveries still pending after the timeout are discarded.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (!accepting) {
+                return;
+            }
+            accepting = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        try {
+            for (Thread worker : workers) {
+                worker.join(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        workers.forEach(Thread::interrupt);
+
+        List<Runnable> pending = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Lane lane : lanes) {
+                pending.addAll(lane.queue);
+                lane.queue.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+        pending.forEach(this::discard);
+
+        if (pending.isEmpty()) {
+            log.info("✅ [SEND-NOTIFICATION] Notification dispatcher stopped");
+        } else {
+            log.warn("⚠️ [SEND-NOTIFICATION] Notification dispatcher stopped with {} pending notifications discarded",
+                    pending.size());
+        }
+    }
+
+    /**
+     * Deliveries waiting in all lanes
+     */
+    public int getQueueSize() {
+        lock.lock();
+        try {
+            int size = 0;
+            for (Lane lane : lanes) {
+                size += lane.queue.size();
+            }
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueueSize(Priority priority) {
+        lock.lock();
+        try {
+            return lanes[priority.ordinal()].queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRuns.sum();
+    }
+
+    private void work() {
+        try {
+            Runnable task;
+            while ((task = take()) != null) {
+                run(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Next delivery, waiting for one while accepting
+     *
+     * @return null once closed and every lane is empty
+     */
+    private Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            for (;;) {
+                Runnable task = next();
+                if (task != null) {
+                    return task;
+                }
+                if (!accepting) {
+                    return null;
+                }
+                notEmpty.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Smooth weighted round-robin among the non-empty lanes: each one earns its weight, the richest
+     * is served and pays the total. Idle lanes keep no credit, so they cannot burst when they wake up.
+     */
+    private Runnable next() {
+        Lane selected = null;
+        int totalWeight = 0;
+        for (Lane lane : lanes) {
+            if (lane.queue.isEmpty()) {
+                lane.credit = 0;
+                continue;
+            }
+            lane.credit += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.credit > selected.credit) {
+                selected = lane;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        selected.credit -= totalWeight;
+        return selected.queue.poll();
+    }
+
+    private void enqueue(Lane lane, Runnable task) {
+        lane.queue.add(task);
+        submitted.increment();
+        notEmpty.signal();
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            log.error("Unexpected error while delivering notification: {}", e.getMessage(), e);
+        }
+    }
+
+    private void discard(Runnable task) {
+        dropped.increment();
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+
+    private static OverflowPolicy rejectIfCallerRuns(OverflowPolicy policy) {
+        return policy == OverflowPolicy.CALLER_RUNS ? OverflowPolicy.REJECT : policy;
+    }
+
+    private static Priority priorityOf(Runnable task) {
+        return task instanceof PrioritizedTask<?> prioritized ? prioritized.getPriority() : Priority.NORMAL;
+    }
+
+    private static final class Lane {
+        private final Priority priority;
+        private final int weight;
+        private final Deque<Runnable> queue = new ArrayDeque<>();
+        private int credit;
+
+        private Lane(Priority priority, int weight) {
+            this.priority = priority;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fiap.libs.sendnotification.dispatcher;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties.Dispatcher.Priority;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Delivery queued in the lane of its priority by the {@link NotificationDispatcher}. Other
+ * tasks go to the {@link Priority#NORMAL} lane.
+ * <p>
+ * Being a {@link FutureTask}, a task discarded by the dispatcher (DROP_OLDEST, shutdown) is
+ * cancelled; override {@link #done()} to detect it.
+ */
+public class PrioritizedTask<V> extends FutureTask<V> {
+
+    private final Priority priority;
+
+    public PrioritizedTask(Callable<V> callable, Priority priority) {
+        super(callable);
+        this.priority = priority != null ? priority : Priority.NORMAL;
+    }
+
+    public PrioritizedTask(Runnable runnable, V result, Priority priority) {
+        super(runnable, result);
+        this.priority = priority != null ? priority : Priority.NORMAL;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+}
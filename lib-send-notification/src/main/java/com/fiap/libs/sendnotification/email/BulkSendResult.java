@@ -0,0 +1,41 @@
+package com.fiap.libs.sendnotification.email;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk send: one item per input record, in the input order.
+ */
+public record BulkSendResult(List<Item> items) {
+
+    public enum Status {
+        /**
+         * Accepted by the SMTP server
+         */
+        SENT,
+        /**
+         * Recorded in the outbox, delivered (with retries) in background
+         */
+        QUEUED,
+        FAILED,
+        /**
+         * Same recipient and key as a previous record of the batch, not sent
+         */
+        DUPLICATE
+    }
+
+    /**
+     * @param key   Record key (ex: order number)
+     * @param to    Recipient email
+     * @param error Failure message, only for {@link Status#FAILED}
+     */
+    public record Item(String key, String to, Status status, String error) {
+    }
+
+    public long count(Status status) {
+        return items.stream().filter(item -> item.status() == status).count();
+    }
+
+    public List<Item> failures() {
+        return items.stream().filter(item -> item.status() == Status.FAILED).toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.fiap.libs.sendnotification.email;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the MIME messages of rendered emails and sends them (synchronously).
+ */
+@RequiredArgsConstructor
+public class EmailSender {
+
+    private final JavaMailSender mailSender;
+    private final NotificationProperties properties;
+
+    /**
+     * @return {@code Message-ID} of the sent message
+     */
+    public String send(RenderedEmail email) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = createMessage(email);
+        mailSender.send(message);
+        return message.getMessageID();
+    }
+
+    /**
+     * Sends the emails in a single {@link JavaMailSender#send(MimeMessage...)} call, so they share
+     * the SMTP connection(s) instead of one connection per email.
+     *
+     * @return Outcome of each email, in the same order
+     */
+    public List<Outcome> sendAll(List<RenderedEmail> emails) {
+        Exception[] failures = new Exception[emails.size()];
+        MimeMessage[] messages = new MimeMessage[emails.size()];
+        List<MimeMessage> created = new ArrayList<>(emails.size());
+
+        for (int i = 0; i < emails.size(); i++) {
+            try {
+                messages[i] = createMessage(emails.get(i));
+                created.add(messages[i]);
+            } catch (Exception e) {
+                failures[i] = e;
+            }
+        }
+
+        if (!created.isEmpty()) {
+            try {
+                mailSender.send(created.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                for (int i = 0; i < messages.length; i++) {
+                    if (messages[i] != null) {
+                        failures[i] = failedMessages.isEmpty() ? e : failedMessages.get(messages[i]);
+                    }
+                }
+            } catch (MailException e) {
+                for (int i = 0; i < messages.length; i++) {
+                    if (messages[i] != null) {
+                        failures[i] = e;
+                    }
+                }
+            }
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(emails.size());
+        for (int i = 0; i < emails.size(); i++) {
+            outcomes.add(failures[i] != null ? new Outcome(null, failures[i]) : new Outcome(messageId(messages[i]), null));
+        }
+        return outcomes;
+    }
+
+    /**
+     * @param messageId {@code Message-ID} of the sent message
+     * @param failure   Null when the email was accepted by the server
+     */
+    public record Outcome(String messageId, Exception failure) {
+    }
+
+    private static String messageId(MimeMessage message) {
+        try {
+            return message.getMessageID();
+        } catch (MessagingException e) {
+            return null;
+        }
+    }
+
+    private MimeMessage createMessage(RenderedEmail email) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(
+                message,
+                true,
+                properties.getMail().getDefaultEncoding()
+        );
+
+        helper.setFrom(
+                properties.getMail().getFrom().getAddress(),
+                properties.getMail().getFrom().getName()
+        );
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.htmlBody(), true);
+        return message;
+    }
+}
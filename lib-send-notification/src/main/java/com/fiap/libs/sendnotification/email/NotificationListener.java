@@ -0,0 +1,13 @@
+package com.fiap.libs.sendnotification.email;
+
+/**
+ * Callback for the final outcome of every email (delivered or failed).
+ * <p>
+ * Spring beans implementing this interface are registered automatically. Listeners run on the
+ * delivery thread, so they must be fast and non-blocking; exceptions are logged and ignored.
+ */
+@FunctionalInterface
+public interface NotificationListener {
+
+    void onComplete(NotificationResult result);
+}
@@ -0,0 +1,36 @@
+package com.fiap.libs.sendnotification.email;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registered {@link NotificationListener}s, notified before the caller's future is completed.
+ */
+@Slf4j
+public class NotificationListeners {
+
+    private final List<NotificationListener> listeners = new CopyOnWriteArrayList<>();
+
+    public void add(NotificationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Notifies the listeners and completes the future (if any) with the result.
+     */
+    public void complete(CompletableFuture<NotificationResult> future, NotificationResult result) {
+        for (NotificationListener listener : listeners) {
+            try {
+                listener.onComplete(result);
+            } catch (Exception e) {
+                log.warn("Notification listener {} failed: {}", listener.getClass().getName(), e.getMessage());
+            }
+        }
+        if (future != null) {
+            future.complete(result);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.libs.sendnotification.email;
+
+import java.time.Duration;
+
+/**
+ * Outcome of the delivery of one email.
+ *
+ * @param type      Email type (ex: {@code service-order-approval})
+ * @param to        Recipient email
+ * @param messageId {@code Message-ID} header of the sent message, null when not sent
+ * @param attempts  Delivery attempts (0 when the email was not rendered or not accepted for delivery)
+ * @param latency   Time from the request to the final outcome
+ * @param failure   Cause of the failure, null when the email was delivered
+ */
+public record NotificationResult(String type,
+                                 String to,
+                                 String messageId,
+                                 int attempts,
+                                 Duration latency,
+                                 Throwable failure) {
+
+    public static NotificationResult delivered(RenderedEmail email, String messageId, int attempts, long startNanos) {
+        return new NotificationResult(email.type(), email.to(), messageId, attempts, since(startNanos), null);
+    }
+
+    public static NotificationResult failed(String type, String to, int attempts, long startNanos, Throwable failure) {
+        return new NotificationResult(type, to, null, attempts, since(startNanos), failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    private static Duration since(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+}
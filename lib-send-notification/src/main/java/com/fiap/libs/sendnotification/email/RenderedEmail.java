@@ -0,0 +1,17 @@
+package com.fiap.libs.sendnotification.email;
+
+/**
+ * Email ready for delivery: template already rendered.
+ *
+ * @param type Template key (ex: welcome, service-order-finalized)
+ * @param to Recipient address
+ * @param subject Subject line
+ * @param htmlBody Rendered HTML body
+ */
+public record RenderedEmail(
+        String type,
+        String to,
+        String subject,
+        String htmlBody
+) {
+}
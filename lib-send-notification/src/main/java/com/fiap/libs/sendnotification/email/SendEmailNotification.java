@@ -2,156 +2,621 @@ package com.fiap.libs.sendnotification.email;
 
 import com.fiap.libs.observability.annotation.LogOperation;
 import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.digest.NotificationCoalescer;
+import com.fiap.libs.sendnotification.dispatcher.NotificationDispatcher;
+import com.fiap.libs.sendnotification.dispatcher.PrioritizedTask;
 import com.fiap.libs.sendnotification.email.config.LoadTemplateConfig;
 import com.fiap.libs.sendnotification.email.dto.CustomerRecord;
 import com.fiap.libs.sendnotification.email.dto.ServiceOrderApprovalRecord;
 import com.fiap.libs.sendnotification.email.dto.ServiceOrderRecord;
-import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
+import com.fiap.libs.sendnotification.email.template.CompiledTemplate;
+import com.fiap.libs.sendnotification.outbox.NotificationOutbox;
+import com.fiap.libs.sendnotification.ratelimit.OutboundRateLimiter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
+/**
+ * Renders and sends the notification emails.
+ * <p>
+ * With {@code notification.digest.enabled}, approval emails to the same recipient within the
+ * window are merged into a single digest email; {@link #close()} sends the ones still held.
+ */
 @Slf4j
-@RequiredArgsConstructor
-public class SendEmailNotification {
+public class SendEmailNotification implements AutoCloseable {
+
+    public static final String TYPE_WELCOME = "welcome";
+    public static final String TYPE_SERVICE_ORDER_FINALIZED = "service-order-finalized";
+    public static final String TYPE_SERVICE_ORDER_APPROVAL = "service-order-approval";
+    public static final String TYPE_SERVICE_ORDER_APPROVAL_DIGEST = "service-order-approval-digest";
 
-    private final JavaMailSender mailSender;
     private final LoadTemplateConfig loadTemplateConfig;
     private final NotificationProperties properties;
+    private final NotificationDispatcher dispatcher;
+    private final NotificationOutbox outbox;
+    private final OutboundRateLimiter rateLimiter;
+    private final EmailSender emailSender;
+    private final NotificationListeners listeners = new NotificationListeners();
+    private final NotificationCoalescer<PendingApproval> approvalDigest;
+
+    /**
+     * Whether the dispatcher was created here, and so is closed by {@link #close()}
+     */
+    private final boolean ownsDispatcher;
+
+    /**
+     * Creates the service with its own dispatcher, configured from {@code notification.dispatcher}
+     * and closed by {@link #close()}.
+     */
+    public SendEmailNotification(JavaMailSender mailSender,
+                                 LoadTemplateConfig loadTemplateConfig,
+                                 NotificationProperties properties) {
+        this(mailSender, loadTemplateConfig, properties, new NotificationDispatcher(properties.getDispatcher()),
+                null, null, true);
+    }
+
+    @Autowired
+    public SendEmailNotification(JavaMailSender mailSender,
+                                 LoadTemplateConfig loadTemplateConfig,
+                                 NotificationProperties properties,
+                                 NotificationDispatcher dispatcher) {
+        this(mailSender, loadTemplateConfig, properties, dispatcher, null);
+    }
+
+    public SendEmailNotification(JavaMailSender mailSender,
+                                 LoadTemplateConfig loadTemplateConfig,
+                                 NotificationProperties properties,
+                                 NotificationDispatcher dispatcher,
+                                 NotificationOutbox outbox) {
+        this(mailSender, loadTemplateConfig, properties, dispatcher, outbox, null);
+    }
+
+    /**
+     * @param outbox      Durable outbox used for delivery (with retries); {@code null} sends directly
+     *                    through the dispatcher
+     * @param rateLimiter Delays direct and bulk sends that exceed the relay or domain limits; may be
+     *                    {@code null}. The outbox applies its own limiter.
+     */
+    public SendEmailNotification(JavaMailSender mailSender,
+                                 LoadTemplateConfig loadTemplateConfig,
+                                 NotificationProperties properties,
+                                 NotificationDispatcher dispatcher,
+                                 NotificationOutbox outbox,
+                                 OutboundRateLimiter rateLimiter) {
+        this(mailSender, loadTemplateConfig, properties, dispatcher, outbox, rateLimiter, false);
+    }
+
+    private SendEmailNotification(JavaMailSender mailSender,
+                                  LoadTemplateConfig loadTemplateConfig,
+                                  NotificationProperties properties,
+                                  NotificationDispatcher dispatcher,
+                                  NotificationOutbox outbox,
+                                  OutboundRateLimiter rateLimiter,
+                                  boolean ownsDispatcher) {
+        this.loadTemplateConfig = loadTemplateConfig;
+        this.properties = properties;
+        this.dispatcher = dispatcher;
+        this.outbox = outbox;
+        this.rateLimiter = rateLimiter;
+        this.ownsDispatcher = ownsDispatcher;
+        this.emailSender = new EmailSender(mailSender, properties);
+
+        var digest = properties.getDigest();
+        this.approvalDigest = digest.isEnabled()
+                ? new NotificationCoalescer<>(digest.getWindow(), digest.getMaxItems(), this::sendApprovalDigest)
+                : null;
+    }
 
     @LogOperation("Send email notification welcome")
     public void sendEmailWelcome(CustomerRecord client) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                var welcomeConfig = properties.getMail().getTemplates().getWelcome();
-                String template = loadTemplateConfig.loadTemplate(welcomeConfig.getPath());
+        sendEmailWelcomeAsync(client);
+    }
+
+    /**
+     * Same as {@link #sendEmailWelcome(CustomerRecord)}, returning the delivery outcome.
+     * The future is never completed exceptionally: failures are reported in the result.
+     */
+    @LogOperation(value = "Send email notification welcome", logResult = false)
+    public CompletableFuture<NotificationResult> sendEmailWelcomeAsync(CustomerRecord client) {
+        long startNanos = System.nanoTime();
+        try {
+            var welcomeConfig = properties.getMail().getTemplates().getWelcome();
+            return submit(renderWelcome(client, welcomeConfig, template(welcomeConfig)), startNanos);
+
+        } catch (Exception e) {
+            log.error("Error when send welcome email to {}: {}", client.nickName(), e.getMessage(), e);
+            return failed(TYPE_WELCOME, client.email(), startNanos, e);
+        }
+    }
+
+    @LogOperation("Send service order finalized email")
+    public void sendServiceOrderFinalizedEmail(ServiceOrderRecord serviceOrder) {
+        sendServiceOrderFinalizedEmailAsync(serviceOrder);
+    }
+
+    /**
+     * Same as {@link #sendServiceOrderFinalizedEmail(ServiceOrderRecord)}, returning the delivery outcome.
+     * The future is never completed exceptionally: failures are reported in the result.
+     */
+    @LogOperation(value = "Send service order finalized email", logResult = false)
+    public CompletableFuture<NotificationResult> sendServiceOrderFinalizedEmailAsync(ServiceOrderRecord serviceOrder) {
+        long startNanos = System.nanoTime();
+        try {
+            var finalizedConfig = properties.getMail().getTemplates().getServiceOrderFinalized();
+            return submit(renderServiceOrderFinalized(serviceOrder, finalizedConfig, template(finalizedConfig)), startNanos);
+
+        } catch (Exception e) {
+            log.error("Error when sending Service Order finalized email for OS {}: {}",
+                    serviceOrder.orderNumber(),
+                    e.getMessage(),
+                    e);
+            return failed(TYPE_SERVICE_ORDER_FINALIZED, recipient(serviceOrder.client()), startNanos, e);
+        }
+    }
+
+    @LogOperation("Send service order approval email")
+    public void sendServiceOrderApprovalEmail(ServiceOrderApprovalRecord serviceOrderApproval) {
+        sendServiceOrderApprovalEmailAsync(serviceOrderApproval);
+    }
+
+    /**
+     * Same as {@link #sendServiceOrderApprovalEmail(ServiceOrderApprovalRecord)}, returning the delivery outcome.
+     * The future is never completed exceptionally: failures are reported in the result.
+     * <p>
+     * With the digest enabled the future completes when the digest is sent, with the result of the
+     * digest email (type {@value #TYPE_SERVICE_ORDER_APPROVAL_DIGEST} when it merged several orders).
+     */
+    @LogOperation(value = "Send service order approval email", logResult = false)
+    public CompletableFuture<NotificationResult> sendServiceOrderApprovalEmailAsync(ServiceOrderApprovalRecord serviceOrderApproval) {
+        long startNanos = System.nanoTime();
+        String to = recipient(serviceOrderApproval.client());
+        if (approvalDigest != null && to != null) {
+            CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+            approvalDigest.add(normalize(to), new PendingApproval(serviceOrderApproval, startNanos, future));
+            return future;
+        }
+        return sendServiceOrderApproval(serviceOrderApproval, startNanos, dispatcher);
+    }
+
+    private CompletableFuture<NotificationResult> sendServiceOrderApproval(ServiceOrderApprovalRecord serviceOrderApproval,
+                                                                          long startNanos, Executor executor) {
+        try {
+            var approvalConfig = properties.getMail().getTemplates().getServiceOrderApproval();
+            return submit(renderServiceOrderApproval(serviceOrderApproval, approvalConfig, template(approvalConfig)),
+                    startNanos, executor);
+
+        } catch (Exception e) {
+            log.error("Error when sending Service Order approval email for OS {}: {}",
+                    serviceOrderApproval.orderNumber(),
+                    e.getMessage(),
+                    e);
+            return failed(TYPE_SERVICE_ORDER_APPROVAL, recipient(serviceOrderApproval.client()), startNanos, e);
+        }
+    }
+
+    /**
+     * Sends the approval emails held by the digest window, then closes the dispatcher if it was
+     * created by this service. A dispatcher or outbox passed in is not closed, since it is shared.
+     */
+    @Override
+    public void close() {
+        if (approvalDigest != null) {
+            approvalDigest.close();
+        }
+        if (ownsDispatcher) {
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * Registers a listener notified of the outcome of every email, including the ones delivered
+     * by the outbox and by the bulk methods.
+     */
+    public void addListener(NotificationListener listener) {
+        listeners.add(listener);
+        if (outbox != null) {
+            outbox.addListener(listener);
+        }
+    }
+
+    /**
+     * Sends welcome emails to many customers, skipping repeated email addresses.
+     * Blocks until every email was sent (or queued in the outbox).
+     */
+    @LogOperation(value = "Send welcome emails in bulk", logArgs = false, logResult = false)
+    public BulkSendResult sendBulkEmailWelcome(Collection<CustomerRecord> clients) {
+        var welcomeConfig = properties.getMail().getTemplates().getWelcome();
+        return sendBulk(TYPE_WELCOME, clients, client -> normalize(client.email()), CustomerRecord::email,
+                (client, template) -> renderWelcome(client, welcomeConfig, template), welcomeConfig);
+    }
+
+    /**
+     * Sends finalized emails for many service orders, skipping repeated recipient/order pairs.
+     * Blocks until every email was sent (or queued in the outbox).
+     */
+    @LogOperation(value = "Send service order finalized emails in bulk", logArgs = false, logResult = false)
+    public BulkSendResult sendBulkServiceOrderFinalizedEmail(Collection<ServiceOrderRecord> serviceOrders) {
+        var finalizedConfig = properties.getMail().getTemplates().getServiceOrderFinalized();
+        return sendBulk(TYPE_SERVICE_ORDER_FINALIZED, serviceOrders,
+                ServiceOrderRecord::orderNumber, serviceOrder -> serviceOrder.client().email(),
+                (serviceOrder, template) -> renderServiceOrderFinalized(serviceOrder, finalizedConfig, template),
+                finalizedConfig);
+    }
+
+    /**
+     * Sends approval emails for many service orders, skipping repeated recipient/order pairs.
+     * Blocks until every email was sent (or queued in the outbox). Not merged into digests.
+     */
+    @LogOperation(value = "Send service order approval emails in bulk", logArgs = false, logResult = false)
+    public BulkSendResult sendBulkServiceOrderApprovalEmail(Collection<ServiceOrderApprovalRecord> approvals) {
+        var approvalConfig = properties.getMail().getTemplates().getServiceOrderApproval();
+        return sendBulk(TYPE_SERVICE_ORDER_APPROVAL, approvals,
+                ServiceOrderApprovalRecord::orderNumber, approval -> approval.client().email(),
+                (approval, template) -> renderServiceOrderApproval(approval, approvalConfig, template),
+                approvalConfig);
+    }
+
+    private RenderedEmail renderWelcome(CustomerRecord client,
+                                        NotificationProperties.MailConfig.Templates.EmailTemplate welcomeConfig,
+                                        CompiledTemplate template) {
+        Map<String, String> values = new HashMap<>();
+        values.put("cliente", client.nickName());
+
+        String htmlBody = render(template, values);
+
+        return new RenderedEmail(TYPE_WELCOME, client.email(), welcomeConfig.getSubject(), htmlBody);
+    }
+
+    private RenderedEmail renderServiceOrderFinalized(ServiceOrderRecord serviceOrder,
+                                                      NotificationProperties.MailConfig.Templates.EmailTemplate finalizedConfig,
+                                                      CompiledTemplate template) {
+        var client = serviceOrder.client();
+
+        String vehicleInfo = String.format("%s %s (%d) - Placa: %s",
+                serviceOrder.vehicleRecord().model().brand(),
+                serviceOrder.vehicleRecord().model().model(),
+                serviceOrder.vehicleRecord().model().year(),
+                serviceOrder.vehicleRecord().plate());
+
+        Map<String, String> values = new HashMap<>();
+        values.put("cliente", client.nickName());
+        values.put("osNumero", serviceOrder.orderNumber());
+        values.put("veiculo", vehicleInfo);
+        values.put("dataFinalizacao", serviceOrder.completionDate());
+
+        String htmlBody = render(template, values);
+
+        return new RenderedEmail(TYPE_SERVICE_ORDER_FINALIZED, client.email(),
+                finalizedConfig.getSubject() + " - OS " + serviceOrder.orderNumber(), htmlBody);
+    }
+
+    private RenderedEmail renderServiceOrderApproval(ServiceOrderApprovalRecord serviceOrderApproval,
+                                                     NotificationProperties.MailConfig.Templates.EmailTemplate approvalConfig,
+                                                     CompiledTemplate template) {
+        var client = serviceOrderApproval.client();
+
+        Map<String, String> values = approvalValues(serviceOrderApproval);
+        values.put("cliente", client.nickName());
+
+        String htmlBody = render(template, values);
 
-                String htmlBody = template.replace("{{cliente}}", client.nickName());
+        return new RenderedEmail(TYPE_SERVICE_ORDER_APPROVAL, client.email(),
+                approvalConfig.getSubject() + " - OS " + serviceOrderApproval.orderNumber(), htmlBody);
+    }
+
+    /**
+     * Renders one item per service order into {@code {{itens}}}. Items are escaped by the template
+     * settings; the outer template is rendered unescaped so the item HTML is kept.
+     */
+    private RenderedEmail renderServiceOrderApprovalDigest(List<ServiceOrderApprovalRecord> approvals) {
+        var digestConfig = properties.getMail().getTemplates().getServiceOrderApprovalDigest();
+        CompiledTemplate itemTemplate = loadTemplateConfig.getCompiledTemplate(digestConfig.getItemPath());
+        var client = approvals.getFirst().client();
+
+        StringBuilder items = new StringBuilder();
+        for (ServiceOrderApprovalRecord approval : approvals) {
+            items.append(render(itemTemplate, approvalValues(approval)));
+        }
+
+        Map<String, String> values = new HashMap<>();
+        values.put("cliente", properties.getMail().getTemplates().isEscapeHtml()
+                ? CompiledTemplate.escapeHtml(client.nickName())
+                : client.nickName());
+        values.put("quantidade", String.valueOf(approvals.size()));
+        values.put("itens", items.toString());
 
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(
-                        message,
-                        true,
-                        properties.getMail().getDefaultEncoding()
-                );
+        String htmlBody = template(digestConfig).render(values, false);
 
-                helper.setFrom(
-                        properties.getMail().getFrom().getAddress(),
-                        properties.getMail().getFrom().getName()
-                );
-                helper.setTo(client.email());
-                helper.setSubject(welcomeConfig.getSubject());
-                helper.setText(htmlBody, true);
+        return new RenderedEmail(TYPE_SERVICE_ORDER_APPROVAL_DIGEST, client.email(),
+                digestConfig.getSubject() + " - " + approvals.size() + " OS", htmlBody);
+    }
 
-                mailSender.send(message);
+    private static Map<String, String> approvalValues(ServiceOrderApprovalRecord serviceOrderApproval) {
+        Map<String, String> values = new HashMap<>();
+        values.put("osNumero", serviceOrderApproval.orderNumber());
+        values.put("veiculo", serviceOrderApproval.vehicleInfo() != null ? serviceOrderApproval.vehicleInfo() : "Veículo");
+        values.put("urlAprovar", serviceOrderApproval.approvalUrl());
+        values.put("urlRecusar", serviceOrderApproval.rejectionUrl());
+        return values;
+    }
 
-                log.info("Welcome email sent successfully to {}", client.email());
+    /**
+     * Flush of the digest window of a recipient: a single order is sent as the regular approval
+     * email, several as one digest. A repeated order keeps its latest data. Every caller's future
+     * is completed with the outcome of the email that carried its order. Flushes may run on the
+     * coalescer timer, so a full dispatcher rejects them instead of running them there.
+     */
+    private void sendApprovalDigest(String recipient, List<PendingApproval> pending) {
+        Map<String, ServiceOrderApprovalRecord> approvals = new LinkedHashMap<>();
+        Map<String, List<PendingApproval>> callers = new LinkedHashMap<>();
+        for (PendingApproval approval : pending) {
+            String orderNumber = approval.approval().orderNumber();
+            approvals.put(orderNumber, approval.approval());
+            callers.computeIfAbsent(orderNumber, key -> new ArrayList<>()).add(approval);
+        }
+        long startNanos = pending.getFirst().startNanos();
 
+        if (approvals.size() > 1) {
+            try {
+                RenderedEmail digest = renderServiceOrderApprovalDigest(List.copyOf(approvals.values()));
+                log.info("Merging {} approval emails to {} into a digest", approvals.size(), recipient);
+                forward(submit(digest, startNanos, dispatcher.withoutCallerRuns()), pending);
+                return;
             } catch (Exception e) {
-                log.error("Error when send welcome email to {}: {}", client.nickName(), e.getMessage(), e);
+                log.warn("⚠️ [SEND-NOTIFICATION] Error rendering approval digest to {}, sending {} emails instead: {}",
+                        recipient, approvals.size(), e.getMessage());
             }
+        }
+
+        approvals.forEach((orderNumber, approval) -> {
+            List<PendingApproval> orderCallers = callers.get(orderNumber);
+            forward(sendServiceOrderApproval(approval, orderCallers.getFirst().startNanos(), dispatcher.withoutCallerRuns()),
+                    orderCallers);
         });
     }
 
-    @LogOperation("Send service order finalized email")
-    public void sendServiceOrderFinalizedEmail(ServiceOrderRecord serviceOrder) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                var client = serviceOrder.client();
-                var finalizedConfig = properties.getMail().getTemplates().getServiceOrderFinalized();
-
-                String htmlBody = loadTemplateConfig.loadTemplate(finalizedConfig.getPath());
-
-                String completionDate = serviceOrder.completionDate();
-
-                String vehicleInfo = String.format("%s %s (%d) - Placa: %s",
-                        serviceOrder.vehicleRecord().model().brand(),
-                        serviceOrder.vehicleRecord().model().model(),
-                        serviceOrder.vehicleRecord().model().year(),
-                        serviceOrder.vehicleRecord().plate());
-
-                htmlBody = htmlBody
-                        .replace("{{cliente}}", client.nickName())
-                        .replace("{{osNumero}}", serviceOrder.orderNumber())
-                        .replace("{{veiculo}}", vehicleInfo)
-                        .replace("{{dataFinalizacao}}", completionDate);
-
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(
-                        message,
-                        true,
-                        properties.getMail().getDefaultEncoding()
-                );
-
-                helper.setFrom(
-                        properties.getMail().getFrom().getAddress(),
-                        properties.getMail().getFrom().getName()
-                );
-                helper.setTo(serviceOrder.client().email());
-                helper.setSubject(finalizedConfig.getSubject() + " - OS " + serviceOrder.orderNumber());
-                helper.setText(htmlBody, true);
-
-                mailSender.send(message);
-
-                log.info("Finalized email sent successfully to {} for OS {}",
-                        serviceOrder.client().email(),
-                        serviceOrder.orderNumber());
+    private static void forward(CompletableFuture<NotificationResult> result, List<PendingApproval> pending) {
+        result.thenAccept(outcome -> pending.forEach(approval -> approval.future().complete(outcome)));
+    }
 
+    /**
+     * Renders every record with the same compiled template and delivers the emails in groups of
+     * {@code notification.mail.pool.batch-size}: each group is sent by one dispatcher task over a
+     * single {@code send(MimeMessage...)} call, so it shares SMTP connections.
+     */
+    private <T> BulkSendResult sendBulk(String type,
+                                        Collection<T> records,
+                                        Function<T, String> keyOf,
+                                        Function<T, String> recipientOf,
+                                        BiFunction<T, CompiledTemplate, RenderedEmail> renderer,
+                                        NotificationProperties.MailConfig.Templates.EmailTemplate templateConfig) {
+        long startNanos = System.nanoTime();
+        BulkSendResult.Item[] items = new BulkSendResult.Item[records.size()];
+        String[] keys = new String[records.size()];
+        List<Integer> positions = new ArrayList<>(records.size());
+        List<RenderedEmail> emails = new ArrayList<>(records.size());
+
+        CompiledTemplate template = null;
+        Exception templateFailure = null;
+        try {
+            template = template(templateConfig);
+        } catch (Exception e) {
+            templateFailure = e;
+        }
+
+        Set<String> seen = new HashSet<>();
+        int position = 0;
+        for (T record : records) {
+            String key = null;
+            String to = null;
+            try {
+                key = keyOf.apply(record);
+                to = recipientOf.apply(record);
+                keys[position] = key;
+                if (!seen.add(normalize(to) + '\n' + key)) {
+                    items[position] = new BulkSendResult.Item(key, to, BulkSendResult.Status.DUPLICATE, null);
+                } else if (templateFailure != null) {
+                    items[position] = failed(key, to, templateFailure);
+                } else {
+                    emails.add(renderer.apply(record, template));
+                    positions.add(position);
+                }
             } catch (Exception e) {
-                log.error("Error when sending Service Order finalized email for OS {}: {}",
-                        serviceOrder.orderNumber(),
-                        e.getMessage(),
-                        e);
+                items[position] = failed(key, to, e);
             }
-        });
+            position++;
+        }
+
+        if (outbox != null) {
+            for (int i = 0; i < emails.size(); i++) {
+                RenderedEmail email = emails.get(i);
+                int at = positions.get(i);
+                try {
+                    outbox.enqueue(email);
+                    items[at] = new BulkSendResult.Item(keys[at], email.to(), BulkSendResult.Status.QUEUED, null);
+                } catch (Exception e) {
+                    items[at] = failed(keys[at], email.to(), e);
+                }
+            }
+        } else {
+            deliverInGroups(emails, positions, keys, items, startNanos);
+        }
+
+        BulkSendResult result = new BulkSendResult(List.of(items));
+        log.info("Bulk '{}' emails - Sent: {}, Queued: {}, Failed: {}, Duplicates: {}", type,
+                result.count(BulkSendResult.Status.SENT), result.count(BulkSendResult.Status.QUEUED),
+                result.count(BulkSendResult.Status.FAILED), result.count(BulkSendResult.Status.DUPLICATE));
+        return result;
     }
 
-    @LogOperation("Send service order approval email")
-    public void sendServiceOrderApprovalEmail(ServiceOrderApprovalRecord serviceOrderApproval) {
-        CompletableFuture.runAsync(() -> {
+    private void deliverInGroups(List<RenderedEmail> emails, List<Integer> positions,
+                                 String[] keys, BulkSendResult.Item[] items, long startNanos) {
+        int groupSize = Math.max(1, properties.getMail().getPool().getBatchSize());
+        List<FutureTask<List<EmailSender.Outcome>>> groups = new ArrayList<>();
+        // A bulk call has a single type
+        var priority = emails.isEmpty() ? null : priority(emails.getFirst().type());
+
+        for (int from = 0; from < emails.size(); from += groupSize) {
+            List<RenderedEmail> group = emails.subList(from, Math.min(from + groupSize, emails.size()));
+            FutureTask<List<EmailSender.Outcome>> task = new PrioritizedTask<>(() -> emailSender.sendAll(group), priority);
             try {
-                var client = serviceOrderApproval.client();
-                var approvalConfig = properties.getMail().getTemplates().getServiceOrderApproval();
-
-                String htmlBody = loadTemplateConfig.loadTemplate(approvalConfig.getPath());
-
-                htmlBody = htmlBody
-                        .replace("{{cliente}}", client.nickName())
-                        .replace("{{osNumero}}", serviceOrderApproval.orderNumber())
-                        .replace("{{veiculo}}", serviceOrderApproval.vehicleInfo() != null ? serviceOrderApproval.vehicleInfo() : "Veículo")
-                        .replace("{{urlAprovar}}", serviceOrderApproval.approvalUrl())
-                        .replace("{{urlRecusar}}", serviceOrderApproval.rejectionUrl());
-
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(
-                        message,
-                        true,
-                        properties.getMail().getDefaultEncoding()
-                );
-
-                helper.setFrom(
-                        properties.getMail().getFrom().getAddress(),
-                        properties.getMail().getFrom().getName()
-                );
-                helper.setTo(serviceOrderApproval.client().email());
-                helper.setSubject(approvalConfig.getSubject() + " - OS " + serviceOrderApproval.orderNumber());
-                helper.setText(htmlBody, true);
-
-                mailSender.send(message);
-
-                log.info("Service order approval email sent successfully to {} for OS {}",
-                        serviceOrderApproval.client().email(),
-                        serviceOrderApproval.orderNumber());
+                execute(group.stream().map(RenderedEmail::to).toList(), dispatcher, task);
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+            }
+            groups.add(task);
+        }
 
-            } catch (Exception e) {
-                log.error("Error when sending Service Order approval email for OS {}: {}",
-                        serviceOrderApproval.orderNumber(),
-                        e.getMessage(),
-                        e);
+        for (int g = 0; g < groups.size(); g++) {
+            int from = g * groupSize;
+            int size = Math.min(groupSize, emails.size() - from);
+            List<EmailSender.Outcome> outcomes;
+            try {
+                outcomes = groups.get(g).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcomes = Collections.nCopies(size, new EmailSender.Outcome(null, e));
+            } catch (CancellationException e) {
+                Exception rejected = new RejectedExecutionException("Notification rejected by the dispatcher");
+                outcomes = Collections.nCopies(size, new EmailSender.Outcome(null, rejected));
+            } catch (ExecutionException e) {
+                Exception cause = e.getCause() instanceof Exception exception ? exception : e;
+                outcomes = Collections.nCopies(size, new EmailSender.Outcome(null, cause));
             }
-        });
+
+            for (int i = 0; i < outcomes.size(); i++) {
+                RenderedEmail email = emails.get(from + i);
+                int position = positions.get(from + i);
+                EmailSender.Outcome outcome = outcomes.get(i);
+                if (outcome.failure() == null) {
+                    items[position] = new BulkSendResult.Item(keys[position], email.to(), BulkSendResult.Status.SENT, null);
+                    listeners.complete(null, NotificationResult.delivered(email, outcome.messageId(), 1, startNanos));
+                } else {
+                    items[position] = failed(keys[position], email.to(), outcome.failure());
+                    listeners.complete(null, NotificationResult.failed(email.type(), email.to(), 1, startNanos, outcome.failure()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Delivers the rendered email: recorded in the outbox when enabled (delivered with retries),
+     * otherwise sent once by the dispatcher.
+     */
+    private CompletableFuture<NotificationResult> submit(RenderedEmail email, long startNanos) {
+        return submit(email, startNanos, dispatcher);
+    }
+
+    /**
+     * @param executor The dispatcher, or its {@link NotificationDispatcher#withoutCallerRuns()} view
+     */
+    private CompletableFuture<NotificationResult> submit(RenderedEmail email, long startNanos, Executor executor) {
+        if (outbox != null) {
+            return outbox.enqueue(email);
+        }
+
+        CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+        // FutureTask: a task discarded by the dispatcher (DROP_OLDEST) is cancelled
+        PrioritizedTask<Void> task = new PrioritizedTask<>(() -> deliver(email, startNanos, future), null,
+                priority(email.type())) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    rejected(email, startNanos, future, new RejectedExecutionException("Dropped by the notification dispatcher"));
+                }
+            }
+        };
+
+        try {
+            execute(Collections.singletonList(email.to()), executor, task);
+        } catch (RejectedExecutionException e) {
+            rejected(email, startNanos, future, e);
+        }
+        return future;
+    }
+
+    /**
+     * Hands the task to the dispatcher, after the rate limiter allows the recipients (if enabled)
+     */
+    private void execute(List<String> recipients, Executor executor, Runnable task) {
+        if (rateLimiter != null) {
+            rateLimiter.execute(recipients, executor, task);
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    private void deliver(RenderedEmail email, long startNanos, CompletableFuture<NotificationResult> future) {
+        try {
+            String messageId = emailSender.send(email);
+            log.info("Email '{}' sent successfully to {}", email.type(), email.to());
+            listeners.complete(future, NotificationResult.delivered(email, messageId, 1, startNanos));
+        } catch (Exception e) {
+            log.error("Error when sending '{}' email to {}: {}", email.type(), email.to(), e.getMessage(), e);
+            listeners.complete(future, NotificationResult.failed(email.type(), email.to(), 1, startNanos, e));
+        }
+    }
+
+    private void rejected(RenderedEmail email, long startNanos, CompletableFuture<NotificationResult> future,
+                          RejectedExecutionException e) {
+        log.error("Notification rejected, '{}' email to {} was not sent: {}", email.type(), email.to(), e.getMessage());
+        listeners.complete(future, NotificationResult.failed(email.type(), email.to(), 0, startNanos, e));
+    }
+
+    private CompletableFuture<NotificationResult> failed(String type, String to, long startNanos, Exception e) {
+        CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+        listeners.complete(future, NotificationResult.failed(type, to, 0, startNanos, e));
+        return future;
+    }
+
+    private static String recipient(CustomerRecord client) {
+        return client != null ? client.email() : null;
+    }
+
+    private static BulkSendResult.Item failed(String key, String to, Exception failure) {
+        String error = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName();
+        return new BulkSendResult.Item(key, to, BulkSendResult.Status.FAILED, error);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private NotificationProperties.Dispatcher.Priority priority(String type) {
+        return properties.getMail().getTemplates().priorityOf(type);
+    }
+
+    private CompiledTemplate template(NotificationProperties.MailConfig.Templates.EmailTemplate templateConfig) {
+        return loadTemplateConfig.getCompiledTemplate(templateConfig.getPath());
+    }
+
+    private String render(CompiledTemplate template, Map<String, String> values) {
+        return template.render(values, properties.getMail().getTemplates().isEscapeHtml());
+    }
+
+    /**
+     * Approval held by the digest window, with the caller's start time and future
+     */
+    private record PendingApproval(ServiceOrderApprovalRecord approval, long startNanos,
+                                   CompletableFuture<NotificationResult> future) {
     }
 }
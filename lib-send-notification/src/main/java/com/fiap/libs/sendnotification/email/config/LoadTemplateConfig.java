@@ -1,18 +1,19 @@
 package com.fiap.libs.sendnotification.email.config;
 
+import com.fiap.libs.sendnotification.email.template.CompiledTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -20,6 +21,31 @@ public class LoadTemplateConfig {
 
     private final ResourceLoader resourceLoader;
 
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the compiled template for the path, loading and parsing it only on first use.
+     * Loading failures are not cached, so a missing template is retried on the next call.
+     */
+    public CompiledTemplate getCompiledTemplate(String path) {
+        CompiledTemplate template = compiledTemplates.get(path);
+        if (template != null) {
+            return template;
+        }
+        return compiledTemplates.computeIfAbsent(path, key -> {
+            CompiledTemplate compiled = CompiledTemplate.compile(loadTemplate(key));
+            log.debug("Template compiled and cached: {} ({} placeholders)", key, compiled.placeholders().size());
+            return compiled;
+        });
+    }
+
+    /**
+     * Discards the compiled templates, forcing them to be reloaded on next use.
+     */
+    public void clearCache() {
+        compiledTemplates.clear();
+    }
+
     public String loadTemplate(String path) {
         log.debug("Attempting to load template: {}", path);
 
@@ -62,9 +88,8 @@ public class LoadTemplateConfig {
     private Optional<String> tryLoadTemplateWithThreadClassLoader(String path) {
         try {
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(Objects.requireNonNull(classLoader.getResourceAsStream(path)), StandardCharsets.UTF_8))) {
-                String content = reader.lines().collect(Collectors.joining("\n"));
+            try (InputStream inputStream = Objects.requireNonNull(classLoader.getResourceAsStream(path))) {
+                String content = read(inputStream);
                 log.debug("Template found using Thread ClassLoader");
                 return Optional.of(content);
             }
@@ -76,11 +101,10 @@ public class LoadTemplateConfig {
 
     private Optional<String> tryLoadTemplateWithClassLoader(String path) {
         try {
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(path)), StandardCharsets.UTF_8))) {
-                String content = reader.lines().collect(Collectors.joining("\n"));
+            try (InputStream inputStream = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(path))) {
+                String content = read(inputStream);
                 log.debug("Template found using Class ClassLoader");
-                return java.util.Optional.of(content);
+                return Optional.of(content);
             }
         } catch (Exception e) {
             log.debug("Failed to load with Class ClassLoader - {}", e.getMessage());
@@ -89,9 +113,12 @@ public class LoadTemplateConfig {
     }
 
     private String readResource(Resource resource) throws IOException {
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-            return reader.lines().collect(Collectors.joining("\n"));
+        try (InputStream inputStream = resource.getInputStream()) {
+            return read(inputStream);
         }
     }
+
+    private static String read(InputStream inputStream) throws IOException {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,167 @@
+package com.fiap.libs.sendnotification.email.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, pre-parsed email template.
+ * <p>
+ * The source is split once into literal segments and {@code {{placeholder}}} slots, so rendering
+ * is a single pass into a buffer presized from the literal length and the values. Placeholders
+ * without a value are kept as-is, matching the previous {@code String.replace} behavior.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * literals[i] is written before slots[i]; the last literal has no slot after it.
+     */
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses a template source.
+     *
+     * @param source Template content with {@code {{name}}} placeholders
+     * @return Compiled template
+     */
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+
+            if (close < 0) {
+                literal.append(source, position, source.length());
+                break;
+            }
+
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (isPlaceholderName(name)) {
+                literal.append(source, position, open);
+                literals.add(literal.toString());
+                slots.add(name);
+                literal.setLength(0);
+                position = close + CLOSE.length();
+            } else {
+                // Not a placeholder (ex: "{{ a b }}"): keep the opening braces as text
+                literal.append(source, position, open + OPEN.length());
+                position = open + OPEN.length();
+            }
+        }
+
+        literals.add(literal.toString());
+        return new CompiledTemplate(literals.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    /**
+     * Renders the template without escaping values.
+     */
+    public String render(Map<String, String> values) {
+        return render(values, false);
+    }
+
+    /**
+     * Renders the template in a single pass.
+     *
+     * @param values Placeholder values by name (null values render as empty)
+     * @param escapeHtml Whether values are HTML-escaped before being written
+     * @return Rendered content
+     */
+    public String render(Map<String, String> values, boolean escapeHtml) {
+        int capacity = literalLength;
+        for (String slot : slots) {
+            String value = values.get(slot);
+            capacity += value != null ? value.length() : 0;
+        }
+
+        StringBuilder out = new StringBuilder(escapeHtml ? capacity + (capacity >> 4) : capacity);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+
+            String slot = slots[i];
+            if (!values.containsKey(slot)) {
+                out.append(OPEN).append(slot).append(CLOSE);
+                continue;
+            }
+
+            String value = values.get(slot);
+            if (value == null) {
+                continue;
+            }
+            if (escapeHtml) {
+                appendEscaped(out, value);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[literals.length - 1]);
+        return out.toString();
+    }
+
+    /**
+     * Placeholder names in template order (duplicates included).
+     */
+    public List<String> placeholders() {
+        return List.of(slots);
+    }
+
+    /**
+     * HTML-escapes a value the same way {@link #render(Map, boolean)} does (null renders as empty).
+     */
+    public static String escapeHtml(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(value.length() + (value.length() >> 4));
+        appendEscaped(out, value);
+        return out.toString();
+    }
+
+    private static boolean isPlaceholderName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
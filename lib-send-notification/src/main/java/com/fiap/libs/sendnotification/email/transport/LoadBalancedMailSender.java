@@ -0,0 +1,340 @@
+package com.fiap.libs.sendnotification.email.transport;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.ratelimit.RateLimitExceededException;
+import com.fiap.libs.sendnotification.ratelimit.RelayQuota;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mail sender that balances emails across several SMTP relays.
+ * <p>
+ * Each send goes to the available relay with the fewest outstanding sends relative to its weight,
+ * so a slow relay naturally receives less traffic. Relays failing at connection level (connect,
+ * authentication, dropped connection) {@code failureThreshold} times in a row are ejected (circuit
+ * open) and their emails are retried on the next relay; a background probe re-admits them once a
+ * test connection succeeds. Message-level rejections (ex: unknown recipient) are not retried.
+ * <p>
+ * With relay limits ({@code notification.rate-limit.relay}) each relay has its own quota: relays
+ * with capacity available now are preferred, and the slot is reserved on the relay selected. When
+ * every relay is at its limit the send waits for the earliest slot, up to
+ * {@code notification.rate-limit.max-wait}; past it the next relay is tried, and the emails fail
+ * with a {@link RateLimitExceededException} when none has a slot in time. The outbound rate
+ * limiter admits only the quota of the available relays, so these waits are normally short.
+ * <p>
+ * This instance only creates the MIME messages; each relay has its own sender (pooled or not).
+ */
+@Slf4j
+public class LoadBalancedMailSender extends JavaMailSenderImpl implements AutoCloseable {
+
+    private final List<RelaySender> relays;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final ScheduledExecutorService prober;
+    private final AtomicInteger next = new AtomicInteger();
+    private final long maxQuotaWaitNanos;
+
+    /**
+     * @param sender Sender of the relay (host, port and credentials already set)
+     * @param weight Share of the load relative to the other relays
+     */
+    public record Relay(JavaMailSenderImpl sender, int weight) {
+    }
+
+    /**
+     * Snapshot of a relay.
+     *
+     * @param available   False while the relay is ejected
+     * @param outstanding Sends in progress
+     */
+    public record RelayStatus(String host, int port, int weight, boolean available, int outstanding,
+                              long sent, long failures) {
+    }
+
+    public LoadBalancedMailSender(List<Relay> relays, NotificationProperties.MailConfig.RelayHealth health) {
+        this(relays, health, null);
+    }
+
+    /**
+     * @param rateLimit Its {@code relay} limits apply to each relay and {@code max-wait} bounds the
+     *                  wait for a slot; null (or disabled) for unlimited relays
+     */
+    public LoadBalancedMailSender(List<Relay> relays, NotificationProperties.MailConfig.RelayHealth health,
+                                  NotificationProperties.RateLimit rateLimit) {
+        if (relays.isEmpty()) {
+            throw new IllegalArgumentException("At least one SMTP relay is required");
+        }
+
+        List<NotificationProperties.RateLimit.Bucket> relayLimits =
+                rateLimit != null && rateLimit.isEnabled() ? rateLimit.getRelay() : List.of();
+        boolean limited = relayLimits.stream().anyMatch(bucket -> bucket.getLimit() > 0);
+        this.relays = relays.stream()
+                .map(relay -> new RelaySender(relay.sender(), Math.max(1, relay.weight()),
+                        limited ? new RelayQuota(relayLimits) : null))
+                .toList();
+        this.maxQuotaWaitNanos = limited ? rateLimit.getMaxWait().toNanos() : 0;
+        this.failureThreshold = Math.max(1, health.getFailureThreshold());
+        this.openDurationNanos = health.getOpenDuration().toNanos();
+        this.prober = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("smtp-relay-prober").factory());
+
+        long probeMillis = Math.max(1, health.getProbeInterval().toMillis());
+        prober.scheduleWithFixedDelay(this::probeEjectedRelays, probeMillis, probeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<MimeMessage, Object> originals = new IdentityHashMap<>();
+        for (int i = 0; i < mimeMessages.length; i++) {
+            originals.put(mimeMessages[i], originalMessages != null ? originalMessages[i] : mimeMessages[i]);
+        }
+
+        List<MimeMessage> remaining = List.of(mimeMessages);
+        Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
+        List<RelaySender> tried = new ArrayList<>();
+
+        RelaySender relay;
+        while (!remaining.isEmpty() && (relay = select(tried)) != null) {
+            tried.add(relay);
+            Exception refused = awaitQuota(relay, remaining.size());
+            if (refused != null) {
+                remaining.forEach(message -> failures.putIfAbsent(message, refused));
+                if (refused instanceof RateLimitExceededException) {
+                    // No slot within max-wait: try the next relay
+                    continue;
+                }
+                break;
+            }
+            remaining = sendThrough(relay, remaining, failures);
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.values().stream().allMatch(MailAuthenticationException.class::isInstance)) {
+            throw (MailAuthenticationException) failures.values().iterator().next();
+        }
+
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (MimeMessage message : mimeMessages) {
+            Exception failure = failures.get(message);
+            if (failure != null) {
+                failedMessages.put(originals.get(message), failure);
+            }
+        }
+        throw new MailSendException(failedMessages);
+    }
+
+    /**
+     * Relays not ejected (at least 1: with every relay ejected they are all tried)
+     */
+    public int getAvailableRelayCount() {
+        int available = 0;
+        for (RelaySender relay : relays) {
+            if (!relay.open) {
+                available++;
+            }
+        }
+        return Math.max(1, available);
+    }
+
+    public List<RelayStatus> getRelays() {
+        return relays.stream()
+                .map(relay -> new RelayStatus(relay.sender.getHost(), relay.sender.getPort(), relay.weight,
+                        !relay.open, relay.outstanding.get(), relay.sent.sum(), relay.failures.sum()))
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        prober.shutdownNow();
+        for (RelaySender relay : relays) {
+            if (relay.sender instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.debug("Error closing SMTP relay {}: {}", relay.sender.getHost(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the messages through the relay.
+     *
+     * @return Messages to retry on another relay (failed at connection level)
+     */
+    private List<MimeMessage> sendThrough(RelaySender relay, List<MimeMessage> messages,
+                                          Map<MimeMessage, Exception> failures) {
+        relay.outstanding.incrementAndGet();
+        try {
+            relay.sender.send(messages.toArray(MimeMessage[]::new));
+            relay.onSuccess(messages.size());
+            messages.forEach(failures::remove);
+            return List.of();
+
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            List<MimeMessage> retry = new ArrayList<>();
+            int delivered = 0;
+            for (MimeMessage message : messages) {
+                Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(message);
+                if (failure == null) {
+                    failures.remove(message);
+                    delivered++;
+                    continue;
+                }
+                failures.put(message, failure);
+                if (!(failure instanceof SendFailedException)) {
+                    retry.add(message);
+                }
+            }
+
+            if (retry.size() == messages.size()) {
+                relay.onFailure(e);
+            } else {
+                relay.onSuccess(delivered);
+            }
+            return retry;
+
+        } catch (MailException e) {
+            // Authentication or connection failure: every message is retried on another relay
+            messages.forEach(message -> failures.put(message, e));
+            relay.onFailure(e);
+            return messages;
+
+        } finally {
+            relay.outstanding.decrementAndGet();
+        }
+    }
+
+    /**
+     * Least outstanding sends relative to the weight, among the relays not tried yet. Relays with
+     * quota available now come first, then the one whose quota frees up first. Ejected relays are
+     * used only when no other relay is left.
+     */
+    private RelaySender select(List<RelaySender> tried) {
+        RelaySender best = selectAmong(tried, false);
+        return best != null ? best : selectAmong(tried, true);
+    }
+
+    private RelaySender selectAmong(List<RelaySender> tried, boolean includeEjected) {
+        int start = Math.floorMod(next.getAndIncrement(), relays.size());
+        RelaySender best = null;
+        long bestDelay = Long.MAX_VALUE;
+        double bestLoad = Double.MAX_VALUE;
+
+        // Starting at a rotating position spreads ties (ex: idle relays) round-robin
+        for (int i = 0; i < relays.size(); i++) {
+            RelaySender relay = relays.get((start + i) % relays.size());
+            if (tried.contains(relay) || (relay.open && !includeEjected)) {
+                continue;
+            }
+            long delay = relay.quota != null ? Math.max(0, relay.quota.delay()) : 0;
+            double load = (relay.outstanding.get() + 1) / (double) relay.weight;
+            if (delay < bestDelay || (delay == bestDelay && load < bestLoad)) {
+                best = relay;
+                bestDelay = delay;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Reserves the slots on the relay and waits for them, up to {@code max-wait}
+     *
+     * @return null when the slots were reached; a {@link RateLimitExceededException} when the wait
+     * would exceed {@code max-wait} (nothing is reserved), or a failure when interrupted
+     */
+    private Exception awaitQuota(RelaySender relay, int messages) {
+        if (relay.quota == null) {
+            return null;
+        }
+        long wait = relay.quota.reserve(messages, maxQuotaWaitNanos);
+        if (wait < 0) {
+            return new RateLimitExceededException("No slot of SMTP relay " + relay.sender.getHost()
+                    + " within " + Duration.ofNanos(maxQuotaWaitNanos));
+        }
+        if (wait == 0) {
+            return null;
+        }
+        log.debug("Waiting {} ms for the quota of SMTP relay {}", TimeUnit.NANOSECONDS.toMillis(wait), relay.sender.getHost());
+        try {
+            Thread.sleep(Duration.ofNanos(wait));
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new MailSendException("Interrupted waiting for the relay quota", e);
+        }
+    }
+
+    private void probeEjectedRelays() {
+        for (RelaySender relay : relays) {
+            if (!relay.open || System.nanoTime() - relay.openedAt < openDurationNanos) {
+                continue;
+            }
+            try {
+                relay.sender.testConnection();
+                relay.onSuccess(0);
+            } catch (Exception e) {
+                relay.openedAt = System.nanoTime();
+                log.debug("SMTP relay {}:{} still unavailable: {}", relay.sender.getHost(), relay.sender.getPort(), e.getMessage());
+            }
+        }
+    }
+
+    private final class RelaySender {
+        private final JavaMailSenderImpl sender;
+        private final int weight;
+        private final RelayQuota quota;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile boolean open;
+        private volatile long openedAt;
+
+        private RelaySender(JavaMailSenderImpl sender, int weight, RelayQuota quota) {
+            this.sender = sender;
+            this.weight = weight;
+            this.quota = quota;
+        }
+
+        private void onSuccess(int messages) {
+            sent.add(messages);
+            consecutiveFailures.set(0);
+            if (open) {
+                open = false;
+                log.info("✅ [SEND-NOTIFICATION] SMTP relay {}:{} is available again", sender.getHost(), sender.getPort());
+            }
+        }
+
+        private void onFailure(Exception e) {
+            failures.increment();
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold && !open) {
+                openedAt = System.nanoTime();
+                open = true;
+                log.warn("⚠️ [SEND-NOTIFICATION] SMTP relay {}:{} ejected after {} consecutive failures: {}",
+                        sender.getHost(), sender.getPort(), consecutiveFailures.get(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.fiap.libs.sendnotification.email.transport;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps authenticated SMTP connections open and coalesces sends.
+ * <p>
+ * {@link JavaMailSenderImpl} opens a connection (TCP, STARTTLS and AUTH) for every {@code send}
+ * call. Here connections are pooled (at most {@code maxConnections}) and reused while healthy:
+ * idle connections are checked with NOOP before reuse and closed after the idle timeout.
+ * <p>
+ * Messages sent concurrently are queued and delivered in batches: a thread that obtains a
+ * connection also sends the messages queued by other threads over it, so under load the
+ * throughput is bounded by the SMTP server rather than by handshakes. {@code send} still returns
+ * only after the caller's own messages were delivered (or failed), and as soon as they are: a
+ * thread stops sending once its messages are done, leaving the rest to their own callers. Waiting
+ * callers are woken when a batch completes or a connection is released.
+ */
+@Slf4j
+public class PooledMailSender extends JavaMailSenderImpl implements AutoCloseable {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final int maxMessagesPerConnection;
+    private final int batchSize;
+    private final long idleTimeoutNanos;
+    private final long validationIntervalNanos;
+
+    private final Semaphore permits;
+    private final Deque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final Queue<PendingMessage> pending = new ConcurrentLinkedQueue<>();
+    private final Thread reaper;
+
+    /**
+     * Signals waiting callers that messages were completed or a connection was released
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder batchesSent = new LongAdder();
+
+    private volatile boolean closed;
+
+    public PooledMailSender(NotificationProperties.MailConfig.Pool config) {
+        this(config.getMaxConnections(), config.getBatchSize(), config.getMaxMessagesPerConnection(),
+                config.getIdleTimeout(), config.getValidationInterval());
+    }
+
+    public PooledMailSender(int maxConnections, int batchSize, int maxMessagesPerConnection,
+                            Duration idleTimeout, Duration validationInterval) {
+        if (maxConnections <= 0 || batchSize <= 0 || maxMessagesPerConnection <= 0) {
+            throw new IllegalArgumentException("max-connections, batch-size and max-messages-per-connection must be greater than zero");
+        }
+
+        this.permits = new Semaphore(maxConnections);
+        this.batchSize = batchSize;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.validationIntervalNanos = validationInterval.toNanos();
+        this.reaper = Thread.ofVirtual().name("smtp-pool-reaper").start(this::reapIdleConnections);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        if (closed) {
+            throw new MailSendException("Mail sender is closed");
+        }
+
+        List<PendingMessage> messages = new ArrayList<>(mimeMessages.length);
+        for (int i = 0; i < mimeMessages.length; i++) {
+            Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+            messages.add(new PendingMessage(mimeMessages[i], original));
+        }
+        pending.addAll(messages);
+        awaitDelivery(messages);
+
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (PendingMessage message : messages) {
+            if (message.failure != null) {
+                failedMessages.put(message.original, message.failure);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            if (failedMessages.size() == messages.size()
+                    && failedMessages.values().stream().allMatch(AuthenticationFailedException.class::isInstance)) {
+                throw new MailAuthenticationException(failedMessages.values().iterator().next());
+            }
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Closes all pooled connections. Connections in use are closed when released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reaper.interrupt();
+
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            closeQuietly(connection);
+        }
+        log.info("✅ [SEND-NOTIFICATION] SMTP connection pool closed - Connections opened: {}, Messages sent: {}",
+                connectionsOpened.sum(), messagesSent.sum());
+    }
+
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public long getMessagesSent() {
+        return messagesSent.sum();
+    }
+
+    public long getBatchesSent() {
+        return batchesSent.sum();
+    }
+
+    /**
+     * Waits until the messages are delivered, sending queued messages whenever a connection is free
+     */
+    private void awaitDelivery(List<PendingMessage> messages) {
+        try {
+            while (!allDone(messages)) {
+                if (permits.tryAcquire()) {
+                    boolean sent;
+                    try {
+                        sent = drain(messages);
+                    } finally {
+                        permits.release();
+                        signalWaiters();
+                    }
+                    if (!sent) {
+                        // The queue was empty: the messages are in batches of other threads
+                        await(messages, false);
+                    }
+                } else {
+                    await(messages, true);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for the message to be sent", e);
+        }
+    }
+
+    /**
+     * Waits until the messages are done or, when {@code untilFreeConnection}, a connection is free
+     */
+    private void await(List<PendingMessage> messages, boolean untilFreeConnection) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!allDone(messages) && !(untilFreeConnection && permits.availablePermits() > 0)) {
+                changed.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends queued messages (in order, including other callers' ones) in batches over one
+     * connection until the given messages are done or the queue is empty
+     *
+     * @return false when the queue was empty, so nothing was sent
+     */
+    private boolean drain(List<PendingMessage> own) {
+        PooledTransport connection = null;
+        boolean sent = false;
+        try {
+            while (!allDone(own)) {
+                List<PendingMessage> batch = new ArrayList<>(batchSize);
+                PendingMessage message;
+                while (batch.size() < batchSize && (message = pending.poll()) != null) {
+                    batch.add(message);
+                }
+                if (batch.isEmpty()) {
+                    return sent;
+                }
+
+                sent = true;
+                batchesSent.increment();
+                connection = sendBatch(connection, batch);
+                signalWaiters();
+            }
+            return true;
+        } finally {
+            if (connection != null) {
+                release(connection);
+            }
+        }
+    }
+
+    private PooledTransport sendBatch(PooledTransport connection, List<PendingMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+
+            if (connection == null) {
+                try {
+                    connection = borrow();
+                } catch (Exception e) {
+                    // Without a connection every message of the batch fails
+                    for (int j = i; j < batch.size(); j++) {
+                        batch.get(j).complete(e);
+                    }
+                    return null;
+                }
+            }
+
+            try {
+                send(connection, message);
+                message.complete(null);
+            } catch (Exception e) {
+                if (isConnected(connection)) {
+                    // Message-level failure (ex: invalid recipient), the connection is still usable
+                    message.complete(e);
+                    continue;
+                }
+
+                closeQuietly(connection);
+                connection = null;
+                if (message.retried) {
+                    message.complete(e);
+                } else {
+                    // The pooled connection was dropped by the server: retry once on a new one
+                    message.retried = true;
+                    i--;
+                }
+                continue;
+            }
+
+            if (connection.messages >= maxMessagesPerConnection) {
+                closeQuietly(connection);
+                connection = null;
+            }
+        }
+        return connection;
+    }
+
+    private void send(PooledTransport connection, PendingMessage message) throws MessagingException {
+        MimeMessage mimeMessage = message.mimeMessage;
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            // Preserve explicitly specified message id
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+
+        Address[] addresses = mimeMessage.getAllRecipients();
+        connection.transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+        connection.messages++;
+        messagesSent.increment();
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            long idleNanos = System.nanoTime() - connection.lastUsed;
+            if (idleNanos > idleTimeoutNanos || (idleNanos > validationIntervalNanos && !isConnected(connection))) {
+                closeQuietly(connection);
+                continue;
+            }
+            return connection;
+        }
+
+        Transport transport = connectTransport();
+        connectionsOpened.increment();
+        log.debug("SMTP connection opened to {}:{}", getHost(), getPort());
+        return new PooledTransport(transport);
+    }
+
+    private void release(PooledTransport connection) {
+        if (closed) {
+            closeQuietly(connection);
+            return;
+        }
+        connection.lastUsed = System.nanoTime();
+        idle.offerFirst(connection);
+    }
+
+    /**
+     * Closes connections idle for longer than the idle timeout, even without new sends
+     */
+    private void reapIdleConnections() {
+        long interval = Math.max(TimeUnit.SECONDS.toNanos(1), idleTimeoutNanos / 2);
+        try {
+            while (!closed) {
+                TimeUnit.NANOSECONDS.sleep(interval);
+
+                // The least recently used connections are at the tail
+                PooledTransport connection;
+                while ((connection = idle.peekLast()) != null
+                        && System.nanoTime() - connection.lastUsed > idleTimeoutNanos) {
+                    if (idle.removeLastOccurrence(connection)) {
+                        closeQuietly(connection);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void signalWaiters() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean allDone(List<PendingMessage> messages) {
+        for (PendingMessage message : messages) {
+            if (!message.done) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConnected(PooledTransport connection) {
+        try {
+            return connection.transport.isConnected();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(PooledTransport connection) {
+        try {
+            connection.transport.close();
+        } catch (Exception e) {
+            log.debug("Error closing SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int messages;
+        private volatile long lastUsed = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+
+    private static final class PendingMessage {
+        private final MimeMessage mimeMessage;
+        private final Object original;
+        private volatile Exception failure;
+        private volatile boolean done;
+        private boolean retried;
+
+        private PendingMessage(MimeMessage mimeMessage, Object original) {
+            this.mimeMessage = mimeMessage;
+            this.original = original;
+        }
+
+        private void complete(Exception failure) {
+            this.failure = failure;
+            this.done = true;
+        }
+    }
+}
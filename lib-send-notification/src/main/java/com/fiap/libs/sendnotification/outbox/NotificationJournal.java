@@ -0,0 +1,420 @@
+package com.fiap.libs.sendnotification.outbox;
+
+import com.fiap.libs.sendnotification.email.RenderedEmail;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of pending emails, stored in memory-mapped segment files.
+ * <p>
+ * Each record is {@code [int length][int crc32c][body]}; the body starts with the record kind and
+ * the message id. An email is {@code ENQUEUED} before delivery and {@code ACKNOWLEDGED} (or
+ * {@code DEAD}, when given up) afterwards. On open the segments are replayed in order and a torn
+ * record at the tail (crash during a write) is detected by its checksum and discarded.
+ * <p>
+ * Only the index (id to record position) is kept in memory; email bodies are read back from the
+ * mapped segments. Sealed segments without pending emails are deleted by {@link #compact()}, and
+ * the few pending emails of a mostly delivered segment are copied to the active one first.
+ */
+@Slf4j
+class NotificationJournal implements AutoCloseable {
+
+    private static final byte ENQUEUED = 1;
+    private static final byte ACKNOWLEDGED = 2;
+    private static final byte DEAD = 3;
+
+    private static final int HEADER_SIZE = 8;
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<Long, Location> index = new HashMap<>();
+    private long nextId = 1;
+    private long nextSegment = 1;
+    private boolean closed;
+
+    NotificationJournal(Path directory, long segmentSize, boolean fsync) throws IOException {
+        if (segmentSize <= HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid journal segment size: " + segmentSize);
+        }
+
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize;
+        this.fsync = fsync;
+
+        Files.createDirectories(directory);
+        recover();
+        if (segments.isEmpty()) {
+            segments.add(createSegment());
+        }
+    }
+
+    /**
+     * Records an email before delivery.
+     *
+     * @return Id of the message in the journal
+     */
+    synchronized long append(RenderedEmail email) {
+        ensureOpen();
+        long id = nextId++;
+        write(encodeEnqueued(id, System.currentTimeMillis(), email), id);
+        return id;
+    }
+
+    /**
+     * Marks a message as done (delivered or given up). Unknown ids are ignored.
+     */
+    synchronized void acknowledge(long id, boolean delivered) {
+        if (closed || !index.containsKey(id)) {
+            return;
+        }
+        ByteBuffer body = ByteBuffer.allocate(9).put(delivered ? ACKNOWLEDGED : DEAD).putLong(id);
+        write(body.array(), id);
+    }
+
+    /**
+     * Reads a pending message.
+     *
+     * @return The email, or null if the message is not pending
+     */
+    synchronized RenderedEmail read(long id) {
+        Location location = closed ? null : index.get(id);
+        if (location == null) {
+            return null;
+        }
+        return decodeEmail(location.segment.body(location.position));
+    }
+
+    /**
+     * Ids of the pending messages, in journal order.
+     */
+    synchronized List<Long> pendingIds() {
+        return index.keySet().stream().sorted().toList();
+    }
+
+    synchronized int pendingCount() {
+        return index.size();
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Deletes sealed segments that no longer hold pending messages. Segments whose pending
+     * records take at most a quarter of the segment are rewritten into the active segment first.
+     * Segments are removed oldest first only, so an acknowledgement is never deleted while the
+     * record it acknowledges still exists in an older segment.
+     *
+     * @return Number of deleted segments
+     */
+    synchronized int compact() {
+        if (closed) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (Segment segment : List.copyOf(segments.subList(0, segments.size() - 1))) {
+            if (segment.live > 0 && segment.liveBytes <= segment.capacity() / 4) {
+                relocate(segment);
+            }
+            if (segment.live > 0) {
+                break;
+            }
+            segments.remove(segment);
+            segment.delete();
+            removed++;
+        }
+
+        if (removed > 0) {
+            log.debug("Notification journal compacted: {} segments removed", removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Segment segment : segments) {
+            segment.close(fsync);
+        }
+    }
+
+    private void relocate(Segment segment) {
+        List<Map.Entry<Long, Location>> entries = index.entrySet().stream()
+                .filter(entry -> entry.getValue().segment == segment)
+                .toList();
+
+        for (Map.Entry<Long, Location> entry : new ArrayList<>(entries)) {
+            byte[] body = segment.body(entry.getValue().position);
+            write(body, entry.getKey());
+        }
+    }
+
+    /**
+     * Appends a record to the active segment (rolling to a new one when full) and updates the index
+     */
+    private void write(byte[] body, long id) {
+        int recordSize = HEADER_SIZE + body.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Notification too large for the journal segment: " + recordSize + " bytes");
+        }
+
+        Segment active = segments.getLast();
+        if (active.position + recordSize > active.capacity()) {
+            active.seal(fsync);
+            active = createSegment();
+            segments.add(active);
+        }
+
+        int position = active.position;
+        active.write(position, body, fsync);
+        active.position += recordSize;
+        apply(active, position, body[0], id, recordSize);
+    }
+
+    /**
+     * Applies a record to the in-memory index (used by appends and by recovery)
+     */
+    private void apply(Segment segment, int position, byte kind, long id, int recordSize) {
+        if (kind == ENQUEUED) {
+            Location previous = index.put(id, new Location(segment, position, recordSize));
+            if (previous != null) {
+                // Relocated by a compaction interrupted before deleting the old segment
+                previous.segment.live--;
+                previous.segment.liveBytes -= previous.size;
+            }
+            segment.live++;
+            segment.liveBytes += recordSize;
+        } else {
+            Location location = index.remove(id);
+            if (location != null) {
+                location.segment.live--;
+                location.segment.liveBytes -= location.size;
+            }
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            long sequence = Long.parseLong(file.getFileName().toString()
+                    .substring(PREFIX.length(), file.getFileName().toString().length() - SUFFIX.length()));
+            nextSegment = Math.max(nextSegment, sequence + 1);
+
+            long size = Files.size(file);
+            Segment segment = Segment.open(file, size > 0 && size <= Integer.MAX_VALUE ? (int) size : segmentSize);
+            segments.add(segment);
+            replay(segment);
+        }
+
+        if (!index.isEmpty() || !files.isEmpty()) {
+            log.info("✅ [SEND-NOTIFICATION] Notification journal recovered - Segments: {}, Pending: {}",
+                    files.size(), index.size());
+        }
+    }
+
+    private void replay(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        CRC32C crc = new CRC32C();
+
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 9 || position + HEADER_SIZE + length > buffer.capacity()) {
+                segment.discardFrom(position);
+                break;
+            }
+
+            byte[] body = new byte[length];
+            buffer.get(position + HEADER_SIZE, body);
+            crc.reset();
+            crc.update(body);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                log.warn("⚠️ [SEND-NOTIFICATION] Torn record discarded in {} at offset {}", segment.path.getFileName(), position);
+                segment.discardFrom(position);
+                break;
+            }
+
+            long id = ByteBuffer.wrap(body, 1, 8).getLong();
+            nextId = Math.max(nextId, id + 1);
+            apply(segment, position, body[0], id, HEADER_SIZE + length);
+            position += HEADER_SIZE + length;
+        }
+        segment.position = position;
+    }
+
+    private Segment createSegment() {
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, nextSegment++, SUFFIX));
+        try {
+            return Segment.open(path, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create journal segment " + path, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Notification journal is closed");
+        }
+    }
+
+    private static byte[] encodeEnqueued(long id, long createdAt, RenderedEmail email) {
+        byte[][] fields = {
+                bytes(email.type()), bytes(email.to()), bytes(email.subject()), bytes(email.htmlBody())
+        };
+
+        int size = 1 + 8 + 8;
+        for (byte[] field : fields) {
+            size += 4 + (field != null ? field.length : 0);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).put(ENQUEUED).putLong(id).putLong(createdAt);
+        for (byte[] field : fields) {
+            if (field == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(field.length).put(field);
+            }
+        }
+        return buffer.array();
+    }
+
+    private static RenderedEmail decodeEmail(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body, 1 + 8 + 8, body.length - 17);
+        return new RenderedEmail(string(buffer), string(buffer), string(buffer), string(buffer));
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private record Location(Segment segment, int position, int size) {
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final CRC32C crc = new CRC32C();
+        private int position;
+        private int live;
+        private long liveBytes;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        /**
+         * Writes body and checksum first and the length last, so a partial write is never read as complete
+         */
+        void write(int position, byte[] body, boolean fsync) {
+            crc.reset();
+            crc.update(body);
+
+            buffer.put(position + HEADER_SIZE, body);
+            buffer.putInt(position + 4, (int) crc.getValue());
+            buffer.putInt(position, body.length);
+
+            if (fsync) {
+                buffer.force(position, HEADER_SIZE + body.length);
+            }
+        }
+
+        int capacity() {
+            return buffer.capacity();
+        }
+
+        byte[] body(int position) {
+            byte[] body = new byte[buffer.getInt(position)];
+            buffer.get(position + HEADER_SIZE, body);
+            return body;
+        }
+
+        /**
+         * Zeroes the space after the last valid record, removing the remains of a torn write
+         */
+        void discardFrom(int position) {
+            byte[] zeros = new byte[8192];
+            for (int offset = position; offset < buffer.capacity(); offset += zeros.length) {
+                buffer.put(offset, zeros, 0, Math.min(zeros.length, buffer.capacity() - offset));
+            }
+            buffer.force();
+        }
+
+        void seal(boolean fsync) {
+            if (fsync) {
+                buffer.force();
+            }
+        }
+
+        void close(boolean fsync) {
+            seal(fsync);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Error closing journal segment {}: {}", path, e.getMessage());
+            }
+        }
+
+        void delete() {
+            close(false);
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("⚠️ [SEND-NOTIFICATION] Unable to delete journal segment {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
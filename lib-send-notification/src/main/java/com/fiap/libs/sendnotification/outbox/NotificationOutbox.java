@@ -0,0 +1,329 @@
+package com.fiap.libs.sendnotification.outbox;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.config.NotificationProperties.Dispatcher.Priority;
+import com.fiap.libs.sendnotification.dispatcher.NotificationDispatcher;
+import com.fiap.libs.sendnotification.dispatcher.PrioritizedTask;
+import com.fiap.libs.sendnotification.email.NotificationListener;
+import com.fiap.libs.sendnotification.email.NotificationListeners;
+import com.fiap.libs.sendnotification.email.NotificationResult;
+import com.fiap.libs.sendnotification.email.RenderedEmail;
+import com.fiap.libs.sendnotification.ratelimit.OutboundRateLimiter;
+import com.fiap.libs.sendnotification.ratelimit.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Durable outbox for emails (at-least-once delivery).
+ * <p>
+ * Every email is written to the {@link NotificationJournal} before delivery and acknowledged
+ * after it. Failed deliveries are retried with exponential backoff and jitter up to
+ * {@code maxAttempts}; emails still pending when the application stops (or crashes) are
+ * delivered again by {@link #start()}. Deliveries run on the given executor (the dispatcher);
+ * attempts rejected by a full dispatcher are retried later instead of running on the caller or
+ * scheduler thread.
+ * <p>
+ * Listeners are notified of the final outcome of every email, including the ones recovered from
+ * the journal; add them before calling {@link #start()}.
+ */
+@Slf4j
+public class NotificationOutbox implements AutoCloseable {
+
+    private final NotificationJournal journal;
+    private final Executor executor;
+    private final OutboxDelivery delivery;
+    private final OutboundRateLimiter rateLimiter;
+    private final Function<String, Priority> priorityOf;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final ScheduledExecutorService scheduler;
+    private final NotificationListeners listeners = new NotificationListeners();
+
+    /**
+     * Messages in delivery by this process: start time and the caller's future (null when recovered)
+     */
+    private final Map<Long, Tracking> tracking = new ConcurrentHashMap<>();
+
+    /**
+     * Attempts hold the read lock; close takes the write lock to wait for in-flight deliveries
+     */
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    public NotificationOutbox(NotificationProperties.Outbox config, Executor executor, OutboxDelivery delivery)
+            throws IOException {
+        this(config, executor, delivery, null);
+    }
+
+    /**
+     * @param rateLimiter Delays each attempt until the relay and recipient domain allow it; may be null
+     */
+    public NotificationOutbox(NotificationProperties.Outbox config, Executor executor, OutboxDelivery delivery,
+                              OutboundRateLimiter rateLimiter) throws IOException {
+        this(config, executor, delivery, rateLimiter, type -> Priority.NORMAL);
+    }
+
+    /**
+     * @param priorityOf Dispatcher lane of each email type (ex: {@code Templates::priorityOf})
+     */
+    public NotificationOutbox(NotificationProperties.Outbox config, Executor executor, OutboxDelivery delivery,
+                              OutboundRateLimiter rateLimiter, Function<String, Priority> priorityOf) throws IOException {
+        this(new NotificationJournal(Path.of(config.getDirectory()), config.getSegmentSize().toBytes(), config.isFsync()),
+                executor, delivery, rateLimiter, priorityOf, config.getMaxAttempts(), config.getInitialBackoff(),
+                config.getMaxBackoff(), config.getCompactionInterval());
+    }
+
+    NotificationOutbox(NotificationJournal journal, Executor executor, OutboxDelivery delivery,
+                       OutboundRateLimiter rateLimiter, Function<String, Priority> priorityOf, int maxAttempts,
+                       Duration initialBackoff, Duration maxBackoff, Duration compactionInterval) {
+        this.journal = journal;
+        this.executor = executor instanceof NotificationDispatcher dispatcher ? dispatcher.withoutCallerRuns() : executor;
+        this.delivery = delivery;
+        this.rateLimiter = rateLimiter;
+        this.priorityOf = priorityOf;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(1, initialBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(initialBackoffMillis, maxBackoff.toMillis());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("notification-outbox").factory());
+
+        long compactionMillis = Math.max(1, compactionInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(journal::compact, compactionMillis, compactionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Redelivers the emails left pending in the journal by a previous run. Called once the
+     * listeners are attached (the auto-configuration calls it after every bean is created);
+     * further calls do nothing.
+     */
+    public void start() {
+        if (closed || !started.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<Long> pending = journal.pendingIds();
+        if (!pending.isEmpty()) {
+            log.info("🔁 [SEND-NOTIFICATION] Redelivering {} pending notifications from the outbox", pending.size());
+            pending.forEach(id -> {
+                RenderedEmail email = journal.read(id);
+                // Skips emails acknowledged since pendingIds() and the ones enqueued by this process before start
+                if (email != null && tracking.putIfAbsent(id, new Tracking(System.nanoTime(), email.type(), email.to(), null)) == null) {
+                    dispatch(id, 0);
+                }
+            });
+        }
+    }
+
+    /**
+     * Records the email in the journal and schedules its delivery. When this method returns the
+     * email is durable.
+     *
+     * @return Completed with the final outcome: delivered, or failed after {@code maxAttempts}
+     */
+    public CompletableFuture<NotificationResult> enqueue(RenderedEmail email) {
+        CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        long id = journal.append(email);
+        tracking.put(id, new Tracking(startNanos, email.type(), email.to(), future));
+        dispatch(id, 0);
+        return future;
+    }
+
+    public void addListener(NotificationListener listener) {
+        listeners.add(listener);
+    }
+
+    public int getPendingCount() {
+        return journal.pendingCount();
+    }
+
+    /**
+     * Stops retries and closes the journal after in-flight deliveries finish. Pending emails are
+     * kept in the journal and delivered on the next start; their futures are completed with a
+     * failure, since this process will not deliver them.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+
+        boolean locked = false;
+        try {
+            locked = lifecycle.writeLock().tryLock(30, TimeUnit.SECONDS);
+            if (!locked) {
+                log.warn("⚠️ [SEND-NOTIFICATION] Closing the outbox with deliveries still in progress");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            journal.close();
+        } finally {
+            if (locked) {
+                lifecycle.writeLock().unlock();
+            }
+        }
+
+        IllegalStateException closedFailure =
+                new IllegalStateException("Outbox closed before delivery, the email stays pending for the next start");
+        tracking.forEach((id, pending) -> {
+            if (pending.future != null) {
+                pending.future.complete(
+                        NotificationResult.failed(pending.type, pending.to, 0, pending.startNanos, closedFailure));
+            }
+        });
+        tracking.clear();
+        log.info("✅ [SEND-NOTIFICATION] Notification outbox closed");
+    }
+
+    private void dispatch(long id, int attempt) {
+        if (closed) {
+            return;
+        }
+
+        Tracking pending = tracking.get(id);
+
+        // FutureTask: a task discarded by the dispatcher (DROP_OLDEST, shutdown) is cancelled
+        PrioritizedTask<Void> task = new PrioritizedTask<>(() -> attempt(id, attempt), null,
+                pending != null ? priorityOf.apply(pending.type) : Priority.NORMAL) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    retryLater(id, attempt);
+                }
+            }
+        };
+
+        try {
+            if (rateLimiter != null) {
+                rateLimiter.execute(pending != null ? pending.to : null, executor, task);
+            } else {
+                executor.execute(task);
+            }
+        } catch (RateLimitExceededException e) {
+            // Over the limits for longer than max-wait: kept in the journal instead of in memory. The
+            // refusal counts as an attempt, so an email throttled for too long is given up
+            int attempts = attempt + 1;
+            if (attempts >= maxAttempts) {
+                giveUp(id, attempts, e);
+            } else {
+                log.debug("Notification {} refused by the rate limiter, retrying in {} ms", id, maxBackoffMillis);
+                retryLater(id, attempts, maxBackoffMillis);
+            }
+        } catch (RejectedExecutionException e) {
+            retryLater(id, attempt);
+        }
+    }
+
+    private void attempt(long id, int attempt) {
+        if (!lifecycle.readLock().tryLock()) {
+            return;
+        }
+        try {
+            if (closed) {
+                return;
+            }
+            RenderedEmail email = journal.read(id);
+            if (email == null) {
+                return;
+            }
+
+            int attempts = attempt + 1;
+            try {
+                String messageId = delivery.deliver(email);
+                journal.acknowledge(id, true);
+                log.info("Email '{}' sent successfully to {}", email.type(), email.to());
+                complete(id, pending -> NotificationResult.delivered(email, messageId, attempts, pending.startNanos));
+            } catch (Exception e) {
+                if (attempts >= maxAttempts) {
+                    journal.acknowledge(id, false);
+                    log.error("Giving up '{}' email to {} after {} attempts: {}",
+                            email.type(), email.to(), attempts, e.getMessage(), e);
+                    complete(id, pending -> NotificationResult.failed(email.type(), email.to(), attempts, pending.startNanos, e));
+                } else {
+                    log.warn("Error when sending '{}' email to {} (attempt {} of {}): {}",
+                            email.type(), email.to(), attempts, maxAttempts, e.getMessage());
+                    retryLater(id, attempts);
+                }
+            }
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    /**
+     * Acknowledges as failed an email that was never handed to the relay (refused by the rate limiter)
+     */
+    private void giveUp(long id, int attempts, Exception cause) {
+        if (!lifecycle.readLock().tryLock()) {
+            return;
+        }
+        try {
+            if (closed) {
+                return;
+            }
+            journal.acknowledge(id, false);
+            Tracking pending = tracking.get(id);
+            log.error("Giving up '{}' email to {} after {} attempts: {}",
+                    pending != null ? pending.type : null, pending != null ? pending.to : null, attempts, cause.getMessage());
+            complete(id, failed -> NotificationResult.failed(failed.type, failed.to, attempts, failed.startNanos, cause));
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    private void complete(long id, Function<Tracking, NotificationResult> result) {
+        Tracking pending = tracking.remove(id);
+        if (pending == null) {
+            pending = new Tracking(System.nanoTime(), null, null, null);
+        }
+        listeners.complete(pending.future, result.apply(pending));
+    }
+
+    private void retryLater(long id, int attempt) {
+        retryLater(id, attempt, backoffMillis(attempt));
+    }
+
+    private void retryLater(long id, int attempt, long delayMillis) {
+        if (closed) {
+            return;
+        }
+        try {
+            scheduler.schedule(() -> dispatch(id, attempt), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closing: the email stays in the journal for the next start
+        }
+    }
+
+    /**
+     * Exponential backoff with equal jitter: half of the delay is fixed and half is random
+     */
+    long backoffMillis(int attempt) {
+        long delay = initialBackoffMillis << Math.min(Math.max(attempt - 1, 0), 30);
+        delay = Math.min(delay, maxBackoffMillis);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private record Tracking(long startNanos, String type, String to, CompletableFuture<NotificationResult> future) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.fiap.libs.sendnotification.outbox;
+
+import com.fiap.libs.sendnotification.email.RenderedEmail;
+
+/**
+ * Delivers an email taken from the outbox and returns its {@code Message-ID} (may be null).
+ * Throwing marks the attempt as failed.
+ */
+@FunctionalInterface
+public interface OutboxDelivery {
+
+    String deliver(RenderedEmail email) throws Exception;
+}
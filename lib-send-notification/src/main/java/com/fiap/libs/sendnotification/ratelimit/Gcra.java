@@ -0,0 +1,47 @@
+package com.fiap.libs.sendnotification.ratelimit;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+
+/**
+ * GCRA bucket: {@code tat} is the theoretical arrival time of the next email. An email is
+ * allowed at {@code tat - tolerance}, where the tolerance admits {@code burst} emails at once.
+ * Not thread-safe: guarded by its owner.
+ */
+final class Gcra {
+    private final NotificationProperties.RateLimit.Bucket bucket;
+    private long intervalNanos;
+    private long toleranceNanos;
+    private int scale;
+    long tat;
+
+    /**
+     * @param scale Multiplies the limit and the burst (ex: the same quota on several relays)
+     */
+    Gcra(NotificationProperties.RateLimit.Bucket bucket, int scale, long now) {
+        this.bucket = bucket;
+        this.tat = now;
+        rescale(scale);
+    }
+
+    /**
+     * Changes the multiplier of the limit and the burst; the slots already reserved are kept
+     */
+    void rescale(int scale) {
+        if (scale == this.scale) {
+            return;
+        }
+        long limit = (long) bucket.getLimit() * scale;
+        long burst = bucket.getBurst() > 0 ? Math.min((long) bucket.getBurst() * scale, limit) : limit;
+        this.intervalNanos = Math.max(1, bucket.getPeriod().toNanos() / limit);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.scale = scale;
+    }
+
+    long earliest() {
+        return tat - toleranceNanos;
+    }
+
+    void commit(long sentAt) {
+        tat = Math.max(tat, sentAt) + intervalNanos;
+    }
+}
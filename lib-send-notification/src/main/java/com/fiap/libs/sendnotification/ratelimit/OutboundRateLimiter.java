@@ -0,0 +1,283 @@
+package com.fiap.libs.sendnotification.ratelimit;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.dispatcher.NotificationDispatcher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Outbound rate limiter for the SMTP relay and for each recipient domain.
+ * <p>
+ * Each limit is a GCRA (generic cell rate algorithm) bucket, equivalent to a token bucket that
+ * only stores the theoretical arrival time of the next email. Every email reserves a slot in the
+ * relay buckets and in the bucket of its recipient domain, at the earliest time all of them allow.
+ * With several relays the relay limits apply to each one, so the relay buckets admit the sum of
+ * the quotas of the relays available (not ejected); the load balanced sender then reserves the
+ * slot on the relay it selects ({@link RelayQuota}).
+ * <p>
+ * Tasks whose slot is in the future are handed to the executor only at that time, so bursts are
+ * spread over the period instead of failing on the relay quota, and no delivery thread is held
+ * while waiting. Delayed tasks never run on the scheduler thread: a {@link NotificationDispatcher}
+ * with a full lane rejects them (see {@link NotificationDispatcher#withoutCallerRuns()}).
+ * <p>
+ * The waiting tasks are bounded: a task that would wait longer than {@code maxWait}, or arrives
+ * when {@code maxDelayed} tasks are already waiting, is refused with a
+ * {@link RateLimitExceededException} and reserves nothing.
+ */
+@Slf4j
+public class OutboundRateLimiter implements AutoCloseable {
+
+    private static final int MAX_DOMAINS = 10_000;
+
+    private final List<Gcra> relay = new ArrayList<>();
+    private final IntSupplier relays;
+    private final NotificationProperties.RateLimit.Bucket domainDefault;
+    private final Map<String, NotificationProperties.RateLimit.Bucket> domainLimits = new HashMap<>();
+    private final Map<String, Gcra> domains = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final Set<Runnable> delayed = ConcurrentHashMap.newKeySet();
+    private final long maxWaitNanos;
+    private final int maxDelayed;
+
+    private long throttledCount;
+    private long totalWaitNanos;
+    private long longestWaitNanos;
+    private long rejectedCount;
+
+    public OutboundRateLimiter(NotificationProperties.RateLimit config) {
+        this(config, () -> 1);
+    }
+
+    /**
+     * @param relays Number of SMTP relays available, each one with the {@code relay} limits (ex:
+     *               {@code LoadBalancedMailSender::getAvailableRelayCount}); read on every reservation
+     */
+    public OutboundRateLimiter(NotificationProperties.RateLimit config, IntSupplier relays) {
+        this.relays = relays;
+        long now = System.nanoTime();
+        for (NotificationProperties.RateLimit.Bucket bucket : config.getRelay()) {
+            if (bucket.getLimit() > 0) {
+                relay.add(new Gcra(bucket, relayCount(), now));
+            }
+        }
+        this.domainDefault = config.getDomainDefault();
+        config.getDomains().forEach((domain, bucket) -> domainLimits.put(domain.toLowerCase(Locale.ROOT), bucket));
+        this.maxWaitNanos = config.getMaxWait().toNanos();
+        this.maxDelayed = Math.max(0, config.getMaxDelayed());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("notification-rate-limiter").factory());
+    }
+
+    /**
+     * Reserves a slot for an email to the given recipient.
+     *
+     * @param recipient Recipient email, null to apply only the relay limits
+     * @return Nanoseconds to wait before sending (0 when it may be sent now)
+     */
+    public long reserve(String recipient) {
+        return reserve(Collections.singletonList(recipient));
+    }
+
+    /**
+     * Reserves one slot per recipient (emails sent together, ex: a bulk group).
+     *
+     * @return Nanoseconds to wait before sending all of them
+     */
+    public synchronized long reserve(Collection<String> recipients) {
+        return reserve(recipients, Long.MAX_VALUE);
+    }
+
+    /**
+     * @return Nanoseconds to wait, or -1 when it would exceed {@code maxWait} (nothing is reserved)
+     */
+    private long reserve(Collection<String> recipients, long maxWait) {
+        long now = System.nanoTime();
+        Map<Gcra, Long> previous = new IdentityHashMap<>();
+        long sendAt = now;
+
+        int relayCount = relayCount();
+        relay.forEach(bucket -> bucket.rescale(relayCount));
+
+        List<String> emails = recipients.isEmpty() ? Collections.singletonList(null) : new ArrayList<>(recipients);
+        for (String recipient : emails) {
+            List<Gcra> buckets = new ArrayList<>(relay);
+            Gcra domain = recipient == null ? null : domainBucket(domainOf(recipient), now);
+            if (domain != null) {
+                buckets.add(domain);
+            }
+
+            long allowedAt = now;
+            for (Gcra bucket : buckets) {
+                allowedAt = Math.max(allowedAt, bucket.earliest());
+            }
+            for (Gcra bucket : buckets) {
+                previous.putIfAbsent(bucket, bucket.tat);
+                bucket.commit(allowedAt);
+            }
+            sendAt = Math.max(sendAt, allowedAt);
+        }
+
+        long wait = sendAt - now;
+        if (wait > maxWait) {
+            previous.forEach((bucket, tat) -> bucket.tat = tat);
+            return -1;
+        }
+        if (wait > 0) {
+            throttledCount++;
+            totalWaitNanos += wait;
+            longestWaitNanos = Math.max(longestWaitNanos, wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Hands the task to the executor once the recipient's slot is reached.
+     */
+    public void execute(String recipient, Executor executor, Runnable task) {
+        execute(Collections.singletonList(recipient), executor, task);
+    }
+
+    /**
+     * Hands the task to the executor once the slots of all recipients are reached. Immediate
+     * rejections are thrown; rejections of delayed tasks cancel them when they are a
+     * {@link Future}.
+     *
+     * @throws RateLimitExceededException if the task would wait longer than {@code maxWait} or
+     *                                    {@code maxDelayed} tasks are already waiting
+     */
+    public void execute(Collection<String> recipients, Executor executor, Runnable task) {
+        long wait;
+        synchronized (this) {
+            // Full: only tasks that need no wait are accepted
+            wait = reserve(recipients, delayed.size() >= maxDelayed ? 0 : maxWaitNanos);
+            if (wait < 0) {
+                rejectedCount++;
+            } else if (wait > 0) {
+                delayed.add(task);
+            }
+        }
+
+        if (wait < 0) {
+            throw new RateLimitExceededException("Notification refused by the rate limiter: "
+                    + (delayed.size() >= maxDelayed ? maxDelayed + " notifications already waiting"
+                    : "wait exceeds " + Duration.ofNanos(maxWaitNanos)));
+        }
+        if (wait == 0) {
+            executor.execute(task);
+            return;
+        }
+
+        log.debug("Notification delayed {} ms by the rate limiter", TimeUnit.NANOSECONDS.toMillis(wait));
+        Executor target = executor instanceof NotificationDispatcher dispatcher ? dispatcher.withoutCallerRuns() : executor;
+        try {
+            scheduler.schedule(() -> {
+                if (!delayed.remove(task)) {
+                    return;
+                }
+                try {
+                    target.execute(task);
+                } catch (RejectedExecutionException e) {
+                    cancel(task, e);
+                }
+            }, wait, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            delayed.remove(task);
+            cancel(task, e);
+        }
+    }
+
+    /**
+     * Number of emails delayed by a limit
+     */
+    public synchronized long getThrottledCount() {
+        return throttledCount;
+    }
+
+    /**
+     * Sum of the waits of all delayed emails
+     */
+    public synchronized Duration getTotalWait() {
+        return Duration.ofNanos(totalWaitNanos);
+    }
+
+    /**
+     * Emails waiting for their slot
+     */
+    public int getDelayedCount() {
+        return delayed.size();
+    }
+
+    public synchronized Duration getMaxWait() {
+        return Duration.ofNanos(longestWaitNanos);
+    }
+
+    /**
+     * Emails refused for exceeding {@code maxWait} or {@code maxDelayed}
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Stops the scheduler; delayed tasks that are a {@link Future} are cancelled.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        for (Runnable task : List.copyOf(delayed)) {
+            if (delayed.remove(task)) {
+                cancel(task, new RejectedExecutionException("Rate limiter closed"));
+            }
+        }
+        log.info("✅ [SEND-NOTIFICATION] Rate limiter closed - Throttled: {}, Rejected: {}, Total wait: {}",
+                throttledCount, rejectedCount, Duration.ofNanos(totalWaitNanos));
+    }
+
+    private int relayCount() {
+        return Math.max(1, relays.getAsInt());
+    }
+
+    private Gcra domainBucket(String domain, long now) {
+        NotificationProperties.RateLimit.Bucket limit = domainLimits.getOrDefault(domain, domainDefault);
+        if (limit == null || limit.getLimit() <= 0) {
+            return null;
+        }
+
+        if (domains.size() >= MAX_DOMAINS) {
+            // A bucket whose arrival time has passed is equivalent to a new one
+            domains.values().removeIf(bucket -> bucket.tat <= now);
+        }
+        return domains.computeIfAbsent(domain, key -> new Gcra(limit, 1, now));
+    }
+
+    private static String domainOf(String recipient) {
+        int at = recipient == null ? -1 : recipient.lastIndexOf('@');
+        return at < 0 ? "" : recipient.substring(at + 1).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void cancel(Runnable task, RejectedExecutionException e) {
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        } else {
+            log.error("Delayed notification rejected: {}", e.getMessage());
+        }
+    }
+}
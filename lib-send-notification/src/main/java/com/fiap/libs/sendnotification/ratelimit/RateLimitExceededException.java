@@ -0,0 +1,14 @@
+package com.fiap.libs.sendnotification.ratelimit;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Email refused by the {@link OutboundRateLimiter}: it would wait longer than {@code maxWait}, or
+ * too many emails are already waiting for their slot.
+ */
+public class RateLimitExceededException extends RejectedExecutionException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
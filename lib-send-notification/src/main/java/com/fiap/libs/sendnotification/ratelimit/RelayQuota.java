@@ -0,0 +1,78 @@
+package com.fiap.libs.sendnotification.ratelimit;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Limits of a single SMTP relay ({@code notification.rate-limit.relay}), all enforced together.
+ * Used by the load balanced sender to reserve capacity on the relay actually selected.
+ */
+public class RelayQuota {
+
+    private final List<Gcra> buckets = new ArrayList<>();
+
+    public RelayQuota(List<NotificationProperties.RateLimit.Bucket> limits) {
+        long now = System.nanoTime();
+        for (NotificationProperties.RateLimit.Bucket bucket : limits) {
+            if (bucket.getLimit() > 0) {
+                buckets.add(new Gcra(bucket, 1, now));
+            }
+        }
+    }
+
+    /**
+     * Nanoseconds until the relay allows another email (0 when it allows one now)
+     */
+    public synchronized long delay() {
+        long now = System.nanoTime();
+        long allowedAt = now;
+        for (Gcra bucket : buckets) {
+            allowedAt = Math.max(allowedAt, bucket.earliest());
+        }
+        return allowedAt - now;
+    }
+
+    /**
+     * Reserves one slot per email at the earliest time the relay allows.
+     *
+     * @return Nanoseconds to wait before sending all of them
+     */
+    public long reserve(int emails) {
+        return reserve(emails, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reserves one slot per email unless the wait would exceed {@code maxWaitNanos}.
+     *
+     * @return Nanoseconds to wait before sending all of them, or -1 when it would exceed
+     * {@code maxWaitNanos} (nothing is reserved)
+     */
+    public synchronized long reserve(int emails, long maxWaitNanos) {
+        long now = System.nanoTime();
+        Map<Gcra, Long> previous = new IdentityHashMap<>();
+        buckets.forEach(bucket -> previous.put(bucket, bucket.tat));
+
+        long sendAt = now;
+        for (int i = 0; i < emails; i++) {
+            long allowedAt = now;
+            for (Gcra bucket : buckets) {
+                allowedAt = Math.max(allowedAt, bucket.earliest());
+            }
+            for (Gcra bucket : buckets) {
+                bucket.commit(allowedAt);
+            }
+            sendAt = Math.max(sendAt, allowedAt);
+        }
+
+        long wait = sendAt - now;
+        if (wait > maxWaitNanos) {
+            previous.forEach((bucket, tat) -> bucket.tat = tat);
+            return -1;
+        }
+        return wait;
+    }
+}
@@ -1,7 +1,10 @@
 package com.fiap.libs.sendnotification;
 
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.dispatcher.NotificationDispatcher;
 import com.fiap.libs.sendnotification.email.SendEmailNotification;
 import com.fiap.libs.sendnotification.email.config.LoadTemplateConfig;
+import com.fiap.libs.sendnotification.email.transport.PooledMailSender;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.mail.autoconfigure.MailSenderAutoConfiguration;
@@ -44,6 +47,30 @@ class SendNotificationAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void shouldRegisterNotificationDispatcher_withConfiguredPolicy() {
+        contextRunner
+                .withPropertyValues(
+                        "notification.dispatcher.concurrency=4",
+                        "notification.dispatcher.overflow-policy=DROP_OLDEST"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(NotificationDispatcher.class);
+                    assertThat(context.getBean(NotificationProperties.class).getDispatcher().getOverflowPolicy())
+                            .isEqualTo(NotificationProperties.Dispatcher.OverflowPolicy.DROP_OLDEST);
+                });
+    }
+
+    @Test
+    void shouldCreatePooledMailSender_unlessPoolIsDisabled() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(SendNotificationAutoConfiguration.class));
+
+        runner.run(context -> assertThat(context.getBean(JavaMailSender.class)).isInstanceOf(PooledMailSender.class));
+        runner.withPropertyValues("notification.mail.pool.enabled=false")
+                .run(context -> assertThat(context.getBean(JavaMailSender.class)).isNotInstanceOf(PooledMailSender.class));
+    }
+
     @Test
     void shouldInitializeConfiguration_withoutErrors() {
         contextRunner.run(context -> {
@@ -0,0 +1,68 @@
+package com.fiap.libs.sendnotification.digest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class NotificationCoalescerTest {
+
+    private final Map<String, List<String>> flushed = new ConcurrentHashMap<>();
+
+    @Test
+    void shouldFlushItemsOfSameKey_togetherAfterWindow() {
+        // Given
+        try (NotificationCoalescer<String> coalescer =
+                     new NotificationCoalescer<>(Duration.ofMillis(200), 10, flushed::put)) {
+
+            // When
+            coalescer.add("a@example.com", "OS-1");
+            coalescer.add("b@example.com", "OS-2");
+            coalescer.add("a@example.com", "OS-3");
+
+            // Then
+            assertThat(flushed).isEmpty();
+            assertThat(coalescer.getPendingCount()).isEqualTo(3);
+            await().atMost(Duration.ofSeconds(5)).until(() -> flushed.size() == 2);
+            assertThat(flushed.get("a@example.com")).containsExactly("OS-1", "OS-3");
+            assertThat(flushed.get("b@example.com")).containsExactly("OS-2");
+            assertThat(coalescer.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldFlushImmediately_whenMaxItemsIsReached() {
+        // Given
+        try (NotificationCoalescer<String> coalescer =
+                     new NotificationCoalescer<>(Duration.ofHours(1), 2, flushed::put)) {
+
+            // When
+            coalescer.add("a@example.com", "OS-1");
+            coalescer.add("a@example.com", "OS-2");
+
+            // Then
+            assertThat(flushed.get("a@example.com")).containsExactly("OS-1", "OS-2");
+            assertThat(coalescer.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldFlushPendingItems_onClose_andPassThroughAfterwards() {
+        // Given
+        NotificationCoalescer<String> coalescer = new NotificationCoalescer<>(Duration.ofHours(1), 10, flushed::put);
+        coalescer.add("a@example.com", "OS-1");
+
+        // When
+        coalescer.close();
+        coalescer.add("b@example.com", "OS-2");
+
+        // Then
+        assertThat(flushed.get("a@example.com")).containsExactly("OS-1");
+        assertThat(flushed.get("b@example.com")).containsExactly("OS-2");
+    }
+}
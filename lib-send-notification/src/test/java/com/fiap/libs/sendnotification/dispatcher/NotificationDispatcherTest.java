@@ -0,0 +1,233 @@
+package com.fiap.libs.sendnotification.dispatcher;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties.Dispatcher.OverflowPolicy;
+import com.fiap.libs.sendnotification.config.NotificationProperties.Dispatcher.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class NotificationDispatcherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    void shouldRunTasksOnVirtualThreads_notOnCommonPool() throws Exception {
+        // Given
+        dispatcher = new NotificationDispatcher(2, 10, OverflowPolicy.REJECT, Duration.ofSeconds(5));
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        dispatcher.execute(() -> {
+            threads.add(Thread.currentThread());
+            done.countDown();
+        });
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads.getFirst().isVirtual()).isTrue();
+        assertThat(threads.getFirst().getName()).startsWith("notification-dispatcher-");
+    }
+
+    @Test
+    void shouldLimitConcurrency() {
+        // Given
+        dispatcher = new NotificationDispatcher(2, 10, OverflowPolicy.REJECT, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            dispatcher.execute(() -> {
+                running.incrementAndGet();
+                awaitRelease();
+            });
+        }
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> running.get() == 2);
+        assertThat(dispatcher.getQueueSize()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReject_whenQueueIsFull() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.REJECT, Duration.ofSeconds(5));
+        fillWorkerAndQueue();
+
+        // When / Then
+        assertThatThrownBy(() -> dispatcher.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunInCaller_whenQueueIsFull() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.CALLER_RUNS, Duration.ofSeconds(5));
+        fillWorkerAndQueue();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        // When
+        dispatcher.execute(() -> threads.add(Thread.currentThread()));
+
+        // Then
+        assertThat(threads).containsExactly(Thread.currentThread());
+        assertThat(dispatcher.getCallerRunsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReject_internalResubmission_insteadOfRunningInCaller() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.CALLER_RUNS, Duration.ofSeconds(5));
+        fillWorkerAndQueue();
+        AtomicInteger executed = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(() -> dispatcher.withoutCallerRuns().execute(executed::incrementAndGet))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executed.get()).isZero();
+        assertThat(dispatcher.getCallerRunsCount()).isZero();
+        assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropOldest_whenQueueIsFull() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.DROP_OLDEST, Duration.ofSeconds(5));
+        AtomicInteger executed = new AtomicInteger();
+        fillWorkerAndQueue();
+
+        // When
+        dispatcher.execute(executed::incrementAndGet);
+        release.countDown();
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executed.get() == 1);
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDrainQueue_andRejectNewTasks_onClose() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 10, OverflowPolicy.REJECT, Duration.ofSeconds(5));
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            dispatcher.execute(executed::incrementAndGet);
+        }
+
+        // When
+        dispatcher.close();
+
+        // Then
+        assertThat(executed.get()).isEqualTo(5);
+        assertThatThrownBy(() -> dispatcher.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldServeHighPriority_beforeQueuedLowPriorityBacklog() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 100, OverflowPolicy.REJECT, Duration.ofSeconds(5));
+        List<String> executed = new CopyOnWriteArrayList<>();
+        blockWorker();
+        for (int i = 0; i < 5; i++) {
+            dispatcher.execute(task(Priority.LOW, () -> executed.add("LOW")));
+        }
+
+        // When
+        dispatcher.execute(task(Priority.HIGH, () -> executed.add("HIGH")));
+        dispatcher.execute(task(Priority.HIGH, () -> executed.add("HIGH")));
+        release.countDown();
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executed.size() == 7);
+        assertThat(executed.subList(0, 2)).containsExactly("HIGH", "HIGH");
+    }
+
+    @Test
+    void shouldShareWorkersByWeight_whenLanesAreBacklogged() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 100, OverflowPolicy.REJECT, Duration.ofSeconds(5),
+                Map.of(Priority.HIGH, 2, Priority.LOW, 1));
+        List<String> executed = new CopyOnWriteArrayList<>();
+        blockWorker();
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            dispatcher.execute(task(Priority.LOW, () -> executed.add("LOW")));
+            dispatcher.execute(task(Priority.HIGH, () -> executed.add("HIGH")));
+        }
+        release.countDown();
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executed.size() == 12);
+        assertThat(executed.subList(0, 9)).containsExactly(
+                "HIGH", "LOW", "HIGH", "HIGH", "LOW", "HIGH", "HIGH", "LOW", "HIGH");
+    }
+
+    @Test
+    void shouldAcceptHighPriority_whenLowPriorityLaneIsFull() {
+        // Given
+        dispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.REJECT, Duration.ofSeconds(5));
+        blockWorker();
+        dispatcher.execute(task(Priority.LOW, () -> { }));
+
+        // When / Then
+        assertThatThrownBy(() -> dispatcher.execute(task(Priority.LOW, () -> { })))
+                .isInstanceOf(RejectedExecutionException.class);
+        dispatcher.execute(task(Priority.HIGH, () -> { }));
+        assertThat(dispatcher.getQueueSize(Priority.HIGH)).isEqualTo(1);
+        assertThat(dispatcher.getQueueSize()).isEqualTo(2);
+    }
+
+    private static PrioritizedTask<Void> task(Priority priority, Runnable runnable) {
+        return new PrioritizedTask<>(runnable, null, priority);
+    }
+
+    private void blockWorker() {
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        try {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void fillWorkerAndQueue() {
+        blockWorker();
+        dispatcher.execute(this::awaitRelease);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.fiap.libs.sendnotification.config.NotificationProperties;
 import com.fiap.libs.sendnotification.email.config.LoadTemplateConfig;
 import com.fiap.libs.sendnotification.email.dto.CustomerRecord;
 import com.fiap.libs.sendnotification.email.dto.ModelRecord;
+import com.fiap.libs.sendnotification.email.dto.ServiceOrderApprovalRecord;
 import com.fiap.libs.sendnotification.email.dto.ServiceOrderRecord;
 import com.fiap.libs.sendnotification.email.dto.VehicleRecord;
+import com.fiap.libs.sendnotification.email.template.CompiledTemplate;
+import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,8 +19,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -41,6 +53,11 @@ class SendEmailNotificationTest {
         when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
     }
 
+    @AfterEach
+    void tearDown() {
+        sendEmailNotification.close();
+    }
+
     @Test
     void shouldSendWelcomeEmail_successfully() throws Exception {
         // Given
@@ -50,7 +67,7 @@ class SendEmailNotificationTest {
         );
 
         String template = "<html><body>Bem-vindo {{cliente}}!</body></html>";
-        when(loadTemplateConfig.loadTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(template);
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(CompiledTemplate.compile(template));
 
         // When
         sendEmailNotification.sendEmailWelcome(client);
@@ -60,7 +77,7 @@ class SendEmailNotificationTest {
 
         // Then
         verify(mailSender, times(1)).send(any(MimeMessage.class));
-        verify(loadTemplateConfig, times(1)).loadTemplate(properties.getMail().getTemplates().getWelcome().getPath());
+        verify(loadTemplateConfig, times(1)).getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath());
     }
 
     @Test
@@ -90,7 +107,7 @@ class SendEmailNotificationTest {
         );
 
         String template = "<html><body>OS {{osNumero}} finalizada para {{cliente}}. Veículo: {{veiculo}}. Data: {{dataFinalizacao}}</body></html>";
-        when(loadTemplateConfig.loadTemplate(properties.getMail().getTemplates().getServiceOrderFinalized().getPath())).thenReturn(template);
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getServiceOrderFinalized().getPath())).thenReturn(CompiledTemplate.compile(template));
 
         // When
         sendEmailNotification.sendServiceOrderFinalizedEmail(serviceOrder);
@@ -100,7 +117,7 @@ class SendEmailNotificationTest {
 
         // Then
         verify(mailSender, times(1)).send(any(MimeMessage.class));
-        verify(loadTemplateConfig, times(1)).loadTemplate(properties.getMail().getTemplates().getServiceOrderFinalized().getPath());
+        verify(loadTemplateConfig, times(1)).getCompiledTemplate(properties.getMail().getTemplates().getServiceOrderFinalized().getPath());
     }
 
     @Test
@@ -112,7 +129,7 @@ class SendEmailNotificationTest {
         );
 
         String template = "<html><body>Bem-vindo {{cliente}}!</body></html>";
-        when(loadTemplateConfig.loadTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(template);
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(CompiledTemplate.compile(template));
 
         // When / Then - Should not throw exception, just log error
         assertThatCode(() -> sendEmailNotification.sendEmailWelcome(clientWithInvalidEmail))
@@ -131,7 +148,7 @@ class SendEmailNotificationTest {
         );
 
         String template = "<html><body>Olá {{cliente}}, seja bem-vindo!</body></html>";
-        when(loadTemplateConfig.loadTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(template);
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(CompiledTemplate.compile(template));
 
         // When
         sendEmailNotification.sendEmailWelcome(client);
@@ -140,7 +157,7 @@ class SendEmailNotificationTest {
         Thread.sleep(100);
 
         // Then
-        verify(loadTemplateConfig, times(1)).loadTemplate(properties.getMail().getTemplates().getWelcome().getPath());
+        verify(loadTemplateConfig, times(1)).getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath());
     }
 
     @Test
@@ -151,7 +168,7 @@ class SendEmailNotificationTest {
                 "test@example.com"
         );
 
-        when(loadTemplateConfig.loadTemplate(properties.getMail().getTemplates().getWelcome().getPath()))
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath()))
                 .thenThrow(new RuntimeException("Template not found"));
 
         // When / Then - Should not throw exception, just log error
@@ -161,4 +178,193 @@ class SendEmailNotificationTest {
         // Give some time for async execution
         Thread.sleep(100);
     }
+
+    @Test
+    void shouldSendBulkFinalizedEmails_withOneTemplateLoad_andWithoutDuplicates() throws Exception {
+        // Given
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        String template = "<html><body>OS {{osNumero}} finalizada para {{cliente}}</body></html>";
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getServiceOrderFinalized().getPath())).thenReturn(CompiledTemplate.compile(template));
+
+        List<ServiceOrderRecord> serviceOrders = List.of(
+                serviceOrder("OS-1", "client@example.com"),
+                serviceOrder("OS-2", "client@example.com"),
+                serviceOrder("OS-1", "CLIENT@example.com")
+        );
+
+        // When
+        BulkSendResult result = sendEmailNotification.sendBulkServiceOrderFinalizedEmail(serviceOrders);
+
+        // Then
+        assertThat(result.items()).extracting(BulkSendResult.Item::status)
+                .containsExactly(BulkSendResult.Status.SENT, BulkSendResult.Status.SENT, BulkSendResult.Status.DUPLICATE);
+        verify(loadTemplateConfig, times(1)).getCompiledTemplate(properties.getMail().getTemplates().getServiceOrderFinalized().getPath());
+        verify(mailSender, times(1)).send(any(MimeMessage.class), any(MimeMessage.class));
+    }
+
+    @Test
+    void shouldSendBulkWelcomeEmails_skippingCaseVariantDuplicates() throws Exception {
+        // Given
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        String template = "<html><body>Bem-vindo {{cliente}}!</body></html>";
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(CompiledTemplate.compile(template));
+
+        List<CustomerRecord> clients = List.of(
+                new CustomerRecord("Client", "Client@example.com"),
+                new CustomerRecord("Client", "client@example.com"),
+                new CustomerRecord("Other", "other@example.com")
+        );
+
+        // When
+        BulkSendResult result = sendEmailNotification.sendBulkEmailWelcome(clients);
+
+        // Then
+        assertThat(result.items()).extracting(BulkSendResult.Item::status)
+                .containsExactly(BulkSendResult.Status.SENT, BulkSendResult.Status.DUPLICATE, BulkSendResult.Status.SENT);
+        verify(mailSender, times(1)).send(any(MimeMessage.class), any(MimeMessage.class));
+    }
+
+    @Test
+    void shouldReportPerItemOutcome_whenSomeBulkEmailsFail() throws Exception {
+        // Given
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        String template = "<html><body>OS {{osNumero}} finalizada para {{cliente}}</body></html>";
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getServiceOrderFinalized().getPath())).thenReturn(CompiledTemplate.compile(template));
+        doAnswer(invocation -> {
+            MimeMessage rejected = invocation.getArgument(1);
+            throw new MailSendException(Map.of(rejected, new MessagingException("550 Mailbox unavailable")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // When
+        BulkSendResult result = sendEmailNotification.sendBulkServiceOrderFinalizedEmail(List.of(
+                serviceOrder("OS-1", "first@example.com"),
+                serviceOrder("OS-2", "second@example.com")
+        ));
+
+        // Then
+        assertThat(result.count(BulkSendResult.Status.SENT)).isEqualTo(1);
+        assertThat(result.failures()).singleElement()
+                .satisfies(item -> {
+                    assertThat(item.key()).isEqualTo("OS-2");
+                    assertThat(item.to()).isEqualTo("second@example.com");
+                    assertThat(item.error()).contains("550");
+                });
+    }
+
+    @Test
+    void shouldCompleteFuture_andNotifyListener_whenEmailIsSent() throws Exception {
+        // Given
+        String template = "<html><body>Bem-vindo {{cliente}}!</body></html>";
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(CompiledTemplate.compile(template));
+        List<NotificationResult> notified = new CopyOnWriteArrayList<>();
+        sendEmailNotification.addListener(notified::add);
+
+        // When
+        NotificationResult result = sendEmailNotification
+                .sendEmailWelcomeAsync(new CustomerRecord("John Doe", "test@example.com"))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.type()).isEqualTo(SendEmailNotification.TYPE_WELCOME);
+        assertThat(result.to()).isEqualTo("test@example.com");
+        assertThat(result.attempts()).isEqualTo(1);
+        assertThat(result.latency()).isPositive();
+        assertThat(notified).containsExactly(result);
+    }
+
+    @Test
+    void shouldCompleteFutureWithFailure_whenSmtpRejectsEmail() throws Exception {
+        // Given
+        String template = "<html><body>Bem-vindo {{cliente}}!</body></html>";
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath())).thenReturn(CompiledTemplate.compile(template));
+        doThrow(new MailSendException("Connection refused")).when(mailSender).send(any(MimeMessage.class));
+
+        // When
+        NotificationResult result = sendEmailNotification
+                .sendEmailWelcomeAsync(new CustomerRecord("John Doe", "test@example.com"))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.messageId()).isNull();
+        assertThat(result.failure()).isInstanceOf(MailSendException.class).hasMessage("Connection refused");
+    }
+
+    @Test
+    void shouldMergeApprovalEmails_toSameRecipient_intoOneDigest() throws Exception {
+        // Given
+        properties.getDigest().setEnabled(true);
+        properties.getDigest().setWindow(Duration.ofMillis(200));
+        var templates = properties.getMail().getTemplates();
+        when(loadTemplateConfig.getCompiledTemplate(templates.getServiceOrderApproval().getPath()))
+                .thenReturn(CompiledTemplate.compile("<p>{{cliente}}: OS {{osNumero}}</p>"));
+        when(loadTemplateConfig.getCompiledTemplate(templates.getServiceOrderApprovalDigest().getPath()))
+                .thenReturn(CompiledTemplate.compile("<p>{{cliente}}: {{quantidade}} OS</p>{{itens}}"));
+        when(loadTemplateConfig.getCompiledTemplate(templates.getServiceOrderApprovalDigest().getItemPath()))
+                .thenReturn(CompiledTemplate.compile("<li>{{osNumero}}</li>"));
+
+        try (SendEmailNotification digestNotification = new SendEmailNotification(mailSender, loadTemplateConfig, properties)) {
+            // When
+            var first = digestNotification.sendServiceOrderApprovalEmailAsync(approval("OS-1", "client@example.com"));
+            var second = digestNotification.sendServiceOrderApprovalEmailAsync(approval("OS-2", "CLIENT@example.com"));
+            var repeated = digestNotification.sendServiceOrderApprovalEmailAsync(approval("OS-1", "client@example.com"));
+            var other = digestNotification.sendServiceOrderApprovalEmailAsync(approval("OS-3", "other@example.com"));
+
+            // Then
+            NotificationResult digest = first.get(5, TimeUnit.SECONDS);
+            assertThat(digest.type()).isEqualTo(SendEmailNotification.TYPE_SERVICE_ORDER_APPROVAL_DIGEST);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(digest);
+            assertThat(repeated.get(5, TimeUnit.SECONDS)).isSameAs(digest);
+            assertThat(other.get(5, TimeUnit.SECONDS).type()).isEqualTo(SendEmailNotification.TYPE_SERVICE_ORDER_APPROVAL);
+            verify(mailSender, times(2)).send(any(MimeMessage.class));
+        }
+    }
+
+    @Test
+    void shouldSendHeldApprovalEmails_whenClosed() throws Exception {
+        // Given
+        properties.getDigest().setEnabled(true);
+        properties.getDigest().setWindow(Duration.ofHours(1));
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getServiceOrderApproval().getPath()))
+                .thenReturn(CompiledTemplate.compile("<p>{{cliente}}: OS {{osNumero}}</p>"));
+        SendEmailNotification digestNotification = new SendEmailNotification(mailSender, loadTemplateConfig, properties);
+        var future = digestNotification.sendServiceOrderApprovalEmailAsync(approval("OS-1", "client@example.com"));
+
+        // When
+        digestNotification.close();
+
+        // Then
+        assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        verify(mailSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    void shouldCloseOwnDispatcher_whenClosed() throws Exception {
+        // Given
+        when(loadTemplateConfig.getCompiledTemplate(properties.getMail().getTemplates().getWelcome().getPath()))
+                .thenReturn(CompiledTemplate.compile("<p>{{cliente}}</p>"));
+        sendEmailNotification.close();
+
+        // When
+        var future = sendEmailNotification.sendEmailWelcomeAsync(new CustomerRecord("John Doe", "test@example.com"));
+
+        // Then
+        assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isFalse();
+        verify(mailSender, never()).send(any(MimeMessage.class));
+    }
+
+    private static ServiceOrderApprovalRecord approval(String orderNumber, String email) {
+        return new ServiceOrderApprovalRecord(orderNumber, new CustomerRecord("Cliente", email), "Corolla",
+                "https://example.com/approve", "https://example.com/reject");
+    }
+
+    private static ServiceOrderRecord serviceOrder(String orderNumber, String email) {
+        return new ServiceOrderRecord(
+                orderNumber,
+                new CustomerRecord("Cliente", email),
+                new VehicleRecord("ABC-1234", new ModelRecord(2023, "Corolla", "Toyota")),
+                "2025-01-15"
+        );
+    }
 }
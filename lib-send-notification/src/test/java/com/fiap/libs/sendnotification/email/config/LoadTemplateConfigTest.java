@@ -1,5 +1,6 @@
 package com.fiap.libs.sendnotification.email.config;
 
+import com.fiap.libs.sendnotification.email.template.CompiledTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,10 +12,13 @@ import org.springframework.core.io.ResourceLoader;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -97,4 +101,24 @@ class LoadTemplateConfigTest {
         assertThat(result).contains("<body>");
         assertThat(result).contains("<h1>Hello</h1>");
     }
+
+    @Test
+    void shouldCompileTemplateOnce_andServeFromCache() throws IOException {
+        // Given
+        String templatePath = "templates/cached_template.html";
+
+        when(resourceLoader.getResource("classpath:" + templatePath)).thenReturn(mockResource);
+        when(mockResource.exists()).thenReturn(true);
+        when(mockResource.isReadable()).thenReturn(true);
+        when(mockResource.getInputStream()).thenReturn(new ByteArrayInputStream("Olá {{cliente}}".getBytes()));
+
+        // When
+        CompiledTemplate first = loadTemplateConfig.getCompiledTemplate(templatePath);
+        CompiledTemplate second = loadTemplateConfig.getCompiledTemplate(templatePath);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.render(Map.of("cliente", "Ana"))).isEqualTo("Olá Ana");
+        verify(mockResource, times(1)).getInputStream();
+    }
 }
@@ -0,0 +1,75 @@
+package com.fiap.libs.sendnotification.email.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledTemplateTest {
+
+    @Test
+    void shouldReplaceAllPlaceholders_inSinglePass() {
+        // Given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "<p>Olá {{cliente}}, OS {{osNumero}} ({{ cliente }})</p>");
+
+        // When
+        String result = template.render(Map.of("cliente", "Ana", "osNumero", "OS-1"));
+
+        // Then
+        assertThat(result).isEqualTo("<p>Olá Ana, OS OS-1 (Ana)</p>");
+        assertThat(template.placeholders()).containsExactly("cliente", "osNumero", "cliente");
+    }
+
+    @Test
+    void shouldKeepUnknownPlaceholdersAndText() {
+        // Given
+        CompiledTemplate template = CompiledTemplate.compile("{{a}} {{desconhecido}} {{ a b }} {{sem fim");
+
+        // When
+        String result = template.render(Map.of("a", "1"));
+
+        // Then
+        assertThat(result).isEqualTo("1 {{desconhecido}} {{ a b }} {{sem fim");
+    }
+
+    @Test
+    void shouldNotReinterpretPlaceholdersInsideValues() {
+        // Given
+        CompiledTemplate template = CompiledTemplate.compile("{{a}}-{{b}}");
+
+        // When
+        String result = template.render(Map.of("a", "{{b}}", "b", "x"));
+
+        // Then
+        assertThat(result).isEqualTo("{{b}}-x");
+    }
+
+    @Test
+    void shouldRenderNullValuesAsEmpty() {
+        // Given
+        CompiledTemplate template = CompiledTemplate.compile("[{{a}}]");
+        Map<String, String> values = new HashMap<>();
+        values.put("a", null);
+
+        // When / Then
+        assertThat(template.render(values)).isEqualTo("[]");
+    }
+
+    @Test
+    void shouldEscapeHtml_whenEnabled() {
+        // Given
+        CompiledTemplate template = CompiledTemplate.compile("<a href=\"{{url}}\">{{nome}}</a>");
+        Map<String, String> values = Map.of("url", "https://x/?a=1&b=\"2\"", "nome", "<b>Tom & 'Jerry'</b>");
+
+        // When
+        String escaped = template.render(values, true);
+        String raw = template.render(values, false);
+
+        // Then
+        assertThat(escaped).isEqualTo("<a href=\"https://x/?a=1&amp;b=&quot;2&quot;\">&lt;b&gt;Tom &amp; &#39;Jerry&#39;&lt;/b&gt;</a>");
+        assertThat(raw).isEqualTo("<a href=\"https://x/?a=1&b=\"2\"\"><b>Tom & 'Jerry'</b></a>");
+    }
+}
@@ -0,0 +1,153 @@
+package com.fiap.libs.sendnotification.email.transport;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.ratelimit.RateLimitExceededException;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class LoadBalancedMailSenderTest {
+
+    private static final ServerSetup SECOND_RELAY = new ServerSetup(3125, "localhost", ServerSetup.PROTOCOL_SMTP);
+    private static final ServerSetup LATE_RELAY = new ServerSetup(3225, "localhost", ServerSetup.PROTOCOL_SMTP);
+
+    @RegisterExtension
+    static GreenMailExtension firstRelay = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @RegisterExtension
+    static GreenMailExtension secondRelay = new GreenMailExtension(SECOND_RELAY);
+
+    private LoadBalancedMailSender mailSender;
+
+    @AfterEach
+    void tearDown() {
+        mailSender.close();
+    }
+
+    @Test
+    void shouldSpreadEmails_acrossRelays() throws Exception {
+        // Given
+        mailSender = new LoadBalancedMailSender(List.of(
+                relay(ServerSetupTest.SMTP.getPort()),
+                relay(SECOND_RELAY.getPort())
+        ), health(3));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            mailSender.send(message("user" + i + "@example.com"));
+        }
+
+        // Then
+        assertThat(firstRelay.getReceivedMessages()).isNotEmpty();
+        assertThat(secondRelay.getReceivedMessages()).isNotEmpty();
+        assertThat(firstRelay.getReceivedMessages().length + secondRelay.getReceivedMessages().length).isEqualTo(10);
+    }
+
+    @Test
+    void shouldFailOver_andEjectUnreachableRelay() throws Exception {
+        // Given
+        mailSender = new LoadBalancedMailSender(List.of(
+                relay(LATE_RELAY.getPort()),
+                relay(SECOND_RELAY.getPort())
+        ), health(1));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            mailSender.send(message("user" + i + "@example.com"));
+        }
+
+        // Then
+        assertThat(secondRelay.getReceivedMessages()).hasSize(3);
+        assertThat(mailSender.getRelays().getFirst().available()).isFalse();
+        assertThat(mailSender.getRelays().getFirst().failures()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadmitEjectedRelay_whenProbeSucceeds() throws Exception {
+        // Given
+        mailSender = new LoadBalancedMailSender(List.of(
+                relay(LATE_RELAY.getPort()),
+                relay(SECOND_RELAY.getPort())
+        ), health(1));
+        mailSender.send(message("first@example.com"));
+        assertThat(mailSender.getRelays().getFirst().available()).isFalse();
+
+        // When
+        GreenMail lateRelay = new GreenMail(LATE_RELAY);
+        lateRelay.start();
+        try {
+
+            // Then
+            await().atMost(5, TimeUnit.SECONDS).until(() -> mailSender.getRelays().getFirst().available());
+        } finally {
+            lateRelay.stop();
+        }
+    }
+
+    @Test
+    void shouldFailOverToRelayWithQuota_andRefuseBeyondMaxWait() throws Exception {
+        // Given: each relay sends one email per minute and waits at most 1s for a slot
+        NotificationProperties.RateLimit rateLimit = new NotificationProperties.RateLimit();
+        rateLimit.setEnabled(true);
+        rateLimit.setRelay(List.of(new NotificationProperties.RateLimit.Bucket(1, Duration.ofMinutes(1), 0)));
+        rateLimit.setMaxWait(Duration.ofSeconds(1));
+        mailSender = new LoadBalancedMailSender(List.of(
+                relay(ServerSetupTest.SMTP.getPort()),
+                relay(SECOND_RELAY.getPort())
+        ), health(3), rateLimit);
+
+        // When
+        mailSender.send(message("first@example.com"));
+        mailSender.send(message("second@example.com"));
+        long start = System.nanoTime();
+
+        // Then
+        assertThat(firstRelay.getReceivedMessages()).hasSize(1);
+        assertThat(secondRelay.getReceivedMessages()).hasSize(1);
+        assertThatThrownBy(() -> mailSender.send(message("third@example.com")))
+                .isInstanceOfSatisfying(MailSendException.class, e -> assertThat(e.getFailedMessages().values())
+                        .singleElement().isInstanceOf(RateLimitExceededException.class));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    private static LoadBalancedMailSender.Relay relay(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(port);
+        return new LoadBalancedMailSender.Relay(sender, 1);
+    }
+
+    private static NotificationProperties.MailConfig.RelayHealth health(int failureThreshold) {
+        NotificationProperties.MailConfig.RelayHealth health = new NotificationProperties.MailConfig.RelayHealth();
+        health.setFailureThreshold(failureThreshold);
+        health.setOpenDuration(Duration.ofMillis(50));
+        health.setProbeInterval(Duration.ofMillis(50));
+        return health;
+    }
+
+    private MimeMessage message(String to) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@example.com");
+        helper.setTo(to);
+        helper.setSubject("Test");
+        helper.setText("<p>Test</p>", true);
+        return message;
+    }
+}
@@ -0,0 +1,173 @@
+package com.fiap.libs.sendnotification.email.transport;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.URLName;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private PooledMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new PooledMailSender(2, 10, 100, Duration.ofSeconds(60), Duration.ofSeconds(60));
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailSender.close();
+    }
+
+    @Test
+    void shouldReuseConnection_forSequentialSends() throws Exception {
+        // When
+        for (int i = 0; i < 5; i++) {
+            mailSender.send(message("user" + i + "@example.com"));
+        }
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(mailSender.getConnectionsOpened()).isEqualTo(1);
+        assertThat(mailSender.getIdleConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeliverConcurrentSends_withinConnectionLimit() throws Exception {
+        // Given
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 40; i++) {
+                MimeMessage message = message("user" + i + "@example.com");
+                futures.add(executor.submit(() -> mailSender.send(message)));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(40);
+        assertThat(mailSender.getMessagesSent()).isEqualTo(40);
+        assertThat(mailSender.getConnectionsOpened()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldReconnect_whenPooledConnectionWasDropped() throws Exception {
+        // Given
+        mailSender.send(message("first@example.com"));
+        greenMail.reset();
+
+        // When
+        mailSender.send(message("second@example.com"));
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(greenMail.getReceivedMessages()[0].getAllRecipients()[0].toString()).isEqualTo("second@example.com");
+        assertThat(mailSender.getConnectionsOpened()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWaitWithoutSpinning_whileOtherThreadSendsTheMessages() throws Exception {
+        // Given a slow relay: one thread sends the batch while the other callers wait
+        try (PooledMailSender slowSender = new PooledMailSender(4, 20, 100, Duration.ofSeconds(60), Duration.ofSeconds(60)) {
+            @Override
+            protected Transport connectTransport() {
+                return new SlowTransport(getSession(), 100);
+            }
+        }) {
+            slowSender.send(message("warmup@example.com"));
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            List<Future<Long>> cpuTimes = new ArrayList<>();
+
+            // When
+            try (ExecutorService executor = Executors.newFixedThreadPool(20)) {
+                for (int i = 0; i < 20; i++) {
+                    MimeMessage message = message("user" + i + "@example.com");
+                    cpuTimes.add(executor.submit(() -> {
+                        long start = threads.getCurrentThreadCpuTime();
+                        slowSender.send(message);
+                        return threads.getCurrentThreadCpuTime() - start;
+                    }));
+                }
+            }
+
+            // Then: spinning callers would burn CPU while the batches are sent
+            long totalCpuNanos = 0;
+            for (Future<Long> cpuTime : cpuTimes) {
+                totalCpuNanos += cpuTime.get();
+            }
+            assertThat(slowSender.getMessagesSent()).isEqualTo(21);
+            assertThat(Duration.ofNanos(totalCpuNanos)).isLessThan(Duration.ofMillis(100));
+        }
+    }
+
+    private MimeMessage message(String to) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@example.com");
+        helper.setTo(to);
+        helper.setSubject("Test");
+        helper.setText("<p>Test</p>", true);
+        return message;
+    }
+
+    /**
+     * Transport that takes {@code sendMillis} per message and delivers nothing
+     */
+    private static final class SlowTransport extends Transport {
+
+        private final long sendMillis;
+
+        private SlowTransport(Session session, long sendMillis) {
+            super(session, new URLName("smtp", "localhost", -1, null, null, null));
+            this.sendMillis = sendMillis;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(sendMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.fiap.libs.sendnotification.outbox;
+
+import com.fiap.libs.sendnotification.email.RenderedEmail;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecoverPendingMessages_afterReopen() throws Exception {
+        // Given
+        long first;
+        long second;
+        try (NotificationJournal journal = new NotificationJournal(directory, 4096, true)) {
+            first = journal.append(email("first@example.com"));
+            second = journal.append(email("second@example.com"));
+            journal.acknowledge(first, true);
+        }
+
+        // When
+        try (NotificationJournal journal = new NotificationJournal(directory, 4096, true)) {
+
+            // Then
+            assertThat(journal.pendingIds()).containsExactly(second);
+            assertThat(journal.read(first)).isNull();
+            assertThat(journal.read(second)).isEqualTo(email("second@example.com"));
+            assertThat(journal.append(email("third@example.com"))).isGreaterThan(second);
+        }
+    }
+
+    @Test
+    void shouldDiscardTornRecord_atTheTail() throws Exception {
+        // Given
+        long first;
+        try (NotificationJournal journal = new NotificationJournal(directory, 4096, true)) {
+            first = journal.append(email("first@example.com"));
+            journal.append(email("second@example.com"));
+        }
+        corruptSecondRecord(directory.resolve("journal-00000000000000000001.log"));
+
+        // When
+        try (NotificationJournal journal = new NotificationJournal(directory, 4096, true)) {
+            long third = journal.append(email("third@example.com"));
+
+            // Then
+            assertThat(journal.pendingIds()).containsExactly(first, third);
+        }
+        try (NotificationJournal journal = new NotificationJournal(directory, 4096, true)) {
+            assertThat(journal.pendingCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldDeleteDeliveredSegments_andRelocateFewPendingMessages() throws Exception {
+        // Given
+        long kept;
+        try (NotificationJournal journal = new NotificationJournal(directory, 512, true)) {
+            kept = journal.append(email("kept@example.com"));
+            for (int i = 0; i < 10; i++) {
+                journal.acknowledge(journal.append(email("user" + i + "@example.com")), true);
+            }
+            int segments = journal.segmentCount();
+            assertThat(segments).isGreaterThan(2);
+
+            // When
+            int removed = journal.compact();
+
+            // Then
+            assertThat(removed).isEqualTo(segments - 1);
+            assertThat(journal.segmentCount()).isEqualTo(1);
+            assertThat(journal.read(kept)).isEqualTo(email("kept@example.com"));
+        }
+        try (NotificationJournal journal = new NotificationJournal(directory, 512, true)) {
+            assertThat(journal.pendingIds()).containsExactly(kept);
+        }
+    }
+
+    private static RenderedEmail email(String to) {
+        return new RenderedEmail("welcome", to, "Bem-vindo", "<p>Olá</p>");
+    }
+
+    private static void corruptSecondRecord(Path segment) throws Exception {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int secondRecord = 8 + file.readInt();
+            file.seek(secondRecord + 20);
+            int value = file.readByte();
+            file.seek(secondRecord + 20);
+            file.writeByte(value ^ 0xFF);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fiap.libs.sendnotification.outbox;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.config.NotificationProperties.Dispatcher.Priority;
+import com.fiap.libs.sendnotification.config.NotificationProperties.RateLimit.Bucket;
+import com.fiap.libs.sendnotification.email.NotificationResult;
+import com.fiap.libs.sendnotification.email.RenderedEmail;
+import com.fiap.libs.sendnotification.ratelimit.OutboundRateLimiter;
+import com.fiap.libs.sendnotification.ratelimit.RateLimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class NotificationOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void shouldRetryFailedDelivery_untilAcknowledged() throws Exception {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        OutboxDelivery delivery = email -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("SMTP unavailable");
+            }
+            return "<" + attempts.get() + "@example.com>";
+        };
+
+        try (NotificationOutbox outbox = outbox(delivery, 5)) {
+
+            // When
+            NotificationResult result = outbox.enqueue(email("retry@example.com")).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.attempts()).isEqualTo(3);
+            assertThat(result.messageId()).isEqualTo("<3@example.com>");
+            assertThat(outbox.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldRedeliverPendingMessages_afterRestart() throws Exception {
+        // Given
+        try (NotificationOutbox outbox = outbox(email -> { throw new IllegalStateException("SMTP unavailable"); }, 100)) {
+            outbox.enqueue(email("pending@example.com"));
+        }
+        List<RenderedEmail> delivered = new CopyOnWriteArrayList<>();
+        List<NotificationResult> notified = new CopyOnWriteArrayList<>();
+
+        // When
+        try (NotificationOutbox outbox = outbox(email -> {
+            delivered.add(email);
+            return null;
+        }, 5)) {
+            outbox.addListener(notified::add);
+            assertThat(delivered).isEmpty();
+            outbox.start();
+
+            // Then
+            await().atMost(5, TimeUnit.SECONDS).until(() -> outbox.getPendingCount() == 0);
+            assertThat(delivered).containsExactly(email("pending@example.com"));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> notified.size() == 1);
+            assertThat(notified.getFirst().isSuccess()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldGiveUp_afterMaxAttempts() throws Exception {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        OutboxDelivery delivery = email -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Mailbox unavailable");
+        };
+
+        List<NotificationResult> notified = new CopyOnWriteArrayList<>();
+
+        try (NotificationOutbox outbox = outbox(delivery, 3)) {
+            outbox.addListener(notified::add);
+
+            // When
+            NotificationResult result = outbox.enqueue(email("dead@example.com")).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(result.isSuccess()).isFalse();
+            assertThat(result.failure()).hasMessage("Mailbox unavailable");
+            assertThat(attempts.get()).isEqualTo(3);
+            assertThat(outbox.getPendingCount()).isZero();
+            assertThat(notified).containsExactly(result);
+        }
+    }
+
+    @Test
+    void shouldCountRateLimitRefusals_asAttempts() throws Exception {
+        // Given: one email per minute and at most 1s of waiting
+        NotificationProperties.RateLimit config = new NotificationProperties.RateLimit();
+        config.setEnabled(true);
+        config.setRelay(List.of(new Bucket(1, Duration.ofMinutes(1), 0)));
+        config.setMaxWait(Duration.ofSeconds(1));
+        List<RenderedEmail> delivered = new CopyOnWriteArrayList<>();
+
+        try (OutboundRateLimiter rateLimiter = new OutboundRateLimiter(config);
+             NotificationOutbox outbox = outbox(email -> {
+                 delivered.add(email);
+                 return null;
+             }, rateLimiter, 3)) {
+
+            // When
+            NotificationResult first = outbox.enqueue(email("first@example.com")).get(5, TimeUnit.SECONDS);
+            NotificationResult throttled = outbox.enqueue(email("throttled@example.com")).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(first.isSuccess()).isTrue();
+            assertThat(throttled.isSuccess()).isFalse();
+            assertThat(throttled.attempts()).isEqualTo(3);
+            assertThat(throttled.failure()).isInstanceOf(RateLimitExceededException.class);
+            assertThat(delivered).containsExactly(email("first@example.com"));
+            assertThat(outbox.getPendingCount()).isZero();
+        }
+    }
+
+    private NotificationOutbox outbox(OutboxDelivery delivery, int maxAttempts) throws Exception {
+        return outbox(delivery, null, maxAttempts);
+    }
+
+    private NotificationOutbox outbox(OutboxDelivery delivery, OutboundRateLimiter rateLimiter, int maxAttempts) throws Exception {
+        return new NotificationOutbox(new NotificationJournal(directory, 4096, false), executor, delivery, rateLimiter,
+                type -> Priority.NORMAL, maxAttempts, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMinutes(1));
+    }
+
+    private static RenderedEmail email(String to) {
+        return new RenderedEmail("welcome", to, "Bem-vindo", "<p>Olá</p>");
+    }
+}
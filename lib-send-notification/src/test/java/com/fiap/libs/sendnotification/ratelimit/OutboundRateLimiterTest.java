@@ -0,0 +1,175 @@
+package com.fiap.libs.sendnotification.ratelimit;
+
+import com.fiap.libs.sendnotification.config.NotificationProperties;
+import com.fiap.libs.sendnotification.config.NotificationProperties.RateLimit.Bucket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class OutboundRateLimiterTest {
+
+    private OutboundRateLimiter rateLimiter;
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.close();
+    }
+
+    @Test
+    void shouldAllowBurst_thenSpaceSendsEvenly() {
+        // Given
+        rateLimiter = new OutboundRateLimiter(config(List.of(new Bucket(10, Duration.ofSeconds(1), 2))));
+
+        // When
+        long first = rateLimiter.reserve("a@example.com");
+        long second = rateLimiter.reserve("b@example.com");
+        long third = rateLimiter.reserve("c@example.com");
+        long fourth = rateLimiter.reserve("d@example.com");
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(Duration.ofNanos(third)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+        assertThat(Duration.ofNanos(fourth)).isBetween(Duration.ofMillis(150), Duration.ofMillis(200));
+        assertThat(rateLimiter.getThrottledCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLimitEachRecipientDomain_independently() {
+        // Given
+        NotificationProperties.RateLimit config = config(List.of());
+        config.getDomains().put("gmail.com", new Bucket(1, Duration.ofMinutes(1), 0));
+        rateLimiter = new OutboundRateLimiter(config);
+
+        // When
+        long first = rateLimiter.reserve("a@gmail.com");
+        long second = rateLimiter.reserve("b@GMAIL.com");
+        long otherDomain = rateLimiter.reserve("c@example.com");
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(Duration.ofNanos(second)).isGreaterThan(Duration.ofSeconds(59));
+        assertThat(otherDomain).isZero();
+    }
+
+    @Test
+    void shouldDelayExecution_insteadOfRejecting() {
+        // Given
+        rateLimiter = new OutboundRateLimiter(config(List.of(new Bucket(1, Duration.ofMillis(100), 0))));
+        List<Long> executedAt = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.execute("user" + i + "@example.com", Runnable::run, () -> executedAt.add(System.nanoTime() - start));
+        }
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executedAt.size() == 3);
+        assertThat(Duration.ofNanos(executedAt.get(2))).isGreaterThanOrEqualTo(Duration.ofMillis(190));
+        assertThat(rateLimiter.getDelayedCount()).isZero();
+        assertThat(rateLimiter.getMaxWait()).isGreaterThan(Duration.ofMillis(150));
+    }
+
+    @Test
+    void shouldRefuse_withoutReserving_whenWaitExceedsMaxWait() {
+        // Given
+        NotificationProperties.RateLimit config = config(List.of(new Bucket(1, Duration.ofMinutes(1), 0)));
+        config.setMaxWait(Duration.ofSeconds(1));
+        rateLimiter = new OutboundRateLimiter(config);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        rateLimiter.execute("a@example.com", Runnable::run, () -> executed.add("a"));
+
+        // When / Then
+        assertThatThrownBy(() -> rateLimiter.execute("b@example.com", Runnable::run, () -> executed.add("b")))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(executed).containsExactly("a");
+        assertThat(rateLimiter.getDelayedCount()).isZero();
+        assertThat(rateLimiter.getRejectedCount()).isEqualTo(1);
+        assertThat(Duration.ofNanos(rateLimiter.reserve("c@example.com"))).isLessThanOrEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldRefuseDelayedTasks_whenMaxDelayedIsReached() {
+        // Given
+        NotificationProperties.RateLimit config = config(List.of(new Bucket(1, Duration.ofSeconds(1), 0)));
+        config.setMaxDelayed(1);
+        rateLimiter = new OutboundRateLimiter(config);
+        rateLimiter.execute("a@example.com", Runnable::run, () -> { });
+        rateLimiter.execute("b@example.com", Runnable::run, () -> { });
+
+        // When / Then
+        assertThatThrownBy(() -> rateLimiter.execute("c@example.com", Runnable::run, () -> { }))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(rateLimiter.getDelayedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAdmitTheQuotaOfEveryRelay_andLimitEachRelayOnItsOwn() {
+        // Given
+        List<Bucket> relay = List.of(new Bucket(1, Duration.ofMinutes(1), 0));
+        rateLimiter = new OutboundRateLimiter(config(relay), () -> 2);
+        RelayQuota first = new RelayQuota(relay);
+        RelayQuota second = new RelayQuota(relay);
+
+        // When
+        long admittedFirst = rateLimiter.reserve("a@example.com");
+        long admittedSecond = rateLimiter.reserve("b@example.com");
+
+        // Then
+        assertThat(admittedFirst).isZero();
+        assertThat(admittedSecond).isZero();
+        assertThat(first.reserve(1)).isZero();
+        assertThat(first.delay()).isPositive();
+        assertThat(second.delay()).isZero();
+        assertThat(Duration.ofNanos(first.reserve(1))).isGreaterThan(Duration.ofSeconds(59));
+    }
+
+    @Test
+    void shouldAdmitOnlyTheQuotaOfAvailableRelays() {
+        // Given
+        AtomicInteger available = new AtomicInteger(2);
+        rateLimiter = new OutboundRateLimiter(config(List.of(new Bucket(1, Duration.ofMinutes(1), 0))), available::get);
+        rateLimiter.reserve("a@example.com");
+        rateLimiter.reserve("b@example.com");
+
+        // When a relay is ejected
+        available.set(1);
+        long wait = rateLimiter.reserve("c@example.com");
+
+        // Then: a single relay quota (1/min) instead of two (one every 30s)
+        assertThat(Duration.ofNanos(wait)).isGreaterThan(Duration.ofSeconds(59));
+    }
+
+    @Test
+    void shouldRefuseRelayQuota_withoutReserving_whenWaitExceedsMaxWait() {
+        // Given
+        rateLimiter = new OutboundRateLimiter(config(List.of()));
+        RelayQuota quota = new RelayQuota(List.of(new Bucket(1, Duration.ofMinutes(1), 0)));
+        quota.reserve(1);
+        long delay = quota.delay();
+
+        // When
+        long wait = quota.reserve(1, TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(wait).isEqualTo(-1);
+        assertThat(quota.delay()).isLessThanOrEqualTo(delay);
+    }
+
+    private static NotificationProperties.RateLimit config(List<Bucket> relay) {
+        NotificationProperties.RateLimit config = new NotificationProperties.RateLimit();
+        config.setEnabled(true);
+        config.setRelay(relay);
+        return config;
+    }
+}